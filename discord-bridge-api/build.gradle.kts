@@ -1,5 +1,6 @@
 plugins {
     `java-library`
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 
@@ -7,4 +8,10 @@ description = "The api of discord-bridge"
 
 dependencies {
     implementation("org.slf4j:slf4j-api")
-}
\ No newline at end of file
+
+    testImplementation(project(":discord-bridge-identity"))
+}
+
+jmh {
+    jmhVersion = "1.37"
+}
@@ -0,0 +1,132 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.autocomplete;
+
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandOptionChoiceData;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/// Compares [SuggestionIndex] against the usual linear scan with `startsWith` over a generated corpus
+///
+/// Queries are taken from names in the corpus: short prefixes, longer prefixes, and prefixes with one letter replaced.
+/// Run with `-prof gc` to see the allocation per query
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SuggestionIndexBenchmark {
+
+    /// number of choices in the corpus
+    @Param({ "10000", "100000" })
+    public int size;
+
+    private static final int QUERIES = 1024;
+    private static final String LETTERS = "abcdefghijklmnopqrstuvwxyz";
+
+    private List<SlashCommandOptionChoiceData> choices;
+    private SuggestionIndex index;
+
+    private String[] short_prefixes;
+    private String[] long_prefixes;
+    private String[] typos;
+    private int next;
+
+    @Setup
+    public void setup() {
+        var random = new Random(42);
+        choices = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            var name = new StringBuilder();
+            var words = 1 + random.nextInt(3);
+            for (int j = 0; j < words; j++) {
+                if (j > 0)
+                    name.append(' ');
+                var length = 3 + random.nextInt(7);
+                for (int k = 0; k < length; k++)
+                    name.append(LETTERS.charAt(random.nextInt(LETTERS.length())));
+            }
+            choices.add(new SlashCommandOptionChoiceData(name.toString(), "value" + i));
+        }
+        index = SuggestionIndex.of(choices);
+
+        short_prefixes = new String[QUERIES];
+        long_prefixes = new String[QUERIES];
+        typos = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            var name = choices.get(random.nextInt(size)).getName();
+            short_prefixes[i] = name.substring(0, 2);
+            long_prefixes[i] = name.substring(0, Math.min(name.length(), 6));
+            var typo = name.toCharArray();
+            typo[1 + random.nextInt(typo.length - 1)] = LETTERS.charAt(random.nextInt(LETTERS.length()));
+            typos[i] = new String(typo);
+        }
+    }
+
+    private int next() {
+        return next = (next + 1) & (QUERIES - 1);
+    }
+
+    @Benchmark
+    public SuggestionIndex build() {
+        return SuggestionIndex.of(choices);
+    }
+
+    @Benchmark
+    public List<SlashCommandOptionChoiceData> indexShortPrefix() {
+        return index.suggest(short_prefixes[next()]);
+    }
+
+    @Benchmark
+    public List<SlashCommandOptionChoiceData> indexLongPrefix() {
+        return index.suggest(long_prefixes[next()]);
+    }
+
+    @Benchmark
+    public List<SlashCommandOptionChoiceData> indexTypo() {
+        return index.suggest(typos[next()]);
+    }
+
+    @Benchmark
+    public List<SlashCommandOptionChoiceData> scanShortPrefix() {
+        return scan(short_prefixes[next()]);
+    }
+
+    @Benchmark
+    public List<SlashCommandOptionChoiceData> scanLongPrefix() {
+        return scan(long_prefixes[next()]);
+    }
+
+    private List<SlashCommandOptionChoiceData> scan(String query) {
+        var lower = query.toLowerCase(Locale.ROOT);
+        var result = new ArrayList<SlashCommandOptionChoiceData>();
+        for (var choice : choices) {
+            if (choice.getName().toLowerCase(Locale.ROOT).startsWith(lower)) {
+                result.add(choice);
+                if (result.size() == SuggestionIndex.MAX_SUGGESTIONS)
+                    break;
+            }
+        }
+        return result;
+    }
+}
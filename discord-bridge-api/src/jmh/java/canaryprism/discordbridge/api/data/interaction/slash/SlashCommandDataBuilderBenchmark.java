@@ -0,0 +1,127 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.data.interaction.slash;
+
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandOptionType;
+import canaryprism.discordbridge.api.misc.DiscordLocale;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/// Compares building a large generated command tree through the validating setters of [SlashCommandData]
+/// against building it with [SlashCommandDataBuilder]
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SlashCommandDataBuilderBenchmark {
+
+    /// number of subcommands in the generated command
+    @Param({ "5", "25" })
+    public int subcommands;
+
+    /// number of locales every name and description is localized to
+    @Param({ "0", "30" })
+    public int locales;
+
+    private Map<DiscordLocale, String> name_localizations;
+    private Map<DiscordLocale, String> description_localizations;
+
+    private String[] names;
+
+    @Setup
+    public void setup() {
+        name_localizations = new EnumMap<>(DiscordLocale.class);
+        description_localizations = new EnumMap<>(DiscordLocale.class);
+        Arrays.stream(DiscordLocale.values())
+                .filter((e) -> e != DiscordLocale.UNKNOWN)
+                .limit(locales)
+                .forEach((e) -> {
+                    name_localizations.put(e, "name-" + e.ordinal());
+                    description_localizations.put(e, "description for " + e);
+                });
+
+        names = new String[] { "ban", "кик", "ผู้ใช้", "उपयोगकर्ता", "user_id-2", "用户", "a-name_with-exactly-32-character" };
+    }
+
+    @Benchmark
+    public SlashCommandData setters() {
+        var subcommand_list = new ArrayList<SlashCommandOptionData>();
+        for (int i = 0; i < subcommands; i++) {
+            var option_list = new ArrayList<SlashCommandOptionData>();
+            for (int j = 0; j < 5; j++) {
+                var choices = new ArrayList<SlashCommandOptionChoiceData>();
+                for (int k = 0; k < SlashCommandData.MAX_OPTION_COUNT; k++)
+                    choices.add(new SlashCommandOptionChoiceData(SlashCommandOptionType.STRING, "choice " + k, "value" + k)
+                            .setNameLocalizations(description_localizations));
+                option_list.add(new SlashCommandOptionData("option" + j, "an option", SlashCommandOptionType.STRING)
+                        .setNameLocalizations(name_localizations)
+                        .setDescriptionLocalizations(description_localizations)
+                        .setChoices(choices));
+            }
+            subcommand_list.add(new SlashCommandOptionData("sub" + i, "a subcommand", SlashCommandOptionType.SUBCOMMAND)
+                    .setNameLocalizations(name_localizations)
+                    .setDescriptionLocalizations(description_localizations)
+                    .setOptions(option_list));
+        }
+        return new SlashCommandData("command", "a command")
+                .setNameLocalizations(name_localizations)
+                .setDescriptionLocalizations(description_localizations)
+                .setOptions(subcommand_list);
+    }
+
+    @Benchmark
+    public SlashCommandData builder() {
+        var command = new SlashCommandDataBuilder("command", "a command")
+                .setNameLocalizations(name_localizations)
+                .setDescriptionLocalizations(description_localizations);
+        for (int i = 0; i < subcommands; i++) {
+            var subcommand = new SlashCommandOptionDataBuilder("sub" + i, "a subcommand", SlashCommandOptionType.SUBCOMMAND)
+                    .setNameLocalizations(name_localizations)
+                    .setDescriptionLocalizations(description_localizations);
+            for (int j = 0; j < 5; j++) {
+                var option = new SlashCommandOptionDataBuilder("option" + j, "an option", SlashCommandOptionType.STRING)
+                        .setNameLocalizations(name_localizations)
+                        .setDescriptionLocalizations(description_localizations);
+                for (int k = 0; k < SlashCommandData.MAX_OPTION_COUNT; k++)
+                    option.addChoice("choice " + k, "value" + k, description_localizations);
+                subcommand.addOption(option);
+            }
+            command.addOption(subcommand);
+        }
+        return command.build();
+    }
+
+    @Benchmark
+    public void nameRegex(Blackhole blackhole) {
+        for (var name : names)
+            blackhole.consume(SlashCommandData.NAME_PATTERN.matcher(name).matches() && name.toLowerCase().equals(name));
+    }
+
+    @Benchmark
+    public void nameScanner(Blackhole blackhole) {
+        for (var name : names)
+            blackhole.consume(NameScanner.scan(name));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.data.interaction.slash;
+
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandOptionType;
+import canaryprism.discordbridge.api.misc.DiscordLocale;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/// Compares building a command set from scratch against loading it from its JSON and binary forms
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SlashCommandDataCodecBenchmark {
+
+    /// number of commands in the set
+    @Param({ "10", "100" })
+    public int commands;
+
+    private String json;
+    private byte[] binary;
+
+    @Setup
+    public void setup() {
+        var set = build();
+        json = SlashCommandDataCodec.toJson(set);
+        binary = SlashCommandDataCodec.toBinary(set);
+    }
+
+    @Benchmark
+    public List<SlashCommandData> build() {
+        var set = new ArrayList<SlashCommandData>(commands);
+        for (int i = 0; i < commands; i++) {
+            var command = new SlashCommandDataBuilder("command" + i, "a command");
+            for (var locale : DiscordLocale.values())
+                if (locale != DiscordLocale.UNKNOWN)
+                    command.addNameLocalization(locale, "command-" + i + "-" + locale.ordinal());
+            for (int j = 0; j < 5; j++) {
+                var option = new SlashCommandOptionDataBuilder("option" + j, "an option", SlashCommandOptionType.STRING);
+                for (int k = 0; k < 10; k++)
+                    option.addChoice("choice " + k, "value" + k);
+                command.addOption(option);
+            }
+            set.add(command.build());
+        }
+        return set;
+    }
+
+    @Benchmark
+    public List<SlashCommandData> jsonTrusted() {
+        return SlashCommandDataCodec.fromJson(json, true);
+    }
+
+    @Benchmark
+    public List<SlashCommandData> jsonUntrusted() {
+        return SlashCommandDataCodec.fromJson(json, false);
+    }
+
+    @Benchmark
+    public List<SlashCommandData> binaryTrusted() {
+        return SlashCommandDataCodec.fromBinary(binary, true);
+    }
+
+    @Benchmark
+    public List<SlashCommandData> binaryUntrusted() {
+        return SlashCommandDataCodec.fromBinary(binary, false);
+    }
+}
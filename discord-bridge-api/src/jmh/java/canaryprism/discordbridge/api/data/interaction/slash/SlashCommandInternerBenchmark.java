@@ -0,0 +1,119 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.data.interaction.slash;
+
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandOptionType;
+import canaryprism.discordbridge.api.misc.DiscordLocale;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/// Measures the heap retained by per server variants of a command set,
+/// held as deep copies of [SlashCommandData] versus interned [SlashCommandTree]s
+///
+/// Every server gets the same commands except for one option whose choice list is one of a few variants.
+/// The retained heap is reported as the `retainedBytes` secondary result, run with `-prof gc` to also see allocation
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class SlashCommandInternerBenchmark {
+
+    /// number of servers
+    @Param({ "10000" })
+    public int servers;
+
+    /// number of distinct choice list variants across the servers
+    @Param({ "20" })
+    public int variants;
+
+    private static final int COMMANDS = 5;
+    private static final int OPTIONS = 3;
+    private static final int CHOICES = 10;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Retained {
+        public long retainedBytes;
+    }
+
+    private Object held;
+
+    @TearDown(Level.Iteration)
+    public void release() {
+        held = null;
+    }
+
+    private @NotNull Set<SlashCommandData> commands(int server) {
+        var set = new HashSet<SlashCommandData>();
+        for (int i = 0; i < COMMANDS; i++) {
+            var command = new SlashCommandDataBuilder("command" + i, "a command");
+            for (var locale : List.of(DiscordLocale.FRENCH, DiscordLocale.GERMAN, DiscordLocale.JAPANESE))
+                command.addNameLocalization(locale, "command-" + i + "-" + locale.ordinal());
+            for (int j = 0; j < OPTIONS; j++) {
+                var option = new SlashCommandOptionDataBuilder("option" + j, "an option", SlashCommandOptionType.STRING);
+                var variant = (i == 0 && j == 0) ? server % variants : 0;
+                for (int k = 0; k < CHOICES; k++)
+                    option.addChoice("choice " + k, "value" + (k + variant));
+                command.addOption(option);
+            }
+            set.add(command.build());
+        }
+        return set;
+    }
+
+    private static long usedHeap() {
+        var runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++)
+            System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    @Benchmark
+    public Object deepCopies(Retained retained) {
+        var before = usedHeap();
+        var guilds = new ArrayList<Set<SlashCommandData>>(servers);
+        for (int i = 0; i < servers; i++)
+            guilds.add(commands(i));
+        held = guilds;
+        retained.retainedBytes = usedHeap() - before;
+        return guilds;
+    }
+
+    @Benchmark
+    public Object interned(Retained retained) {
+        var before = usedHeap();
+        var interner = new SlashCommandInterner();
+        var guilds = new ArrayList<Set<SlashCommandTree>>(servers);
+        for (int i = 0; i < servers; i++) {
+            var set = new HashSet<SlashCommandTree>();
+            for (var command : commands(i))
+                set.add(interner.intern(command));
+            guilds.add(set);
+        }
+        held = List.of(guilds, interner);
+        retained.retainedBytes = usedHeap() - before;
+        return guilds;
+    }
+}
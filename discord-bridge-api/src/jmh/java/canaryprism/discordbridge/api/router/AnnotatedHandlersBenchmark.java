@@ -0,0 +1,135 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.router;
+
+import canaryprism.discordbridge.api.event.interaction.SlashCommandInvokeEvent;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandInteractionOption;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandInvokeInteraction;
+import canaryprism.discordbridge.api.listener.interaction.SlashCommandInvokeListener;
+import canaryprism.discordbridge.api.router.annotation.Command;
+import canaryprism.discordbridge.api.router.annotation.CommandGroup;
+import canaryprism.discordbridge.api.router.annotation.Option;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/// Compares invoking an [AnnotatedHandlers] bound handler against a hand-written listener
+/// reading the same options with [SlashCommandInvokeInteraction#getArgumentByName(String)]
+///
+/// Both go through the same [SlashCommandRouter], and the fake interaction is built from proxies
+/// whose overhead is the same for both
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AnnotatedHandlersBenchmark {
+
+    private SlashCommandRouter annotated;
+    private SlashCommandRouter hand_written;
+    private SlashCommandInvokeEvent event;
+
+    // handlers store the decoded arguments here so they can't be optimized away
+    private String user;
+    private long days;
+    private String reason;
+    private Boolean silent;
+
+    @CommandGroup(path = "admin", description = "admin commands")
+    @CommandGroup(path = "admin/member", description = "manage members")
+    public class Handlers {
+        @Command(path = "admin/member/ban", description = "ban a user")
+        public void ban(@Option(name = "user", description = "the user") String user,
+                        @Option(name = "days", description = "days of messages to delete") long days,
+                        @Option(name = "reason", description = "the reason", required = false) String reason,
+                        @Option(name = "silent", description = "whether to announce", required = false) Boolean silent) {
+            AnnotatedHandlersBenchmark.this.user = user;
+            AnnotatedHandlersBenchmark.this.days = days;
+            AnnotatedHandlersBenchmark.this.reason = reason;
+            AnnotatedHandlersBenchmark.this.silent = silent;
+        }
+    }
+
+    private static SlashCommandInteractionOption option(String name, Object value, List<SlashCommandInteractionOption> options) {
+        return (SlashCommandInteractionOption) Proxy.newProxyInstance(
+                SlashCommandInteractionOption.class.getClassLoader(),
+                new Class<?>[] { SlashCommandInteractionOption.class },
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getName" -> name;
+                    case "getValue" -> (args == null) ? Optional.ofNullable(value) : InvocationHandler.invokeDefault(proxy, method, args);
+                    case "getOptions" -> options;
+                    case "isAutocompleteTarget" -> Optional.empty();
+                    default -> (method.isDefault()) ? InvocationHandler.invokeDefault(proxy, method, args) : null;
+                });
+    }
+
+    @Setup
+    public void setup() {
+        var options = List.of(option("member", null, List.of(option("ban", null, List.of(
+                option("user", "someone", List.of()),
+                option("days", 7L, List.of()),
+                option("reason", "spam", List.of()))))));
+
+        var interaction = (SlashCommandInvokeInteraction) Proxy.newProxyInstance(
+                SlashCommandInvokeInteraction.class.getClassLoader(),
+                new Class<?>[] { SlashCommandInvokeInteraction.class },
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getCommandName" -> "admin";
+                    case "getCommandId" -> 1L;
+                    case "getOptions" -> options;
+                    default -> (method.isDefault()) ? InvocationHandler.invokeDefault(proxy, method, args) : null;
+                });
+
+        event = (SlashCommandInvokeEvent) Proxy.newProxyInstance(
+                SlashCommandInvokeEvent.class.getClassLoader(),
+                new Class<?>[] { SlashCommandInvokeEvent.class },
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getInteraction", "getSlashCommandInteraction" -> interaction;
+                    default -> null;
+                });
+
+        annotated = new SlashCommandRouter();
+        AnnotatedHandlers.bind(annotated, new Handlers(), MethodHandles.lookup());
+
+        SlashCommandInvokeListener listener = (e) -> {
+            var invoked = e.getSlashCommandInteraction();
+            this.user = invoked.getArgumentByName("user").flatMap((o) -> o.getValue(String.class)).orElseThrow();
+            this.days = invoked.getArgumentByName("days").flatMap((o) -> o.getValue(Long.class)).orElseThrow();
+            this.reason = invoked.getArgumentByName("reason").flatMap((o) -> o.getValue(String.class)).orElse(null);
+            this.silent = invoked.getArgumentByName("silent").flatMap((o) -> o.getValue(Boolean.class)).orElse(null);
+        };
+        hand_written = new SlashCommandRouter().on("admin/member/ban", listener);
+    }
+
+    @Benchmark
+    public String annotated() {
+        annotated.onSlashCommandInvoke(event);
+        return user;
+    }
+
+    @Benchmark
+    public String handWritten() {
+        hand_written.onSlashCommandInvoke(event);
+        return user;
+    }
+}
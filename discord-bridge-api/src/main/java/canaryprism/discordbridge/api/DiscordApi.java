@@ -17,8 +17,12 @@
 package canaryprism.discordbridge.api;
 
 import canaryprism.discordbridge.api.data.interaction.CommandData;
+import canaryprism.discordbridge.api.event.Event;
+import canaryprism.discordbridge.api.event.stream.OverflowStrategy;
 import canaryprism.discordbridge.api.interaction.slash.SlashCommand;
 import canaryprism.discordbridge.api.listener.ApiAttachableListener;
+import canaryprism.discordbridge.api.listener.interaction.AsyncSlashCommandAutocompleteListener;
+import canaryprism.discordbridge.api.listener.interaction.AsyncSlashCommandInvokeListener;
 import canaryprism.discordbridge.api.listener.interaction.SlashCommandAutocompleteListener;
 import canaryprism.discordbridge.api.listener.interaction.SlashCommandInvokeListener;
 import canaryprism.discordbridge.api.server.Server;
@@ -28,6 +32,7 @@ import org.jetbrains.annotations.Unmodifiable;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 
 /// Represents a Discord API entity for performing global actions
 public interface DiscordApi extends DiscordBridgeApi {
@@ -103,4 +108,64 @@ public interface DiscordApi extends DiscordBridgeApi {
     default void removeSlashCommandAutocompleteListener(@NotNull SlashCommandAutocompleteListener listener) {
         removeListener(SlashCommandAutocompleteListener.class, listener);
     }
+    
+    /// Adds an [AsyncSlashCommandInvokeListener] to this DiscordApi
+    ///
+    /// @param listener the listener to add
+    default void addAsyncSlashCommandInvokeListener(@NotNull AsyncSlashCommandInvokeListener listener) {
+        addListener(AsyncSlashCommandInvokeListener.class, listener);
+    }
+    
+    /// Removes an [AsyncSlashCommandInvokeListener] from this DiscordApi
+    ///
+    /// @param listener the listener to remove
+    default void removeAsyncSlashCommandInvokeListener(@NotNull AsyncSlashCommandInvokeListener listener) {
+        removeListener(AsyncSlashCommandInvokeListener.class, listener);
+    }
+    
+    /// Adds an [AsyncSlashCommandAutocompleteListener] to this DiscordApi
+    ///
+    /// @param listener the listener to add
+    default void addAsyncSlashCommandAutocompleteListener(@NotNull AsyncSlashCommandAutocompleteListener listener) {
+        addListener(AsyncSlashCommandAutocompleteListener.class, listener);
+    }
+    
+    /// Removes an [AsyncSlashCommandAutocompleteListener] from this DiscordApi
+    ///
+    /// @param listener the listener to remove
+    default void removeAsyncSlashCommandAutocompleteListener(@NotNull AsyncSlashCommandAutocompleteListener listener) {
+        removeListener(AsyncSlashCommandAutocompleteListener.class, listener);
+    }
+    
+    /// Gets a stream of the events of a type this DiscordApi receives
+    ///
+    /// Events are buffered without bound until the subscriber requests them, see [#events(Class, OverflowStrategy)]
+    ///
+    /// @param type the type of event, events of every subtype are included
+    /// @param <E> the type of event
+    /// @return a publisher of the events
+    /// @throws IllegalArgumentException if no events of the type are supported
+    /// @throws UnsupportedOperationException if the bridge doesn't support event streams
+    default <E extends Event> @NotNull Flow.Publisher<E> events(@NotNull Class<E> type) {
+        return events(type, OverflowStrategy.buffer());
+    }
+    
+    /// Gets a stream of the events of a type this DiscordApi receives
+    ///
+    /// Every subscriber is fed straight from the event source of the underlying library, and gets every event received
+    /// while it's subscribed. Events are only delivered as they're requested,
+    /// the ones arriving meanwhile are handled by the overflow strategy.
+    /// The stream never completes, cancel the subscription to stop receiving events
+    ///
+    /// Bridges that predate event streams don't implement it
+    ///
+    /// @param type the type of event, events of every subtype are included
+    /// @param overflow what to do with events arriving before they're requested
+    /// @param <E> the type of event
+    /// @return a publisher of the events
+    /// @throws IllegalArgumentException if no events of the type are supported
+    /// @throws UnsupportedOperationException if the bridge doesn't support event streams
+    default <E extends Event> @NotNull Flow.Publisher<E> events(@NotNull Class<E> type, @NotNull OverflowStrategy overflow) {
+        throw new UnsupportedOperationException(String.format("%s doesn't support event streams", getClass().getName()));
+    }
 }
@@ -0,0 +1,280 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.autocomplete;
+
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandOptionChoiceData;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandAutocompleteInteraction;
+import canaryprism.discordbridge.api.listener.interaction.SlashCommandAutocompleteListener;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/// Caches the suggestions of autocomplete lookups
+///
+/// Suggestions are cached by command ID, the path of the focused option, what was typed into it and,
+/// depending on the [Scope], the server or user, so users typing the same prefixes share one lookup.
+/// Concurrent autocompletes with the same key wait for the same lookup instead of starting their own,
+/// and failed lookups aren't cached
+///
+/// Entries expire a fixed time after they're created, and the oldest entries are evicted once the cache holds
+/// more than its max size. Since every entry lives equally long, the oldest entry is also the first to expire,
+/// so both are handled by one queue in creation order
+///
+/// Use it through [#wrap(Function)] or [#wrapAsync(Function)]
+///
+/// This class is thread safe
+public final class SuggestionCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(SuggestionCache.class);
+
+    /// What cached suggestions are shared by
+    public enum Scope {
+
+        /// Suggestions are shared by everyone
+        GLOBAL,
+
+        /// Suggestions are shared within a server, autocompletes outside servers are cached per user instead
+        SERVER,
+
+        /// Suggestions are cached per user
+        USER,
+    }
+
+    private record Key(long command_id, @NotNull String path, @NotNull String option, @NotNull String value, long scope_id) {}
+
+    private static final class Entry {
+        final @NotNull Key key;
+        final @NotNull CompletableFuture<@Unmodifiable List<SlashCommandOptionChoiceData>> future = new CompletableFuture<>();
+        final long expires_at;
+
+        Entry(@NotNull Key key, long expires_at) {
+            this.key = key;
+            this.expires_at = expires_at;
+        }
+    }
+
+    private final long ttl_nanos;
+    private final int max_size;
+    private final @NotNull Scope scope;
+
+    private final @NotNull ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final @NotNull ConcurrentLinkedQueue<Entry> order = new ConcurrentLinkedQueue<>();
+    private final @NotNull AtomicBoolean evicting = new AtomicBoolean();
+
+    private final @NotNull LongAdder hits = new LongAdder();
+    private final @NotNull LongAdder misses = new LongAdder();
+    private final @NotNull LongAdder evictions = new LongAdder();
+
+    /// Constructs a cache shared by everyone
+    ///
+    /// @param ttl how long suggestions are cached for
+    /// @param max_size the max number of cached lookups
+    /// @throws IllegalArgumentException if the time to live or max size isn't positive
+    public SuggestionCache(@NotNull Duration ttl, int max_size) {
+        this(ttl, max_size, Scope.GLOBAL);
+    }
+
+    /// Constructs a cache
+    ///
+    /// @param ttl how long suggestions are cached for
+    /// @param max_size the max number of cached lookups
+    /// @param scope what cached suggestions are shared by
+    /// @throws IllegalArgumentException if the time to live or max size isn't positive
+    public SuggestionCache(@NotNull Duration ttl, int max_size, @NotNull Scope scope) {
+        Objects.requireNonNull(ttl, "ttl must not be null");
+        Objects.requireNonNull(scope, "scope must not be null");
+        if (ttl.isNegative() || ttl.isZero())
+            throw new IllegalArgumentException(String.format("ttl %s must be positive", ttl));
+        if (max_size < 1)
+            throw new IllegalArgumentException(String.format("max size %s must be positive", max_size));
+        this.ttl_nanos = ttl.toNanos();
+        this.max_size = max_size;
+        this.scope = scope;
+    }
+
+    private @NotNull Key key(@NotNull SlashCommandAutocompleteInteraction interaction) {
+        var target = interaction.getTargetOption();
+        var scope_id = switch (scope) {
+            case GLOBAL -> 0L;
+            case SERVER -> interaction.getServer()
+                    .map((e) -> e.getId())
+                    .orElseGet(() -> interaction.getUser().getId());
+            case USER -> interaction.getUser().getId();
+        };
+        return new Key(
+                interaction.getCommandId(),
+                String.join("/", interaction.getFullCommandName()),
+                target.getName(),
+                target.getValue().map(String::valueOf).orElse(""),
+                scope_id);
+    }
+
+    /// Gets the cached suggestions for an autocomplete, looking them up if they aren't cached
+    ///
+    /// @param interaction the autocomplete
+    /// @param loader the lookup, called only on a miss
+    /// @return a future of the suggestions
+    public @NotNull CompletableFuture<@Unmodifiable List<SlashCommandOptionChoiceData>> get(
+            @NotNull SlashCommandAutocompleteInteraction interaction,
+            @NotNull Function<? super SlashCommandAutocompleteInteraction,
+                    ? extends CompletionStage<? extends List<? extends SlashCommandOptionChoiceData>>> loader) {
+        var key = key(interaction);
+        var now = System.nanoTime();
+
+        Entry created;
+        while (true) {
+            var entry = entries.get(key);
+            if (entry != null && entry.expires_at - now > 0 && !entry.future.isCompletedExceptionally()) {
+                hits.increment();
+                return entry.future;
+            }
+            created = new Entry(key, now + ttl_nanos);
+            if ((entry == null) ? entries.putIfAbsent(key, created) == null : entries.replace(key, entry, created))
+                break;
+        }
+        misses.increment();
+        order.add(created);
+        evict(now);
+
+        var entry = created;
+        CompletionStage<? extends List<? extends SlashCommandOptionChoiceData>> loading;
+        try {
+            loading = loader.apply(interaction);
+        } catch (RuntimeException e) {
+            loading = CompletableFuture.failedFuture(e);
+        }
+        loading.whenComplete((suggestions, e) -> {
+            if (e != null) {
+                entries.remove(key, entry);
+                entry.future.completeExceptionally(e);
+            } else {
+                entry.future.complete(List.copyOf(suggestions));
+            }
+        });
+        return entry.future;
+    }
+
+    private void evict(long now) {
+        if (!evicting.compareAndSet(false, true))
+            return;
+        try {
+            while (true) {
+                var head = order.peek();
+                if (head == null)
+                    break;
+                var current = entries.get(head.key) == head;
+                if (current && head.expires_at - now > 0 && entries.size() <= max_size)
+                    break;
+                order.poll();
+                if (current && entries.remove(head.key, head))
+                    evictions.increment();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /// Wraps a lookup into a listener that suggests its cached results
+    ///
+    /// @param loader the lookup
+    /// @return the listener
+    public @NotNull SlashCommandAutocompleteListener wrap(
+            @NotNull Function<? super SlashCommandAutocompleteInteraction, ? extends List<? extends SlashCommandOptionChoiceData>> loader) {
+        Objects.requireNonNull(loader, "loader must not be null");
+        return wrapAsync((interaction) -> CompletableFuture.completedFuture(loader.apply(interaction)));
+    }
+
+    /// Wraps an asynchronous lookup into a listener that suggests its cached results
+    ///
+    /// @param loader the lookup
+    /// @return the listener
+    public @NotNull SlashCommandAutocompleteListener wrapAsync(
+            @NotNull Function<? super SlashCommandAutocompleteInteraction,
+                    ? extends CompletionStage<? extends List<? extends SlashCommandOptionChoiceData>>> loader) {
+        Objects.requireNonNull(loader, "loader must not be null");
+        return (event) -> {
+            var interaction = event.getSlashCommandAutocompleteInteraction();
+            get(interaction, loader)
+                    .thenCompose(interaction::suggest)
+                    .whenComplete((result, e) -> {
+                        if (e != null)
+                            logger.debug("failed to suggest for autocomplete of {}", interaction.getCommandName(), e);
+                    });
+        };
+    }
+
+    /// Removes the cached suggestions of a command
+    ///
+    /// @param command_id the ID of the command
+    public void invalidate(long command_id) {
+        entries.values().removeIf((e) -> e.key.command_id() == command_id);
+    }
+
+    /// Removes every cached suggestion
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    /// Gets the number of cached lookups, including lookups still in progress
+    ///
+    /// @return the number of cached lookups
+    public int size() {
+        return entries.size();
+    }
+
+    /// Gets the number of autocompletes answered from the cache
+    ///
+    /// @return the number of hits
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /// Gets the number of autocompletes that had to be looked up
+    ///
+    /// @return the number of misses
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /// Gets the fraction of autocompletes answered from the cache
+    ///
+    /// @return the hit rate, 0 if there haven't been any autocompletes
+    public double getHitRate() {
+        var hits = this.hits.sum();
+        var total = hits + misses.sum();
+        return (total == 0) ? 0 : (double) hits / total;
+    }
+
+    /// Gets the number of entries evicted for expiring or to keep the cache within its max size
+    ///
+    /// @return the number of evictions
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+}
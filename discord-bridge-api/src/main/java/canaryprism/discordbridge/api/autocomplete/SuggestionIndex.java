@@ -0,0 +1,429 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.autocomplete;
+
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandOptionChoiceData;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandAutocompleteInteraction;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/// An immutable index of option choices that finds the best suggestions for what a user has typed so far
+///
+/// Choices are matched by name, ignoring case and repeated whitespace, and ranked in tiers:
+/// 1. the name equals the query
+/// 2. the name starts with the query
+/// 3. the name shares enough trigrams with the query, which tolerates typos and matches words in the middle of the name
+///
+/// Within a tier choices keep the order they were given in, so put more likely choices first,
+/// unless usage counts are given, such as from a [UsageTracker], in which case more used choices come first.
+/// An empty query suggests the first choices
+///
+/// Prefix matches are found by binary search over the names in sorted order, and trigram matches through
+/// posting lists held in flat arrays, so a query touches no more than the choices sharing a trigram with it.
+/// Queries allocate little more than the returned list, counting shared trigrams uses a per thread scratch array
+///
+/// This class is thread safe
+public final class SuggestionIndex {
+
+    /// Max number of suggestions Discord accepts for an autocomplete
+    public static final int MAX_SUGGESTIONS = 25;
+
+    private static final double DEFAULT_MIN_SIMILARITY = 0.5;
+
+    private static final double EXACT = 3, PREFIX = 2;
+
+    private static final long[] NO_GRAMS = new long[0];
+
+    private static final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
+
+    /// Trigram counts for one query, [#counts] must be all zero between queries
+    private static final class Scratch {
+        int[] counts = new int[0];
+        int[] touched = new int[0];
+
+        void ensure(int size) {
+            if (counts.length < size) {
+                counts = new int[size];
+                touched = new int[size];
+            }
+        }
+    }
+
+    private final @NotNull SlashCommandOptionChoiceData @NotNull [] choices;
+    private final @NotNull String @NotNull [] keys;
+    private final int @NotNull [] gram_counts;
+
+    private final @NotNull String @NotNull [] sorted_keys;
+    private final int @NotNull [] sorted_ids;
+
+    private final long @NotNull [] grams;
+    private final int @NotNull [] gram_offsets;
+    private final int @NotNull [] postings;
+
+    private final double min_similarity;
+
+    private SuggestionIndex(@NotNull SlashCommandOptionChoiceData @NotNull [] choices) {
+        this.choices = choices;
+        this.min_similarity = DEFAULT_MIN_SIMILARITY;
+
+        var n = choices.length;
+        keys = new String[n];
+        for (int i = 0; i < n; i++)
+            keys[i] = normalize(choices[i].getName());
+
+        var order = new Integer[n];
+        for (int i = 0; i < n; i++)
+            order[i] = i;
+        Arrays.sort(order, (a, b) -> {
+            var compare = keys[a].compareTo(keys[b]);
+            return (compare != 0) ? compare : Integer.compare(a, b);
+        });
+        sorted_keys = new String[n];
+        sorted_ids = new int[n];
+        for (int i = 0; i < n; i++) {
+            sorted_ids[i] = order[i];
+            sorted_keys[i] = keys[order[i]];
+        }
+
+        // first pass numbers the distinct trigrams and counts their postings
+        gram_counts = new int[n];
+        var gram_index = new HashMap<Long, Integer>();
+        var posting_counts = new int[16];
+        for (int i = 0; i < n; i++) {
+            var entry_grams = grams(keys[i], true);
+            gram_counts[i] = entry_grams.length;
+            for (var gram : entry_grams) {
+                var index = gram_index.computeIfAbsent(gram, (e) -> gram_index.size());
+                if (index == posting_counts.length)
+                    posting_counts = Arrays.copyOf(posting_counts, index * 2);
+                posting_counts[index]++;
+            }
+        }
+
+        grams = new long[gram_index.size()];
+        int g = 0;
+        for (var gram : gram_index.keySet())
+            grams[g++] = gram;
+        Arrays.sort(grams);
+
+        gram_offsets = new int[grams.length + 1];
+        for (int i = 0; i < grams.length; i++)
+            gram_offsets[i + 1] = gram_offsets[i] + posting_counts[gram_index.get(grams[i])];
+
+        // second pass fills the postings, in ascending id order since ids are visited in order
+        postings = new int[gram_offsets[grams.length]];
+        var fill = Arrays.copyOf(gram_offsets, grams.length);
+        for (int i = 0; i < n; i++) {
+            for (var gram : grams(keys[i], true))
+                postings[fill[Arrays.binarySearch(grams, gram)]++] = i;
+        }
+    }
+
+    private SuggestionIndex(@NotNull SuggestionIndex index, double min_similarity) {
+        this.choices = index.choices;
+        this.keys = index.keys;
+        this.gram_counts = index.gram_counts;
+        this.sorted_keys = index.sorted_keys;
+        this.sorted_ids = index.sorted_ids;
+        this.grams = index.grams;
+        this.gram_offsets = index.gram_offsets;
+        this.postings = index.postings;
+        this.min_similarity = min_similarity;
+    }
+
+    /// Creates an index of option choices, matched by their names
+    ///
+    /// The choices are held as they are, don't modify them after creating the index
+    ///
+    /// @param choices the choices, in order of preference
+    /// @return the index
+    public static @NotNull SuggestionIndex of(@NotNull Collection<? extends @NotNull SlashCommandOptionChoiceData> choices) {
+        var array = choices.toArray(SlashCommandOptionChoiceData[]::new);
+        for (var choice : array)
+            Objects.requireNonNull(choice, "choices must not contain null");
+        return new SuggestionIndex(array);
+    }
+
+    /// Creates an index of values, each suggested as a choice named by a function
+    ///
+    /// The type of the choices is inferred from the values as in [SlashCommandOptionChoiceData#SlashCommandOptionChoiceData(String, Object)]
+    ///
+    /// @param <T> the type of the values
+    /// @param values the values, in order of preference
+    /// @param name the function naming each value
+    /// @return the index
+    /// @throws IllegalArgumentException if a value can't be a choice or a name is invalid
+    public static <T> @NotNull SuggestionIndex of(@NotNull Collection<? extends @NotNull T> values, @NotNull Function<? super T, @NotNull String> name) {
+        var array = new SlashCommandOptionChoiceData[values.size()];
+        int i = 0;
+        for (var value : values)
+            array[i++] = new SlashCommandOptionChoiceData(name.apply(value), value);
+        return new SuggestionIndex(array);
+    }
+
+    /// Creates an index of values, each suggested as a choice named by its string representation
+    ///
+    /// @param values the values, in order of preference
+    /// @return the index
+    /// @throws IllegalArgumentException if a value can't be a choice or its string representation is an invalid name
+    public static @NotNull SuggestionIndex ofValues(@NotNull Collection<?> values) {
+        return of(values, String::valueOf);
+    }
+
+    /// Gets a copy of this index with a different threshold for trigram matches
+    ///
+    /// A choice matches on trigrams if it contains at least this fraction of the trigrams of the query,
+    /// the default is 0.5
+    ///
+    /// @param min_similarity the fraction of trigrams
+    /// @return the copy
+    /// @throws IllegalArgumentException if the fraction isn't between 0 exclusive and 1 inclusive
+    public @NotNull SuggestionIndex withMinSimilarity(double min_similarity) {
+        if (!(min_similarity > 0 && min_similarity <= 1))
+            throw new IllegalArgumentException(String.format("min similarity %s must be in (0, 1]", min_similarity));
+        return new SuggestionIndex(this, min_similarity);
+    }
+
+    /// Gets the number of choices in this index
+    ///
+    /// @return the number of choices
+    public int size() {
+        return choices.length;
+    }
+
+    /// Suggests up to [#MAX_SUGGESTIONS] choices for a query
+    ///
+    /// @param query what the user has typed
+    /// @return the suggestions, best first
+    public @NotNull @Unmodifiable List<@NotNull SlashCommandOptionChoiceData> suggest(@NotNull String query) {
+        return suggest(query, MAX_SUGGESTIONS);
+    }
+
+    /// Suggests choices for a query
+    ///
+    /// @param query what the user has typed
+    /// @param limit the max number of suggestions
+    /// @return the suggestions, best first
+    /// @throws IllegalArgumentException if the limit isn't between 1 and [#MAX_SUGGESTIONS]
+    public @NotNull @Unmodifiable List<@NotNull SlashCommandOptionChoiceData> suggest(@NotNull String query, int limit) {
+        return suggest(query, limit, null);
+    }
+
+    /// Suggests choices for a query, ranking choices that are equally good matches by how often they're used
+    ///
+    /// An empty query ranks every choice by usage, which looks up the usage of every choice
+    ///
+    /// @param query what the user has typed
+    /// @param limit the max number of suggestions
+    /// @param usage the function giving how often a choice is used, or null to rank by the order choices were given in
+    /// @return the suggestions, best first
+    /// @throws IllegalArgumentException if the limit isn't between 1 and [#MAX_SUGGESTIONS]
+    public @NotNull @Unmodifiable List<@NotNull SlashCommandOptionChoiceData> suggest(
+            @NotNull String query, int limit, @Nullable ToLongFunction<? super SlashCommandOptionChoiceData> usage) {
+        if (limit < 1 || limit > MAX_SUGGESTIONS)
+            throw new IllegalArgumentException(String.format("limit %s must be between 1 and %s", limit, MAX_SUGGESTIONS));
+
+        var normalized = normalize(query);
+        if (normalized.isEmpty() && usage == null)
+            return List.of(Arrays.copyOf(choices, Math.min(limit, choices.length)));
+
+        var top = new Top(limit, usage);
+        matchPrefix(normalized, top);
+        // trigram matches always rank below prefix matches
+        if (!top.isFull())
+            matchGrams(normalized, top);
+
+        var result = new SlashCommandOptionChoiceData[top.size];
+        for (int i = 0; i < top.size; i++)
+            result[i] = choices[top.ids[i]];
+        return List.of(result);
+    }
+
+    /// Suggests choices for the focused option of an autocomplete
+    ///
+    /// @param interaction the autocomplete
+    /// @return the future of [SlashCommandAutocompleteInteraction#suggest(List)]
+    public @NotNull CompletableFuture<?> complete(@NotNull SlashCommandAutocompleteInteraction interaction) {
+        var value = interaction.getTargetOption().getValue().map(String::valueOf).orElse("");
+        return interaction.suggest(suggest(value));
+    }
+
+    /// Suggests choices for the focused option of an autocomplete, ranking choices that are equally good matches
+    /// by how often they were chosen for the option in the same server
+    ///
+    /// @param interaction the autocomplete
+    /// @param tracker the tracker counting the choices
+    /// @return the future of [SlashCommandAutocompleteInteraction#suggest(List)]
+    public @NotNull CompletableFuture<?> complete(@NotNull SlashCommandAutocompleteInteraction interaction, @NotNull UsageTracker tracker) {
+        var value = interaction.getTargetOption().getValue().map(String::valueOf).orElse("");
+        return interaction.suggest(suggest(value, MAX_SUGGESTIONS, tracker.usageOf(interaction)));
+    }
+
+    private void matchPrefix(@NotNull String query, @NotNull Top top) {
+        int low = 0, high = sorted_keys.length;
+        while (low < high) {
+            var mid = (low + high) >>> 1;
+            if (sorted_keys[mid].compareTo(query) < 0)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        for (int i = low; i < sorted_keys.length && sorted_keys[i].startsWith(query); i++)
+            top.offer((sorted_keys[i].length() == query.length()) ? EXACT : PREFIX, sorted_ids[i], choices[sorted_ids[i]]);
+    }
+
+    private void matchGrams(@NotNull String query, @NotNull Top top) {
+        var query_grams = grams(query, false);
+        if (query_grams.length == 0)
+            return;
+        var required = (int) Math.ceil(min_similarity * query_grams.length);
+
+        var scratch = SuggestionIndex.scratch.get();
+        scratch.ensure(choices.length);
+        var counts = scratch.counts;
+        var touched = scratch.touched;
+        int touched_count = 0;
+
+        for (var gram : query_grams) {
+            var g = Arrays.binarySearch(grams, gram);
+            if (g < 0)
+                continue;
+            for (int p = gram_offsets[g]; p < gram_offsets[g + 1]; p++) {
+                var id = postings[p];
+                if (counts[id]++ == 0)
+                    touched[touched_count++] = id;
+            }
+        }
+
+        for (int i = 0; i < touched_count; i++) {
+            var id = touched[i];
+            var shared = counts[id];
+            counts[id] = 0;
+            if (shared < required || keys[id].startsWith(query))
+                continue;
+            var containment = (double) shared / query_grams.length;
+            var dice = 2.0 * shared / (query_grams.length + gram_counts[id]);
+            // containment decides, dice prefers names close in length to the query
+            top.offer(0.9 * containment + 0.1 * dice, id, choices[id]);
+        }
+    }
+
+    /// Lower cases a name and collapses its whitespace
+    static @NotNull String normalize(@NotNull String name) {
+        var builder = new StringBuilder(name.length());
+        var space = false;
+        for (int i = 0; i < name.length(); i++) {
+            var c = name.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = builder.length() > 0;
+            } else {
+                if (space)
+                    builder.append(' ');
+                space = false;
+                builder.append(c);
+            }
+        }
+        return builder.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /// Gets the distinct trigrams of a normalized name, sorted
+    ///
+    /// The name is padded with a space in front, and at the end too if it's complete rather than a query still being typed
+    static long @NotNull [] grams(@NotNull String name, boolean complete) {
+        var padded_length = name.length() + (complete ? 2 : 1);
+        if (padded_length < 3)
+            return NO_GRAMS;
+        var result = new long[padded_length - 2];
+        for (int i = 0; i < result.length; i++)
+            result[i] = ((long) charAt(name, i - 1) << 32) | ((long) charAt(name, i) << 16) | charAt(name, i + 1);
+        Arrays.sort(result);
+        int distinct = 1;
+        for (int i = 1; i < result.length; i++) {
+            if (result[i] != result[distinct - 1])
+                result[distinct++] = result[i];
+        }
+        return (distinct == result.length) ? result : Arrays.copyOf(result, distinct);
+    }
+
+    private static char charAt(@NotNull String name, int index) {
+        return (index < 0 || index >= name.length()) ? ' ' : name.charAt(index);
+    }
+
+    /// The best ids seen so far, by descending score, then descending usage, then ascending id
+    private static final class Top {
+        final @Nullable ToLongFunction<? super SlashCommandOptionChoiceData> usage;
+        final double[] scores;
+        final long[] usages;
+        final int[] ids;
+        int size;
+
+        Top(int limit, @Nullable ToLongFunction<? super SlashCommandOptionChoiceData> usage) {
+            this.usage = usage;
+            this.scores = new double[limit];
+            this.usages = new long[limit];
+            this.ids = new int[limit];
+        }
+
+        boolean isFull() {
+            return size == ids.length;
+        }
+
+        void offer(double score, int id, @NotNull SlashCommandOptionChoiceData choice) {
+            // skip looking up the usage of choices that can't make it
+            if (isFull() && score < scores[size - 1])
+                return;
+            var used = (usage == null) ? 0 : usage.applyAsLong(choice);
+
+            var i = size;
+            if (isFull()) {
+                if (!better(score, used, id, size - 1))
+                    return;
+                i--;
+            } else {
+                size++;
+            }
+            while (i > 0 && better(score, used, id, i - 1)) {
+                scores[i] = scores[i - 1];
+                usages[i] = usages[i - 1];
+                ids[i] = ids[i - 1];
+                i--;
+            }
+            scores[i] = score;
+            usages[i] = used;
+            ids[i] = id;
+        }
+
+        private boolean better(double score, long used, int id, int other) {
+            if (score != scores[other])
+                return score > scores[other];
+            if (used != usages[other])
+                return used > usages[other];
+            return id < ids[other];
+        }
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.autocomplete;
+
+import canaryprism.discordbridge.api.DiscordApi;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandData;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandOptionChoiceData;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandOptionData;
+import canaryprism.discordbridge.api.event.interaction.SlashCommandInvokeEvent;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandAutocompleteInteraction;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandInteraction;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandInvokeInteraction;
+import canaryprism.discordbridge.api.listener.interaction.SlashCommandAutocompleteListener;
+import canaryprism.discordbridge.api.listener.interaction.SlashCommandInvokeListener;
+import canaryprism.discordbridge.api.router.SlashCommandRouter;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+/// Estimates how often each value has been chosen for an option, per server, forgetting old choices over time
+///
+/// Arguments of autocompletable options are counted under their server, command, option and value,
+/// in a single count-min sketch: a grid of counters where each row hashes a key to one counter,
+/// and the estimate of a key is the smallest of its counters.
+/// Estimates are never too low and only too high where keys collide, and the memory used is
+/// `width * depth * 4` bytes no matter how many servers, commands or values there are.
+/// Every counter is halved once per half life, so recent choices outweigh old ones
+///
+/// Invocations outside servers are counted together under no server
+///
+/// Only the options the tracker has been told about are counted, as other options are never suggested.
+/// Tell it with [#track(SlashCommandData)], which finds the autocompletable options of a command,
+/// or with [#track(String, String)] for the same path and option as [SlashCommandRouter#onAutocomplete(String, String, SlashCommandAutocompleteListener)]
+///
+/// The counts are used to rank suggestions with [SuggestionIndex#complete(SlashCommandAutocompleteInteraction, UsageTracker)]
+///
+/// The tracker is a listener for invocations, add it to a [DiscordApi] with [#attach(DiscordApi)]
+///
+/// This class is thread safe, counting never blocks
+public final class UsageTracker implements SlashCommandInvokeListener {
+
+    /// An option whose arguments are counted
+    private record TrackedOption(@NotNull String path, @NotNull String option) {}
+
+    private final @NotNull Set<TrackedOption> tracked = ConcurrentHashMap.newKeySet();
+
+    private final int width;
+    private final int depth;
+    private final @NotNull AtomicIntegerArray counters;
+
+    private final long half_life_nanos;
+    private final @NotNull AtomicLong next_decay;
+
+    /// Constructs a tracker with 4 rows of 16384 counters, 256KiB, whose counts halve every day
+    public UsageTracker() {
+        this(1 << 14, 4, Duration.ofDays(1));
+    }
+
+    /// Constructs a tracker
+    ///
+    /// @param width the number of counters in each row, rounded up to a power of 2
+    /// @param depth the number of rows
+    /// @param half_life how often counts are halved
+    /// @throws IllegalArgumentException if the width, depth or half life isn't positive,
+    ///                                  or the width is more than 2<sup>30</sup>
+    public UsageTracker(int width, int depth, @NotNull Duration half_life) {
+        Objects.requireNonNull(half_life, "half life must not be null");
+        if (width < 1 || width > 1 << 30)
+            throw new IllegalArgumentException(String.format("width %s must be between 1 and %s", width, 1 << 30));
+        if (depth < 1)
+            throw new IllegalArgumentException(String.format("depth %s must be positive", depth));
+        if (half_life.isNegative() || half_life.isZero())
+            throw new IllegalArgumentException(String.format("half life %s must be positive", half_life));
+        this.width = (width == 1) ? 1 : Integer.highestOneBit(width - 1) << 1;
+        this.depth = depth;
+        this.counters = new AtomicIntegerArray(Math.multiplyExact(this.width, depth));
+        this.half_life_nanos = half_life.toNanos();
+        this.next_decay = new AtomicLong(System.nanoTime() + half_life_nanos);
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return value ^ (value >>> 33);
+    }
+
+    private static long hash(long server_id, long command_id, @NotNull String path, @NotNull String option, @NotNull String value) {
+        var hash = mix(server_id * 31 + command_id);
+        hash = mix(hash ^ path.hashCode());
+        hash = mix(hash ^ option.hashCode());
+        return mix(hash ^ value.hashCode());
+    }
+
+    private static long serverId(@NotNull SlashCommandInteraction interaction) {
+        return interaction.getServer().map((e) -> e.getId()).orElse(0L);
+    }
+
+    private static @NotNull String path(@NotNull SlashCommandInteraction interaction) {
+        return String.join("/", interaction.getFullCommandName());
+    }
+
+    // counters are derived from two halves of the hash, row i uses h1 + i * h2
+    private int index(long hash, int row) {
+        var h1 = (int) hash;
+        var h2 = (int) (hash >>> 32) | 1;
+        return row * width + ((h1 + row * h2) & (width - 1));
+    }
+
+    /// Counts the arguments of the autocompletable options of a command
+    ///
+    /// @param command the command
+    /// @return this
+    public @NotNull UsageTracker track(@NotNull SlashCommandData command) {
+        track(command.getName(), command.getOptions());
+        return this;
+    }
+
+    /// Counts the arguments of the autocompletable options of commands
+    ///
+    /// @param commands the commands
+    /// @return this
+    public @NotNull UsageTracker track(@NotNull Collection<? extends @NotNull SlashCommandData> commands) {
+        commands.forEach(this::track);
+        return this;
+    }
+
+    /// Counts the arguments of an option
+    ///
+    /// @param path the command path of the option, like `admin/user/ban`
+    /// @param option the name of the option
+    /// @return this
+    public @NotNull UsageTracker track(@NotNull String path, @NotNull String option) {
+        Objects.requireNonNull(path, "path must not be null");
+        Objects.requireNonNull(option, "option must not be null");
+        tracked.add(new TrackedOption(path, option));
+        return this;
+    }
+
+    private void track(@NotNull String path, @NotNull List<@NotNull SlashCommandOptionData> options) {
+        for (var option : options) {
+            switch (option.getType()) {
+                case SUBCOMMAND, SUBCOMMAND_GROUP -> track(path + "/" + option.getName(), option.getOptions());
+                default -> {
+                    if (option.isAutocompletable())
+                        tracked.add(new TrackedOption(path, option.getName()));
+                }
+            }
+        }
+    }
+
+    /// Counts the arguments of an invocation
+    ///
+    /// Only arguments of options given to one of the `track` methods are counted
+    ///
+    /// @param interaction the invocation
+    public void record(@NotNull SlashCommandInvokeInteraction interaction) {
+        decay();
+        var server_id = serverId(interaction);
+        var command_id = interaction.getCommandId();
+        var path = path(interaction);
+        for (var argument : interaction.getArguments()) {
+            var value = argument.getValue().orElse(null);
+            if (!(value instanceof String || value instanceof Number))
+                continue;
+            if (!tracked.contains(new TrackedOption(path, argument.getName())))
+                continue;
+            var hash = hash(server_id, command_id, path, argument.getName(), String.valueOf(value));
+            for (int row = 0; row < depth; row++) {
+                var index = index(hash, row);
+                // saturate rather than wrap around
+                counters.getAndUpdate(index, (e) -> (e == Integer.MAX_VALUE) ? e : e + 1);
+            }
+        }
+    }
+
+    /// Estimates how often a value has been chosen for an option
+    ///
+    /// @param server_id the ID of the server, or 0 for invocations outside servers
+    /// @param command_id the ID of the command
+    /// @param path the command path of the option, like `admin/user/ban`
+    /// @param option the name of the option
+    /// @param value the value
+    /// @return the estimated count, decayed
+    public long estimate(long server_id, long command_id, @NotNull String path, @NotNull String option, @NotNull Object value) {
+        decay();
+        return estimate(hash(server_id, command_id, path, option, String.valueOf(value)));
+    }
+
+    private long estimate(long hash) {
+        var min = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++)
+            min = Math.min(min, counters.get(index(hash, row)));
+        return min;
+    }
+
+    /// Gets a function estimating how often each choice has been chosen for the focused option of an autocomplete
+    ///
+    /// @param interaction the autocomplete
+    /// @return the function, taking the value of a choice
+    public @NotNull ToLongFunction<SlashCommandOptionChoiceData> usageOf(@NotNull SlashCommandAutocompleteInteraction interaction) {
+        decay();
+        var server_id = serverId(interaction);
+        var command_id = interaction.getCommandId();
+        var path = path(interaction);
+        var option = interaction.getTargetOption().getName();
+        return (choice) -> estimate(hash(server_id, command_id, path, option, String.valueOf(choice.getValue())));
+    }
+
+    private void decay() {
+        var now = System.nanoTime();
+        var next = next_decay.get();
+        if (now - next < 0)
+            return;
+        var periods = 1 + (now - next) / half_life_nanos;
+        if (!next_decay.compareAndSet(next, next + periods * half_life_nanos))
+            return;
+        var shift = (int) Math.min(periods, 31);
+        for (int i = 0; i < counters.length(); i++)
+            counters.getAndUpdate(i, (e) -> e >>> shift);
+    }
+
+    /// Gets the number of bytes held by the counters
+    ///
+    /// @return the number of bytes
+    public long getMemoryBytes() {
+        return 4L * counters.length();
+    }
+
+    /// Adds this tracker as a listener for slash command invocations to a [DiscordApi]
+    ///
+    /// @param api the DiscordApi
+    public void attach(@NotNull DiscordApi api) {
+        api.addListener(SlashCommandInvokeListener.class, this);
+    }
+
+    /// Removes this tracker from a [DiscordApi]
+    ///
+    /// @param api the DiscordApi
+    public void detach(@NotNull DiscordApi api) {
+        api.removeListener(SlashCommandInvokeListener.class, this);
+    }
+
+    @Override
+    public void onSlashCommandInvoke(SlashCommandInvokeEvent event) {
+        record(event.getSlashCommandInteraction());
+    }
+}
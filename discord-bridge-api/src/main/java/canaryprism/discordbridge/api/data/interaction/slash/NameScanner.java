@@ -0,0 +1,109 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.data.interaction.slash;
+
+import org.jetbrains.annotations.NotNull;
+
+/// Character class scanner equivalent to [SlashCommandData#NAME_PATTERN]
+/// plus the lowercase requirement on names
+///
+/// The Basic Multilingual Plane is precomputed into two bitsets on first use so checking a name is
+/// a table lookup per character instead of running the regex and copying the string with [String#toLowerCase()]
+final class NameScanner {
+
+    private NameScanner() {}
+
+    /// the name is valid
+    static final int VALID = 0;
+    /// the name has characters not matched by [SlashCommandData#NAME_PATTERN] or has the wrong length
+    static final int INVALID_CHARACTER = 1;
+    /// the name has characters with a lowercase variant
+    static final int UPPERCASE = 2;
+
+    private static final class Tables {
+        /// BMP characters allowed in names
+        static final long[] allowed = new long[1 << 10];
+        /// BMP characters that have a lowercase variant
+        static final long[] uppercase = new long[1 << 10];
+
+        static {
+            for (int c = 0; c <= Character.MAX_VALUE; c++) {
+                if (computeAllowed(c))
+                    allowed[c >>> 6] |= 1L << c;
+                if (computeUppercase(c))
+                    uppercase[c >>> 6] |= 1L << c;
+            }
+        }
+    }
+
+    private static boolean computeAllowed(int c) {
+        if (c == '-' || c == '_')
+            return true;
+
+        if (Character.isLetter(c))
+            return true;
+
+        switch (Character.getType(c)) {
+            case Character.DECIMAL_DIGIT_NUMBER, Character.LETTER_NUMBER, Character.OTHER_NUMBER -> {
+                return true;
+            }
+        }
+
+        var script = Character.UnicodeScript.of(c);
+        return script == Character.UnicodeScript.DEVANAGARI || script == Character.UnicodeScript.THAI;
+    }
+
+    private static boolean computeUppercase(int c) {
+        return Character.toLowerCase(c) != c;
+    }
+
+    /// Scans a name
+    ///
+    /// @param name the name to scan
+    /// @return [#VALID], [#INVALID_CHARACTER] or [#UPPERCASE]
+    static int scan(@NotNull String name) {
+        var length = name.length();
+        if (length == 0)
+            return INVALID_CHARACTER;
+
+        var allowed = Tables.allowed;
+        var uppercase = Tables.uppercase;
+
+        int code_points = 0;
+        boolean has_uppercase = false;
+        for (int i = 0; i < length; ) {
+            int c = name.charAt(i);
+            if (Character.isHighSurrogate((char) c) && i + 1 < length && Character.isLowSurrogate(name.charAt(i + 1))) {
+                c = Character.toCodePoint((char) c, name.charAt(i + 1));
+                i += 2;
+                if (!computeAllowed(c))
+                    return INVALID_CHARACTER;
+                has_uppercase |= computeUppercase(c);
+            } else {
+                i++;
+                if ((allowed[c >>> 6] & (1L << c)) == 0)
+                    return INVALID_CHARACTER;
+                has_uppercase |= (uppercase[c >>> 6] & (1L << c)) != 0;
+            }
+
+            if (++code_points > SlashCommandData.MAX_NAME_LENGTH)
+                return INVALID_CHARACTER;
+        }
+
+        return (has_uppercase) ? UPPERCASE : VALID;
+    }
+}
@@ -40,6 +40,9 @@ public final class SlashCommandData implements CommandData {
     /// Max allowed length of slash command name
     public static final int MAX_NAME_LENGTH = 32;
     /// Pattern slash command names must match
+    ///
+    /// Names are checked with an equivalent precomputed character table rather than this pattern,
+    /// it's kept here as the reference definition
     public static final Pattern NAME_PATTERN = Pattern.compile(
             "^[-_\\p{L}\\p{N}\\p{sc=Deva}\\p{sc=Thai}]{1,32}$", Pattern.MULTILINE | Pattern.UNICODE_CHARACTER_CLASS);
     /// Max allowed length of slash command description
@@ -87,13 +90,41 @@ public final class SlashCommandData implements CommandData {
         this.setDescription(description);
     }
     
+    /// Constructs a new SlashCommandData instance from already validated values
+    ///
+    /// No checks are performed, this is only for use by things that validate entire command trees at once
+    /// like [SlashCommandDataBuilder]
+    SlashCommandData(@NotNull String name, @NotNull String description,
+                     @NotNull Map<DiscordLocale, @NotNull String> name_localizations,
+                     @NotNull Map<DiscordLocale, @NotNull String> description_localizations,
+                     @NotNull List<@NotNull SlashCommandOptionData> options,
+                     boolean default_disabled, @Nullable EnumSet<PermissionType> required_permissions,
+                     boolean enabled_in_DMs, @Nullable EnumSet<ContextType> allowed_contexts,
+                     @Nullable EnumSet<InstallationType> allowed_installation_types, boolean nsfw) {
+        this.name = name;
+        this.description = description;
+        this.name_localizations = name_localizations;
+        this.description_localizations = description_localizations;
+        this.options = options;
+        this.default_disabled = default_disabled;
+        this.required_permissions = required_permissions;
+        this.enabled_in_DMs = enabled_in_DMs;
+        this.allowed_contexts = allowed_contexts;
+        this.allowed_installation_types = allowed_installation_types;
+        this.nsfw = nsfw;
+        
+        for (var option : options) {
+            option.setParent(this);
+        }
+    }
+    
     static @NotNull String checkStringLength(@Nullable String string, int max_length, @NotNull String name) {
         Objects.requireNonNull(string, name + " must not be null");
         
-        if (name.isBlank())
+        if (string.isBlank())
             throw new IllegalArgumentException(String.format("%s must not be blank", name));
         
-        if (name.length() > max_length)
+        if (string.length() > max_length)
             throw new IllegalArgumentException(String.format("%s must not exceed %s characters", name, max_length));
         
         return string;
@@ -122,17 +153,36 @@ public final class SlashCommandData implements CommandData {
     }
     
     static @NotNull String checkName(@Nullable String str, @NotNull String name) {
-        str = checkStringLength(str, MAX_NAME_LENGTH, name);
-        
-        if (!NAME_PATTERN.matcher(str).matches())
-            throw new IllegalArgumentException(String.format("%s must match pattern %s", name, NAME_PATTERN));
+        Objects.requireNonNull(str, name + " must not be null");
         
-        if (!str.toLowerCase().equals(str))
-            throw new IllegalArgumentException(String.format("%s must not contain uppercase letters, or letters that have a lowercase variant", name));
+        switch (NameScanner.scan(str)) {
+            case NameScanner.INVALID_CHARACTER -> throw new IllegalArgumentException(
+                    String.format("%s must match pattern %s", name, NAME_PATTERN));
+            case NameScanner.UPPERCASE -> throw new IllegalArgumentException(
+                    String.format("%s must not contain uppercase letters, or letters that have a lowercase variant", name));
+        }
         
         return str;
     }
     
+    /// Copies a localization map into [EnumMap] backed storage
+    ///
+    /// Iterating the result walks the locales in declaration order without hashing, which is what the bridges do
+    /// every time they convert the data
+    ///
+    /// @param localizations the localizations to copy
+    /// @return an unmodifiable copy of the localizations
+    /// @throws NullPointerException if any locale or localization is null
+    static @NotNull @Unmodifiable Map<DiscordLocale, @NotNull String> copyLocalizations(@NotNull Map<DiscordLocale, String> localizations) {
+        if (localizations.isEmpty())
+            return Map.of();
+        
+        var copy = new EnumMap<DiscordLocale, String>(DiscordLocale.class);
+        localizations.forEach((locale, localized) ->
+                copy.put(Objects.requireNonNull(locale, "locale must not be null"), Objects.requireNonNull(localized, "localization must not be null")));
+        return Collections.unmodifiableMap(copy);
+    }
+    
     /// Gets the description of this slash command data
     ///
     /// @return the description
@@ -170,7 +220,7 @@ public final class SlashCommandData implements CommandData {
     /// @throws NullPointerException if the map or any of the values in the map is null
     /// @see #setName(String)
     public @NotNull SlashCommandData setNameLocalizations(@NotNull Map<DiscordLocale, @NotNull String> name_localizations) {
-        name_localizations = Map.copyOf(name_localizations);
+        name_localizations = copyLocalizations(name_localizations);
         name_localizations.forEach((locale, name) ->
                 checkName(name, String.format("name for locale %s", locale)));
         this.name_localizations = name_localizations;
@@ -194,7 +244,7 @@ public final class SlashCommandData implements CommandData {
     /// @throws NullPointerException if the map or any of the values in the map is null
     /// @see #setDescription(String)
     public @NotNull SlashCommandData setDescriptionLocalizations(@NotNull Map<DiscordLocale, @NotNull String> description_localizations) {
-        description_localizations = Map.copyOf(description_localizations);
+        description_localizations = copyLocalizations(description_localizations);
         description_localizations.forEach((locale, description) ->
                 checkStringLength(description, MAX_DESCRIPTION_LENGTH, String.format("description for locale %s", locale)));
         this.description_localizations = description_localizations;
@@ -0,0 +1,322 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.data.interaction.slash;
+
+import canaryprism.discordbridge.api.interaction.ContextType;
+import canaryprism.discordbridge.api.interaction.InstallationType;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandOptionType;
+import canaryprism.discordbridge.api.misc.DiscordLocale;
+import canaryprism.discordbridge.api.server.permission.PermissionType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+import static canaryprism.discordbridge.api.data.interaction.slash.SlashCommandData.MAX_DESCRIPTION_LENGTH;
+import static canaryprism.discordbridge.api.data.interaction.slash.SlashCommandData.MAX_OPTION_COUNT;
+
+/// A build-once alternative to constructing [SlashCommandData] through its setters
+///
+/// [SlashCommandData] and [SlashCommandOptionData] validate on every setter call,
+/// and changing an option that already belongs to a command rechecks all of its siblings.
+/// This builder instead only collects values, and validates the entire command tree in a single pass in [#build()],
+/// which keeps building large generated command trees linear in the size of the tree
+///
+/// The checks performed by [#build()] are the same as the ones performed by the setters of
+/// [SlashCommandData], [SlashCommandOptionData] and [SlashCommandOptionChoiceData]
+///
+/// This class is not thread safe
+public final class SlashCommandDataBuilder {
+
+    private @NotNull String name;
+    private @NotNull String description;
+    private final @NotNull EnumMap<DiscordLocale, String> name_localizations = new EnumMap<>(DiscordLocale.class);
+    private final @NotNull EnumMap<DiscordLocale, String> description_localizations = new EnumMap<>(DiscordLocale.class);
+
+    private final @NotNull ArrayList<SlashCommandOptionDataBuilder> options = new ArrayList<>();
+
+    private boolean default_disabled = false;
+    private @Nullable Set<? extends PermissionType> required_permissions = null;
+    private boolean enabled_in_DMs = true;
+    private @Nullable Set<? extends ContextType> allowed_contexts = null;
+    private @Nullable Set<? extends InstallationType> allowed_installation_types = null;
+    private boolean nsfw = false;
+
+    /// Constructs a new SlashCommandDataBuilder with the given name and description
+    ///
+    /// No checks are performed until [#build()]
+    ///
+    /// @param name the name of the command
+    /// @param description the description of the command
+    public SlashCommandDataBuilder(@NotNull String name, @NotNull String description) {
+        this.name = name;
+        this.description = description;
+    }
+
+    /// Sets the name of the command
+    ///
+    /// @param name the name to set
+    /// @return this
+    /// @see SlashCommandData#setName(String)
+    public @NotNull SlashCommandDataBuilder setName(@NotNull String name) {
+        this.name = name;
+        return this;
+    }
+
+    /// Sets the description of the command
+    ///
+    /// @param description the description to set
+    /// @return this
+    /// @see SlashCommandData#setDescription(String)
+    public @NotNull SlashCommandDataBuilder setDescription(@NotNull String description) {
+        this.description = description;
+        return this;
+    }
+
+    /// Replaces the name localizations of the command
+    ///
+    /// @param name_localizations the name localizations to set
+    /// @return this
+    /// @see SlashCommandData#setNameLocalizations(Map)
+    public @NotNull SlashCommandDataBuilder setNameLocalizations(@NotNull Map<DiscordLocale, @NotNull String> name_localizations) {
+        this.name_localizations.clear();
+        this.name_localizations.putAll(name_localizations);
+        return this;
+    }
+
+    /// Adds a name localization to the command
+    ///
+    /// @param locale the locale of the localization
+    /// @param name the localized name
+    /// @return this
+    public @NotNull SlashCommandDataBuilder addNameLocalization(@NotNull DiscordLocale locale, @NotNull String name) {
+        this.name_localizations.put(locale, name);
+        return this;
+    }
+
+    /// Replaces the description localizations of the command
+    ///
+    /// @param description_localizations the description localizations to set
+    /// @return this
+    /// @see SlashCommandData#setDescriptionLocalizations(Map)
+    public @NotNull SlashCommandDataBuilder setDescriptionLocalizations(@NotNull Map<DiscordLocale, @NotNull String> description_localizations) {
+        this.description_localizations.clear();
+        this.description_localizations.putAll(description_localizations);
+        return this;
+    }
+
+    /// Adds a description localization to the command
+    ///
+    /// @param locale the locale of the localization
+    /// @param description the localized description
+    /// @return this
+    public @NotNull SlashCommandDataBuilder addDescriptionLocalization(@NotNull DiscordLocale locale, @NotNull String description) {
+        this.description_localizations.put(locale, description);
+        return this;
+    }
+
+    /// Replaces the options of the command
+    ///
+    /// @param options the options to set
+    /// @return this
+    /// @see SlashCommandData#setOptions(List)
+    public @NotNull SlashCommandDataBuilder setOptions(@NotNull List<@NotNull SlashCommandOptionDataBuilder> options) {
+        this.options.clear();
+        this.options.addAll(options);
+        return this;
+    }
+
+    /// Adds an option to the command
+    ///
+    /// @param option the option to add
+    /// @return this
+    public @NotNull SlashCommandDataBuilder addOption(@NotNull SlashCommandOptionDataBuilder option) {
+        this.options.add(Objects.requireNonNull(option, "option must not be null"));
+        return this;
+    }
+
+    /// Sets the default disabled state of the command
+    ///
+    /// @param default_disabled the state to set
+    /// @return this
+    /// @deprecated Discord docs states "Not recommended for use as field will soon be deprecated."
+    /// @see SlashCommandData#setDefaultDisabled(boolean)
+    @Deprecated
+    public @NotNull SlashCommandDataBuilder setDefaultDisabled(boolean default_disabled) {
+        this.default_disabled = default_disabled;
+        return this;
+    }
+
+    /// Sets the required [PermissionType]s of the command
+    ///
+    /// @param required_permissions the required permissions to set, or `null` to unset them
+    /// @return this
+    /// @see SlashCommandData#setRequiredPermissions(Set)
+    public @NotNull SlashCommandDataBuilder setRequiredPermissions(@Nullable Set<? extends PermissionType> required_permissions) {
+        this.required_permissions = required_permissions;
+        return this;
+    }
+
+    /// Sets whether the command is enabled in DMs or not
+    ///
+    /// @param enabled_in_DMs whether the command should be enabled in DMs
+    /// @return this
+    /// @see SlashCommandData#setEnabledInDMs(boolean)
+    public @NotNull SlashCommandDataBuilder setEnabledInDMs(boolean enabled_in_DMs) {
+        this.enabled_in_DMs = enabled_in_DMs;
+        return this;
+    }
+
+    /// Sets the contexts the command is allowed to be invoked in
+    ///
+    /// @param allowed_contexts contexts where the command may be used, or `null` for the default
+    /// @return this
+    /// @see SlashCommandData#setAllowedContexts(Set)
+    public @NotNull SlashCommandDataBuilder setAllowedContexts(@Nullable Set<? extends ContextType> allowed_contexts) {
+        this.allowed_contexts = allowed_contexts;
+        return this;
+    }
+
+    /// Sets the installation types the command is allowed to be invoked for
+    ///
+    /// @param allowed_installation_types installation types where the command may be used, or `null` for the default
+    /// @return this
+    /// @see SlashCommandData#setAllowedInstallationTypes(Set)
+    public @NotNull SlashCommandDataBuilder setAllowedInstallationTypes(@Nullable Set<? extends InstallationType> allowed_installation_types) {
+        this.allowed_installation_types = allowed_installation_types;
+        return this;
+    }
+
+    /// Sets the NSFW flag of the command
+    ///
+    /// @param nsfw the state to set
+    /// @return this
+    /// @see SlashCommandData#setNSFW(boolean)
+    public @NotNull SlashCommandDataBuilder setNSFW(boolean nsfw) {
+        this.nsfw = nsfw;
+        return this;
+    }
+
+    /// Validates the collected command tree and builds it into a [SlashCommandData]
+    ///
+    /// Every node of the tree is visited exactly once
+    ///
+    /// Each call returns a new and independent SlashCommandData, so a builder may be built multiple times
+    ///
+    /// @return the built SlashCommandData
+    /// @throws IllegalArgumentException if any value in the tree is invalid
+    /// @throws IllegalStateException if values in the tree are incompatible with each other
+    /// @throws NullPointerException if any required value in the tree is null
+    @SuppressWarnings({ "unchecked", "OverlyStrongTypeCast" })
+    public @NotNull SlashCommandData build() {
+        var name = SlashCommandData.checkName(this.name, "name");
+        var description = SlashCommandData.checkStringLength(this.description, MAX_DESCRIPTION_LENGTH, "description");
+        var path = name;
+
+        var name_localizations = checkNameLocalizations(this.name_localizations, path);
+        var description_localizations = checkDescriptionLocalizations(this.description_localizations, path);
+
+        var options = buildOptions(this.options, path, null);
+
+        var required_permissions = this.required_permissions;
+        var allowed_contexts = this.allowed_contexts;
+        var allowed_installation_types = this.allowed_installation_types;
+
+        if (allowed_contexts != null && allowed_contexts.isEmpty())
+            throw new IllegalArgumentException("allowed contexts must not be empty; set it to null to allow default behaviour");
+        if (allowed_installation_types != null && allowed_installation_types.isEmpty())
+            throw new IllegalArgumentException("allowed installation types must not be empty; set it to null to allow default behaviour");
+
+        return new SlashCommandData(name, description, name_localizations, description_localizations, options,
+                default_disabled,
+                (required_permissions == null) ? null
+                        : (required_permissions.isEmpty()) ? EnumSet.noneOf(PermissionType.class)
+                        : EnumSet.copyOf(((Set<PermissionType>) required_permissions)),
+                enabled_in_DMs,
+                (allowed_contexts == null) ? null : EnumSet.copyOf(((Set<ContextType>) allowed_contexts)),
+                (allowed_installation_types == null) ? null : EnumSet.copyOf(((Set<InstallationType>) allowed_installation_types)),
+                nsfw);
+    }
+
+    static @NotNull Map<DiscordLocale, @NotNull String> checkNameLocalizations(@NotNull Map<DiscordLocale, String> localizations, @NotNull String path) {
+        if (localizations.isEmpty())
+            return Map.of();
+        localizations.forEach((locale, name) ->
+                SlashCommandData.checkName(name, String.format("%s name for locale %s", path, locale)));
+        return SlashCommandData.copyLocalizations(localizations);
+    }
+
+    static @NotNull Map<DiscordLocale, @NotNull String> checkDescriptionLocalizations(@NotNull Map<DiscordLocale, String> localizations, @NotNull String path) {
+        if (localizations.isEmpty())
+            return Map.of();
+        localizations.forEach((locale, description) ->
+                SlashCommandData.checkStringLength(description, MAX_DESCRIPTION_LENGTH, String.format("%s description for locale %s", path, locale)));
+        return SlashCommandData.copyLocalizations(localizations);
+    }
+
+    /// validates and builds a list of sibling options in one pass
+    ///
+    /// @param parent_type the type of the option these options belong to, or `null` if they belong to a command
+    static @NotNull List<@NotNull SlashCommandOptionData> buildOptions(@NotNull List<SlashCommandOptionDataBuilder> options,
+                                                                       @NotNull String path,
+                                                                       @Nullable SlashCommandOptionType parent_type) {
+        if (options.isEmpty())
+            return List.of();
+
+        if (options.size() > MAX_OPTION_COUNT)
+            throw new IllegalArgumentException(String.format("%s options list may only have up to %s options", path, MAX_OPTION_COUNT));
+
+        var names = new HashSet<String>(options.size() * 2);
+        var built = new SlashCommandOptionData[options.size()];
+        SlashCommandOptionType first_type = null;
+        boolean was_required = true;
+
+        for (int i = 0; i < built.length; i++) {
+            var option = Objects.requireNonNull(options.get(i), "options must not contain null");
+            var type = Objects.requireNonNull(option.type, "type must not be null");
+
+            if (!names.add(option.name))
+                throw new IllegalArgumentException(String.format("%s options list contains duplicate name '%s'", path, option.name));
+
+            if (first_type == null)
+                first_type = type;
+            else if (SlashCommandData.isIncompatibleTypes(first_type, type))
+                throw new IllegalStateException(String.format(
+                        "%s option '%s' can't be of type %s because it's incompatible with sibling option's type %s",
+                        path, option.name, type, first_type));
+
+            if (parent_type == SlashCommandOptionType.SUBCOMMAND_GROUP) {
+                if (type != SlashCommandOptionType.SUBCOMMAND)
+                    throw new IllegalStateException(String.format(
+                            "%s SUBCOMMAND_GROUP option's options must all be of type SUBCOMMAND", path));
+            } else if (parent_type == SlashCommandOptionType.SUBCOMMAND) {
+                if (type == SlashCommandOptionType.SUBCOMMAND || type == SlashCommandOptionType.SUBCOMMAND_GROUP)
+                    throw new IllegalStateException(String.format(
+                            "%s SUBCOMMAND option's options must not be SUBCOMMAND or SUBCOMMAND_GROUP", path));
+            }
+
+            if (!was_required && option.required)
+                throw new IllegalStateException(String.format(
+                        "%s option '%s' can't be required because options before it are not required", path, option.name));
+            was_required = option.required;
+
+            built[i] = option.build(path);
+        }
+
+        return List.of(built);
+    }
+}
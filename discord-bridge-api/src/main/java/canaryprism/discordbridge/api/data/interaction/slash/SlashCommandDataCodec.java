@@ -0,0 +1,1153 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.data.interaction.slash;
+
+import canaryprism.discordbridge.api.channel.ChannelType;
+import canaryprism.discordbridge.api.interaction.ContextType;
+import canaryprism.discordbridge.api.interaction.InstallationType;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandOptionType;
+import canaryprism.discordbridge.api.misc.DiscordLocale;
+import canaryprism.discordbridge.api.server.permission.PermissionType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.io.*;
+import java.util.*;
+
+/// Serializes lists of [SlashCommandData] to and from a readable JSON form and a compact binary form
+///
+/// A whole command set is written as one artifact, so it can be generated and validated once and then shared
+/// between every node that registers the same commands
+///
+/// Reading is streaming in both forms, and takes a `trusted` flag:
+///  - trusted input is assumed to have been written from already validated data,
+///    so it's turned straight into data objects without any of the per-setter checks
+///  - untrusted input goes through [SlashCommandDataBuilder], so the whole tree is validated exactly once
+///
+/// Either way malformed input fails with an [IOException] carrying the offset it was found at.
+/// Lists of options or choices longer than {@value SlashCommandData#MAX_OPTION_COUNT}, options nested deeper than
+/// Discord allows, and untrusted input with more than {@value #MAX_COMMAND_COUNT} commands are all malformed,
+/// so that no input makes the reader allocate or recurse more than a valid command set would
+///
+/// Enum values and locales are written by name, so artifacts stay readable by releases that add or reorder enum constants
+public final class SlashCommandDataCodec {
+
+    private SlashCommandDataCodec() {}
+
+    /// Magic number at the start of the binary form, `DBSC`
+    private static final int MAGIC = 0x44425343;
+    /// Version of the binary form
+    private static final int VERSION = 1;
+
+    private static final int COMMAND_DEFAULT_DISABLED = 1;
+    private static final int COMMAND_ENABLED_IN_DMS = 1 << 1;
+    private static final int COMMAND_NSFW = 1 << 2;
+    private static final int COMMAND_REQUIRED_PERMISSIONS = 1 << 3;
+    private static final int COMMAND_ALLOWED_CONTEXTS = 1 << 4;
+    private static final int COMMAND_ALLOWED_INSTALLATION_TYPES = 1 << 5;
+
+    private static final int OPTION_REQUIRED = 1;
+    private static final int OPTION_AUTOCOMPLETABLE = 1 << 1;
+    private static final int OPTION_MIN_INTEGER = 1 << 2;
+    private static final int OPTION_MAX_INTEGER = 1 << 3;
+    private static final int OPTION_MIN_NUMBER = 1 << 4;
+    private static final int OPTION_MAX_NUMBER = 1 << 5;
+    private static final int OPTION_MIN_LENGTH = 1 << 6;
+    private static final int OPTION_MAX_LENGTH = 1 << 7;
+
+    /// Most commands untrusted input may have, the number of commands of one kind Discord allows
+    private static final int MAX_COMMAND_COUNT = 100;
+    /// Most levels of options below a command, like a subcommand group, a subcommand, and the options of that subcommand
+    private static final int MAX_OPTION_DEPTH = 3;
+
+    // ---- JSON ----
+
+    /// Writes commands as a JSON array
+    ///
+    /// @param commands the commands to write
+    /// @param out where to write the JSON to
+    /// @throws IOException if writing to `out` fails
+    /// @throws IllegalArgumentException if a NUMBER choice value is not finite
+    public static void writeJson(@NotNull List<@NotNull SlashCommandData> commands, @NotNull Appendable out) throws IOException {
+        var writer = new JsonWriter(out);
+        writer.begin('[');
+        for (var command : commands)
+            writeJson(command, writer);
+        writer.end(']');
+        out.append('\n');
+    }
+
+    /// Writes commands as a JSON array to a String
+    ///
+    /// @param commands the commands to write
+    /// @return the JSON
+    /// @throws IllegalArgumentException if a NUMBER choice value is not finite
+    /// @see #writeJson(List, Appendable)
+    public static @NotNull String toJson(@NotNull List<@NotNull SlashCommandData> commands) {
+        var builder = new StringBuilder();
+        try {
+            writeJson(commands, builder);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return builder.toString();
+    }
+
+    /// Reads commands from a JSON array
+    ///
+    /// Unknown object members are skipped
+    ///
+    /// @param in where to read the JSON from
+    /// @param trusted whether the input was written from already validated data
+    /// @return the commands read
+    /// @throws IOException if reading fails or the input is malformed
+    /// @throws IllegalArgumentException if the input is untrusted and has invalid values
+    /// @throws IllegalStateException if the input is untrusted and has conflicting values
+    public static @NotNull @Unmodifiable List<@NotNull SlashCommandData> readJson(@NotNull Reader in, boolean trusted) throws IOException {
+        var reader = new JsonReader(in);
+        var commands = new ArrayList<SlashCommandData>();
+        reader.begin('[');
+        while (reader.hasNext(']')) {
+            if (!trusted && commands.size() == MAX_COMMAND_COUNT)
+                throw reader.error(String.format("more than %s commands", MAX_COMMAND_COUNT));
+            commands.add(readCommand(reader));
+        }
+        reader.end();
+
+        return (trusted) ? List.copyOf(commands) : validate(commands);
+    }
+
+    /// Reads commands from a JSON array in a String
+    ///
+    /// @param json the JSON
+    /// @param trusted whether the input was written from already validated data
+    /// @return the commands read
+    /// @throws IllegalArgumentException if the input is malformed, or if it's untrusted and has invalid values
+    /// @throws IllegalStateException if the input is untrusted and has conflicting values
+    /// @see #readJson(Reader, boolean)
+    public static @NotNull @Unmodifiable List<@NotNull SlashCommandData> fromJson(@NotNull String json, boolean trusted) {
+        try {
+            return readJson(new StringReader(json), trusted);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    private static void writeJson(@NotNull SlashCommandData command, @NotNull JsonWriter writer) throws IOException {
+        writer.begin('{');
+        writer.name("name").value(command.getName());
+        writer.name("description").value(command.getDescription());
+        writeJson(command.getNameLocalizations(), "name_localizations", writer);
+        writeJson(command.getDescriptionLocalizations(), "description_localizations", writer);
+        if (!command.getOptions().isEmpty()) {
+            writer.name("options").begin('[');
+            for (var option : command.getOptions())
+                writeJson(option, writer);
+            writer.end(']');
+        }
+        writer.name("default_disabled").value(command.isDefaultDisabled());
+        var required_permissions = command.getRequiredPermissions();
+        if (required_permissions.isPresent())
+            writeJson(required_permissions.get(), "required_permissions", writer);
+        writer.name("enabled_in_dms").value(command.isEnabledInDMs());
+        var allowed_contexts = command.getAllowedContexts();
+        if (allowed_contexts.isPresent())
+            writeJson(allowed_contexts.get(), "allowed_contexts", writer);
+        var allowed_installation_types = command.getAllowedInstallationTypes();
+        if (allowed_installation_types.isPresent())
+            writeJson(allowed_installation_types.get(), "allowed_installation_types", writer);
+        writer.name("nsfw").value(command.isNSFW());
+        writer.end('}');
+    }
+
+    private static void writeJson(@NotNull SlashCommandOptionData option, @NotNull JsonWriter writer) throws IOException {
+        writer.begin('{');
+        writer.name("name").value(option.getName());
+        writer.name("description").value(option.getDescription());
+        writeJson(option.getNameLocalizations(), "name_localizations", writer);
+        writeJson(option.getDescriptionLocalizations(), "description_localizations", writer);
+        writer.name("type").value(option.getType().name());
+        writer.name("required").value(option.isRequired());
+        writer.name("autocompletable").value(option.isAutocompletable());
+        if (!option.getChoices().isEmpty()) {
+            writer.name("choices").begin('[');
+            for (var choice : option.getChoices()) {
+                writer.begin('{');
+                writer.name("name").value(choice.getName());
+                writeJson(choice.getNameLocalizations(), "name_localizations", writer);
+                writer.name("value");
+                if (choice.getValue() instanceof Long value)
+                    writer.value(value);
+                else if (choice.getValue() instanceof Double value)
+                    writer.value(value);
+                else
+                    writer.value(choice.getValue().toString());
+                writer.end('}');
+            }
+            writer.end(']');
+        }
+        if (!option.getOptions().isEmpty()) {
+            writer.name("options").begin('[');
+            for (var child : option.getOptions())
+                writeJson(child, writer);
+            writer.end(']');
+        }
+        if (!option.getChannelTypeBounds().isEmpty())
+            writeJson(option.getChannelTypeBounds(), "channel_types", writer);
+
+        var min_integer = option.getIntegerBoundsMin();
+        if (min_integer.isPresent())
+            writer.name("min_integer").value(min_integer.get());
+        var max_integer = option.getIntegerBoundsMax();
+        if (max_integer.isPresent())
+            writer.name("max_integer").value(max_integer.get());
+        var min_number = option.getNumberBoundsMin();
+        if (min_number.isPresent())
+            writer.name("min_number").value(min_number.get());
+        var max_number = option.getNumberBoundsMax();
+        if (max_number.isPresent())
+            writer.name("max_number").value(max_number.get());
+        var min_length = option.getStringLengthBoundsMin();
+        if (min_length.isPresent())
+            writer.name("min_length").value(min_length.get());
+        var max_length = option.getStringLengthBoundsMax();
+        if (max_length.isPresent())
+            writer.name("max_length").value(max_length.get());
+        writer.end('}');
+    }
+
+    private static void writeJson(@NotNull Map<DiscordLocale, String> localizations, @NotNull String name, @NotNull JsonWriter writer) throws IOException {
+        if (localizations.isEmpty())
+            return;
+        writer.name(name).begin('{');
+        for (var e : localizations.entrySet())
+            writer.name(e.getKey().name()).value(e.getValue());
+        writer.end('}');
+    }
+
+    private static void writeJson(@NotNull Set<? extends Enum<?>> set, @NotNull String name, @NotNull JsonWriter writer) throws IOException {
+        writer.name(name).begin('[');
+        for (var e : set)
+            writer.value(e.name());
+        writer.end(']');
+    }
+
+    private static @NotNull SlashCommandData readCommand(@NotNull JsonReader reader) throws IOException {
+        String name = null;
+        String description = null;
+        Map<DiscordLocale, String> name_localizations = Map.of();
+        Map<DiscordLocale, String> description_localizations = Map.of();
+        List<SlashCommandOptionData> options = List.of();
+        boolean default_disabled = false;
+        EnumSet<PermissionType> required_permissions = null;
+        boolean enabled_in_DMs = true;
+        EnumSet<ContextType> allowed_contexts = null;
+        EnumSet<InstallationType> allowed_installation_types = null;
+        boolean nsfw = false;
+
+        reader.begin('{');
+        while (reader.hasNext('}')) {
+            switch (reader.nextName()) {
+                case "name" -> name = reader.nextString();
+                case "description" -> description = reader.nextString();
+                case "name_localizations" -> name_localizations = readLocalizations(reader);
+                case "description_localizations" -> description_localizations = readLocalizations(reader);
+                case "options" -> options = readOptions(reader, 1);
+                case "default_disabled" -> default_disabled = reader.nextBoolean();
+                case "required_permissions" -> required_permissions = readEnumSet(reader, PermissionType.class);
+                case "enabled_in_dms" -> enabled_in_DMs = reader.nextBoolean();
+                case "allowed_contexts" -> allowed_contexts = readEnumSet(reader, ContextType.class);
+                case "allowed_installation_types" -> allowed_installation_types = readEnumSet(reader, InstallationType.class);
+                case "nsfw" -> nsfw = reader.nextBoolean();
+                default -> reader.skipValue();
+            }
+        }
+
+        return new SlashCommandData(
+                reader.require(name, "command name"), reader.require(description, "command description"),
+                name_localizations, description_localizations, options,
+                default_disabled, required_permissions, enabled_in_DMs, allowed_contexts, allowed_installation_types, nsfw);
+    }
+
+    private static @NotNull List<SlashCommandOptionData> readOptions(@NotNull JsonReader reader, int depth) throws IOException {
+        var options = new ArrayList<SlashCommandOptionData>();
+        reader.begin('[');
+        while (reader.hasNext(']')) {
+            if (depth > MAX_OPTION_DEPTH)
+                throw reader.error(String.format("options nested deeper than %s levels", MAX_OPTION_DEPTH));
+            if (options.size() == SlashCommandData.MAX_OPTION_COUNT)
+                throw reader.error(String.format("more than %s options", SlashCommandData.MAX_OPTION_COUNT));
+            options.add(readOption(reader, depth));
+        }
+        return List.copyOf(options);
+    }
+
+    private record RawChoice(@NotNull String name, @NotNull Map<DiscordLocale, String> name_localizations, @NotNull Object value) {}
+
+    private static @NotNull SlashCommandOptionData readOption(@NotNull JsonReader reader, int depth) throws IOException {
+        String name = null;
+        String description = null;
+        Map<DiscordLocale, String> name_localizations = Map.of();
+        Map<DiscordLocale, String> description_localizations = Map.of();
+        SlashCommandOptionType type = null;
+        boolean required = true;
+        boolean autocompletable = false;
+        List<RawChoice> raw_choices = List.of();
+        List<SlashCommandOptionData> options = List.of();
+        EnumSet<ChannelType> channel_type_bounds = EnumSet.noneOf(ChannelType.class);
+        Long min_integer = null, max_integer = null;
+        Double min_number = null, max_number = null;
+        Long min_length = null, max_length = null;
+
+        reader.begin('{');
+        while (reader.hasNext('}')) {
+            switch (reader.nextName()) {
+                case "name" -> name = reader.nextString();
+                case "description" -> description = reader.nextString();
+                case "name_localizations" -> name_localizations = readLocalizations(reader);
+                case "description_localizations" -> description_localizations = readLocalizations(reader);
+                case "type" -> type = reader.enumValue(SlashCommandOptionType.class, reader.nextString());
+                case "required" -> required = reader.nextBoolean();
+                case "autocompletable" -> autocompletable = reader.nextBoolean();
+                case "choices" -> {
+                    raw_choices = new ArrayList<>();
+                    reader.begin('[');
+                    while (reader.hasNext(']')) {
+                        if (raw_choices.size() == SlashCommandData.MAX_OPTION_COUNT)
+                            throw reader.error(String.format("more than %s choices", SlashCommandData.MAX_OPTION_COUNT));
+                        raw_choices.add(readChoice(reader));
+                    }
+                }
+                case "options" -> options = readOptions(reader, depth + 1);
+                case "channel_types" -> channel_type_bounds = readEnumSet(reader, ChannelType.class);
+                case "min_integer" -> min_integer = reader.nextLong();
+                case "max_integer" -> max_integer = reader.nextLong();
+                case "min_number" -> min_number = reader.nextDouble();
+                case "max_number" -> max_number = reader.nextDouble();
+                case "min_length" -> min_length = reader.nextLong();
+                case "max_length" -> max_length = reader.nextLong();
+                default -> reader.skipValue();
+            }
+        }
+
+        name = reader.require(name, "option name");
+        type = reader.require(type, String.format("type of option '%s'", name));
+
+        List<SlashCommandOptionChoiceData> choices = List.of();
+        if (!raw_choices.isEmpty()) {
+            var array = new SlashCommandOptionChoiceData[raw_choices.size()];
+            for (int i = 0; i < array.length; i++) {
+                var choice = raw_choices.get(i);
+                var value = switch (type) {
+                    case INTEGER -> (choice.value() instanceof Long) ? choice.value() : null;
+                    case NUMBER -> (choice.value() instanceof Number number) ? (Object) number.doubleValue() : null;
+                    case STRING -> (choice.value() instanceof String) ? choice.value() : null;
+                    default -> null;
+                };
+                if (value == null)
+                    throw reader.error(String.format("choice value %s of option '%s' doesn't match type %s", choice.value(), name, type));
+                array[i] = new SlashCommandOptionChoiceData(type, choice.name(), choice.name_localizations(), value);
+            }
+            choices = List.of(array);
+        }
+
+        return new SlashCommandOptionData(
+                name, reader.require(description, String.format("description of option '%s'", name)),
+                name_localizations, description_localizations, type, required, autocompletable, choices, options,
+                channel_type_bounds, min_integer, max_integer, min_number, max_number, min_length, max_length);
+    }
+
+    private static @NotNull RawChoice readChoice(@NotNull JsonReader reader) throws IOException {
+        String name = null;
+        Map<DiscordLocale, String> name_localizations = Map.of();
+        Object value = null;
+
+        reader.begin('{');
+        while (reader.hasNext('}')) {
+            switch (reader.nextName()) {
+                case "name" -> name = reader.nextString();
+                case "name_localizations" -> name_localizations = readLocalizations(reader);
+                case "value" -> value = (reader.peek() == '"') ? reader.nextString() : reader.nextNumber();
+                default -> reader.skipValue();
+            }
+        }
+
+        name = reader.require(name, "choice name");
+        return new RawChoice(name, name_localizations, reader.require(value, String.format("value of choice '%s'", name)));
+    }
+
+    private static @NotNull Map<DiscordLocale, String> readLocalizations(@NotNull JsonReader reader) throws IOException {
+        var localizations = new EnumMap<DiscordLocale, String>(DiscordLocale.class);
+        reader.begin('{');
+        while (reader.hasNext('}')) {
+            var locale = reader.enumValue(DiscordLocale.class, reader.nextName());
+            localizations.put(locale, reader.nextString());
+        }
+        return (localizations.isEmpty()) ? Map.of() : Collections.unmodifiableMap(localizations);
+    }
+
+    private static <E extends Enum<E>> @NotNull EnumSet<E> readEnumSet(@NotNull JsonReader reader, @NotNull Class<E> type) throws IOException {
+        var set = EnumSet.noneOf(type);
+        reader.begin('[');
+        while (reader.hasNext(']'))
+            set.add(reader.enumValue(type, reader.nextString()));
+        return set;
+    }
+
+    /// Minimal streaming JSON writer that indents with two spaces
+    private static final class JsonWriter {
+
+        private final @NotNull Appendable out;
+        private int depth = 0;
+        private boolean first = true;
+        private boolean after_name = false;
+
+        JsonWriter(@NotNull Appendable out) {
+            this.out = out;
+        }
+
+        private void prefix() throws IOException {
+            if (after_name) {
+                after_name = false;
+                return;
+            }
+            if (depth > 0) {
+                if (!first)
+                    out.append(',');
+                newline();
+            }
+            first = false;
+        }
+
+        private void newline() throws IOException {
+            out.append('\n');
+            for (int i = 0; i < depth; i++)
+                out.append("  ");
+        }
+
+        @NotNull JsonWriter begin(char bracket) throws IOException {
+            prefix();
+            out.append(bracket);
+            depth++;
+            first = true;
+            return this;
+        }
+
+        void end(char bracket) throws IOException {
+            depth--;
+            if (!first)
+                newline();
+            out.append(bracket);
+            first = false;
+        }
+
+        @NotNull JsonWriter name(@NotNull String name) throws IOException {
+            prefix();
+            string(name);
+            out.append(": ");
+            after_name = true;
+            return this;
+        }
+
+        void value(@NotNull String value) throws IOException {
+            prefix();
+            string(value);
+        }
+
+        void value(long value) throws IOException {
+            prefix();
+            out.append(Long.toString(value));
+        }
+
+        void value(double value) throws IOException {
+            if (!Double.isFinite(value))
+                throw new IllegalArgumentException(String.format("can't write non finite number %s", value));
+            prefix();
+            out.append(Double.toString(value));
+        }
+
+        void value(boolean value) throws IOException {
+            prefix();
+            out.append((value) ? "true" : "false");
+        }
+
+        private void string(@NotNull String string) throws IOException {
+            out.append('"');
+            int start = 0;
+            for (int i = 0; i < string.length(); i++) {
+                var c = string.charAt(i);
+                if (c >= 0x20 && c != '"' && c != '\\')
+                    continue;
+
+                out.append(string, start, i);
+                switch (c) {
+                    case '"' -> out.append("\\\"");
+                    case '\\' -> out.append("\\\\");
+                    case '\n' -> out.append("\\n");
+                    case '\r' -> out.append("\\r");
+                    case '\t' -> out.append("\\t");
+                    default -> out.append(String.format("\\u%04x", (int) c));
+                }
+                start = i + 1;
+            }
+            out.append(string, start, string.length());
+            out.append('"');
+        }
+    }
+
+    /// Minimal pull JSON reader over a fixed character buffer
+    private static final class JsonReader {
+
+        private static final int MAX_DEPTH = 64;
+
+        private final @NotNull Reader in;
+        private final char[] buffer = new char[8192];
+        private int position = 0;
+        private int limit = 0;
+        private long offset = 0;
+
+        private final @NotNull StringBuilder scratch = new StringBuilder();
+        private final boolean[] first = new boolean[MAX_DEPTH];
+        private int depth = 0;
+
+        JsonReader(@NotNull Reader in) {
+            this.in = in;
+        }
+
+        @NotNull IOException error(@NotNull String message) {
+            return new IOException(String.format("%s at offset %s", message, offset + position));
+        }
+
+        <T> @NotNull T require(@Nullable T value, @NotNull String what) throws IOException {
+            if (value == null)
+                throw error(String.format("missing %s", what));
+            return value;
+        }
+
+        <E extends Enum<E>> @NotNull E enumValue(@NotNull Class<E> type, @NotNull String name) throws IOException {
+            try {
+                return Enum.valueOf(type, name);
+            } catch (IllegalArgumentException e) {
+                throw error(String.format("unknown %s '%s'", type.getSimpleName(), name));
+            }
+        }
+
+        private boolean fill() throws IOException {
+            offset += limit;
+            position = 0;
+            limit = Math.max(in.read(buffer), 0);
+            return limit > 0;
+        }
+
+        /// Peeks the next non whitespace character, or -1 at the end of input
+        int peek() throws IOException {
+            while (true) {
+                if (position == limit && !fill())
+                    return -1;
+                var c = buffer[position];
+                if (c != ' ' && c != '\n' && c != '\r' && c != '\t')
+                    return c;
+                position++;
+            }
+        }
+
+        private char next() throws IOException {
+            if (position == limit && !fill())
+                throw error("unexpected end of input");
+            return buffer[position++];
+        }
+
+        private void expect(char expected) throws IOException {
+            var c = peek();
+            if (c != expected)
+                throw error(String.format("expected '%s' but found %s", expected, describe(c)));
+            position++;
+        }
+
+        private static @NotNull String describe(int c) {
+            return (c == -1) ? "end of input" : String.format("'%s'", (char) c);
+        }
+
+        void begin(char bracket) throws IOException {
+            expect(bracket);
+            if (depth == MAX_DEPTH)
+                throw error("nesting too deep");
+            first[depth++] = true;
+        }
+
+        /// Checks if the current object or array has another element, consuming the separator or the closing bracket
+        boolean hasNext(char bracket) throws IOException {
+            var c = peek();
+            if (c == bracket) {
+                position++;
+                depth--;
+                return false;
+            }
+            if (first[depth - 1]) {
+                first[depth - 1] = false;
+                return true;
+            }
+            expect(',');
+            return true;
+        }
+
+        /// Checks that nothing but whitespace is left
+        void end() throws IOException {
+            var c = peek();
+            if (c != -1)
+                throw error(String.format("expected end of input but found %s", describe(c)));
+        }
+
+        @NotNull String nextName() throws IOException {
+            var name = nextString();
+            expect(':');
+            return name;
+        }
+
+        @NotNull String nextString() throws IOException {
+            expect('"');
+            scratch.setLength(0);
+            while (true) {
+                int start = position;
+                while (position < limit) {
+                    var c = buffer[position];
+                    if (c == '"') {
+                        scratch.append(buffer, start, position - start);
+                        position++;
+                        return scratch.toString();
+                    }
+                    if (c == '\\')
+                        break;
+                    if (c < 0x20)
+                        throw error("unescaped control character in string");
+                    position++;
+                }
+                scratch.append(buffer, start, position - start);
+
+                if (position == limit) {
+                    if (!fill())
+                        throw error("unterminated string");
+                    continue;
+                }
+
+                position++;
+                var escape = next();
+                switch (escape) {
+                    case '"', '\\', '/' -> scratch.append(escape);
+                    case 'b' -> scratch.append('\b');
+                    case 'f' -> scratch.append('\f');
+                    case 'n' -> scratch.append('\n');
+                    case 'r' -> scratch.append('\r');
+                    case 't' -> scratch.append('\t');
+                    case 'u' -> {
+                        int code = 0;
+                        for (int i = 0; i < 4; i++) {
+                            int digit = Character.digit(next(), 16);
+                            if (digit < 0)
+                                throw error("invalid unicode escape");
+                            code = (code << 4) | digit;
+                        }
+                        scratch.append((char) code);
+                    }
+                    default -> throw error(String.format("invalid escape '\\%s'", escape));
+                }
+            }
+        }
+
+        boolean nextBoolean() throws IOException {
+            var c = peek();
+            if (c == 't') {
+                literal("true");
+                return true;
+            } else if (c == 'f') {
+                literal("false");
+                return false;
+            }
+            throw error(String.format("expected boolean but found %s", describe(c)));
+        }
+
+        private void literal(@NotNull String literal) throws IOException {
+            for (int i = 0; i < literal.length(); i++)
+                if (next() != literal.charAt(i))
+                    throw error(String.format("expected %s", literal));
+        }
+
+        private @NotNull String numberText() throws IOException {
+            peek();
+            scratch.setLength(0);
+            while (true) {
+                if (position == limit && !fill())
+                    break;
+                var c = buffer[position];
+                if ((c < '0' || c > '9') && c != '-' && c != '+' && c != '.' && c != 'e' && c != 'E')
+                    break;
+                scratch.append(c);
+                position++;
+            }
+            if (scratch.isEmpty())
+                throw error(String.format("expected number but found %s", describe(peek())));
+            return scratch.toString();
+        }
+
+        long nextLong() throws IOException {
+            var text = numberText();
+            try {
+                return Long.parseLong(text);
+            } catch (NumberFormatException e) {
+                throw error(String.format("invalid integer %s", text));
+            }
+        }
+
+        double nextDouble() throws IOException {
+            var text = numberText();
+            try {
+                return Double.parseDouble(text);
+            } catch (NumberFormatException e) {
+                throw error(String.format("invalid number %s", text));
+            }
+        }
+
+        /// Reads a number as a [Long] if it's written as an integer, otherwise as a [Double]
+        @NotNull Number nextNumber() throws IOException {
+            var text = numberText();
+            try {
+                for (int i = 0; i < text.length(); i++) {
+                    var c = text.charAt(i);
+                    if (c == '.' || c == 'e' || c == 'E')
+                        return Double.parseDouble(text);
+                }
+                return Long.parseLong(text);
+            } catch (NumberFormatException e) {
+                throw error(String.format("invalid number %s", text));
+            }
+        }
+
+        void skipValue() throws IOException {
+            switch (peek()) {
+                case '"' -> nextString();
+                case 't', 'f' -> nextBoolean();
+                case 'n' -> literal("null");
+                case '{' -> {
+                    begin('{');
+                    while (hasNext('}')) {
+                        nextName();
+                        skipValue();
+                    }
+                }
+                case '[' -> {
+                    begin('[');
+                    while (hasNext(']'))
+                        skipValue();
+                }
+                default -> numberText();
+            }
+        }
+    }
+
+    // ---- binary ----
+
+    /// Writes commands in the binary form
+    ///
+    /// @param commands the commands to write
+    /// @param out where to write the commands to, it's not buffered or closed by this method
+    /// @throws IOException if writing to `out` fails
+    public static void writeBinary(@NotNull List<@NotNull SlashCommandData> commands, @NotNull OutputStream out) throws IOException {
+        var data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeInt(commands.size());
+        for (var command : commands)
+            writeBinary(command, data);
+        data.flush();
+    }
+
+    /// Writes commands in the binary form to a byte array
+    ///
+    /// @param commands the commands to write
+    /// @return the bytes
+    /// @see #writeBinary(List, OutputStream)
+    public static byte @NotNull [] toBinary(@NotNull List<@NotNull SlashCommandData> commands) {
+        var out = new ByteArrayOutputStream();
+        try {
+            writeBinary(commands, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /// Reads commands in the binary form
+    ///
+    /// Exactly the bytes of the artifact are read, so `in` should be buffered by the caller
+    ///
+    /// @param in where to read the commands from
+    /// @param trusted whether the input was written from already validated data
+    /// @return the commands read
+    /// @throws IOException if reading fails or the input is malformed
+    /// @throws IllegalArgumentException if the input is untrusted and has invalid values
+    /// @throws IllegalStateException if the input is untrusted and has conflicting values
+    public static @NotNull @Unmodifiable List<@NotNull SlashCommandData> readBinary(@NotNull InputStream in, boolean trusted) throws IOException {
+        var reader = new BinaryReader(in);
+        SlashCommandData[] commands;
+        try {
+            if (reader.readInt() != MAGIC)
+                throw reader.error("not a slash command data artifact");
+            var version = reader.readUnsignedByte();
+            if (version != VERSION)
+                throw reader.error(String.format("unsupported slash command data artifact version %s", version));
+
+            var count = reader.readInt();
+            if (count < 0 || (!trusted && count > MAX_COMMAND_COUNT))
+                throw reader.error(String.format("invalid command count %s", count));
+            // trusted counts aren't capped, so the array grows as commands are actually read
+            var list = new ArrayList<SlashCommandData>(Math.min(count, MAX_COMMAND_COUNT));
+            for (int i = 0; i < count; i++)
+                list.add(readCommand(reader));
+            commands = list.toArray(SlashCommandData[]::new);
+        } catch (EOFException e) {
+            throw reader.error("unexpected end of input");
+        } catch (UTFDataFormatException e) {
+            throw reader.error("malformed string");
+        }
+
+        return (trusted) ? List.of(commands) : validate(Arrays.asList(commands));
+    }
+
+    /// Reads commands in the binary form from a byte array
+    ///
+    /// @param bytes the bytes
+    /// @param trusted whether the input was written from already validated data
+    /// @return the commands read
+    /// @throws IllegalArgumentException if the input is malformed, or if it's untrusted and has invalid values
+    /// @throws IllegalStateException if the input is untrusted and has conflicting values
+    /// @see #readBinary(InputStream, boolean)
+    public static @NotNull @Unmodifiable List<@NotNull SlashCommandData> fromBinary(byte @NotNull [] bytes, boolean trusted) {
+        try {
+            return readBinary(new ByteArrayInputStream(bytes), trusted);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    private static void writeBinary(@NotNull SlashCommandData command, @NotNull DataOutputStream out) throws IOException {
+        out.writeUTF(command.getName());
+        out.writeUTF(command.getDescription());
+        writeBinary(command.getNameLocalizations(), out);
+        writeBinary(command.getDescriptionLocalizations(), out);
+
+        var required_permissions = command.getRequiredPermissions();
+        var allowed_contexts = command.getAllowedContexts();
+        var allowed_installation_types = command.getAllowedInstallationTypes();
+        int flags = 0;
+        if (command.isDefaultDisabled())
+            flags |= COMMAND_DEFAULT_DISABLED;
+        if (command.isEnabledInDMs())
+            flags |= COMMAND_ENABLED_IN_DMS;
+        if (command.isNSFW())
+            flags |= COMMAND_NSFW;
+        if (required_permissions.isPresent())
+            flags |= COMMAND_REQUIRED_PERMISSIONS;
+        if (allowed_contexts.isPresent())
+            flags |= COMMAND_ALLOWED_CONTEXTS;
+        if (allowed_installation_types.isPresent())
+            flags |= COMMAND_ALLOWED_INSTALLATION_TYPES;
+        out.writeByte(flags);
+
+        if (required_permissions.isPresent())
+            writeBinary(required_permissions.get(), out);
+        if (allowed_contexts.isPresent())
+            writeBinary(allowed_contexts.get(), out);
+        if (allowed_installation_types.isPresent())
+            writeBinary(allowed_installation_types.get(), out);
+
+        out.writeByte(command.getOptions().size());
+        for (var option : command.getOptions())
+            writeBinary(option, out);
+    }
+
+    private static void writeBinary(@NotNull SlashCommandOptionData option, @NotNull DataOutputStream out) throws IOException {
+        out.writeUTF(option.getName());
+        out.writeUTF(option.getDescription());
+        writeBinary(option.getNameLocalizations(), out);
+        writeBinary(option.getDescriptionLocalizations(), out);
+        out.writeUTF(option.getType().name());
+
+        var min_integer = option.getIntegerBoundsMin();
+        var max_integer = option.getIntegerBoundsMax();
+        var min_number = option.getNumberBoundsMin();
+        var max_number = option.getNumberBoundsMax();
+        var min_length = option.getStringLengthBoundsMin();
+        var max_length = option.getStringLengthBoundsMax();
+        int flags = 0;
+        if (option.isRequired())
+            flags |= OPTION_REQUIRED;
+        if (option.isAutocompletable())
+            flags |= OPTION_AUTOCOMPLETABLE;
+        if (min_integer.isPresent())
+            flags |= OPTION_MIN_INTEGER;
+        if (max_integer.isPresent())
+            flags |= OPTION_MAX_INTEGER;
+        if (min_number.isPresent())
+            flags |= OPTION_MIN_NUMBER;
+        if (max_number.isPresent())
+            flags |= OPTION_MAX_NUMBER;
+        if (min_length.isPresent())
+            flags |= OPTION_MIN_LENGTH;
+        if (max_length.isPresent())
+            flags |= OPTION_MAX_LENGTH;
+        out.writeByte(flags);
+
+        if (min_integer.isPresent())
+            out.writeLong(min_integer.get());
+        if (max_integer.isPresent())
+            out.writeLong(max_integer.get());
+        if (min_number.isPresent())
+            out.writeDouble(min_number.get());
+        if (max_number.isPresent())
+            out.writeDouble(max_number.get());
+        if (min_length.isPresent())
+            out.writeLong(min_length.get());
+        if (max_length.isPresent())
+            out.writeLong(max_length.get());
+
+        writeBinary(option.getChannelTypeBounds(), out);
+
+        out.writeByte(option.getChoices().size());
+        for (var choice : option.getChoices()) {
+            out.writeUTF(choice.getName());
+            writeBinary(choice.getNameLocalizations(), out);
+            if (choice.getValue() instanceof Long value)
+                out.writeLong(value);
+            else if (choice.getValue() instanceof Double value)
+                out.writeDouble(value);
+            else
+                out.writeUTF(choice.getValue().toString());
+        }
+
+        out.writeByte(option.getOptions().size());
+        for (var child : option.getOptions())
+            writeBinary(child, out);
+    }
+
+    private static void writeBinary(@NotNull Map<DiscordLocale, String> localizations, @NotNull DataOutputStream out) throws IOException {
+        out.writeByte(localizations.size());
+        for (var e : localizations.entrySet()) {
+            out.writeUTF(e.getKey().name());
+            out.writeUTF(e.getValue());
+        }
+    }
+
+    private static void writeBinary(@NotNull Set<? extends Enum<?>> set, @NotNull DataOutputStream out) throws IOException {
+        out.writeByte(set.size());
+        for (var e : set)
+            out.writeUTF(e.name());
+    }
+
+    private static @NotNull SlashCommandData readCommand(@NotNull BinaryReader in) throws IOException {
+        var name = in.readUTF();
+        var description = in.readUTF();
+        var name_localizations = readLocalizations(in);
+        var description_localizations = readLocalizations(in);
+
+        var flags = in.readUnsignedByte();
+        var required_permissions = ((flags & COMMAND_REQUIRED_PERMISSIONS) != 0) ? readEnumSet(in, PermissionType.class) : null;
+        var allowed_contexts = ((flags & COMMAND_ALLOWED_CONTEXTS) != 0) ? readEnumSet(in, ContextType.class) : null;
+        var allowed_installation_types = ((flags & COMMAND_ALLOWED_INSTALLATION_TYPES) != 0) ? readEnumSet(in, InstallationType.class) : null;
+
+        var options = readOptions(in, 1);
+
+        return new SlashCommandData(name, description, name_localizations, description_localizations, options,
+                (flags & COMMAND_DEFAULT_DISABLED) != 0, required_permissions,
+                (flags & COMMAND_ENABLED_IN_DMS) != 0, allowed_contexts, allowed_installation_types,
+                (flags & COMMAND_NSFW) != 0);
+    }
+
+    private static @NotNull List<SlashCommandOptionData> readOptions(@NotNull BinaryReader in, int depth) throws IOException {
+        var count = in.readUnsignedByte();
+        if (count == 0)
+            return List.of();
+        if (depth > MAX_OPTION_DEPTH)
+            throw in.error(String.format("options nested deeper than %s levels", MAX_OPTION_DEPTH));
+        if (count > SlashCommandData.MAX_OPTION_COUNT)
+            throw in.error(String.format("invalid option count %s", count));
+        var options = new SlashCommandOptionData[count];
+        for (int i = 0; i < count; i++)
+            options[i] = readOption(in, depth);
+        return List.of(options);
+    }
+
+    private static @NotNull SlashCommandOptionData readOption(@NotNull BinaryReader in, int depth) throws IOException {
+        var name = in.readUTF();
+        var description = in.readUTF();
+        var name_localizations = readLocalizations(in);
+        var description_localizations = readLocalizations(in);
+        var type = in.enumValue(SlashCommandOptionType.class, in.readUTF());
+
+        var flags = in.readUnsignedByte();
+        var min_integer = ((flags & OPTION_MIN_INTEGER) != 0) ? (Long) in.readLong() : null;
+        var max_integer = ((flags & OPTION_MAX_INTEGER) != 0) ? (Long) in.readLong() : null;
+        var min_number = ((flags & OPTION_MIN_NUMBER) != 0) ? (Double) in.readDouble() : null;
+        var max_number = ((flags & OPTION_MAX_NUMBER) != 0) ? (Double) in.readDouble() : null;
+        var min_length = ((flags & OPTION_MIN_LENGTH) != 0) ? (Long) in.readLong() : null;
+        var max_length = ((flags & OPTION_MAX_LENGTH) != 0) ? (Long) in.readLong() : null;
+
+        var channel_type_bounds = readEnumSet(in, ChannelType.class);
+
+        List<SlashCommandOptionChoiceData> choices = List.of();
+        var choice_count = in.readUnsignedByte();
+        if (choice_count > SlashCommandData.MAX_OPTION_COUNT)
+            throw in.error(String.format("invalid choice count %s", choice_count));
+        if (choice_count > 0) {
+            var array = new SlashCommandOptionChoiceData[choice_count];
+            for (int i = 0; i < choice_count; i++) {
+                var choice_name = in.readUTF();
+                var choice_localizations = readLocalizations(in);
+                Object value = switch (type) {
+                    case INTEGER -> in.readLong();
+                    case NUMBER -> in.readDouble();
+                    case STRING -> in.readUTF();
+                    default -> throw in.error(String.format("option '%s' of type %s can't have choices", name, type));
+                };
+                array[i] = new SlashCommandOptionChoiceData(type, choice_name, choice_localizations, value);
+            }
+            choices = List.of(array);
+        }
+
+        var options = readOptions(in, depth + 1);
+
+        return new SlashCommandOptionData(name, description, name_localizations, description_localizations, type,
+                (flags & OPTION_REQUIRED) != 0, (flags & OPTION_AUTOCOMPLETABLE) != 0, choices, options,
+                channel_type_bounds, min_integer, max_integer, min_number, max_number, min_length, max_length);
+    }
+
+    private static @NotNull Map<DiscordLocale, String> readLocalizations(@NotNull BinaryReader in) throws IOException {
+        var count = in.readUnsignedByte();
+        if (count == 0)
+            return Map.of();
+        var localizations = new EnumMap<DiscordLocale, String>(DiscordLocale.class);
+        for (int i = 0; i < count; i++)
+            localizations.put(in.enumValue(DiscordLocale.class, in.readUTF()), in.readUTF());
+        return Collections.unmodifiableMap(localizations);
+    }
+
+    private static <E extends Enum<E>> @NotNull EnumSet<E> readEnumSet(@NotNull BinaryReader in, @NotNull Class<E> type) throws IOException {
+        var set = EnumSet.noneOf(type);
+        var count = in.readUnsignedByte();
+        for (int i = 0; i < count; i++)
+            set.add(in.enumValue(type, in.readUTF()));
+        return set;
+    }
+
+    /// [DataInputStream] that counts the bytes read, so errors can say where in the input they are
+    private static final class BinaryReader extends DataInputStream {
+
+        BinaryReader(@NotNull InputStream in) {
+            super(new CountingInputStream(in));
+        }
+
+        @NotNull IOException error(@NotNull String message) {
+            return new IOException(String.format("%s at offset %s", message, ((CountingInputStream) in).offset));
+        }
+
+        <E extends Enum<E>> @NotNull E enumValue(@NotNull Class<E> type, @NotNull String name) throws IOException {
+            try {
+                return Enum.valueOf(type, name);
+            } catch (IllegalArgumentException e) {
+                throw error(String.format("unknown %s '%s'", type.getSimpleName(), name));
+            }
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private long offset = 0;
+
+        CountingInputStream(@NotNull InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            var b = in.read();
+            if (b != -1)
+                offset++;
+            return b;
+        }
+
+        @Override
+        public int read(byte @NotNull [] b, int off, int len) throws IOException {
+            var n = in.read(b, off, len);
+            if (n > 0)
+                offset += n;
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            var skipped = in.skip(n);
+            offset += skipped;
+            return skipped;
+        }
+    }
+
+    // ---- validation ----
+
+    /// Validates commands read from untrusted input by rebuilding them with [SlashCommandDataBuilder]
+    private static @NotNull @Unmodifiable List<@NotNull SlashCommandData> validate(@NotNull List<@NotNull SlashCommandData> commands) {
+        var validated = new SlashCommandData[commands.size()];
+        for (int i = 0; i < validated.length; i++)
+            validated[i] = toBuilder(commands.get(i)).build();
+        return List.of(validated);
+    }
+
+    @SuppressWarnings("deprecation")
+    private static @NotNull SlashCommandDataBuilder toBuilder(@NotNull SlashCommandData command) {
+        var builder = new SlashCommandDataBuilder(command.getName(), command.getDescription())
+                .setNameLocalizations(command.getNameLocalizations())
+                .setDescriptionLocalizations(command.getDescriptionLocalizations())
+                .setDefaultDisabled(command.isDefaultDisabled())
+                .setRequiredPermissions(command.getRequiredPermissions().orElse(null))
+                .setEnabledInDMs(command.isEnabledInDMs())
+                .setAllowedContexts(command.getAllowedContexts().orElse(null))
+                .setAllowedInstallationTypes(command.getAllowedInstallationTypes().orElse(null))
+                .setNSFW(command.isNSFW());
+        for (var option : command.getOptions())
+            builder.addOption(toBuilder(option));
+        return builder;
+    }
+
+    private static @NotNull SlashCommandOptionDataBuilder toBuilder(@NotNull SlashCommandOptionData option) {
+        var builder = new SlashCommandOptionDataBuilder(option.getName(), option.getDescription(), option.getType())
+                .setNameLocalizations(option.getNameLocalizations())
+                .setDescriptionLocalizations(option.getDescriptionLocalizations())
+                .setRequired(option.isRequired())
+                .setAutocompletable(option.isAutocompletable())
+                .setChannelTypeBounds(option.getChannelTypeBounds())
+                .setIntegerBoundsMin(option.getIntegerBoundsMin().orElse(null))
+                .setIntegerBoundsMax(option.getIntegerBoundsMax().orElse(null))
+                .setNumberBoundsMin(option.getNumberBoundsMin().orElse(null))
+                .setNumberBoundsMax(option.getNumberBoundsMax().orElse(null))
+                .setStringLengthBoundsMin(option.getStringLengthBoundsMin().orElse(null))
+                .setStringLengthBoundsMax(option.getStringLengthBoundsMax().orElse(null));
+        for (var choice : option.getChoices())
+            builder.addChoice(choice);
+        for (var child : option.getOptions())
+            builder.addOption(toBuilder(child));
+        return builder;
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.data.interaction.slash;
+
+import canaryprism.discordbridge.api.misc.DiscordLocale;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.*;
+
+/// Hash-consing table for [SlashCommandTree]s
+///
+/// Every node, option list, choice list, localization map, set and string that passes through an interner is
+/// looked up by value and replaced with the instance seen first, so trees interned by the same interner store
+/// each distinct subtree exactly once.
+/// This is meant for holding many mostly identical command sets, like per server variants of the same commands,
+/// where the variants only differ in a few options or choice lists
+///
+/// Interned values are held strongly until [#clear()] is called
+///
+/// This class is thread safe
+public final class SlashCommandInterner {
+
+    private final @NotNull HashMap<Object, Object> table = new HashMap<>();
+
+    /// Converts a [SlashCommandData] to a [SlashCommandTree], sharing every part already seen by this interner
+    ///
+    /// @param data the slash command data
+    /// @return the interned tree
+    public synchronized @NotNull SlashCommandTree intern(@NotNull SlashCommandData data) {
+        var options = data.getOptions();
+        var array = new SlashCommandTree.Option[options.size()];
+        for (int i = 0; i < array.length; i++)
+            array[i] = intern(options.get(i));
+
+        return share(new SlashCommandTree(
+                share(data.getName()), share(data.getDescription()),
+                localizations(data.getNameLocalizations()), localizations(data.getDescriptionLocalizations()),
+                share(List.of(array)),
+                data.isDefaultDisabled(), data.getRequiredPermissions().map(this::set).orElse(null),
+                data.isEnabledInDMs(), data.getAllowedContexts().map(this::set).orElse(null),
+                data.getAllowedInstallationTypes().map(this::set).orElse(null),
+                data.isNSFW()));
+    }
+
+    /// Shares every part of a [SlashCommandTree] already seen by this interner
+    ///
+    /// This is how trees modified with the `with` methods get their new parts shared
+    ///
+    /// @param tree the tree
+    /// @return the interned tree
+    public synchronized @NotNull SlashCommandTree intern(@NotNull SlashCommandTree tree) {
+        var array = new SlashCommandTree.Option[tree.options().size()];
+        for (int i = 0; i < array.length; i++)
+            array[i] = intern(tree.options().get(i));
+
+        return share(new SlashCommandTree(
+                share(tree.name()), share(tree.description()),
+                localizations(tree.name_localizations()), localizations(tree.description_localizations()),
+                share(List.of(array)),
+                tree.default_disabled(), set(tree.required_permissions()),
+                tree.enabled_in_DMs(), set(tree.allowed_contexts()), set(tree.allowed_installation_types()),
+                tree.nsfw()));
+    }
+
+    private @NotNull SlashCommandTree.Option intern(@NotNull SlashCommandOptionData data) {
+        var choices = data.getChoices();
+        var choice_array = new SlashCommandTree.Choice[choices.size()];
+        for (int i = 0; i < choice_array.length; i++) {
+            var choice = choices.get(i);
+            choice_array[i] = share(new SlashCommandTree.Choice(
+                    share(choice.getName()), localizations(choice.getNameLocalizations()), share(choice.getValue())));
+        }
+
+        var options = data.getOptions();
+        var option_array = new SlashCommandTree.Option[options.size()];
+        for (int i = 0; i < option_array.length; i++)
+            option_array[i] = intern(options.get(i));
+
+        return share(new SlashCommandTree.Option(
+                share(data.getName()), share(data.getDescription()),
+                localizations(data.getNameLocalizations()), localizations(data.getDescriptionLocalizations()),
+                data.getType(), data.isRequired(), data.isAutocompletable(),
+                share(List.of(choice_array)), share(List.of(option_array)),
+                set(data.getChannelTypeBounds()),
+                data.getIntegerBoundsMin().orElse(null), data.getIntegerBoundsMax().orElse(null),
+                data.getNumberBoundsMin().orElse(null), data.getNumberBoundsMax().orElse(null),
+                data.getStringLengthBoundsMin().orElse(null), data.getStringLengthBoundsMax().orElse(null)));
+    }
+
+    private @NotNull SlashCommandTree.Option intern(@NotNull SlashCommandTree.Option option) {
+        var choice_array = new SlashCommandTree.Choice[option.choices().size()];
+        for (int i = 0; i < choice_array.length; i++) {
+            var choice = option.choices().get(i);
+            choice_array[i] = share(new SlashCommandTree.Choice(
+                    share(choice.name()), localizations(choice.name_localizations()), share(choice.value())));
+        }
+
+        var option_array = new SlashCommandTree.Option[option.options().size()];
+        for (int i = 0; i < option_array.length; i++)
+            option_array[i] = intern(option.options().get(i));
+
+        return share(new SlashCommandTree.Option(
+                share(option.name()), share(option.description()),
+                localizations(option.name_localizations()), localizations(option.description_localizations()),
+                option.type(), option.required(), option.autocompletable(),
+                share(List.of(choice_array)), share(List.of(option_array)),
+                set(option.channel_type_bounds()),
+                option.min_integer(), option.max_integer(),
+                option.min_number(), option.max_number(),
+                option.min_length(), option.max_length()));
+    }
+
+    private @NotNull @Unmodifiable Map<DiscordLocale, @NotNull String> localizations(@NotNull Map<DiscordLocale, String> localizations) {
+        if (localizations.isEmpty())
+            return Map.of();
+
+        var existing = table.get(localizations);
+        if (existing != null) {
+            @SuppressWarnings("unchecked")
+            var shared = (Map<DiscordLocale, String>) existing;
+            return shared;
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        var entries = (Map.Entry<DiscordLocale, String>[]) new Map.Entry[localizations.size()];
+        int i = 0;
+        for (var e : localizations.entrySet())
+            entries[i++] = Map.entry(e.getKey(), share(e.getValue()));
+        return share(Map.ofEntries(entries));
+    }
+
+    private <E> @Nullable @Unmodifiable Set<E> set(@Nullable Set<E> set) {
+        return (set == null) ? null : share(Set.copyOf(set));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> @NotNull T share(@NotNull T value) {
+        var existing = table.putIfAbsent(value, value);
+        return (existing == null) ? value : (T) existing;
+    }
+
+    /// Gets the number of distinct values held by this interner
+    ///
+    /// @return the number of distinct values
+    public synchronized int size() {
+        return table.size();
+    }
+
+    /// Removes every value held by this interner
+    ///
+    /// Trees interned afterwards won't share anything with trees interned before
+    public synchronized void clear() {
+        table.clear();
+    }
+}
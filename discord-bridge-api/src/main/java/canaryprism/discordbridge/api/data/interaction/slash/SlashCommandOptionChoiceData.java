@@ -63,6 +63,18 @@ public final class SlashCommandOptionChoiceData {
         this.setValue(value);
     }
     
+    /// Constructs a new SlashCommandOptionChoiceData from already validated values
+    ///
+    /// No checks are performed, this is only for use by things that validate entire command trees at once
+    /// like [SlashCommandDataBuilder]
+    SlashCommandOptionChoiceData(@NotNull SlashCommandOptionType type, @NotNull String name,
+                                 @NotNull Map<DiscordLocale, @NotNull String> name_localizations, @NotNull Object value) {
+        this.type = type;
+        this.name = name;
+        this.name_localizations = name_localizations;
+        this.value = value;
+    }
+    
     /// Constructs a new SlashCommandOptionChoiceData with the given name and value, inferring the type
     ///
     /// This is a convenience constructor to infer the type of the value passed for
@@ -168,7 +180,7 @@ public final class SlashCommandOptionChoiceData {
     /// @throws NullPointerException if the map or any of the values in the map is null
     /// @see #setName(String)
     public SlashCommandOptionChoiceData setNameLocalizations(@NotNull Map<DiscordLocale, @NotNull String> name_localizations) {
-        this.name_localizations = Map.copyOf(name_localizations);
+        this.name_localizations = SlashCommandData.copyLocalizations(name_localizations);
         return this;
     }
     
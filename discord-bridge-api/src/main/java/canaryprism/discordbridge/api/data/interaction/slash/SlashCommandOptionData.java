@@ -107,6 +107,45 @@ public final class SlashCommandOptionData {
         this.setType(type);
     }
     
+    /// Constructs a new SlashCommandOptionData instance from already validated values
+    ///
+    /// No checks are performed, this is only for use by things that validate entire command trees at once
+    /// like [SlashCommandDataBuilder]
+    SlashCommandOptionData(@NotNull String name, @NotNull String description,
+                           @NotNull Map<DiscordLocale, @NotNull String> name_localizations,
+                           @NotNull Map<DiscordLocale, @NotNull String> description_localizations,
+                           @NotNull SlashCommandOptionType type, boolean required, boolean autocompletable,
+                           @NotNull List<@NotNull SlashCommandOptionChoiceData> choices,
+                           @NotNull List<@NotNull SlashCommandOptionData> options,
+                           @NotNull EnumSet<ChannelType> channel_type_bounds,
+                           @Nullable Long min_integer, @Nullable Long max_integer,
+                           @Nullable Double min_number, @Nullable Double max_number,
+                           @Nullable Long min_length, @Nullable Long max_length) {
+        this.name = name;
+        this.description = description;
+        this.name_localizations = name_localizations;
+        this.description_localizations = description_localizations;
+        this.type = type;
+        this.required = required;
+        this.autocompletable = autocompletable;
+        this.choices = choices;
+        this.options = options;
+        this.channel_type_bounds = channel_type_bounds;
+        this.min_integer = min_integer;
+        this.max_integer = max_integer;
+        this.min_number = min_number;
+        this.max_number = max_number;
+        this.min_length = min_length;
+        this.max_length = max_length;
+        
+        for (var choice : choices) {
+            choice.parent = this;
+        }
+        for (var option : options) {
+            option.setParent(this);
+        }
+    }
+    
     /// Gets the name of this option data
     ///
     /// @return the name
@@ -186,7 +225,7 @@ public final class SlashCommandOptionData {
     /// @see #setName(String)
     /// @see SlashCommandData#setName(String)
     public @NotNull SlashCommandOptionData setNameLocalizations(@NotNull Map<DiscordLocale, @NotNull String> name_localizations) {
-        name_localizations = Map.copyOf(name_localizations);
+        name_localizations = SlashCommandData.copyLocalizations(name_localizations);
         name_localizations.forEach((locale, name) ->
                 SlashCommandData.checkName(name, String.format("name for locale %s", locale)));
         this.name_localizations = name_localizations;
@@ -212,7 +251,7 @@ public final class SlashCommandOptionData {
     /// @see #setDescription(String)
     /// @see SlashCommandData#setDescription(String)
     public @NotNull SlashCommandOptionData setDescriptionLocalizations(@NotNull Map<DiscordLocale, @NotNull String> description_localizations) {
-        description_localizations = Map.copyOf(description_localizations);
+        description_localizations = SlashCommandData.copyLocalizations(description_localizations);
         description_localizations.forEach((locale, description) ->
                 SlashCommandData.checkStringLength(description, MAX_DESCRIPTION_LENGTH, String.format("description for locale %s", locale)));
         this.description_localizations = description_localizations;
@@ -0,0 +1,408 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.data.interaction.slash;
+
+import canaryprism.discordbridge.api.channel.ChannelType;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandOptionType;
+import canaryprism.discordbridge.api.misc.DiscordLocale;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import java.util.*;
+
+import static canaryprism.discordbridge.api.data.interaction.slash.SlashCommandData.MAX_DESCRIPTION_LENGTH;
+import static canaryprism.discordbridge.api.data.interaction.slash.SlashCommandData.MAX_OPTION_COUNT;
+import static canaryprism.discordbridge.api.interaction.slash.SlashCommandOption.*;
+
+/// A build-once alternative to constructing [SlashCommandOptionData] through its setters
+///
+/// This builder only collects values, they are validated when the [SlashCommandDataBuilder] it was added to is built
+///
+/// This class is not thread safe
+///
+/// @see SlashCommandDataBuilder
+public final class SlashCommandOptionDataBuilder {
+
+    @NotNull String name;
+    private @NotNull String description;
+    private final @NotNull EnumMap<DiscordLocale, String> name_localizations = new EnumMap<>(DiscordLocale.class);
+    private final @NotNull EnumMap<DiscordLocale, String> description_localizations = new EnumMap<>(DiscordLocale.class);
+
+    @NotNull SlashCommandOptionType type;
+    boolean required = true;
+    private boolean autocompletable = false;
+    private final @NotNull ArrayList<Choice> choices = new ArrayList<>();
+    private final @NotNull ArrayList<SlashCommandOptionDataBuilder> options = new ArrayList<>();
+
+    private @NotNull Set<? extends ChannelType> channel_type_bounds = Set.of();
+
+    private @Nullable Long min_integer;
+    private @Nullable Long max_integer;
+    private @Nullable Double min_number;
+    private @Nullable Double max_number;
+    private @Nullable Long min_length;
+    private @Nullable Long max_length;
+
+    private record Choice(@NotNull String name, @NotNull Object value, @NotNull Map<DiscordLocale, @NotNull String> name_localizations) {}
+
+    /// Constructs a new SlashCommandOptionDataBuilder with the given name, description, and type
+    ///
+    /// No checks are performed until the command is built
+    ///
+    /// @param name the name of the option
+    /// @param description the description of the option
+    /// @param type the type of the option
+    public SlashCommandOptionDataBuilder(@NotNull String name, @NotNull String description, @NotNull SlashCommandOptionType type) {
+        this.name = name;
+        this.description = description;
+        this.type = type;
+    }
+
+    /// Sets the name of the option
+    ///
+    /// @param name the name to set
+    /// @return this
+    /// @see SlashCommandOptionData#setName(String)
+    public @NotNull SlashCommandOptionDataBuilder setName(@NotNull String name) {
+        this.name = name;
+        return this;
+    }
+
+    /// Sets the description of the option
+    ///
+    /// @param description the description to set
+    /// @return this
+    /// @see SlashCommandOptionData#setDescription(String)
+    public @NotNull SlashCommandOptionDataBuilder setDescription(@NotNull String description) {
+        this.description = description;
+        return this;
+    }
+
+    /// Replaces the name localizations of the option
+    ///
+    /// @param name_localizations the name localizations to set
+    /// @return this
+    /// @see SlashCommandOptionData#setNameLocalizations(Map)
+    public @NotNull SlashCommandOptionDataBuilder setNameLocalizations(@NotNull Map<DiscordLocale, @NotNull String> name_localizations) {
+        this.name_localizations.clear();
+        this.name_localizations.putAll(name_localizations);
+        return this;
+    }
+
+    /// Adds a name localization to the option
+    ///
+    /// @param locale the locale of the localization
+    /// @param name the localized name
+    /// @return this
+    public @NotNull SlashCommandOptionDataBuilder addNameLocalization(@NotNull DiscordLocale locale, @NotNull String name) {
+        this.name_localizations.put(locale, name);
+        return this;
+    }
+
+    /// Replaces the description localizations of the option
+    ///
+    /// @param description_localizations the description localizations to set
+    /// @return this
+    /// @see SlashCommandOptionData#setDescriptionLocalizations(Map)
+    public @NotNull SlashCommandOptionDataBuilder setDescriptionLocalizations(@NotNull Map<DiscordLocale, @NotNull String> description_localizations) {
+        this.description_localizations.clear();
+        this.description_localizations.putAll(description_localizations);
+        return this;
+    }
+
+    /// Adds a description localization to the option
+    ///
+    /// @param locale the locale of the localization
+    /// @param description the localized description
+    /// @return this
+    public @NotNull SlashCommandOptionDataBuilder addDescriptionLocalization(@NotNull DiscordLocale locale, @NotNull String description) {
+        this.description_localizations.put(locale, description);
+        return this;
+    }
+
+    /// Sets the [SlashCommandOptionType] of the option
+    ///
+    /// @param type the type to set
+    /// @return this
+    /// @see SlashCommandOptionData#setType(SlashCommandOptionType)
+    public @NotNull SlashCommandOptionDataBuilder setType(@NotNull SlashCommandOptionType type) {
+        this.type = type;
+        return this;
+    }
+
+    /// Sets whether the option is required or not
+    ///
+    /// @param required whether the option is required
+    /// @return this
+    /// @see SlashCommandOptionData#setRequired(boolean)
+    public @NotNull SlashCommandOptionDataBuilder setRequired(boolean required) {
+        this.required = required;
+        return this;
+    }
+
+    /// Sets whether the option is autocompletable or not
+    ///
+    /// @param autocompletable whether the option is autocompletable
+    /// @return this
+    /// @see SlashCommandOptionData#setAutocompletable(boolean)
+    public @NotNull SlashCommandOptionDataBuilder setAutocompletable(boolean autocompletable) {
+        this.autocompletable = autocompletable;
+        return this;
+    }
+
+    /// Adds a choice to the option
+    ///
+    /// The type of the choice is the type of this option
+    ///
+    /// @param name the name of the choice
+    /// @param value the value of the choice
+    /// @return this
+    /// @see SlashCommandOptionData#setChoices(List)
+    public @NotNull SlashCommandOptionDataBuilder addChoice(@NotNull String name, @NotNull Object value) {
+        return addChoice(name, value, Map.of());
+    }
+
+    /// Adds a choice with name localizations to the option
+    ///
+    /// The type of the choice is the type of this option
+    ///
+    /// @param name the name of the choice
+    /// @param value the value of the choice
+    /// @param name_localizations the name localizations of the choice
+    /// @return this
+    /// @see SlashCommandOptionData#setChoices(List)
+    public @NotNull SlashCommandOptionDataBuilder addChoice(@NotNull String name, @NotNull Object value,
+                                                            @NotNull Map<DiscordLocale, @NotNull String> name_localizations) {
+        this.choices.add(new Choice(name, value, name_localizations));
+        return this;
+    }
+
+    /// Adds a copy of an existing choice to the option
+    ///
+    /// @param choice the choice to add
+    /// @return this
+    /// @see SlashCommandOptionData#setChoices(List)
+    public @NotNull SlashCommandOptionDataBuilder addChoice(@NotNull SlashCommandOptionChoiceData choice) {
+        return addChoice(choice.getName(), choice.getValue(), choice.getNameLocalizations());
+    }
+
+    /// Replaces the options of the option
+    ///
+    /// @param options the options to set
+    /// @return this
+    /// @see SlashCommandOptionData#setOptions(List)
+    public @NotNull SlashCommandOptionDataBuilder setOptions(@NotNull List<@NotNull SlashCommandOptionDataBuilder> options) {
+        this.options.clear();
+        this.options.addAll(options);
+        return this;
+    }
+
+    /// Adds an option to the option
+    ///
+    /// @param option the option to add
+    /// @return this
+    /// @see SlashCommandOptionData#setOptions(List)
+    public @NotNull SlashCommandOptionDataBuilder addOption(@NotNull SlashCommandOptionDataBuilder option) {
+        this.options.add(Objects.requireNonNull(option, "option must not be null"));
+        return this;
+    }
+
+    /// Sets the [ChannelType] bounds of the option
+    ///
+    /// @param channel_type_bounds the ChannelType bounds to set to or empty to allow all types
+    /// @return this
+    /// @see SlashCommandOptionData#setChannelTypeBounds(Set)
+    public @NotNull SlashCommandOptionDataBuilder setChannelTypeBounds(@NotNull Set<? extends ChannelType> channel_type_bounds) {
+        this.channel_type_bounds = channel_type_bounds;
+        return this;
+    }
+
+    /// Sets the minimum allowed INTEGER value of the option
+    ///
+    /// @param min_integer the minimum integer bounds to set or `null` to remove the bounds
+    /// @return this
+    /// @see SlashCommandOptionData#setIntegerBoundsMin(Long)
+    public @NotNull SlashCommandOptionDataBuilder setIntegerBoundsMin(@Nullable @Range(from = MIN_NUMBER, to = MAX_NUMBER) Long min_integer) {
+        this.min_integer = min_integer;
+        return this;
+    }
+
+    /// Sets the maximum allowed INTEGER value of the option
+    ///
+    /// @param max_integer the maximum integer bounds to set or `null` to remove the bounds
+    /// @return this
+    /// @see SlashCommandOptionData#setIntegerBoundsMax(Long)
+    public @NotNull SlashCommandOptionDataBuilder setIntegerBoundsMax(@Nullable @Range(from = MIN_NUMBER, to = MAX_NUMBER) Long max_integer) {
+        this.max_integer = max_integer;
+        return this;
+    }
+
+    /// Sets the minimum allowed NUMBER value of the option
+    ///
+    /// @param min_number the minimum number bounds to set or `null` to remove the bounds
+    /// @return this
+    /// @see SlashCommandOptionData#setNumberBoundsMin(Double)
+    public @NotNull SlashCommandOptionDataBuilder setNumberBoundsMin(@Nullable @Range(from = MIN_NUMBER, to = MAX_NUMBER) Double min_number) {
+        this.min_number = min_number;
+        return this;
+    }
+
+    /// Sets the maximum allowed NUMBER value of the option
+    ///
+    /// @param max_number the maximum number bounds to set or `null` to remove the bounds
+    /// @return this
+    /// @see SlashCommandOptionData#setNumberBoundsMax(Double)
+    public @NotNull SlashCommandOptionDataBuilder setNumberBoundsMax(@Nullable @Range(from = MIN_NUMBER, to = MAX_NUMBER) Double max_number) {
+        this.max_number = max_number;
+        return this;
+    }
+
+    /// Sets the minimum allowed STRING length of the option
+    ///
+    /// @param min_length the minimum string length bounds to set or `null` to remove the bounds
+    /// @return this
+    /// @see SlashCommandOptionData#setStringLengthBoundsMin(Long)
+    public @NotNull SlashCommandOptionDataBuilder setStringLengthBoundsMin(@Nullable @Range(from = 0, to = MAX_STRING_LENGTH) Long min_length) {
+        this.min_length = min_length;
+        return this;
+    }
+
+    /// Sets the maximum allowed STRING length of the option
+    ///
+    /// @param max_length the maximum string length bounds to set or `null` to remove the bounds
+    /// @return this
+    /// @see SlashCommandOptionData#setStringLengthBoundsMax(Long)
+    public @NotNull SlashCommandOptionDataBuilder setStringLengthBoundsMax(@Nullable @Range(from = 1, to = MAX_STRING_LENGTH) Long max_length) {
+        this.max_length = max_length;
+        return this;
+    }
+
+    /// validates this option and builds it and its children
+    ///
+    /// sibling checks (unique names, compatible types, required order) are done by the caller
+    @SuppressWarnings({ "unchecked", "OverlyStrongTypeCast" })
+    @NotNull SlashCommandOptionData build(@NotNull String parent_path) {
+        var name = SlashCommandData.checkName(this.name, String.format("%s option name", parent_path));
+        var path = parent_path + "/" + name;
+        var description = SlashCommandData.checkStringLength(this.description, MAX_DESCRIPTION_LENGTH,
+                String.format("%s description", path));
+        var type = this.type;
+
+        if (type == SlashCommandOptionType.UNKNOWN)
+            throw new IllegalArgumentException(String.format("%s UNKNOWN type disallowed here", path));
+
+        var name_localizations = SlashCommandDataBuilder.checkNameLocalizations(this.name_localizations, path);
+        var description_localizations = SlashCommandDataBuilder.checkDescriptionLocalizations(this.description_localizations, path);
+
+        var is_subcommand = type == SlashCommandOptionType.SUBCOMMAND || type == SlashCommandOptionType.SUBCOMMAND_GROUP;
+
+        if (is_subcommand && !required)
+            throw new IllegalStateException(String.format("%s SUBCOMMAND_GROUP and SUBCOMMAND may not be set as not required", path));
+
+        if (!is_subcommand && !options.isEmpty())
+            throw new IllegalStateException(String.format("%s options are only allowed with type SUBCOMMAND and SUBCOMMAND_GROUP", path));
+
+        if (!type.can_be_choices) {
+            if (!choices.isEmpty())
+                throw new IllegalStateException(String.format("%s %s type cannot have option choices", path, type));
+            if (autocompletable)
+                throw new IllegalStateException(String.format("%s %s type cannot be autocompletable", path, type));
+        }
+
+        if (autocompletable && !choices.isEmpty())
+            throw new IllegalStateException(String.format(
+                    "%s option can't be autocompletable because it has static option choices", path));
+
+        if (type != SlashCommandOptionType.STRING && (min_length != null || max_length != null))
+            throw new IllegalStateException(String.format("%s string length bounds only allowed with type STRING", path));
+
+        if (type != SlashCommandOptionType.INTEGER && (min_integer != null || max_integer != null))
+            throw new IllegalStateException(String.format("%s integer bounds only allowed with type INTEGER", path));
+
+        if (type != SlashCommandOptionType.NUMBER && (min_number != null || max_number != null))
+            throw new IllegalStateException(String.format("%s number bounds only allowed with type NUMBER", path));
+
+        if (type != SlashCommandOptionType.CHANNEL && !channel_type_bounds.isEmpty())
+            throw new IllegalStateException(String.format("%s channel type bounds only allowed with type CHANNEL", path));
+
+        checkBounds(min_integer, max_integer, MIN_NUMBER, MAX_NUMBER, path, "integer");
+        checkBounds(min_number, max_number, MIN_NUMBER, MAX_NUMBER, path, "number");
+        checkBounds(min_length, max_length, 0, MAX_STRING_LENGTH, path, "length");
+        if (max_length != null && max_length < 1)
+            throw new IllegalArgumentException(String.format("%s max length must not be less than 1", path));
+
+        var choices = buildChoices(type, path);
+        var options = SlashCommandDataBuilder.buildOptions(this.options, path, type);
+
+        return new SlashCommandOptionData(name, description, name_localizations, description_localizations,
+                type, required, autocompletable, choices, options,
+                (channel_type_bounds.isEmpty()) ? EnumSet.noneOf(ChannelType.class)
+                        : EnumSet.copyOf(((Set<ChannelType>) channel_type_bounds)),
+                min_integer, max_integer, min_number, max_number, min_length, max_length);
+    }
+
+    private @NotNull List<@NotNull SlashCommandOptionChoiceData> buildChoices(@NotNull SlashCommandOptionType type, @NotNull String path) {
+        if (choices.isEmpty())
+            return List.of();
+
+        if (choices.size() > MAX_OPTION_COUNT)
+            throw new IllegalArgumentException(String.format("%s choices list may only have up to %s options", path, MAX_OPTION_COUNT));
+
+        var type_representation = type.getTypeRepresentation();
+        var built = new SlashCommandOptionChoiceData[choices.size()];
+        for (int i = 0; i < built.length; i++) {
+            var choice = choices.get(i);
+            var name = SlashCommandData.checkStringLength(choice.name(), MAX_DESCRIPTION_LENGTH,
+                    String.format("%s choice name", path));
+
+            if (!type_representation.isInstance(Objects.requireNonNull(choice.value(), "value can't be null")))
+                throw new IllegalStateException(String.format(
+                        "%s can't set choice value %s for type %s", path, choice.value(), type));
+
+            var name_localizations = choice.name_localizations();
+            if (!name_localizations.isEmpty()) {
+                name_localizations.forEach((locale, localized) ->
+                        SlashCommandData.checkStringLength(localized, MAX_DESCRIPTION_LENGTH,
+                                String.format("%s choice '%s' name for locale %s", path, name, locale)));
+                name_localizations = SlashCommandData.copyLocalizations(name_localizations);
+            }
+
+            built[i] = new SlashCommandOptionChoiceData(type, name, name_localizations, choice.value());
+        }
+
+        return List.of(built);
+    }
+
+    private static void checkBounds(@Nullable Number min, @Nullable Number max, long lower, long upper,
+                                    @NotNull String path, @NotNull String name) {
+        if (min != null) {
+            if (min.doubleValue() < lower)
+                throw new IllegalArgumentException(String.format("%s min %s must not be less than %s", path, name, lower));
+            if (min.doubleValue() > upper)
+                throw new IllegalArgumentException(String.format("%s min %s must not be greater than %s", path, name, upper));
+        }
+        if (max != null) {
+            if (max.doubleValue() < lower)
+                throw new IllegalArgumentException(String.format("%s max %s must not be less than %s", path, name, lower));
+            if (max.doubleValue() > upper)
+                throw new IllegalArgumentException(String.format("%s max %s must not be greater than %s", path, name, upper));
+        }
+        if (min != null && max != null && min.doubleValue() > max.doubleValue())
+            throw new IllegalStateException(String.format("%s min %s can't be greater than max", path, name));
+    }
+}
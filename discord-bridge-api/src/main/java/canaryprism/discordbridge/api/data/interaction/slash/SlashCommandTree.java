@@ -0,0 +1,204 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.data.interaction.slash;
+
+import canaryprism.discordbridge.api.channel.ChannelType;
+import canaryprism.discordbridge.api.interaction.ContextType;
+import canaryprism.discordbridge.api.interaction.InstallationType;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandOptionType;
+import canaryprism.discordbridge.api.misc.DiscordLocale;
+import canaryprism.discordbridge.api.server.permission.PermissionType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/// Immutable, structurally shareable form of a [SlashCommandData] tree
+///
+/// Unlike [SlashCommandData] and [SlashCommandOptionData], nodes of this tree have no parent and can't be modified,
+/// so identical subtrees can be the very same object in any number of trees.
+/// [SlashCommandInterner] produces trees where every identical node, list, map and set is stored once
+///
+/// All collections are copied with [List#copyOf], [Map#copyOf] and [Set#copyOf],
+/// which don't copy collections that are already immutable so sharing is preserved
+///
+/// The `with` methods return modified copies that still share every untouched subtree,
+/// pass the result through [SlashCommandInterner#intern(SlashCommandTree)] to share the changed parts too
+///
+/// @param name the name of the command
+/// @param description the description of the command
+/// @param name_localizations the name localizations of the command
+/// @param description_localizations the description localizations of the command
+/// @param options the options of the command
+/// @param default_disabled whether the command is disabled by default
+/// @param required_permissions the required permissions of the command, or null if there are none
+/// @param enabled_in_DMs whether the command is enabled in DMs
+/// @param allowed_contexts the allowed contexts of the command, or null if unset
+/// @param allowed_installation_types the allowed installation types of the command, or null if unset
+/// @param nsfw whether the command is NSFW
+/// @see SlashCommandInterner
+public record SlashCommandTree(@NotNull String name, @NotNull String description,
+                               @NotNull @Unmodifiable Map<DiscordLocale, @NotNull String> name_localizations,
+                               @NotNull @Unmodifiable Map<DiscordLocale, @NotNull String> description_localizations,
+                               @NotNull @Unmodifiable List<@NotNull Option> options,
+                               boolean default_disabled,
+                               @Nullable @Unmodifiable Set<PermissionType> required_permissions,
+                               boolean enabled_in_DMs,
+                               @Nullable @Unmodifiable Set<ContextType> allowed_contexts,
+                               @Nullable @Unmodifiable Set<InstallationType> allowed_installation_types,
+                               boolean nsfw) {
+
+    /// Copies collections that aren't already immutable
+    public SlashCommandTree {
+        name_localizations = Map.copyOf(name_localizations);
+        description_localizations = Map.copyOf(description_localizations);
+        options = List.copyOf(options);
+        required_permissions = (required_permissions == null) ? null : Set.copyOf(required_permissions);
+        allowed_contexts = (allowed_contexts == null) ? null : Set.copyOf(allowed_contexts);
+        allowed_installation_types = (allowed_installation_types == null) ? null : Set.copyOf(allowed_installation_types);
+    }
+
+    /// Returns a copy of this tree with different options
+    ///
+    /// @param options the new options
+    /// @return the modified copy
+    public @NotNull SlashCommandTree withOptions(@NotNull List<@NotNull Option> options) {
+        return new SlashCommandTree(name, description, name_localizations, description_localizations, options,
+                default_disabled, required_permissions, enabled_in_DMs, allowed_contexts, allowed_installation_types, nsfw);
+    }
+
+    /// Builds a [SlashCommandData] from this tree
+    ///
+    /// The tree is validated once through [SlashCommandDataBuilder] since the records of this tree can be
+    /// constructed with any values
+    ///
+    /// @return the new slash command data
+    /// @throws IllegalArgumentException if the tree has invalid values
+    /// @throws IllegalStateException if the tree has conflicting values
+    @SuppressWarnings("deprecation")
+    public @NotNull SlashCommandData toData() {
+        var builder = new SlashCommandDataBuilder(name, description)
+                .setNameLocalizations(name_localizations)
+                .setDescriptionLocalizations(description_localizations)
+                .setDefaultDisabled(default_disabled)
+                .setRequiredPermissions(required_permissions)
+                .setEnabledInDMs(enabled_in_DMs)
+                .setAllowedContexts(allowed_contexts)
+                .setAllowedInstallationTypes(allowed_installation_types)
+                .setNSFW(nsfw);
+        for (var option : options)
+            builder.addOption(option.toBuilder());
+        return builder.build();
+    }
+
+    /// Immutable, structurally shareable form of a [SlashCommandOptionData]
+    ///
+    /// @param name the name of the option
+    /// @param description the description of the option
+    /// @param name_localizations the name localizations of the option
+    /// @param description_localizations the description localizations of the option
+    /// @param type the type of the option
+    /// @param required whether the option is required
+    /// @param autocompletable whether the option is autocompletable
+    /// @param choices the choices of the option
+    /// @param options the nested options of the option
+    /// @param channel_type_bounds the channel type bounds of the option
+    /// @param min_integer the minimum integer bound, or null if unset
+    /// @param max_integer the maximum integer bound, or null if unset
+    /// @param min_number the minimum number bound, or null if unset
+    /// @param max_number the maximum number bound, or null if unset
+    /// @param min_length the minimum string length bound, or null if unset
+    /// @param max_length the maximum string length bound, or null if unset
+    public record Option(@NotNull String name, @NotNull String description,
+                         @NotNull @Unmodifiable Map<DiscordLocale, @NotNull String> name_localizations,
+                         @NotNull @Unmodifiable Map<DiscordLocale, @NotNull String> description_localizations,
+                         @NotNull SlashCommandOptionType type, boolean required, boolean autocompletable,
+                         @NotNull @Unmodifiable List<@NotNull Choice> choices,
+                         @NotNull @Unmodifiable List<@NotNull Option> options,
+                         @NotNull @Unmodifiable Set<ChannelType> channel_type_bounds,
+                         @Nullable Long min_integer, @Nullable Long max_integer,
+                         @Nullable Double min_number, @Nullable Double max_number,
+                         @Nullable Long min_length, @Nullable Long max_length) {
+
+        /// Copies collections that aren't already immutable
+        public Option {
+            name_localizations = Map.copyOf(name_localizations);
+            description_localizations = Map.copyOf(description_localizations);
+            choices = List.copyOf(choices);
+            options = List.copyOf(options);
+            channel_type_bounds = Set.copyOf(channel_type_bounds);
+        }
+
+        /// Returns a copy of this option with different choices
+        ///
+        /// @param choices the new choices
+        /// @return the modified copy
+        public @NotNull Option withChoices(@NotNull List<@NotNull Choice> choices) {
+            return new Option(name, description, name_localizations, description_localizations, type, required, autocompletable,
+                    choices, options, channel_type_bounds, min_integer, max_integer, min_number, max_number, min_length, max_length);
+        }
+
+        /// Returns a copy of this option with different nested options
+        ///
+        /// @param options the new options
+        /// @return the modified copy
+        public @NotNull Option withOptions(@NotNull List<@NotNull Option> options) {
+            return new Option(name, description, name_localizations, description_localizations, type, required, autocompletable,
+                    choices, options, channel_type_bounds, min_integer, max_integer, min_number, max_number, min_length, max_length);
+        }
+
+        @NotNull SlashCommandOptionDataBuilder toBuilder() {
+            var builder = new SlashCommandOptionDataBuilder(name, description, type)
+                    .setNameLocalizations(name_localizations)
+                    .setDescriptionLocalizations(description_localizations)
+                    .setRequired(required)
+                    .setAutocompletable(autocompletable)
+                    .setChannelTypeBounds(channel_type_bounds)
+                    .setIntegerBoundsMin(min_integer)
+                    .setIntegerBoundsMax(max_integer)
+                    .setNumberBoundsMin(min_number)
+                    .setNumberBoundsMax(max_number)
+                    .setStringLengthBoundsMin(min_length)
+                    .setStringLengthBoundsMax(max_length);
+            for (var choice : choices)
+                builder.addChoice(choice.name(), choice.value(), choice.name_localizations());
+            for (var option : options)
+                builder.addOption(option.toBuilder());
+            return builder;
+        }
+    }
+
+    /// Immutable, structurally shareable form of a [SlashCommandOptionChoiceData]
+    ///
+    /// The type of the choice is the type of the option it belongs to
+    ///
+    /// @param name the name of the choice
+    /// @param name_localizations the name localizations of the choice
+    /// @param value the value of the choice
+    public record Choice(@NotNull String name,
+                         @NotNull @Unmodifiable Map<DiscordLocale, @NotNull String> name_localizations,
+                         @NotNull Object value) {
+
+        /// Copies collections that aren't already immutable
+        public Choice {
+            name_localizations = Map.copyOf(name_localizations);
+        }
+    }
+}
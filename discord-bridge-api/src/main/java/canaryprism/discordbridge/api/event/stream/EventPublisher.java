@@ -0,0 +1,81 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.event.stream;
+
+import canaryprism.discordbridge.api.event.Event;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+
+/// A [Flow.Publisher] of events fed straight from the native event source of a bridge
+///
+/// Every subscriber attaches to the [Source] on its own and detaches when it cancels,
+/// so events never pass through a shared listener list.
+/// Events are only delivered as the subscriber requests them, the ones arriving meanwhile are handled by the
+/// [OverflowStrategy] of the publisher
+///
+/// The stream never completes, a subscriber receives events until it cancels
+///
+/// This class is for bridge implementations, users get publishers from [canaryprism.discordbridge.api.DiscordApi#events(Class, OverflowStrategy)]
+///
+/// @param <E> the type of event
+public final class EventPublisher<E extends Event> implements Flow.Publisher<E> {
+
+    private final @NotNull OverflowStrategy overflow;
+    private final @NotNull Source<E> source;
+
+    /// A native event source
+    ///
+    /// @param <E> the type of event
+    @FunctionalInterface
+    public interface Source<E extends Event> {
+
+        /// Starts passing events from the underlying library to a sink
+        ///
+        /// The sink doesn't block, so it can be called on the event threads of the library
+        ///
+        /// @param sink the sink
+        /// @return a call stopping events from being passed to the sink
+        @NotNull Runnable attach(@NotNull Consumer<? super E> sink);
+    }
+
+    /// Constructs an EventPublisher
+    ///
+    /// @param overflow the strategy for events arriving before they're requested
+    /// @param source the native event source
+    public EventPublisher(@NotNull OverflowStrategy overflow, @NotNull Source<E> source) {
+        this.overflow = Objects.requireNonNull(overflow, "overflow");
+        this.source = Objects.requireNonNull(source, "source");
+    }
+
+    /// Gets the strategy for events arriving before they're requested
+    ///
+    /// @return the overflow strategy
+    public @NotNull OverflowStrategy getOverflowStrategy() {
+        return overflow;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super E> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        var subscription = new EventSubscription<E>(subscriber, overflow);
+        subscriber.onSubscribe(subscription);
+        subscription.attach(source);
+    }
+}
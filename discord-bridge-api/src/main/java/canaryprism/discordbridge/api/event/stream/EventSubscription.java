@@ -0,0 +1,161 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.event.stream;
+
+import canaryprism.discordbridge.api.event.Event;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/// The subscription of one subscriber to an [EventPublisher], and the sink its [EventPublisher.Source] feeds
+///
+/// Events are delivered by whichever thread finds demand and queued events first, one at a time
+final class EventSubscription<E extends Event> implements Flow.Subscription, Consumer<E> {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventSubscription.class);
+
+    private static final Runnable CANCELLED = () -> {};
+
+    private final @NotNull Flow.Subscriber<? super E> subscriber;
+    private final @NotNull OverflowStrategy overflow;
+
+    // guarded by itself
+    private final @NotNull ArrayDeque<E> queue = new ArrayDeque<>();
+
+    private final @NotNull AtomicLong requested = new AtomicLong();
+    private final @NotNull AtomicInteger work = new AtomicInteger();
+    private final @NotNull AtomicReference<Runnable> detach = new AtomicReference<>();
+
+    private volatile boolean cancelled;
+    private volatile @Nullable Throwable error;
+
+    EventSubscription(@NotNull Flow.Subscriber<? super E> subscriber, @NotNull OverflowStrategy overflow) {
+        this.subscriber = subscriber;
+        this.overflow = overflow;
+    }
+
+    void attach(@NotNull EventPublisher.Source<E> source) {
+        if (cancelled)
+            return;
+        Runnable detach;
+        try {
+            detach = source.attach(this);
+        } catch (RuntimeException e) {
+            fail(e);
+            return;
+        }
+        // cancelled while attaching
+        if (!this.detach.compareAndSet(null, detach))
+            detach.run();
+    }
+
+    @Override
+    public void accept(E event) {
+        if (cancelled)
+            return;
+        E dropped = null;
+        E rejected = null;
+        synchronized (queue) {
+            if (queue.size() < overflow.getCapacity())
+                queue.add(event);
+            else if (overflow.getKind() == OverflowStrategy.Kind.DROP_OLDEST) {
+                dropped = queue.poll();
+                queue.add(event);
+            } else
+                rejected = event;
+        }
+        if (dropped != null)
+            logger.debug("dropped {}, {} events are waiting to be requested", dropped, overflow.getCapacity());
+        if (rejected != null)
+            overflow.replyBusy(rejected);
+        drain();
+    }
+
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            fail(new IllegalArgumentException(String.format("requested %s events, the number must be positive", n)));
+            return;
+        }
+        requested.getAndAccumulate(n, (current, added) -> {
+            var sum = current + added;
+            return (sum < 0) ? Long.MAX_VALUE : sum;
+        });
+        drain();
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+        var detach = this.detach.getAndSet(CANCELLED);
+        if (detach != null)
+            detach.run();
+        drain();
+    }
+
+    private void fail(@NotNull Throwable error) {
+        this.error = error;
+        cancel();
+    }
+
+    private void drain() {
+        if (work.getAndIncrement() != 0)
+            return;
+        var missed = 1;
+        do {
+            if (cancelled) {
+                synchronized (queue) {
+                    queue.clear();
+                }
+                var error = this.error;
+                if (error != null) {
+                    this.error = null;
+                    subscriber.onError(error);
+                }
+                return;
+            }
+            var requested = this.requested.get();
+            var emitted = 0L;
+            while (emitted != requested && !cancelled) {
+                E event;
+                synchronized (queue) {
+                    event = queue.poll();
+                }
+                if (event == null)
+                    break;
+                try {
+                    subscriber.onNext(event);
+                } catch (RuntimeException e) {
+                    logger.error("subscriber {} threw, cancelling its subscription", subscriber, e);
+                    cancel();
+                }
+                emitted++;
+            }
+            if (emitted != 0 && requested != Long.MAX_VALUE)
+                this.requested.addAndGet(-emitted);
+            missed = work.addAndGet(-missed);
+        } while (missed != 0);
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.event.stream;
+
+import canaryprism.discordbridge.api.event.Event;
+import canaryprism.discordbridge.api.event.interaction.SlashCommandAutocompleteEvent;
+import canaryprism.discordbridge.api.event.interaction.SlashCommandInvokeEvent;
+import canaryprism.discordbridge.api.message.MessageFlag;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/// What an event stream does with events arriving while its subscriber hasn't requested any more
+///
+/// - [#buffer()] keeps every event until it's requested
+/// - [#dropOldest(int)] keeps at most a number of events, dropping the oldest to make room.
+///   Dropped interactions are never answered, Discord shows them as failed
+/// - [#reject(int, String)] keeps at most a number of events, answering the ones that don't fit with a busy reply
+public final class OverflowStrategy {
+
+    private static final Logger logger = LoggerFactory.getLogger(OverflowStrategy.class);
+
+    /// The busy reply of [#reject(int)]
+    public static final @NotNull String DEFAULT_BUSY_MESSAGE = "Too many requests are being handled right now, try again in a moment";
+
+    private static final OverflowStrategy BUFFER = new OverflowStrategy(Kind.BUFFER, Integer.MAX_VALUE, null);
+
+    /// The kinds of strategy
+    public enum Kind {
+
+        /// Keeps every event
+        BUFFER,
+
+        /// Drops the oldest event kept
+        DROP_OLDEST,
+
+        /// Rejects the new event with a busy reply
+        REJECT
+    }
+
+    private final @NotNull Kind kind;
+    private final int capacity;
+    private final @Nullable String busy_message;
+
+    private OverflowStrategy(@NotNull Kind kind, int capacity, @Nullable String busy_message) {
+        this.kind = kind;
+        this.capacity = capacity;
+        this.busy_message = busy_message;
+    }
+
+    private static int checkCapacity(int capacity) {
+        if (capacity < 1)
+            throw new IllegalArgumentException(String.format("capacity %s is less than 1", capacity));
+        return capacity;
+    }
+
+    /// Gets a strategy keeping every event until it's requested, without bound
+    ///
+    /// @return the strategy
+    public static @NotNull OverflowStrategy buffer() {
+        return BUFFER;
+    }
+
+    /// Gets a strategy keeping at most a number of events, dropping the oldest kept to make room for new ones
+    ///
+    /// @param capacity the number of events kept
+    /// @return the strategy
+    /// @throws IllegalArgumentException if the capacity is less than 1
+    public static @NotNull OverflowStrategy dropOldest(int capacity) {
+        return new OverflowStrategy(Kind.DROP_OLDEST, checkCapacity(capacity), null);
+    }
+
+    /// Gets a strategy keeping at most a number of events, answering new ones that don't fit with [#DEFAULT_BUSY_MESSAGE]
+    ///
+    /// @param capacity the number of events kept
+    /// @return the strategy
+    /// @throws IllegalArgumentException if the capacity is less than 1
+    public static @NotNull OverflowStrategy reject(int capacity) {
+        return reject(capacity, DEFAULT_BUSY_MESSAGE);
+    }
+
+    /// Gets a strategy keeping at most a number of events, answering new ones that don't fit with a busy reply
+    ///
+    /// Rejected invocations are answered with an ephemeral message, and rejected autocompletes with no suggestions
+    ///
+    /// @param capacity the number of events kept
+    /// @param busy_message the content of the reply to rejected invocations
+    /// @return the strategy
+    /// @throws IllegalArgumentException if the capacity is less than 1
+    public static @NotNull OverflowStrategy reject(int capacity, @NotNull String busy_message) {
+        return new OverflowStrategy(Kind.REJECT, checkCapacity(capacity), Objects.requireNonNull(busy_message, "busy_message"));
+    }
+
+    /// Gets the kind of this strategy
+    ///
+    /// @return the kind
+    public @NotNull Kind getKind() {
+        return kind;
+    }
+
+    /// Gets the number of events kept before overflowing
+    ///
+    /// @return the capacity, [Integer#MAX_VALUE] for [Kind#BUFFER]
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /// Gets the content of the reply to rejected invocations
+    ///
+    /// @return the busy message, or empty if this strategy doesn't reject events
+    public @NotNull Optional<String> getBusyMessage() {
+        return Optional.ofNullable(busy_message);
+    }
+
+    /// Answers an event that didn't fit with the busy reply of this strategy
+    ///
+    /// Events that aren't interactions are ignored, as are events of strategies that don't reject
+    ///
+    /// @param event the rejected event
+    public void replyBusy(@NotNull Event event) {
+        if (busy_message == null)
+            return;
+        try {
+            if (event instanceof SlashCommandInvokeEvent invoke)
+                invoke.getSlashCommandInteraction()
+                        .createImmediateResponder()
+                        .setContent(busy_message)
+                        .setFlags(MessageFlag.EPHEMERAL)
+                        .respond()
+                        .exceptionally((e) -> {
+                            logger.warn("failed to reject {}", event, e);
+                            return null;
+                        });
+            else if (event instanceof SlashCommandAutocompleteEvent autocomplete)
+                autocomplete.getSlashCommandAutocompleteInteraction()
+                        .suggest(List.of())
+                        .exceptionally((e) -> {
+                            logger.warn("failed to reject {}", event, e);
+                            return null;
+                        });
+        } catch (RuntimeException e) {
+            logger.warn("failed to reject {}", event, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return switch (kind) {
+            case BUFFER -> "OverflowStrategy.buffer()";
+            case DROP_OLDEST -> String.format("OverflowStrategy.dropOldest(%s)", capacity);
+            case REJECT -> String.format("OverflowStrategy.reject(%s)", capacity);
+        };
+    }
+}
@@ -25,6 +25,7 @@ import canaryprism.discordbridge.api.interaction.response.ResponseUpdater;
 import canaryprism.discordbridge.api.server.Server;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
@@ -33,6 +34,26 @@ import java.util.concurrent.CompletableFuture;
 /// Represents an instance of any Interaction
 public interface Interaction extends DiscordBridgeApi {
     
+    /// The Discord epoch, the first millisecond of 2015, snowflake timestamps are relative to it
+    long DISCORD_EPOCH_MILLIS = 1420070400000L;
+    
+    /// Gets the ID of this interaction
+    ///
+    /// Bridges that predate this accessor don't implement it
+    ///
+    /// @return the ID of this interaction
+    /// @throws UnsupportedOperationException if the bridge doesn't expose interaction IDs
+    default long getId() {
+        throw new UnsupportedOperationException(String.format("%s doesn't expose interaction IDs", getClass().getName()));
+    }
+    
+    /// Gets the time this interaction was created, taken from the timestamp in its snowflake ID
+    ///
+    /// @return the time this interaction was created
+    default @NotNull Instant getCreationTimestamp() {
+        return Instant.ofEpochMilli((getId() >>> 22) + DISCORD_EPOCH_MILLIS);
+    }
+    
     /// Gets the ID of the application (bot) this command belongs to
     ///
     /// @return the ID of the application this command belongs to
@@ -0,0 +1,135 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.interaction.response;
+
+import canaryprism.discordbridge.api.message.MessageFlag;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.EnumSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+/// Coalesces edits of one message so at most one is in flight and they're at least an interval apart
+///
+/// Only the latest pending state is kept, submitting a new state completes the future of the state it replaces
+final class Coalescer {
+
+    private static final class DefaultScheduler {
+        static final ScheduledExecutorService scheduler;
+        static {
+            var executor = new ScheduledThreadPoolExecutor(1, (e) -> {
+                var thread = new Thread(e, "discord-bridge coalescing updater");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.setRemoveOnCancelPolicy(true);
+            scheduler = executor;
+        }
+    }
+
+    /// Sends an edit with a content and flags, either may be null to leave it unchanged
+    private final @NotNull BiFunction<@Nullable String, @Nullable EnumSet<MessageFlag>, CompletableFuture<?>> sender;
+    private final long interval_nanos;
+
+    private @Nullable String pending_content;
+    private @Nullable EnumSet<MessageFlag> pending_flags;
+    private @Nullable CompletableFuture<Object> pending_future;
+
+    private boolean in_flight;
+    private boolean scheduled;
+    private long last_send = System.nanoTime() - Long.MAX_VALUE / 2;
+
+    Coalescer(@NotNull BiFunction<@Nullable String, @Nullable EnumSet<MessageFlag>, CompletableFuture<?>> sender, double edits_per_second) {
+        this.sender = sender;
+        this.interval_nanos = intervalNanos(edits_per_second);
+    }
+
+    /// Gets the time between edits at a rate
+    ///
+    /// @throws IllegalArgumentException if the rate isn't positive and finite
+    static long intervalNanos(double edits_per_second) {
+        if (!(edits_per_second > 0) || Double.isInfinite(edits_per_second))
+            throw new IllegalArgumentException(String.format("edits per second %s must be positive and finite", edits_per_second));
+        return (long) (1_000_000_000 / edits_per_second);
+    }
+
+    @NotNull CompletableFuture<?> submit(@Nullable String content, @Nullable EnumSet<MessageFlag> flags) {
+        CompletableFuture<Object> superseded;
+        CompletableFuture<Object> future;
+        synchronized (this) {
+            superseded = pending_future;
+            if (content != null)
+                pending_content = content;
+            if (flags != null)
+                pending_flags = EnumSet.copyOf(flags);
+            future = pending_future = new CompletableFuture<>();
+            if (!in_flight && !scheduled)
+                schedule();
+        }
+        if (superseded != null)
+            superseded.complete(null);
+        return future;
+    }
+
+    // must hold the lock
+    private void schedule() {
+        scheduled = true;
+        var delay = Math.max(0, last_send + interval_nanos - System.nanoTime());
+        DefaultScheduler.scheduler.schedule(this::flush, delay, TimeUnit.NANOSECONDS);
+    }
+
+    private void flush() {
+        String content;
+        EnumSet<MessageFlag> flags;
+        CompletableFuture<Object> future;
+        synchronized (this) {
+            scheduled = false;
+            if (pending_future == null)
+                return;
+            content = pending_content;
+            flags = pending_flags;
+            future = pending_future;
+            pending_content = null;
+            pending_flags = null;
+            pending_future = null;
+            in_flight = true;
+            last_send = System.nanoTime();
+        }
+
+        CompletableFuture<?> sent;
+        try {
+            sent = sender.apply(content, flags);
+        } catch (RuntimeException e) {
+            sent = CompletableFuture.failedFuture(e);
+        }
+        sent.whenComplete((result, e) -> {
+            if (e != null)
+                future.completeExceptionally(e);
+            else
+                future.complete(result);
+            synchronized (this) {
+                in_flight = false;
+                if (pending_future != null && !scheduled)
+                    schedule();
+            }
+        });
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package canaryprism.discordbridge.api.interaction.response;
+
+import canaryprism.discordbridge.api.DiscordBridge;
+import canaryprism.discordbridge.api.message.MessageFlag;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/// A [FollowupResponder] that coalesces updates of each followup message
+///
+/// [#update(long)] behaves like [CoalescingResponseUpdater#update()] separately for every message ID,
+/// while [#send()] sends a new message right away
+///
+/// Created with [FollowupResponder#coalescing(double)], the wrapped responder must not be used directly afterwards
+///
+/// This class is thread safe
+public final class CoalescingFollowupResponder implements FollowupResponder {
+
+    private final @NotNull FollowupResponder responder;
+    private final double edits_per_second;
+    private final @NotNull ConcurrentHashMap<Long, Coalescer> coalescers = new ConcurrentHashMap<>();
+
+    private @Nullable String content;
+    private @Nullable EnumSet<MessageFlag> flags;
+
+    CoalescingFollowupResponder(@NotNull FollowupResponder responder, double edits_per_second) {
+        this.responder = Objects.requireNonNull(responder, "responder must not be null");
+        Coalescer.intervalNanos(edits_per_second);
+        this.edits_per_second = edits_per_second;
+    }
+
+    @Override
+    public synchronized @NotNull FollowupResponder setContent(@NotNull String text) {
+        this.content = Objects.requireNonNull(text, "text must not be null");
+        return this;
+    }
+
+    @Override
+    public synchronized @NotNull FollowupResponder setFlags(EnumSet<MessageFlag> flags) {
+        this.flags = EnumSet.copyOf(flags);
+        return this;
+    }
+
+    private void apply(@Nullable String content, @Nullable EnumSet<MessageFlag> flags) {
+        if (content != null)
+            responder.setContent(content);
+        if (flags != null)
+            responder.setFlags(flags);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<?> send() {
+        String content;
+        EnumSet<MessageFlag> flags;
+        synchronized (this) {
+            content = this.content;
+            flags = this.flags;
+        }
+        synchronized (responder) {
+            apply(content, flags);
+            return responder.send();
+        }
+    }
+
+    @Override
+    public @NotNull CompletableFuture<?> update(long message_id) {
+        String content;
+        EnumSet<MessageFlag> flags;
+        synchronized (this) {
+            content = this.content;
+            flags = this.flags;
+        }
+        return coalescers.computeIfAbsent(message_id, (id) -> new Coalescer((pending_content, pending_flags) -> {
+            synchronized (responder) {
+                apply(pending_content, pending_flags);
+                return responder.update(id);
+            }
+        }, edits_per_second)).submit(content, flags);
+    }
+
+    @Override
+    public @NotNull FollowupResponder coalescing(double edits_per_second) {
+        return new CoalescingFollowupResponder(responder, edits_per_second);
+    }
+
+    @Override
+    public @NotNull Object getImplementation() {
+        return responder.getImplementation();
+    }
+
+    @Override
+    public @NotNull DiscordBridge getBridge() {
+        return responder.getBridge();
+    }
+}
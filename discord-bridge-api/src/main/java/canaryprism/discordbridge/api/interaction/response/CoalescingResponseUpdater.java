@@ -0,0 +1,96 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package canaryprism.discordbridge.api.interaction.response;
+
+import canaryprism.discordbridge.api.DiscordBridge;
+import canaryprism.discordbridge.api.message.MessageFlag;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/// A [ResponseUpdater] that coalesces updates
+///
+/// Each [#update()] submits the current state of this updater, but only the latest submitted state is kept:
+/// at most one edit is in flight at a time, edits are sent at most at the configured rate, and every state
+/// submitted while an edit is in flight is merged into the next one.
+/// The future of a state that's replaced before being sent completes with null right away,
+/// the future of a sent state completes when its edit does
+///
+/// Created with [ResponseUpdater#coalescing(double)], the wrapped updater must not be used directly afterwards
+///
+/// This class is thread safe
+public final class CoalescingResponseUpdater implements ResponseUpdater {
+
+    private final @NotNull ResponseUpdater updater;
+    private final @NotNull Coalescer coalescer;
+
+    private @Nullable String content;
+    private @Nullable EnumSet<MessageFlag> flags;
+
+    CoalescingResponseUpdater(@NotNull ResponseUpdater updater, double edits_per_second) {
+        this.updater = Objects.requireNonNull(updater, "updater must not be null");
+        this.coalescer = new Coalescer((content, flags) -> {
+            synchronized (updater) {
+                if (content != null)
+                    updater.setContent(content);
+                if (flags != null)
+                    updater.setFlags(flags);
+                return updater.update();
+            }
+        }, edits_per_second);
+    }
+
+    @Override
+    public synchronized @NotNull ResponseUpdater setContent(@NotNull String text) {
+        this.content = Objects.requireNonNull(text, "text must not be null");
+        return this;
+    }
+
+    @Override
+    public synchronized @NotNull ResponseUpdater setFlags(EnumSet<MessageFlag> flags) {
+        this.flags = EnumSet.copyOf(flags);
+        return this;
+    }
+
+    @Override
+    public @NotNull CompletableFuture<?> update() {
+        String content;
+        EnumSet<MessageFlag> flags;
+        synchronized (this) {
+            content = this.content;
+            flags = this.flags;
+        }
+        return coalescer.submit(content, flags);
+    }
+
+    @Override
+    public @NotNull ResponseUpdater coalescing(double edits_per_second) {
+        return new CoalescingResponseUpdater(updater, edits_per_second);
+    }
+
+    @Override
+    public @NotNull Object getImplementation() {
+        return updater.getImplementation();
+    }
+
+    @Override
+    public @NotNull DiscordBridge getBridge() {
+        return updater.getBridge();
+    }
+}
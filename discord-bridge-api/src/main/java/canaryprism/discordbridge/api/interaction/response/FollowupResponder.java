@@ -39,4 +39,17 @@ public interface FollowupResponder extends ResponseBuilder<FollowupResponder> {
     /// @param message_id the message ID of the followup message to update. the message MUST have originated from this respoonder
     /// @return a future for the update request
     @NotNull CompletableFuture<?> update(long message_id);
+    
+    /// Wraps this in a FollowupResponder that coalesces high frequency updates, like progress updates
+    ///
+    /// At most one edit per message is in flight at a time and edits are sent at most `edits_per_second` times a second,
+    /// updates made in between are merged so only the latest state is sent
+    ///
+    /// @param edits_per_second the max number of edits per second for each message
+    /// @return the coalescing FollowupResponder
+    /// @throws IllegalArgumentException if `edits_per_second` isn't positive and finite
+    /// @see CoalescingFollowupResponder
+    default @NotNull FollowupResponder coalescing(double edits_per_second) {
+        return new CoalescingFollowupResponder(this, edits_per_second);
+    }
 }
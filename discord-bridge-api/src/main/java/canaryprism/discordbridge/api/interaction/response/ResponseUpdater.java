@@ -29,4 +29,17 @@ public interface ResponseUpdater extends ResponseBuilder<ResponseUpdater> {
     ///
     /// @return a future for the update request
     @NotNull CompletableFuture<?> update();
+    
+    /// Wraps this in a ResponseUpdater that coalesces high frequency updates, like progress updates
+    ///
+    /// At most one edit per message is in flight at a time and edits are sent at most `edits_per_second` times a second,
+    /// updates made in between are merged so only the latest state is sent
+    ///
+    /// @param edits_per_second the max number of edits per second for each message
+    /// @return the coalescing ResponseUpdater
+    /// @throws IllegalArgumentException if `edits_per_second` isn't positive and finite
+    /// @see CoalescingResponseUpdater
+    default @NotNull ResponseUpdater coalescing(double edits_per_second) {
+        return new CoalescingResponseUpdater(this, edits_per_second);
+    }
 }
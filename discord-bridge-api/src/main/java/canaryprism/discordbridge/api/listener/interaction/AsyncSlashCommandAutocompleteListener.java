@@ -0,0 +1,39 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.listener.interaction;
+
+import canaryprism.discordbridge.api.event.interaction.SlashCommandAutocompleteEvent;
+import canaryprism.discordbridge.api.listener.ApiAttachableListener;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletionStage;
+
+/// An asynchronous listener for [SlashCommandAutocompleteEvent]s
+///
+/// Unlike a [SlashCommandAutocompleteListener] the listener finishes when the stage it returns completes, not when it returns.
+/// Bridges time the listener until then, and may hold back further events the library would deliver meanwhile
+@FunctionalInterface
+public non-sealed interface AsyncSlashCommandAutocompleteListener extends ApiAttachableListener {
+    
+    /// Called on Slash Command autocomplete
+    ///
+    /// This should return quickly, doing any work that takes long in the returned stage
+    ///
+    /// @param event the event, never null
+    /// @return a stage completing when the listener has finished handling the event
+    @NotNull CompletionStage<?> onSlashCommandAutocomplete(SlashCommandAutocompleteEvent event);
+}
@@ -0,0 +1,226 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.metrics;
+
+import canaryprism.discordbridge.api.DiscordBridge;
+import canaryprism.discordbridge.api.event.Event;
+import canaryprism.discordbridge.api.metrics.jfr.BlockingJoinEvent;
+import canaryprism.discordbridge.api.metrics.jfr.CommandBulkUpdateEvent;
+import canaryprism.discordbridge.api.metrics.jfr.ListenerExecutedEvent;
+import canaryprism.discordbridge.api.metrics.jfr.ResponseSentEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+/// Holds the [MetricsRecorder] bridges report to
+///
+/// The recorder is the first [MetricsRecorder] service provider found, or one that does nothing if there is none.
+/// It can be replaced at any time with [#setRecorder(MetricsRecorder)]
+///
+/// Timings are also recorded as [JDK Flight Recorder events][canaryprism.discordbridge.api.metrics.jfr] when enabled,
+/// and listeners running for too long are reported by the [ListenerWatchdog]
+///
+/// This class is for bridge implementations, most users only need to provide or set a recorder
+public final class BridgeMetrics {
+
+    private static final Logger logger = LoggerFactory.getLogger(BridgeMetrics.class);
+
+    private static final MetricsRecorder NO_OP = new MetricsRecorder() {};
+
+    private static volatile @Nullable MetricsRecorder recorder;
+
+    private BridgeMetrics() {}
+
+    private static @NotNull MetricsRecorder load() {
+        logger.debug("loading MetricsRecorder service providers");
+        var providers = ServiceLoader.load(MetricsRecorder.class)
+                .stream()
+                .toList();
+        if (providers.isEmpty())
+            return NO_OP;
+        if (providers.size() > 1)
+            logger.warn("found {} MetricsRecorder service providers, using {}", providers.size(), providers.get(0).type().getName());
+        return providers.get(0).get();
+    }
+
+    /// Gets the recorder bridges report to
+    ///
+    /// @return the recorder
+    public static @NotNull MetricsRecorder recorder() {
+        var recorder = BridgeMetrics.recorder;
+        if (recorder == null) {
+            synchronized (BridgeMetrics.class) {
+                recorder = BridgeMetrics.recorder;
+                if (recorder == null)
+                    BridgeMetrics.recorder = recorder = load();
+            }
+        }
+        return recorder;
+    }
+
+    /// Sets the recorder bridges report to, replacing any service provider
+    ///
+    /// @param recorder the recorder, or null to not record anything
+    public static void setRecorder(@Nullable MetricsRecorder recorder) {
+        BridgeMetrics.recorder = (recorder == null) ? NO_OP : recorder;
+    }
+
+    /// Times a REST call
+    ///
+    /// @param <F> the type of the future of the call
+    /// @param bridge the bridge making the call
+    /// @param method the type and name of the api method making the call, like `Server.bulkUpdateServerCommands`
+    /// @param call the call
+    /// @return the future returned by the call
+    public static <F extends CompletableFuture<?>> @NotNull F restCall(@NotNull DiscordBridge bridge, @NotNull String method,
+                                                                       @NotNull Supplier<F> call) {
+        var recorder = recorder();
+        var start = System.nanoTime();
+        F future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            recorder.restCallCompleted(bridge, method, System.nanoTime() - start, true);
+            throw e;
+        }
+        future.whenComplete((result, e) -> recorder.restCallCompleted(bridge, method, System.nanoTime() - start, e != null));
+        return future;
+    }
+
+    /// Times a REST call bulk updating commands
+    ///
+    /// @param <F> the type of the future of the call
+    /// @param bridge the bridge making the call
+    /// @param method the type and name of the api method making the call, like `Server.bulkUpdateServerCommands`
+    /// @param commands the number of commands sent
+    /// @param call the call
+    /// @return the future returned by the call
+    public static <F extends CompletableFuture<?>> @NotNull F commandBulkUpdate(@NotNull DiscordBridge bridge, @NotNull String method,
+                                                                                int commands, @NotNull Supplier<F> call) {
+        var event = new CommandBulkUpdateEvent();
+        event.begin();
+        F future;
+        try {
+            future = restCall(bridge, method, call);
+        } catch (RuntimeException e) {
+            event.complete(bridge, method, commands, true);
+            throw e;
+        }
+        future.whenComplete((result, e) -> event.complete(bridge, method, commands, e != null));
+        return future;
+    }
+
+    /// Times a response to an interaction
+    ///
+    /// @param <F> the type of the future of the response
+    /// @param bridge the bridge sending the response
+    /// @param kind the kind of response, as listed in [MetricsRecorder#responseCompleted(DiscordBridge, String, long, boolean)]
+    /// @param response the call sending the response
+    /// @return the future returned by the call
+    public static <F extends CompletableFuture<?>> @NotNull F response(@NotNull DiscordBridge bridge, @NotNull String kind,
+                                                                       @NotNull Supplier<F> response) {
+        var recorder = recorder();
+        var event = new ResponseSentEvent();
+        event.begin();
+        var start = System.nanoTime();
+        F future;
+        try {
+            future = response.get();
+        } catch (RuntimeException e) {
+            recorder.responseCompleted(bridge, kind, System.nanoTime() - start, true);
+            event.complete(bridge, kind, true);
+            throw e;
+        }
+        future.whenComplete((result, e) -> {
+            recorder.responseCompleted(bridge, kind, System.nanoTime() - start, e != null);
+            event.complete(bridge, kind, e != null);
+        });
+        return future;
+    }
+
+    /// Calls an asynchronous listener, timing it until the stage it returns completes
+    ///
+    /// The call is recorded with [MetricsRecorder#listenerCompleted(DiscordBridge, Class, Object, long)] and a
+    /// [ListenerExecutedEvent], and watched by the [ListenerWatchdog], all lasting until then
+    ///
+    /// @param bridge the bridge calling the listener
+    /// @param event_type the api type of the event
+    /// @param event the event the listener is called with
+    /// @param listener the listener
+    /// @param call the call to the listener
+    /// @return a future completing as the stage returned by the listener does
+    /// @throws NullPointerException if the listener returned null
+    public static @NotNull CompletableFuture<?> asyncListener(@NotNull DiscordBridge bridge, @NotNull Class<? extends Event> event_type,
+                                                              @NotNull Event event, @NotNull Object listener,
+                                                              @NotNull Supplier<? extends CompletionStage<?>> call) {
+        var recorder = recorder();
+        var executed = new ListenerExecutedEvent();
+        executed.begin();
+        var start = System.nanoTime();
+        var watch = ListenerWatchdog.watch(bridge, event_type, event, listener, start);
+        CompletionStage<?> stage;
+        try {
+            stage = call.get();
+            if (stage == null)
+                throw new NullPointerException(String.format("asynchronous listener %s returned null", listener));
+        } catch (RuntimeException e) {
+            watch.done();
+            recorder.listenerCompleted(bridge, event_type, listener, System.nanoTime() - start);
+            executed.complete(bridge, event_type, listener, true);
+            throw e;
+        }
+        watch.detach();
+        var future = new CompletableFuture<>();
+        stage.whenComplete((result, e) -> {
+            watch.done();
+            recorder.listenerCompleted(bridge, event_type, listener, System.nanoTime() - start);
+            executed.complete(bridge, event_type, listener, e != null);
+            if (e != null)
+                future.completeExceptionally(e);
+            else
+                future.complete(result);
+        });
+        return future;
+    }
+
+    /// Joins a future, recording a [BlockingJoinEvent] for the time the thread was blocked
+    ///
+    /// Bridges use this wherever they have to wait for something the underlying library only gives asynchronously
+    ///
+    /// @param <T> the type of the result
+    /// @param bridge the bridge waiting
+    /// @param operation the type and name of the api method waiting, like `SlashCommandInvokeInteraction.getServer`
+    /// @param future the future
+    /// @return the result of the future
+    /// @throws java.util.concurrent.CompletionException if the future completed exceptionally
+    public static <T> T join(@NotNull DiscordBridge bridge, @NotNull String operation, @NotNull CompletableFuture<T> future) {
+        var event = new BlockingJoinEvent();
+        event.begin();
+        var completed = future.isDone();
+        try {
+            return future.join();
+        } finally {
+            event.complete(bridge, operation, completed);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.metrics;
+
+import canaryprism.discordbridge.api.DiscordBridge;
+import canaryprism.discordbridge.api.event.Event;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/// A [MetricsRecorder] keeping a [LatencyHistogram] per event type, listener class, kind of response and REST method
+///
+/// Timings from every bridge are recorded together.
+/// The count of a wrap time histogram is the number of events of that type received
+///
+/// Install it with [BridgeMetrics#setRecorder(MetricsRecorder)], or provide it as a service
+public final class HistogramMetricsRecorder implements MetricsRecorder {
+
+    private final @NotNull ConcurrentHashMap<String, LatencyHistogram> wrap_times = new ConcurrentHashMap<>();
+    private final @NotNull ConcurrentHashMap<String, LatencyHistogram> listener_times = new ConcurrentHashMap<>();
+    private final @NotNull ConcurrentHashMap<String, LatencyHistogram> response_times = new ConcurrentHashMap<>();
+    private final @NotNull ConcurrentHashMap<String, LatencyHistogram> rest_call_times = new ConcurrentHashMap<>();
+    private final @NotNull ConcurrentHashMap<String, LongAdder> failures = new ConcurrentHashMap<>();
+
+    /// Constructs a recorder with no recorded timings
+    public HistogramMetricsRecorder() {}
+
+    private static @NotNull LatencyHistogram histogram(@NotNull ConcurrentHashMap<String, LatencyHistogram> map, @NotNull String key) {
+        var histogram = map.get(key);
+        return (histogram != null) ? histogram : map.computeIfAbsent(key, (e) -> new LatencyHistogram());
+    }
+
+    private void failed(@NotNull String key) {
+        failures.computeIfAbsent(key, (e) -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void eventReceived(@NotNull DiscordBridge bridge, @NotNull Class<? extends Event> event_type, long wrap_nanos) {
+        histogram(wrap_times, event_type.getSimpleName()).record(wrap_nanos);
+    }
+
+    @Override
+    public void listenerCompleted(@NotNull DiscordBridge bridge, @NotNull Class<? extends Event> event_type,
+                                  @NotNull Object listener, long nanos) {
+        histogram(listener_times, listener.getClass().getName()).record(nanos);
+    }
+
+    @Override
+    public void responseCompleted(@NotNull DiscordBridge bridge, @NotNull String kind, long nanos, boolean failed) {
+        histogram(response_times, kind).record(nanos);
+        if (failed)
+            failed(kind);
+    }
+
+    @Override
+    public void restCallCompleted(@NotNull DiscordBridge bridge, @NotNull String method, long nanos, boolean failed) {
+        histogram(rest_call_times, method).record(nanos);
+        if (failed)
+            failed(method);
+    }
+
+    /// Gets the time taken to wrap events, by the simple name of the event type
+    ///
+    /// @return a live view of the histograms
+    public @NotNull @Unmodifiable Map<String, LatencyHistogram> getWrapTimes() {
+        return Collections.unmodifiableMap(wrap_times);
+    }
+
+    /// Gets the time listeners ran for, by the name of the listener class
+    ///
+    /// @return a live view of the histograms
+    public @NotNull @Unmodifiable Map<String, LatencyHistogram> getListenerTimes() {
+        return Collections.unmodifiableMap(listener_times);
+    }
+
+    /// Gets the time responses took to complete, by kind of response
+    ///
+    /// @return a live view of the histograms
+    public @NotNull @Unmodifiable Map<String, LatencyHistogram> getResponseTimes() {
+        return Collections.unmodifiableMap(response_times);
+    }
+
+    /// Gets the time REST calls took to complete, by method
+    ///
+    /// @return a live view of the histograms
+    public @NotNull @Unmodifiable Map<String, LatencyHistogram> getRestCallTimes() {
+        return Collections.unmodifiableMap(rest_call_times);
+    }
+
+    /// Gets the number of responses of a kind, or REST calls of a method, that failed
+    ///
+    /// @param kind_or_method the kind of response or the method
+    /// @return the number of failures
+    public long getFailureCount(@NotNull String kind_or_method) {
+        var count = failures.get(kind_or_method);
+        return (count == null) ? 0 : count.sum();
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/// A histogram of durations in nanoseconds that can be recorded to from any thread without locking
+///
+/// Values are counted in buckets growing exponentially, with 8 buckets between each power of 2,
+/// so percentiles are accurate to within 12.5% from 1 nanosecond up to the max `long`, in a fixed 488 buckets.
+/// Recording is a handful of atomic increments
+///
+/// Reads aren't atomic with respect to concurrent recording, so a read may see some of a value being recorded
+public final class LatencyHistogram {
+
+    private static final int SUB_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int BUCKETS = ((64 - SUB_BITS) << SUB_BITS);
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    static int bucket(long value) {
+        if (value < SUB_BUCKETS)
+            return (int) value;
+        var exponent = 63 - Long.numberOfLeadingZeros(value);
+        var sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return ((exponent - SUB_BITS + 1) << SUB_BITS) + sub;
+    }
+
+    static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS)
+            return bucket;
+        var exponent = (bucket >>> SUB_BITS) + SUB_BITS - 1;
+        var sub = bucket & (SUB_BUCKETS - 1);
+        var width = 1L << (exponent - SUB_BITS);
+        return ((long) (SUB_BUCKETS + sub) << (exponent - SUB_BITS)) + width - 1;
+    }
+
+    /// Records a duration
+    ///
+    /// @param nanos the duration in nanoseconds, negative durations are recorded as 0
+    public void record(long nanos) {
+        var value = Math.max(0, nanos);
+        buckets.getAndIncrement(bucket(value));
+        count.increment();
+        total.add(value);
+        if (value > max.get())
+            max.accumulateAndGet(value, Math::max);
+    }
+
+    /// Gets the number of durations recorded
+    ///
+    /// @return the number of durations
+    public long getCount() {
+        return count.sum();
+    }
+
+    /// Gets the sum of the durations recorded
+    ///
+    /// @return the sum in nanoseconds
+    public long getTotalNanos() {
+        return total.sum();
+    }
+
+    /// Gets the longest duration recorded
+    ///
+    /// @return the longest duration in nanoseconds, 0 if none were recorded
+    public long getMaxNanos() {
+        return max.get();
+    }
+
+    /// Gets the mean of the durations recorded
+    ///
+    /// @return the mean in nanoseconds, 0 if none were recorded
+    public double getMeanNanos() {
+        var count = getCount();
+        return (count == 0) ? 0 : (double) getTotalNanos() / count;
+    }
+
+    /// Gets a percentile of the durations recorded
+    ///
+    /// The result is the upper bound of the bucket the percentile falls in, capped at the longest duration
+    ///
+    /// @param percentile the percentile, between 0 and 100
+    /// @return the percentile in nanoseconds, 0 if none were recorded
+    /// @throws IllegalArgumentException if the percentile isn't between 0 and 100
+    public long getPercentileNanos(double percentile) {
+        if (!(percentile >= 0 && percentile <= 100))
+            throw new IllegalArgumentException(String.format("percentile %s must be between 0 and 100", percentile));
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++)
+            total += buckets.get(i);
+        if (total == 0)
+            return 0;
+        var rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank)
+                return Math.min(upperBound(i), getMaxNanos());
+        }
+        return getMaxNanos();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LatencyHistogram[count=%s, mean=%.0fns, p50=%sns, p99=%sns, max=%sns]",
+                getCount(), getMeanNanos(), getPercentileNanos(50), getPercentileNanos(99), getMaxNanos());
+    }
+}
@@ -0,0 +1,319 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.metrics;
+
+import canaryprism.discordbridge.api.DiscordBridge;
+import canaryprism.discordbridge.api.event.Event;
+import canaryprism.discordbridge.api.event.interaction.CommandEvent;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandInteraction;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/// Reports listeners that run for longer than a threshold
+///
+/// Bridges [watch][#watch(DiscordBridge, Class, Event, Object, long)] every listener call.
+/// Once a call has been running past the threshold the stack of its thread is captured, once,
+/// and a [SlowListener] is given to the handler, which logs a warning by default
+///
+/// The watchdog is disabled until a threshold is [set][#setThreshold(Duration)], and watching a call does nothing meanwhile
+///
+/// Calls are timed by a single timer wheel thread, started on the first watched call, with a resolution of [#TICK].
+/// Watching a call allocates its [Watch] and queues it to that thread, and calls that finish before the next tick are
+/// dropped without ever entering the wheel
+///
+/// This class is for bridge implementations, most users only need to set the threshold or handler
+public final class ListenerWatchdog {
+
+    private static final Logger logger = LoggerFactory.getLogger(ListenerWatchdog.class);
+
+    /// A threshold to enable the watchdog with, for listeners that are meant to respond well within Discord's 3 second limit
+    public static final @NotNull Duration DEFAULT_THRESHOLD = Duration.ofSeconds(1);
+
+    /// The resolution of the watchdog, listeners are reported at most this long after passing the threshold
+    public static final @NotNull Duration TICK = Duration.ofMillis(10);
+
+    private static final long TICK_NANOS = TICK.toNanos();
+
+    // one revolution of the wheel is a little over 5 seconds, longer thresholds go around more than once
+    private static final int WHEEL_SIZE = 512;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private static final Watch NONE = new Watch() {
+        @Override
+        public void done() {}
+
+        @Override
+        public void detach() {}
+    };
+
+    // disabled until a threshold is set
+    private static volatile long threshold_nanos = 0;
+
+    private static volatile @NotNull Consumer<? super SlowListener> handler = ListenerWatchdog::log;
+
+    private ListenerWatchdog() {}
+
+    /// A listener call being watched
+    public interface Watch {
+
+        /// Marks the call as finished, it won't be reported after this
+        void done();
+
+        /// Marks the call as no longer running on the thread that started it
+        ///
+        /// Asynchronous listeners are detached once they return their stage,
+        /// if they are reported after that the stack of the thread isn't captured
+        void detach();
+    }
+
+    /// Gets the time a listener can run for before it's reported
+    ///
+    /// @return the threshold, or empty if the watchdog is disabled, which it is by default
+    public static @NotNull Optional<Duration> getThreshold() {
+        var threshold = threshold_nanos;
+        return (threshold > 0) ? Optional.of(Duration.ofNanos(threshold)) : Optional.empty();
+    }
+
+    /// Sets the time a listener can run for before it's reported
+    ///
+    /// Calls already being watched keep the threshold they started with
+    ///
+    /// @param threshold the threshold, or null to disable the watchdog
+    /// @throws IllegalArgumentException if the threshold isn't positive
+    public static void setThreshold(@Nullable Duration threshold) {
+        if (threshold == null) {
+            threshold_nanos = 0;
+            return;
+        }
+        if (threshold.isNegative() || threshold.isZero())
+            throw new IllegalArgumentException(String.format("threshold %s is not positive", threshold));
+        threshold_nanos = threshold.toNanos();
+    }
+
+    /// Sets what slow listeners are given to
+    ///
+    /// The handler is called on the watchdog thread, and should return quickly as no other listeners are checked meanwhile
+    ///
+    /// @param handler the handler, or null to log a warning
+    public static void setHandler(@Nullable Consumer<? super SlowListener> handler) {
+        ListenerWatchdog.handler = (handler == null) ? ListenerWatchdog::log : handler;
+    }
+
+    /// Starts watching a listener call on the current thread
+    ///
+    /// The returned [Watch] must be [done][Watch#done()] when the listener returns or throws
+    ///
+    /// @param bridge the bridge calling the listener
+    /// @param event_type the type of event the listener is called with
+    /// @param event the event the listener is called with
+    /// @param listener the listener
+    /// @param start_nanos the [System#nanoTime()] the call started at
+    /// @return the watch of the call
+    public static @NotNull Watch watch(@NotNull DiscordBridge bridge, @NotNull Class<? extends Event> event_type,
+                                       @NotNull Event event, @NotNull Object listener, long start_nanos) {
+        var threshold = threshold_nanos;
+        if (threshold <= 0)
+            return NONE;
+        var timeout = new Timeout(bridge, event_type, event, listener, Thread.currentThread(), start_nanos, start_nanos + threshold);
+        Wheel.INSTANCE.add(timeout);
+        return timeout;
+    }
+
+    private static void log(@NotNull SlowListener slow) {
+        if (!logger.isWarnEnabled())
+            return;
+        var trace = new StringBuilder();
+        for (var element : slow.stack_trace())
+            trace.append("\n\tat ").append(element);
+        logger.warn("{} listener {} {}has been running for {} ms on thread {}{}",
+                slow.event_type().getSimpleName(),
+                slow.listener_type().getName(),
+                (slow.command_name() == null) ? "" : String.format("for /%s ", slow.command_name()),
+                TimeUnit.NANOSECONDS.toMillis(slow.elapsed_nanos()),
+                slow.thread_name(),
+                trace);
+    }
+
+    private static @Nullable String commandName(@NotNull Event event) {
+        if (!(event instanceof CommandEvent command_event))
+            return null;
+        try {
+            var interaction = command_event.getInteraction();
+            if (interaction instanceof SlashCommandInteraction slash_command)
+                return String.join(" ", slash_command.getFullCommandName());
+            return interaction.getCommandName();
+        } catch (RuntimeException e) {
+            logger.debug("couldn't get the command name of {}", event, e);
+            return null;
+        }
+    }
+
+    private static final class Timeout implements Watch {
+
+        private final @NotNull DiscordBridge bridge;
+        private final @NotNull Class<? extends Event> event_type;
+        private final @NotNull Event event;
+        private final @NotNull Object listener;
+        private final @NotNull Thread thread;
+        private final long start_nanos;
+        private final long deadline_nanos;
+
+        private volatile boolean done;
+        private volatile boolean detached;
+
+        // only touched by the watchdog thread
+        private long rounds;
+
+        private Timeout(@NotNull DiscordBridge bridge, @NotNull Class<? extends Event> event_type, @NotNull Event event,
+                        @NotNull Object listener, @NotNull Thread thread, long start_nanos, long deadline_nanos) {
+            this.bridge = bridge;
+            this.event_type = event_type;
+            this.event = event;
+            this.listener = listener;
+            this.thread = thread;
+            this.start_nanos = start_nanos;
+            this.deadline_nanos = deadline_nanos;
+        }
+
+        @Override
+        public void done() {
+            done = true;
+        }
+
+        @Override
+        public void detach() {
+            detached = true;
+        }
+
+        private void report() {
+            var stack_trace = detached ? new StackTraceElement[0] : thread.getStackTrace();
+            // finished while the stack was captured, it's no longer the stack of the listener
+            if (done)
+                return;
+            if (detached)
+                stack_trace = new StackTraceElement[0];
+            var slow = new SlowListener(bridge, event_type, listener.getClass(), commandName(event),
+                    System.nanoTime() - start_nanos, thread.getName(), Arrays.asList(stack_trace));
+            try {
+                handler.accept(slow);
+            } catch (RuntimeException e) {
+                logger.error("slow listener handler threw", e);
+            }
+        }
+    }
+
+    private static final class Wheel implements Runnable {
+
+        private static final Wheel INSTANCE = new Wheel();
+
+        private final @NotNull ConcurrentLinkedQueue<Timeout> incoming = new ConcurrentLinkedQueue<>();
+        private final @NotNull Thread thread;
+
+        private volatile boolean idle;
+
+        // only touched by the watchdog thread
+        private final @NotNull ArrayList<Timeout>[] buckets;
+        private long origin;
+        private long tick;
+        private int pending;
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private Wheel() {
+            buckets = new ArrayList[WHEEL_SIZE];
+            for (var i = 0; i < WHEEL_SIZE; i++)
+                buckets[i] = new ArrayList<>();
+            origin = System.nanoTime();
+            thread = new Thread(this, "discord-bridge-listener-watchdog");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        private void add(@NotNull Timeout timeout) {
+            incoming.offer(timeout);
+            if (idle)
+                LockSupport.unpark(thread);
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                var tick_nanos = origin + tick * TICK_NANOS;
+                var now = System.nanoTime();
+                while (now - tick_nanos < 0) {
+                    LockSupport.parkNanos(tick_nanos - now);
+                    now = System.nanoTime();
+                }
+                transfer();
+                expire(buckets[(int) (tick & WHEEL_MASK)]);
+                tick++;
+                if (pending == 0)
+                    sleep();
+            }
+        }
+
+        // moves new calls into the wheel, dropping the ones that already finished
+        private void transfer() {
+            Timeout timeout;
+            while ((timeout = incoming.poll()) != null) {
+                if (timeout.done)
+                    continue;
+                var deadline_tick = Math.max(Math.floorDiv(timeout.deadline_nanos - origin + TICK_NANOS - 1, TICK_NANOS), tick);
+                timeout.rounds = (deadline_tick - tick) / WHEEL_SIZE;
+                buckets[(int) (deadline_tick & WHEEL_MASK)].add(timeout);
+                pending++;
+            }
+        }
+
+        private void expire(@NotNull ArrayList<Timeout> bucket) {
+            var i = 0;
+            while (i < bucket.size()) {
+                var timeout = bucket.get(i);
+                if (!timeout.done && timeout.rounds > 0) {
+                    timeout.rounds--;
+                    i++;
+                    continue;
+                }
+                var last = bucket.remove(bucket.size() - 1);
+                if (i < bucket.size())
+                    bucket.set(i, last);
+                pending--;
+                if (!timeout.done)
+                    timeout.report();
+            }
+        }
+
+        // parks until a call is watched, nothing is pending so the ticks in between don't matter
+        private void sleep() {
+            idle = true;
+            while (incoming.isEmpty())
+                LockSupport.park(this);
+            idle = false;
+            tick = (System.nanoTime() - origin) / TICK_NANOS;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.metrics;
+
+import canaryprism.discordbridge.api.DiscordBridge;
+import canaryprism.discordbridge.api.event.Event;
+import org.jetbrains.annotations.NotNull;
+
+/// Receives timings from every [DiscordBridge] implementation
+///
+/// Implementations are service providers discovered with [java.util.ServiceLoader], like [DiscordBridge] itself,
+/// or are set with [BridgeMetrics#setRecorder(MetricsRecorder)]. Without one, timings go nowhere
+///
+/// Methods are called on the threads doing the work, often gateway threads,
+/// so implementations must be thread safe and should never block, [HistogramMetricsRecorder] is one such implementation.
+/// Every method does nothing by default
+public interface MetricsRecorder {
+
+    /// Called when a bridge has received an event and wrapped it, before any listener runs
+    ///
+    /// @param bridge the bridge
+    /// @param event_type the api type of the event, like `SlashCommandInvokeEvent.class`
+    /// @param wrap_nanos the time taken to wrap the event of the underlying library
+    default void eventReceived(@NotNull DiscordBridge bridge, @NotNull Class<? extends Event> event_type, long wrap_nanos) {}
+
+    /// Called when a listener has returned from handling an event, normally or not
+    ///
+    /// For asynchronous listeners this is called when the stage the listener returned completes
+    ///
+    /// @param bridge the bridge
+    /// @param event_type the api type of the event
+    /// @param listener the listener
+    /// @param nanos the time the listener ran for, until its stage completed for asynchronous listeners
+    default void listenerCompleted(@NotNull DiscordBridge bridge, @NotNull Class<? extends Event> event_type,
+                                   @NotNull Object listener, long nanos) {}
+
+    /// Called when a response to an interaction has completed, successfully or not
+    ///
+    /// The kinds of response are `respond`, `respondLater`, `suggest`, `update`, `followup.send` and `followup.update`
+    ///
+    /// @param bridge the bridge
+    /// @param kind the kind of response
+    /// @param nanos the time from sending the response to its completion
+    /// @param failed whether the response failed
+    default void responseCompleted(@NotNull DiscordBridge bridge, @NotNull String kind, long nanos, boolean failed) {}
+
+    /// Called when a REST call made by a [canaryprism.discordbridge.api.DiscordApi] or
+    /// [canaryprism.discordbridge.api.server.Server] method has completed, successfully or not
+    ///
+    /// @param bridge the bridge
+    /// @param method the type and name of the method, like `Server.bulkUpdateServerCommands`
+    /// @param nanos the time from making the call to its completion
+    /// @param failed whether the call failed
+    default void restCallCompleted(@NotNull DiscordBridge bridge, @NotNull String method, long nanos, boolean failed) {}
+}
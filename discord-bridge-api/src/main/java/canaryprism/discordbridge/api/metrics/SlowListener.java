@@ -0,0 +1,60 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.metrics;
+
+import canaryprism.discordbridge.api.DiscordBridge;
+import canaryprism.discordbridge.api.event.Event;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.List;
+import java.util.Objects;
+
+/// A listener the [ListenerWatchdog] caught running past its threshold
+///
+/// The listener was still running when this was reported, `stack_trace` is where its thread was at that moment.
+/// For an asynchronous listener that had already returned its stage `stack_trace` is empty
+///
+/// @param bridge the bridge that called the listener
+/// @param event_type the type of event the listener was called with
+/// @param listener_type the class of the listener
+/// @param command_name the full name of the command of the event, like `moderation ban user`, or null if the event isn't of a command
+/// @param elapsed_nanos the time the listener had been running for, in nanoseconds
+/// @param thread_name the name of the thread that called the listener
+/// @param stack_trace the stack of the thread running the listener, or empty if the listener is no longer running on a thread
+public record SlowListener(@NotNull DiscordBridge bridge, @NotNull Class<? extends Event> event_type,
+                           @NotNull Class<?> listener_type, @Nullable String command_name, long elapsed_nanos,
+                           @NotNull String thread_name, @NotNull @Unmodifiable List<StackTraceElement> stack_trace) {
+
+    /// Constructs a SlowListener
+    ///
+    /// @param bridge the bridge that called the listener
+    /// @param event_type the type of event the listener was called with
+    /// @param listener_type the class of the listener
+    /// @param command_name the full name of the command of the event, or null if the event isn't of a command
+    /// @param elapsed_nanos the time the listener had been running for, in nanoseconds
+    /// @param thread_name the name of the thread running the listener
+    /// @param stack_trace the stack of the thread running the listener
+    public SlowListener {
+        Objects.requireNonNull(bridge, "bridge");
+        Objects.requireNonNull(event_type, "event_type");
+        Objects.requireNonNull(listener_type, "listener_type");
+        Objects.requireNonNull(thread_name, "thread_name");
+        stack_trace = List.copyOf(stack_trace);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package canaryprism.discordbridge.api.metrics.jfr;
+
+import canaryprism.discordbridge.api.DiscordBridge;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.jetbrains.annotations.NotNull;
+
+/// Recorded when a bridge has waited on a future to get something it doesn't have yet,
+/// lasting as long as the thread was blocked
+///
+/// The stack trace shows what was waiting, which is often a listener running on a gateway thread
+@Name("canaryprism.discordbridge.BlockingJoin")
+@Label("Blocking Join")
+@Category("Discord Bridge")
+@Description("A bridge blocking a thread until a future completes")
+@Enabled(false)
+public final class BlockingJoinEvent extends Event {
+
+    @Label("Bridge")
+    private String bridge;
+
+    @Label("Operation")
+    @Description("The type and name of the method that blocked, like SlashCommandInvokeInteraction.getServer")
+    private String operation;
+
+    @Label("Completed")
+    @Description("Whether the future had already completed, so the thread didn't block")
+    private boolean completed;
+
+    /// Commits this event if it's enabled and passes its threshold, ending it if it hasn't been ended
+    ///
+    /// @param bridge the bridge
+    /// @param operation the type and name of the method that blocked
+    /// @param completed whether the future had already completed before joining
+    public void complete(@NotNull DiscordBridge bridge, @NotNull String operation, boolean completed) {
+        if (!shouldCommit())
+            return;
+        this.bridge = bridge.toString();
+        this.operation = operation;
+        this.completed = completed;
+        commit();
+    }
+}
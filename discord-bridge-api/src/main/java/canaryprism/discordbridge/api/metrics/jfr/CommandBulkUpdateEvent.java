@@ -0,0 +1,68 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package canaryprism.discordbridge.api.metrics.jfr;
+
+import canaryprism.discordbridge.api.DiscordBridge;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.jetbrains.annotations.NotNull;
+
+/// Recorded when a bulk update of commands has completed, lasting from making the call until it completed
+///
+/// The event is committed on the thread completing the call, the stack trace is of that thread
+@Name("canaryprism.discordbridge.CommandBulkUpdate")
+@Label("Command Bulk Update")
+@Category("Discord Bridge")
+@Description("A bulk update of global or server commands")
+@Enabled(false)
+public final class CommandBulkUpdateEvent extends Event {
+
+    @Label("Bridge")
+    private String bridge;
+
+    @Label("Method")
+    @Description("The type and name of the method making the call, like Server.bulkUpdateServerCommands")
+    private String method;
+
+    @Label("Commands")
+    @Description("The number of commands sent")
+    private int commands;
+
+    @Label("Failed")
+    private boolean failed;
+
+    /// Commits this event if it's enabled and passes its threshold, ending it if it hasn't been ended
+    ///
+    /// @param bridge the bridge
+    /// @param method the type and name of the method making the call
+    /// @param commands the number of commands sent
+    /// @param failed whether the call failed
+    public void complete(@NotNull DiscordBridge bridge, @NotNull String method, int commands, boolean failed) {
+        if (!shouldCommit())
+            return;
+        this.bridge = bridge.toString();
+        this.method = method;
+        this.commands = commands;
+        this.failed = failed;
+        commit();
+    }
+}
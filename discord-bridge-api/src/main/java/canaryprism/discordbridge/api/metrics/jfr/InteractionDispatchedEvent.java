@@ -0,0 +1,70 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package canaryprism.discordbridge.api.metrics.jfr;
+
+import canaryprism.discordbridge.api.DiscordBridge;
+import canaryprism.discordbridge.api.event.interaction.CommandEvent;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jetbrains.annotations.NotNull;
+
+/// Recorded when a bridge has dispatched an interaction to its listeners, lasting from receiving it until every listener returned
+@Name("canaryprism.discordbridge.InteractionDispatched")
+@Label("Interaction Dispatched")
+@Category("Discord Bridge")
+@Description("An interaction dispatched to the listeners of a bridge")
+@Enabled(false)
+@StackTrace(false)
+public final class InteractionDispatchedEvent extends Event {
+
+    @Label("Bridge")
+    private String bridge;
+
+    @Label("Event Type")
+    private String event_type;
+
+    @Label("Command")
+    @Description("The name of the command the interaction is for")
+    private String command;
+
+    @Label("Listeners")
+    @Description("The number of listeners the interaction was dispatched to")
+    private int listeners;
+
+    /// Commits this event if it's enabled and passes its threshold, ending it if it hasn't been ended
+    ///
+    /// @param bridge the bridge
+    /// @param event_type the api type of the event, like `SlashCommandInvokeEvent.class`
+    /// @param event the event
+    /// @param listeners the number of listeners the event was dispatched to
+    public void complete(@NotNull DiscordBridge bridge, @NotNull Class<? extends CommandEvent> event_type,
+                         @NotNull CommandEvent event, int listeners) {
+        if (!shouldCommit())
+            return;
+        this.bridge = bridge.toString();
+        this.event_type = event_type.getSimpleName();
+        this.command = event.getInteraction().getCommandName();
+        this.listeners = listeners;
+        commit();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package canaryprism.discordbridge.api.metrics.jfr;
+
+import canaryprism.discordbridge.api.DiscordBridge;
+import canaryprism.discordbridge.api.event.Event;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jetbrains.annotations.NotNull;
+
+/// Recorded when a listener has returned from handling an event, lasting as long as the listener ran
+///
+/// For asynchronous listeners it lasts until the stage the listener returned completed
+@Name("canaryprism.discordbridge.ListenerExecuted")
+@Label("Listener Executed")
+@Category("Discord Bridge")
+@Description("A listener handling an event")
+@Enabled(false)
+@StackTrace(false)
+public final class ListenerExecutedEvent extends jdk.jfr.Event {
+
+    @Label("Bridge")
+    private String bridge;
+
+    @Label("Event Type")
+    private String event_type;
+
+    @Label("Listener")
+    private Class<?> listener;
+
+    @Label("Thrown")
+    @Description("Whether the listener threw an exception, or its stage completed exceptionally")
+    private boolean thrown;
+
+    /// Commits this event if it's enabled and passes its threshold, ending it if it hasn't been ended
+    ///
+    /// @param bridge the bridge
+    /// @param event_type the api type of the event
+    /// @param listener the listener
+    /// @param thrown whether the listener threw an exception, or its stage completed exceptionally
+    public void complete(@NotNull DiscordBridge bridge, @NotNull Class<? extends Event> event_type,
+                         @NotNull Object listener, boolean thrown) {
+        if (!shouldCommit())
+            return;
+        this.bridge = bridge.toString();
+        this.event_type = event_type.getSimpleName();
+        this.listener = listener.getClass();
+        this.thrown = thrown;
+        commit();
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package canaryprism.discordbridge.api.metrics.jfr;
+
+import canaryprism.discordbridge.api.DiscordBridge;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.jetbrains.annotations.NotNull;
+
+/// Recorded when a response to an interaction has completed, lasting from sending it until it completed
+///
+/// The event is committed on the thread completing the response, the stack trace is of that thread
+@Name("canaryprism.discordbridge.ResponseSent")
+@Label("Response Sent")
+@Category("Discord Bridge")
+@Description("A response to an interaction")
+@Enabled(false)
+public final class ResponseSentEvent extends Event {
+
+    @Label("Bridge")
+    private String bridge;
+
+    @Label("Kind")
+    @Description("The kind of response, like respond or followup.send")
+    private String kind;
+
+    @Label("Failed")
+    private boolean failed;
+
+    /// Commits this event if it's enabled and passes its threshold, ending it if it hasn't been ended
+    ///
+    /// @param bridge the bridge
+    /// @param kind the kind of response
+    /// @param failed whether the response failed
+    public void complete(@NotNull DiscordBridge bridge, @NotNull String kind, boolean failed) {
+        if (!shouldCommit())
+            return;
+        this.bridge = bridge.toString();
+        this.kind = kind;
+        this.failed = failed;
+        commit();
+    }
+}
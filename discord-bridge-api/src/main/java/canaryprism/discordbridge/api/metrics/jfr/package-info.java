@@ -0,0 +1,27 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+/// # JDK Flight Recorder events
+///
+/// Events for the work bridges do, recorded with [JDK Flight Recorder](https://docs.oracle.com/en/java/javase/17/jfapi/)
+///
+/// Every event is disabled by default, and bridges only fill in and commit an event if it's enabled,
+/// so they cost nothing unless a recording asks for them by name, like `canaryprism.discordbridge.BlockingJoin`,
+/// either in the `.jfc` settings passed to `-XX:StartFlightRecording` or with [jdk.jfr.Recording#enable(String)].
+/// Recorded events can be read with `jfr print --categories "Discord Bridge" recording.jfr`
+///
+/// Events are created by bridge implementations, most users only need to enable them
+package canaryprism.discordbridge.api.metrics.jfr;
@@ -0,0 +1,356 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.router;
+
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandData;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandDataBuilder;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandOptionDataBuilder;
+import canaryprism.discordbridge.api.event.interaction.SlashCommandAutocompleteEvent;
+import canaryprism.discordbridge.api.event.interaction.SlashCommandInvokeEvent;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandInteractionOption;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandInvokeInteraction;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandOptionType;
+import canaryprism.discordbridge.api.listener.interaction.SlashCommandAutocompleteListener;
+import canaryprism.discordbridge.api.listener.interaction.SlashCommandInvokeListener;
+import canaryprism.discordbridge.api.router.annotation.Autocomplete;
+import canaryprism.discordbridge.api.router.annotation.Command;
+import canaryprism.discordbridge.api.router.annotation.CommandGroup;
+import canaryprism.discordbridge.api.router.annotation.Option;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.*;
+
+/// Binds [Command] and [Autocomplete] methods to a [SlashCommandRouter]
+///
+/// All reflection happens once in [#bind(SlashCommandRouter, Object, MethodHandles.Lookup)]:
+/// every method is unreflected to a [MethodHandle] spreading an argument array, and every parameter gets
+/// an extractor that knows the option name and how to convert the option value to the parameter type.
+/// Invoking a bound handler looks up each option by name in the invoked subcommand's options and calls the handle,
+/// without any reflection or [Optional]s
+///
+/// The [SlashCommandData] for the bound methods is generated from the same annotations, so the registered
+/// commands always match what the handlers expect
+///
+/// ```java
+/// @CommandGroup(path = "admin", description = "admin commands")
+/// @CommandGroup(path = "admin/user", description = "manage users")
+/// class AdminCommands {
+///     @Command(path = "admin/user/ban", description = "ban a user")
+///     void ban(SlashCommandInvokeEvent event,
+///              @Option(name = "user", description = "the user to ban") User user,
+///              @Option(name = "days", description = "days of messages to delete", required = false) Long days) {
+///         ...
+///     }
+/// }
+///
+/// var data = AnnotatedHandlers.bind(router, new AdminCommands(), MethodHandles.lookup());
+/// ```
+public final class AnnotatedHandlers {
+
+    private AnnotatedHandlers() {}
+
+    /// Extracts the argument for one parameter of a handler
+    @FunctionalInterface
+    interface ArgumentExtractor {
+        Object extract(@NotNull SlashCommandInvokeEvent event, @NotNull List<? extends SlashCommandInteractionOption> options);
+    }
+
+    /// A [Command] method bound to its handle and argument extractors
+    static final class BoundHandler implements SlashCommandInvokeListener {
+
+        private final @NotNull MethodHandle handle;
+        private final @NotNull ArgumentExtractor[] extractors;
+        private final @NotNull String path;
+
+        BoundHandler(@NotNull MethodHandle handle, @NotNull ArgumentExtractor[] extractors, @NotNull String path) {
+            this.handle = handle;
+            this.extractors = extractors;
+            this.path = path;
+        }
+
+        @Override
+        public void onSlashCommandInvoke(SlashCommandInvokeEvent event) {
+            var options = SlashCommandRouter.leafOptions(event.getSlashCommandInteraction());
+            var args = new Object[extractors.length];
+            for (int i = 0; i < args.length; i++)
+                args[i] = extractors[i].extract(event, options);
+
+            try {
+                handle.invokeExact(args);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new UndeclaredThrowableException(e, String.format("handler for '%s' threw a checked exception", path));
+            }
+        }
+
+        @Override
+        public String toString() {
+            return String.format("BoundHandler[%s]", path);
+        }
+    }
+
+    /// Binds every [Command] and [Autocomplete] method of an object using [MethodHandles#publicLookup()]
+    ///
+    /// @param router the router to register the handlers to
+    /// @param handlers the object declaring the methods
+    /// @return the slash command data for the bound commands
+    /// @see #bind(SlashCommandRouter, Object, MethodHandles.Lookup)
+    public static @NotNull @Unmodifiable List<@NotNull SlashCommandData> bind(@NotNull SlashCommandRouter router, @NotNull Object handlers) {
+        return bind(router, handlers, MethodHandles.publicLookup());
+    }
+
+    /// Binds every [Command] and [Autocomplete] method of an object
+    ///
+    /// Static methods of the class of `handlers` are bound too.
+    /// Pass a lookup from `MethodHandles.lookup()` in the declaring class to bind non-public methods
+    ///
+    /// @param router the router to register the handlers to
+    /// @param handlers the object declaring the methods
+    /// @param lookup the lookup used to access the methods
+    /// @return the slash command data for the bound commands, in path order
+    /// @throws IllegalArgumentException if a method, parameter or path is invalid, or the lookup can't access a method
+    /// @throws IllegalStateException if a path is bound twice
+    public static @NotNull @Unmodifiable List<@NotNull SlashCommandData> bind(@NotNull SlashCommandRouter router, @NotNull Object handlers,
+                                                                             @NotNull MethodHandles.Lookup lookup) {
+        Objects.requireNonNull(router, "router must not be null");
+        Objects.requireNonNull(handlers, "handlers must not be null");
+        Objects.requireNonNull(lookup, "lookup must not be null");
+
+        var type = handlers.getClass();
+
+        var commands = new TreeMap<String, Method>();
+        var autocompletes = new ArrayList<Method>();
+        for (var method : type.getDeclaredMethods()) {
+            if (method.isAnnotationPresent(Command.class)) {
+                var path = method.getAnnotation(Command.class).path();
+                if (commands.putIfAbsent(path, method) != null)
+                    throw new IllegalStateException(String.format("more than one method is bound to '%s'", path));
+            }
+            if (method.isAnnotationPresent(Autocomplete.class))
+                autocompletes.add(method);
+        }
+
+        var descriptions = new HashMap<String, String>();
+        for (var group : type.getAnnotationsByType(CommandGroup.class))
+            descriptions.put(group.path(), group.description());
+
+        var roots = new LinkedHashMap<String, SlashCommandDataBuilder>();
+        var groups = new HashMap<String, SlashCommandOptionDataBuilder>();
+        var leaf_roots = new HashSet<String>();
+        var bound = new ArrayList<Runnable>();
+
+        for (var entry : commands.entrySet()) {
+            var path = entry.getKey();
+            var method = entry.getValue();
+            var command = method.getAnnotation(Command.class);
+            var segments = SlashCommandRouter.parsePath(path, 1, SlashCommandRouter.MAX_PATH_LENGTH);
+
+            var parameters = method.getParameters();
+            var extractors = new ArgumentExtractor[parameters.length];
+            var options = new ArrayList<SlashCommandOptionDataBuilder>();
+            for (int i = 0; i < parameters.length; i++) {
+                var parameter = parameters[i];
+                var option = parameter.getAnnotation(Option.class);
+                if (option == null) {
+                    extractors[i] = contextExtractor(method, parameter);
+                } else {
+                    var name = optionName(method, parameter, option);
+                    var option_type = optionType(method, parameter);
+                    if (parameter.getType().isPrimitive() && !option.required())
+                        throw new IllegalArgumentException(String.format(
+                                "optional option '%s' of %s can't be a primitive", name, method));
+                    extractors[i] = optionExtractor(name, parameter.getType(), option.required());
+                    var option_data = new SlashCommandOptionDataBuilder(name, option.description(), option_type)
+                            .setRequired(option.required())
+                            .setAutocompletable(option.autocomplete());
+                    // Discord allows integers up to 2^53, keep users from entering ones the parameter can't hold
+                    if (parameter.getType() == int.class || parameter.getType() == Integer.class)
+                        option_data.setIntegerBoundsMin((long) Integer.MIN_VALUE)
+                                .setIntegerBoundsMax((long) Integer.MAX_VALUE);
+                    options.add(option_data);
+                }
+            }
+
+            var handler = new BoundHandler(spread(lookup, handlers, method), extractors, path);
+            bound.add(() -> router.on(path, handler));
+
+            if (segments.length == 1) {
+                if (roots.containsKey(segments[0]))
+                    throw new IllegalStateException(String.format("'%s' can't have a handler and subcommands", path));
+                var root = new SlashCommandDataBuilder(segments[0], command.description());
+                options.forEach(root::addOption);
+                roots.put(segments[0], root);
+                leaf_roots.add(segments[0]);
+                continue;
+            }
+            if (leaf_roots.contains(segments[0]))
+                throw new IllegalStateException(String.format("'%s' can't have a handler and subcommands", segments[0]));
+
+            var root = roots.computeIfAbsent(segments[0], (e) -> new SlashCommandDataBuilder(e, description(descriptions, e)));
+            var parent_path = segments[0];
+            if (segments.length == 3) {
+                parent_path = segments[0] + "/" + segments[1];
+                var group = groups.get(parent_path);
+                if (group == null) {
+                    group = new SlashCommandOptionDataBuilder(segments[1], description(descriptions, parent_path),
+                            SlashCommandOptionType.SUBCOMMAND_GROUP);
+                    groups.put(parent_path, group);
+                    root.addOption(group);
+                }
+            }
+            var subcommand = new SlashCommandOptionDataBuilder(segments[segments.length - 1], command.description(),
+                    SlashCommandOptionType.SUBCOMMAND);
+            options.forEach(subcommand::addOption);
+            if (segments.length == 3)
+                groups.get(parent_path).addOption(subcommand);
+            else
+                root.addOption(subcommand);
+        }
+
+        for (var method : autocompletes) {
+            var autocomplete = method.getAnnotation(Autocomplete.class);
+            var parameters = method.getParameterTypes();
+            if (parameters.length != 1 || parameters[0] != SlashCommandAutocompleteEvent.class)
+                throw new IllegalArgumentException(String.format(
+                        "autocomplete method %s must take a single SlashCommandAutocompleteEvent", method));
+
+            var handle = handle(lookup, handlers, method)
+                    .asType(MethodType.methodType(void.class, SlashCommandAutocompleteEvent.class));
+            SlashCommandAutocompleteListener listener = (event) -> {
+                try {
+                    handle.invokeExact(event);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new UndeclaredThrowableException(e, String.format(
+                            "autocomplete handler for option '%s' of '%s' threw a checked exception", autocomplete.option(), autocomplete.path()));
+                }
+            };
+            bound.add(() -> router.onAutocomplete(autocomplete.path(), autocomplete.option(), listener));
+        }
+
+        var data = new ArrayList<SlashCommandData>(roots.size());
+        for (var root : roots.values())
+            data.add(root.build());
+
+        // only register once everything is known to be valid
+        bound.forEach(Runnable::run);
+
+        return Collections.unmodifiableList(data);
+    }
+
+    private static @NotNull String description(@NotNull Map<String, String> descriptions, @NotNull String path) {
+        var description = descriptions.get(path);
+        if (description == null)
+            throw new IllegalArgumentException(String.format("no @CommandGroup description for '%s'", path));
+        return description;
+    }
+
+    private static @NotNull MethodHandle handle(@NotNull MethodHandles.Lookup lookup, @NotNull Object handlers, @NotNull Method method) {
+        MethodHandle handle;
+        try {
+            handle = lookup.unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException(String.format("can't access %s with the provided lookup", method), e);
+        }
+        if (!Modifier.isStatic(method.getModifiers()))
+            handle = handle.bindTo(handlers);
+        return handle;
+    }
+
+    private static @NotNull MethodHandle spread(@NotNull MethodHandles.Lookup lookup, @NotNull Object handlers, @NotNull Method method) {
+        var handle = handle(lookup, handlers, method);
+        return handle.asSpreader(Object[].class, method.getParameterCount())
+                .asType(MethodType.methodType(void.class, Object[].class));
+    }
+
+    private static @NotNull String optionName(@NotNull Method method, @NotNull Parameter parameter, @NotNull Option option) {
+        if (!option.name().isEmpty())
+            return option.name();
+        if (!parameter.isNamePresent())
+            throw new IllegalArgumentException(String.format(
+                    "parameter %s of %s needs an explicit option name, or compile with -parameters", parameter, method));
+        return parameter.getName();
+    }
+
+    private static @NotNull SlashCommandOptionType optionType(@NotNull Method method, @NotNull Parameter parameter) {
+        var option_type = optionType(parameter.getType());
+        if (option_type == null)
+            throw new IllegalArgumentException(String.format(
+                    "parameter %s of %s has type %s which isn't an option type", parameter, method, parameter.getType().getName()));
+        return option_type;
+    }
+
+    /// Gets the option type a parameter or record component type maps to
+    ///
+    /// @param type the parameter type
+    /// @return the option type, or null if the type doesn't map to one
+    static @Nullable SlashCommandOptionType optionType(@NotNull Class<?> type) {
+        if (type == long.class || type == int.class || type == Integer.class)
+            return SlashCommandOptionType.INTEGER;
+        if (type == double.class)
+            return SlashCommandOptionType.NUMBER;
+        if (type == boolean.class)
+            return SlashCommandOptionType.BOOLEAN;
+        for (var option_type : SlashCommandOptionType.values())
+            if (option_type.getTypeRepresentation() == type && option_type.getTypeRepresentation() != Void.class
+                    && option_type != SlashCommandOptionType.UNKNOWN)
+                return option_type;
+        return null;
+    }
+
+    private static @NotNull ArgumentExtractor contextExtractor(@NotNull Method method, @NotNull Parameter parameter) {
+        var type = parameter.getType();
+        if (type == SlashCommandInvokeEvent.class)
+            return (event, options) -> event;
+        if (type == SlashCommandInvokeInteraction.class)
+            return (event, options) -> event.getSlashCommandInteraction();
+        throw new IllegalArgumentException(String.format(
+                "parameter %s of %s must be annotated with @Option or be a SlashCommandInvokeEvent or SlashCommandInvokeInteraction",
+                parameter, method));
+    }
+
+    private static @NotNull ArgumentExtractor optionExtractor(@NotNull String name, @NotNull Class<?> type, boolean required) {
+        if (type == int.class || type == Integer.class)
+            return (event, options) -> {
+                var value = (Long) value(options, name, required);
+                return (value == null) ? null : Math.toIntExact(value);
+            };
+        return (event, options) -> value(options, name, required);
+    }
+
+    private static Object value(@NotNull List<? extends SlashCommandInteractionOption> options, @NotNull String name, boolean required) {
+        for (int i = 0, size = options.size(); i < size; i++) {
+            var option = options.get(i);
+            if (option.getName().equals(name))
+                return option.getValue().orElse(null);
+        }
+        if (required)
+            throw new IllegalStateException(String.format("required option '%s' is missing", name));
+        return null;
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.router;
+
+import canaryprism.discordbridge.api.DiscordBridge;
+import canaryprism.discordbridge.api.event.interaction.SlashCommandInvokeEvent;
+import canaryprism.discordbridge.api.interaction.Interaction;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandInvokeInteraction;
+import canaryprism.discordbridge.api.listener.interaction.SlashCommandInvokeListener;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/// Defers slash command invocations that haven't been responded to within a budget
+///
+/// Discord drops interactions that aren't responded to within [DeadlineInteraction#RESPONSE_DEADLINE].
+/// This policy wraps each invocation in a [DeadlineInteraction] and schedules a call to
+/// [SlashCommandInvokeInteraction#respondLater(boolean)] for when the budget runs out, counted from the
+/// timestamp in the interaction's snowflake ID.
+/// Responding before that cancels the deferral, and responding after it transparently edits the deferred response
+///
+/// Use it through [SlashCommandRouter#setAutoDeferPolicy(AutoDeferPolicy)] or [#wrap(SlashCommandInvokeListener)]
+///
+/// This class is thread safe
+public final class AutoDeferPolicy {
+
+    private static final Logger logger = LoggerFactory.getLogger(AutoDeferPolicy.class);
+
+    private static final class DefaultScheduler {
+        static final ScheduledExecutorService scheduler;
+        static {
+            var executor = new ScheduledThreadPoolExecutor(1, (e) -> {
+                var thread = new Thread(e, "discord-bridge auto defer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.setRemoveOnCancelPolicy(true);
+            scheduler = executor;
+        }
+    }
+
+    private final @NotNull Duration budget;
+    private final boolean ephemeral;
+    private final @NotNull ScheduledExecutorService scheduler;
+
+    private final @NotNull LongAdder invocations = new LongAdder();
+    private final @NotNull LongAdder auto_deferrals = new LongAdder();
+
+    /// Constructs a policy using a shared daemon scheduler
+    ///
+    /// @param budget how long after creation an interaction may go unanswered before it's deferred
+    /// @param ephemeral whether automatic deferrals are ephemeral
+    /// @throws IllegalArgumentException if the budget is negative or not shorter than [DeadlineInteraction#RESPONSE_DEADLINE]
+    public AutoDeferPolicy(@NotNull Duration budget, boolean ephemeral) {
+        this(budget, ephemeral, DefaultScheduler.scheduler);
+    }
+
+    /// Constructs a policy
+    ///
+    /// @param budget how long after creation an interaction may go unanswered before it's deferred
+    /// @param ephemeral whether automatic deferrals are ephemeral
+    /// @param scheduler the scheduler the deferrals run on
+    /// @throws IllegalArgumentException if the budget is negative or not shorter than [DeadlineInteraction#RESPONSE_DEADLINE]
+    public AutoDeferPolicy(@NotNull Duration budget, boolean ephemeral, @NotNull ScheduledExecutorService scheduler) {
+        Objects.requireNonNull(budget, "budget must not be null");
+        Objects.requireNonNull(scheduler, "scheduler must not be null");
+        if (budget.isNegative() || budget.compareTo(DeadlineInteraction.RESPONSE_DEADLINE) >= 0)
+            throw new IllegalArgumentException(String.format(
+                    "budget %s must be between 0 and %s", budget, DeadlineInteraction.RESPONSE_DEADLINE));
+        this.budget = budget;
+        this.ephemeral = ephemeral;
+        this.scheduler = scheduler;
+    }
+
+    /// Gets the time left until an interaction must be responded to, measured from the timestamp in its snowflake ID
+    ///
+    /// This doesn't know whether the interaction has been responded to, use [DeadlineInteraction#getTimeUntilDeadline()] for that
+    ///
+    /// @param interaction the interaction
+    /// @return the time left, negative if the deadline has passed
+    public static @NotNull Duration getTimeUntilResponseDeadline(@NotNull Interaction interaction) {
+        return DeadlineInteraction.RESPONSE_DEADLINE.minusMillis(System.currentTimeMillis() - interaction.getCreationTimestamp().toEpochMilli());
+    }
+
+    /// Wraps an interaction and schedules its automatic deferral
+    ///
+    /// @param interaction the interaction
+    /// @return the wrapped interaction
+    public @NotNull DeadlineInteraction apply(@NotNull SlashCommandInvokeInteraction interaction) {
+        if (interaction instanceof DeadlineInteraction deadline_interaction)
+            return deadline_interaction;
+
+        invocations.increment();
+        var wrapped = new DeadlineInteraction(interaction);
+
+        var elapsed = System.currentTimeMillis() - interaction.getCreationTimestamp().toEpochMilli();
+        // clock skew can put the creation time in the future
+        var delay = Math.min(Math.max(budget.toMillis() - elapsed, 0), budget.toMillis());
+        wrapped.setTimer(scheduler.schedule(() -> {
+            try {
+                if (wrapped.autoDefer(ephemeral)) {
+                    auto_deferrals.increment();
+                    logger.debug("auto deferred invocation of {} after {}ms", interaction.getCommandName(),
+                            System.currentTimeMillis() - interaction.getCreationTimestamp().toEpochMilli());
+                }
+            } catch (RuntimeException e) {
+                logger.warn("failed to auto defer invocation of {}", interaction.getCommandName(), e);
+            }
+        }, delay, TimeUnit.MILLISECONDS));
+
+        return wrapped;
+    }
+
+    /// Wraps the interaction of an event and schedules its automatic deferral
+    ///
+    /// @param event the event
+    /// @return an event holding the wrapped interaction
+    public @NotNull SlashCommandInvokeEvent apply(@NotNull SlashCommandInvokeEvent event) {
+        var interaction = event.getSlashCommandInteraction();
+        if (interaction instanceof DeadlineInteraction)
+            return event;
+        return new DeadlineEvent(event, apply(interaction));
+    }
+
+    /// Wraps a listener so the interactions it receives are deferred automatically
+    ///
+    /// @param listener the listener
+    /// @return the wrapped listener
+    public @NotNull SlashCommandInvokeListener wrap(@NotNull SlashCommandInvokeListener listener) {
+        Objects.requireNonNull(listener, "listener must not be null");
+        return (event) -> listener.onSlashCommandInvoke(apply(event));
+    }
+
+    /// Gets the number of invocations this policy has wrapped
+    ///
+    /// @return the number of invocations
+    public long getInvocationCount() {
+        return invocations.sum();
+    }
+
+    /// Gets the number of invocations this policy has deferred automatically
+    ///
+    /// @return the number of automatic deferrals
+    public long getAutoDeferCount() {
+        return auto_deferrals.sum();
+    }
+
+    private record DeadlineEvent(@NotNull SlashCommandInvokeEvent event, @NotNull DeadlineInteraction interaction)
+            implements SlashCommandInvokeEvent {
+
+        @Override
+        public @NotNull DeadlineInteraction getInteraction() {
+            return interaction;
+        }
+
+        @Override
+        public @NotNull SlashCommandInvokeInteraction getSlashCommandInteraction() {
+            return interaction;
+        }
+
+        @Override
+        public @NotNull Object getImplementation() {
+            return event.getImplementation();
+        }
+
+        @Override
+        public @NotNull DiscordBridge getBridge() {
+            return event.getBridge();
+        }
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.router;
+
+import canaryprism.discordbridge.api.DiscordBridge;
+import canaryprism.discordbridge.api.channel.MessageChannel;
+import canaryprism.discordbridge.api.entity.user.User;
+import canaryprism.discordbridge.api.interaction.response.FollowupResponder;
+import canaryprism.discordbridge.api.interaction.response.ImmediateResponder;
+import canaryprism.discordbridge.api.interaction.response.ResponseUpdater;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandInteractionOption;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandInvokeInteraction;
+import canaryprism.discordbridge.api.message.MessageFlag;
+import canaryprism.discordbridge.api.server.Server;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/// A [SlashCommandInvokeInteraction] managed by an [AutoDeferPolicy]
+///
+/// If the interaction hasn't been responded to when the policy's budget runs out it's deferred automatically,
+/// after which [ImmediateResponder]s created from it edit the deferred response through a [ResponseUpdater]
+/// instead, so handlers don't need to know whether they were deferred.
+/// [#respondLater(boolean)] returns the automatic deferral if it already happened
+///
+/// All other methods delegate to the wrapped interaction
+public final class DeadlineInteraction implements SlashCommandInvokeInteraction {
+
+    /// How long Discord waits for the initial response of an interaction
+    public static final Duration RESPONSE_DEADLINE = Duration.ofSeconds(3);
+
+    /// How long the interaction token stays valid for after the initial response
+    public static final Duration TOKEN_LIFETIME = Duration.ofMinutes(15);
+
+    private static final int PENDING = 0, RESPONDED = 1, AUTO_DEFERRED = 2;
+
+    private final @NotNull SlashCommandInvokeInteraction interaction;
+    private final @NotNull AtomicInteger state = new AtomicInteger(PENDING);
+    private final @NotNull CompletableFuture<ResponseUpdater> deferred = new CompletableFuture<>();
+    private volatile @Nullable Future<?> timer;
+
+    DeadlineInteraction(@NotNull SlashCommandInvokeInteraction interaction) {
+        this.interaction = interaction;
+    }
+
+    void setTimer(@NotNull Future<?> timer) {
+        this.timer = timer;
+        if (state.get() != PENDING)
+            timer.cancel(false);
+    }
+
+    /// Defers the interaction if it hasn't been responded to yet
+    ///
+    /// @return whether the interaction was deferred
+    boolean autoDefer(boolean ephemeral) {
+        if (!state.compareAndSet(PENDING, AUTO_DEFERRED))
+            return false;
+        interaction.respondLater(ephemeral)
+                .whenComplete((updater, e) -> {
+                    if (e != null)
+                        deferred.completeExceptionally(e);
+                    else
+                        deferred.complete(updater);
+                });
+        return true;
+    }
+
+    private boolean claim() {
+        if (!state.compareAndSet(PENDING, RESPONDED))
+            return false;
+        var timer = this.timer;
+        if (timer != null)
+            timer.cancel(false);
+        return true;
+    }
+
+    /// Gets the wrapped interaction
+    ///
+    /// @return the wrapped interaction
+    public @NotNull SlashCommandInvokeInteraction getDelegate() {
+        return interaction;
+    }
+
+    /// Gets whether this interaction was deferred automatically
+    ///
+    /// @return whether this interaction was deferred automatically
+    public boolean isAutoDeferred() {
+        return state.get() == AUTO_DEFERRED;
+    }
+
+    /// Gets the time left until the next deadline of this interaction
+    ///
+    /// That's [#RESPONSE_DEADLINE] after creation until the interaction is responded to or deferred,
+    /// and [#TOKEN_LIFETIME] after creation once it has been.
+    /// The time is measured from the timestamp in the interaction's snowflake ID, so it includes the time
+    /// the interaction took to arrive
+    ///
+    /// @return the time left, negative if the deadline has passed
+    public @NotNull Duration getTimeUntilDeadline() {
+        var deadline = (state.get() == PENDING) ? RESPONSE_DEADLINE : TOKEN_LIFETIME;
+        return Duration.between(Instant.now(), getCreationTimestamp().plus(deadline));
+    }
+
+    @Override
+    public @NotNull ImmediateResponder createImmediateResponder() {
+        return new Responder(interaction.createImmediateResponder());
+    }
+
+    @Override
+    public @NotNull CompletableFuture<? extends @NotNull ResponseUpdater> respondLater(boolean ephemeral) {
+        if (claim())
+            return interaction.respondLater(ephemeral);
+        if (state.get() == AUTO_DEFERRED)
+            return deferred;
+        return CompletableFuture.failedFuture(new IllegalStateException("interaction was already responded to"));
+    }
+
+    @Override
+    public @NotNull FollowupResponder createFollowupResponder() {
+        return interaction.createFollowupResponder();
+    }
+
+    @Override
+    public long getId() {
+        return interaction.getId();
+    }
+
+    @Override
+    public long getApplicationId() {
+        return interaction.getApplicationId();
+    }
+
+    @Override
+    public long getCommandId() {
+        return interaction.getCommandId();
+    }
+
+    @Override
+    public @NotNull String getCommandName() {
+        return interaction.getCommandName();
+    }
+
+    @Override
+    public @NotNull Optional<Long> getServerCommandServerId() {
+        return interaction.getServerCommandServerId();
+    }
+
+    @Override
+    public @NotNull User getUser() {
+        return interaction.getUser();
+    }
+
+    @Override
+    public @NotNull Optional<? extends Server> getServer() {
+        return interaction.getServer();
+    }
+
+    @Override
+    public @NotNull Optional<? extends MessageChannel> getChannel() {
+        return interaction.getChannel();
+    }
+
+    @Override
+    public @NotNull List<? extends @NotNull SlashCommandInteractionOption> getOptions() {
+        return interaction.getOptions();
+    }
+
+    @Override
+    public @NotNull Object getImplementation() {
+        return interaction.getImplementation();
+    }
+
+    @Override
+    public @NotNull DiscordBridge getBridge() {
+        return interaction.getBridge();
+    }
+
+    /// Responds immediately if the interaction is still pending, otherwise edits the automatically deferred response
+    private final class Responder implements ImmediateResponder {
+
+        private final @NotNull ImmediateResponder responder;
+        private @Nullable String content;
+        private @Nullable EnumSet<MessageFlag> flags;
+
+        Responder(@NotNull ImmediateResponder responder) {
+            this.responder = responder;
+        }
+
+        @Override
+        public @NotNull ImmediateResponder setContent(@NotNull String text) {
+            responder.setContent(text);
+            this.content = text;
+            return this;
+        }
+
+        @Override
+        public @NotNull ImmediateResponder setFlags(EnumSet<MessageFlag> flags) {
+            responder.setFlags(flags);
+            this.flags = flags;
+            return this;
+        }
+
+        @Override
+        public @NotNull CompletableFuture<?> respond() {
+            if (claim())
+                return responder.respond();
+            if (state.get() != AUTO_DEFERRED)
+                return CompletableFuture.failedFuture(new IllegalStateException("interaction was already responded to"));
+
+            var content = this.content;
+            var flags = this.flags;
+            return deferred.thenCompose((updater) -> {
+                if (content != null)
+                    updater.setContent(content);
+                if (flags != null)
+                    updater.setFlags(flags);
+                return updater.update();
+            });
+        }
+
+        @Override
+        public @NotNull Object getImplementation() {
+            return responder.getImplementation();
+        }
+
+        @Override
+        public @NotNull DiscordBridge getBridge() {
+            return responder.getBridge();
+        }
+    }
+}
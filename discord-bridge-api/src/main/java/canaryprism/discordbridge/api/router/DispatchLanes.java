@@ -0,0 +1,372 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.router;
+
+import canaryprism.discordbridge.api.event.interaction.SlashCommandAutocompleteEvent;
+import canaryprism.discordbridge.api.event.interaction.SlashCommandInvokeEvent;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandAutocompleteInteraction;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandInvokeInteraction;
+import canaryprism.discordbridge.api.listener.interaction.SlashCommandAutocompleteListener;
+import canaryprism.discordbridge.api.listener.interaction.SlashCommandInvokeListener;
+import canaryprism.discordbridge.api.message.MessageFlag;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/// Runs slash command listeners on separate thread pools, one per [Lane]
+///
+/// Bridges call listeners on the thread that received the event, so a slow invocation handler holds up
+/// every event behind it, including autocompletes that must be answered within 3 seconds.
+/// Handing events to lanes keeps the gateway threads free, and autocompletes get their own threads
+/// with a higher priority so they never queue behind invocations
+///
+/// Autocompletes are sent as the user types, so only the latest one of a user for an option matters.
+/// A queued autocomplete is dropped when a newer one for the same user, command path and focused option is submitted,
+/// or when its response deadline has passed by the time a thread picks it up
+///
+/// Each lane admits events up to a high water mark of queued events, see [#setHighWaterMark(Lane, int)].
+/// Events beyond it are shed straight away so the events already queued can still make their deadlines,
+/// shed invocations are answered with an ephemeral busy message and shed autocompletes with no suggestions.
+/// Lanes have no high water mark until one is set.
+/// Only events dispatched through the lanes are admitted this way, listeners added to a
+/// [DiscordApi][canaryprism.discordbridge.api.DiscordApi] directly are still called by the bridge on its own threads
+/// and are never shed
+///
+/// Each lane records how long events wait in its queue and how long their listeners run, see [#getStats(Lane)]
+///
+/// Once the lanes are [closed][#close()] new events are shed the same way
+///
+/// Use it through [SlashCommandRouter#setDispatchLanes(DispatchLanes)],
+/// [#wrapInvoke(SlashCommandInvokeListener)] or [#wrapAutocomplete(SlashCommandAutocompleteListener)]
+///
+/// This class is thread safe
+public final class DispatchLanes implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(DispatchLanes.class);
+
+    /// A lane events are dispatched on
+    public enum Lane {
+
+        /// Slash command invocations
+        INVOKE,
+
+        /// Slash command autocompletes
+        AUTOCOMPLETE,
+    }
+
+    /// A snapshot of the metrics of a lane
+    ///
+    /// @param submitted the number of events submitted to the lane
+    /// @param completed the number of events whose listener has returned, normally or not
+    /// @param failed the number of events whose listener threw
+    /// @param superseded the number of autocompletes dropped because a newer one arrived
+    /// @param expired the number of autocompletes dropped because their deadline had passed
+    /// @param shed the number of events turned away because the lane was above its high water mark or closed
+    /// @param queued the number of events currently waiting for a thread
+    /// @param mean_wait the mean time events waited for a thread
+    /// @param max_wait the longest time an event waited for a thread
+    /// @param mean_run the mean time listeners ran for
+    public record LaneStats(long submitted, long completed, long failed, long superseded, long expired, long shed, int queued,
+                            @NotNull Duration mean_wait, @NotNull Duration max_wait, @NotNull Duration mean_run) {}
+
+    private static final class Metrics {
+        final @NotNull LongAdder submitted = new LongAdder();
+        final @NotNull LongAdder completed = new LongAdder();
+        final @NotNull LongAdder failed = new LongAdder();
+        final @NotNull LongAdder superseded = new LongAdder();
+        final @NotNull LongAdder expired = new LongAdder();
+        final @NotNull LongAdder shed = new LongAdder();
+        final @NotNull AtomicInteger queued = new AtomicInteger();
+        final @NotNull LongAdder wait_nanos = new LongAdder();
+        final @NotNull AtomicLong max_wait_nanos = new AtomicLong();
+        final @NotNull LongAdder run_nanos = new LongAdder();
+        volatile int high_water_mark = Integer.MAX_VALUE;
+
+        /// Takes a place in the queue
+        ///
+        /// @return whether the lane is below its high water mark
+        boolean admit() {
+            var mark = high_water_mark;
+            while (true) {
+                var current = queued.get();
+                if (current >= mark) {
+                    shed.increment();
+                    return false;
+                }
+                if (queued.compareAndSet(current, current + 1))
+                    return true;
+            }
+        }
+
+        /// Gives back the place taken by [#admit()] for an event the executor rejected, counting it as shed
+        void reject() {
+            queued.decrementAndGet();
+            shed.increment();
+        }
+    }
+
+    /// What makes two autocompletes the same request
+    private record AutocompleteKey(long user_id, long command_id, @NotNull String path, @NotNull String option) {}
+
+    private final @NotNull ThreadPoolExecutor invoke_executor;
+    private final @NotNull ThreadPoolExecutor autocomplete_executor;
+
+    private final @NotNull Metrics invoke_metrics = new Metrics();
+    private final @NotNull Metrics autocomplete_metrics = new Metrics();
+
+    private final @NotNull AtomicLong sequence = new AtomicLong();
+    private final @NotNull ConcurrentHashMap<AutocompleteKey, Long> latest = new ConcurrentHashMap<>();
+
+    private volatile @Nullable String busy_message = "Busy, try again in a moment";
+
+    /// Constructs dispatch lanes with daemon threads
+    ///
+    /// @param invoke_threads the number of threads running invocation listeners
+    /// @param autocomplete_threads the number of threads running autocomplete listeners
+    /// @throws IllegalArgumentException if either number of threads isn't positive
+    public DispatchLanes(int invoke_threads, int autocomplete_threads) {
+        if (invoke_threads < 1)
+            throw new IllegalArgumentException(String.format("invoke threads %s must be positive", invoke_threads));
+        if (autocomplete_threads < 1)
+            throw new IllegalArgumentException(String.format("autocomplete threads %s must be positive", autocomplete_threads));
+        this.invoke_executor = executor(invoke_threads, "discord-bridge invoke lane", Thread.NORM_PRIORITY);
+        this.autocomplete_executor = executor(autocomplete_threads, "discord-bridge autocomplete lane", Thread.NORM_PRIORITY + 2);
+    }
+
+    private static @NotNull ThreadPoolExecutor executor(int threads, @NotNull String name, int priority) {
+        var count = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.NANOSECONDS, new LinkedBlockingQueue<>(), (e) -> {
+            var thread = new Thread(e, name + " " + count.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(priority);
+            return thread;
+        });
+    }
+
+    /// Sets the max number of events a lane holds in its queue, further events are shed until it drains
+    ///
+    /// Lanes have no high water mark by default
+    ///
+    /// @param lane the lane
+    /// @param high_water_mark the max number of queued events
+    /// @return this
+    /// @throws IllegalArgumentException if the high water mark isn't positive
+    public @NotNull DispatchLanes setHighWaterMark(@NotNull Lane lane, int high_water_mark) {
+        if (high_water_mark < 1)
+            throw new IllegalArgumentException(String.format("high water mark %s must be positive", high_water_mark));
+        metrics(lane).high_water_mark = high_water_mark;
+        return this;
+    }
+
+    /// Sets the message shed invocations are responded to with
+    ///
+    /// The message is sent as an ephemeral response
+    ///
+    /// @param message the message, or null to not respond to shed invocations
+    /// @return this
+    public @NotNull DispatchLanes setBusyMessage(@Nullable String message) {
+        this.busy_message = message;
+        return this;
+    }
+
+    private @NotNull Metrics metrics(@NotNull Lane lane) {
+        return (lane == Lane.INVOKE) ? invoke_metrics : autocomplete_metrics;
+    }
+
+    private static @Nullable AutocompleteKey key(@NotNull SlashCommandAutocompleteInteraction interaction) {
+        for (var option : SlashCommandRouter.leafOptions(interaction)) {
+            if (option.isAutocompleteTarget().orElse(false))
+                return new AutocompleteKey(interaction.getUser().getId(), interaction.getCommandId(),
+                        SlashCommandRouter.path(interaction), option.getName());
+        }
+        return null;
+    }
+
+    /// Submits an invocation to the invoke lane
+    ///
+    /// If the lane is at its high water mark or closed the invocation is responded to with the busy message instead
+    ///
+    /// @param event the event
+    /// @param listener the listener to run with the event
+    public void submit(@NotNull SlashCommandInvokeEvent event, @NotNull SlashCommandInvokeListener listener) {
+        var submitted_at = System.nanoTime();
+        invoke_metrics.submitted.increment();
+        if (!invoke_metrics.admit()) {
+            shed(event.getSlashCommandInteraction());
+            return;
+        }
+        try {
+            invoke_executor.execute(() -> {
+                invoke_metrics.queued.decrementAndGet();
+                run(invoke_metrics, submitted_at, () -> listener.onSlashCommandInvoke(event));
+            });
+        } catch (RejectedExecutionException e) {
+            invoke_metrics.reject();
+            logger.debug("invoke lane is closed, shedding invocation of {}", event.getSlashCommandInteraction().getCommandName());
+            shed(event.getSlashCommandInteraction());
+        }
+    }
+
+    private void shed(@NotNull SlashCommandInvokeInteraction interaction) {
+        var message = busy_message;
+        if (message == null)
+            return;
+        interaction.createImmediateResponder()
+                .setContent(message)
+                .setFlags(MessageFlag.EPHEMERAL)
+                .respond()
+                .whenComplete((result, e) -> {
+                    if (e != null)
+                        logger.debug("failed to respond to shed invocation of {}", interaction.getCommandName(), e);
+                });
+    }
+
+    private static void shed(@NotNull SlashCommandAutocompleteInteraction interaction) {
+        interaction.suggest(List.of())
+                .whenComplete((result, e) -> {
+                    if (e != null)
+                        logger.debug("failed to respond to shed autocomplete of {}", interaction.getCommandName(), e);
+                });
+    }
+
+    /// Submits an autocomplete to the autocomplete lane
+    ///
+    /// Autocompletes still queued when a newer one for the same user and option is submitted are dropped.
+    /// If the lane is at its high water mark or closed the autocomplete is responded to with no suggestions instead
+    ///
+    /// @param event the event
+    /// @param listener the listener to run with the event
+    public void submit(@NotNull SlashCommandAutocompleteEvent event, @NotNull SlashCommandAutocompleteListener listener) {
+        var submitted_at = System.nanoTime();
+        autocomplete_metrics.submitted.increment();
+
+        var interaction = event.getSlashCommandAutocompleteInteraction();
+        if (!autocomplete_metrics.admit()) {
+            shed(interaction);
+            return;
+        }
+
+        var key = key(interaction);
+        var seq = sequence.incrementAndGet();
+        if (key != null)
+            latest.put(key, seq);
+
+        try {
+            autocomplete_executor.execute(() -> {
+                autocomplete_metrics.queued.decrementAndGet();
+                try {
+                    if (key != null && latest.getOrDefault(key, seq) != seq) {
+                        autocomplete_metrics.superseded.increment();
+                        return;
+                    }
+                    if (AutoDeferPolicy.getTimeUntilResponseDeadline(interaction).isNegative()) {
+                        autocomplete_metrics.expired.increment();
+                        return;
+                    }
+                    run(autocomplete_metrics, submitted_at, () -> listener.onSlashCommandAutocomplete(event));
+                } finally {
+                    if (key != null)
+                        latest.remove(key, seq);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            if (key != null)
+                latest.remove(key, seq);
+            autocomplete_metrics.reject();
+            logger.debug("autocomplete lane is closed, shedding autocomplete of {}", interaction.getCommandName());
+            shed(interaction);
+        }
+    }
+
+    private static void run(@NotNull Metrics metrics, long submitted_at, @NotNull Runnable task) {
+        var started_at = System.nanoTime();
+        var wait = started_at - submitted_at;
+        metrics.wait_nanos.add(wait);
+        metrics.max_wait_nanos.accumulateAndGet(wait, Math::max);
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            metrics.failed.increment();
+            logger.warn("listener threw while dispatching", e);
+        } finally {
+            metrics.run_nanos.add(System.nanoTime() - started_at);
+            metrics.completed.increment();
+        }
+    }
+
+    /// Wraps a listener so it runs on the invoke lane
+    ///
+    /// @param listener the listener
+    /// @return the wrapped listener
+    public @NotNull SlashCommandInvokeListener wrapInvoke(@NotNull SlashCommandInvokeListener listener) {
+        Objects.requireNonNull(listener, "listener must not be null");
+        return (event) -> submit(event, listener);
+    }
+
+    /// Wraps a listener so it runs on the autocomplete lane
+    ///
+    /// @param listener the listener
+    /// @return the wrapped listener
+    public @NotNull SlashCommandAutocompleteListener wrapAutocomplete(@NotNull SlashCommandAutocompleteListener listener) {
+        Objects.requireNonNull(listener, "listener must not be null");
+        return (event) -> submit(event, listener);
+    }
+
+    /// Gets a snapshot of the metrics of a lane
+    ///
+    /// @param lane the lane
+    /// @return the metrics
+    public @NotNull LaneStats getStats(@NotNull Lane lane) {
+        var metrics = metrics(lane);
+        var completed = metrics.completed.sum();
+        // events that were dropped never waited for a listener, so they're not part of the means
+        var started = Math.max(1, completed);
+        return new LaneStats(
+                metrics.submitted.sum(),
+                completed,
+                metrics.failed.sum(),
+                metrics.superseded.sum(),
+                metrics.expired.sum(),
+                metrics.shed.sum(),
+                metrics.queued.get(),
+                Duration.ofNanos(metrics.wait_nanos.sum() / started),
+                Duration.ofNanos(metrics.max_wait_nanos.get()),
+                Duration.ofNanos(metrics.run_nanos.sum() / started));
+    }
+
+    /// Stops the lanes from taking new events, events already submitted still run
+    ///
+    /// Events submitted afterwards are shed
+    @Override
+    public void close() {
+        invoke_executor.shutdown();
+        autocomplete_executor.shutdown();
+    }
+}
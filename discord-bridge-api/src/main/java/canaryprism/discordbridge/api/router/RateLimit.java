@@ -0,0 +1,92 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.router;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/// A token bucket limit for a [RateLimiter]
+///
+/// Each bucket holds up to `capacity` invocations and refills `capacity` invocations every `period`,
+/// one invocation every `period / capacity`
+///
+/// @param scope what the bucket is shared by
+/// @param capacity the max number of invocations admitted at once
+/// @param period the time it takes to refill an empty bucket
+public record RateLimit(@NotNull Scope scope, int capacity, @NotNull Duration period) {
+
+    /// What a bucket is shared by
+    public enum Scope {
+
+        /// One bucket per user
+        USER,
+
+        /// One bucket per server, interactions outside servers use a bucket per user instead
+        SERVER,
+
+        /// One bucket per command, shared by everyone
+        COMMAND,
+    }
+
+    /// Validates the limit
+    ///
+    /// @throws IllegalArgumentException if the capacity isn't positive or the period is shorter than the capacity in nanoseconds
+    public RateLimit {
+        Objects.requireNonNull(scope, "scope must not be null");
+        Objects.requireNonNull(period, "period must not be null");
+        if (capacity < 1)
+            throw new IllegalArgumentException(String.format("capacity %s must be positive", capacity));
+        if (period.isNegative() || period.toNanos() < capacity)
+            throw new IllegalArgumentException(String.format("period %s is too short for capacity %s", period, capacity));
+    }
+
+    /// Creates a limit with one bucket per user
+    ///
+    /// @param capacity the max number of invocations admitted at once
+    /// @param period the time it takes to refill an empty bucket
+    /// @return the limit
+    public static @NotNull RateLimit perUser(int capacity, @NotNull Duration period) {
+        return new RateLimit(Scope.USER, capacity, period);
+    }
+
+    /// Creates a limit with one bucket per server
+    ///
+    /// @param capacity the max number of invocations admitted at once
+    /// @param period the time it takes to refill an empty bucket
+    /// @return the limit
+    public static @NotNull RateLimit perServer(int capacity, @NotNull Duration period) {
+        return new RateLimit(Scope.SERVER, capacity, period);
+    }
+
+    /// Creates a limit with one bucket per command
+    ///
+    /// @param capacity the max number of invocations admitted at once
+    /// @param period the time it takes to refill an empty bucket
+    /// @return the limit
+    public static @NotNull RateLimit perCommand(int capacity, @NotNull Duration period) {
+        return new RateLimit(Scope.COMMAND, capacity, period);
+    }
+
+    /// Gets the time between two refilled invocations in nanoseconds
+    ///
+    /// @return the refill interval in nanoseconds
+    long intervalNanos() {
+        return period.toNanos() / capacity;
+    }
+}
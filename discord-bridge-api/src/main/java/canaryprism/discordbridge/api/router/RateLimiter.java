@@ -0,0 +1,329 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.router;
+
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandInteraction;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandInvokeInteraction;
+import canaryprism.discordbridge.api.listener.interaction.SlashCommandInvokeListener;
+import canaryprism.discordbridge.api.message.MessageFlag;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/// Admits or rejects slash command invocations with token buckets
+///
+/// Limits are configured per command path, an invocation uses the limits of its exact path,
+/// or of the closest parent path with limits, or the default limits.
+/// Buckets belong to the path the limits were configured on, so limits on `admin` are shared by every subcommand of `admin`.
+/// An invocation is admitted only if every one of its limits admits it,
+/// a rejected invocation gives back the tokens it already took from its other buckets
+///
+/// Each bucket is a single `long` holding the time it becomes full again (the generic cell rate algorithm),
+/// updated with one compare and set, so admitting never blocks.
+/// Buckets that have become full are idle and are evicted by a timer wheel, the wheel is advanced by
+/// the calls to [#tryAcquire(SlashCommandInteraction)] themselves so no thread is needed
+///
+/// Use it through [SlashCommandRouter#setRateLimiter(RateLimiter)] or [#wrap(SlashCommandInvokeListener)]
+///
+/// This class is thread safe
+public final class RateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimiter.class);
+
+    private static final int WHEEL_SIZE = 512;
+
+    private static final long DEAD = Long.MIN_VALUE;
+
+    private static final VarHandle FULL_AT;
+
+    static {
+        try {
+            FULL_AT = MethodHandles.lookup().findVarHandle(Bucket.class, "full_at", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private record Key(@NotNull String path, @NotNull RateLimit limit, long id) {}
+
+    private static final class Bucket {
+        final @NotNull Key key;
+
+        /// The time the bucket is full again, or [#DEAD] once evicted
+        volatile long full_at;
+
+        Bucket(@NotNull Key key, long now) {
+            this.key = key;
+            this.full_at = now;
+        }
+    }
+
+    private final @NotNull ConcurrentHashMap<String, List<RateLimit>> limits = new ConcurrentHashMap<>();
+    private volatile @NotNull List<RateLimit> default_limits = List.of();
+
+    private final @NotNull ConcurrentHashMap<Key, Bucket> buckets = new ConcurrentHashMap<>();
+
+    private final long tick_nanos;
+    private final @NotNull ConcurrentLinkedQueue<Bucket>[] wheel;
+    private final @NotNull AtomicBoolean advancing = new AtomicBoolean();
+    private volatile long last_tick;
+
+    private volatile @Nullable String rejection_message;
+
+    /// Constructs a rate limiter that checks for idle buckets every second
+    public RateLimiter() {
+        this(Duration.ofSeconds(1));
+    }
+
+    /// Constructs a rate limiter
+    ///
+    /// @param eviction_resolution how often idle buckets are checked for
+    /// @throws IllegalArgumentException if the resolution isn't positive
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public RateLimiter(@NotNull Duration eviction_resolution) {
+        if (eviction_resolution.isNegative() || eviction_resolution.isZero())
+            throw new IllegalArgumentException(String.format("eviction resolution %s must be positive", eviction_resolution));
+        this.tick_nanos = eviction_resolution.toNanos();
+        this.wheel = new ConcurrentLinkedQueue[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++)
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        this.last_tick = System.nanoTime() / tick_nanos;
+    }
+
+    /// Sets the limits of a command path, replacing any previous limits of the path
+    ///
+    /// @param path the command path, like `admin/user/ban`
+    /// @param limits the limits, or none to remove the limits of the path
+    /// @return this
+    /// @throws IllegalArgumentException if the path is invalid
+    public @NotNull RateLimiter limit(@NotNull String path, @NotNull RateLimit @NotNull... limits) {
+        SlashCommandRouter.parsePath(path, 1, SlashCommandRouter.MAX_PATH_LENGTH);
+        if (limits.length == 0)
+            this.limits.remove(path);
+        else
+            this.limits.put(path, List.of(limits));
+        return this;
+    }
+
+    /// Sets the limits of paths that have no limits of their own
+    ///
+    /// @param limits the limits, or none for no default limits
+    /// @return this
+    public @NotNull RateLimiter setDefault(@NotNull RateLimit @NotNull... limits) {
+        this.default_limits = List.of(limits);
+        return this;
+    }
+
+    /// Sets the message rejected invocations are responded to with
+    ///
+    /// The message is sent as an ephemeral response and may contain a `%s`, replaced by the number of seconds until
+    /// the invocation would be admitted
+    ///
+    /// @param message the message, or null to not respond to rejected invocations
+    /// @return this
+    public @NotNull RateLimiter setRejectionMessage(@Nullable String message) {
+        this.rejection_message = message;
+        return this;
+    }
+
+    private @NotNull List<RateLimit> limitsOf(@NotNull String path, @NotNull String[] matched) {
+        var current = path;
+        while (true) {
+            var found = limits.get(current);
+            if (found != null) {
+                matched[0] = current;
+                return found;
+            }
+            var slash = current.lastIndexOf('/');
+            if (slash < 0)
+                break;
+            current = current.substring(0, slash);
+        }
+        matched[0] = path;
+        return default_limits;
+    }
+
+    private static long id(@NotNull SlashCommandInteraction interaction, @NotNull RateLimit.Scope scope) {
+        if (scope == RateLimit.Scope.COMMAND)
+            return interaction.getCommandId();
+        if (scope == RateLimit.Scope.SERVER) {
+            var server = interaction.getServer();
+            if (server.isPresent())
+                return server.get().getId();
+        }
+        return interaction.getUser().getId();
+    }
+
+    /// Tries to admit an invocation, taking a token from each of its buckets
+    ///
+    /// @param interaction the interaction
+    /// @return 0 if the invocation is admitted,
+    ///         otherwise the number of nanoseconds until it would be admitted
+    public long tryAcquire(@NotNull SlashCommandInteraction interaction) {
+        var now = System.nanoTime();
+        advance(now);
+
+        var matched = new String[1];
+        var path_limits = limitsOf(SlashCommandRouter.path(interaction), matched);
+        var charged = new Bucket[path_limits.size()];
+        for (int i = 0; i < charged.length; i++) {
+            var limit = path_limits.get(i);
+            var key = new Key(matched[0], limit, id(interaction, limit.scope()));
+            var wait = acquire(key, now, charged, i);
+            if (wait > 0) {
+                refund(charged, i);
+                return wait;
+            }
+        }
+        return 0;
+    }
+
+    // takes a token from the bucket of the key, recording the bucket in charged[index] if it was taken
+    private long acquire(@NotNull Key key, long now, @NotNull Bucket[] charged, int index) {
+        var interval = key.limit().intervalNanos();
+        var tolerance = interval * key.limit().capacity();
+        while (true) {
+            var bucket = buckets.get(key);
+            if (bucket == null) {
+                var created = new Bucket(key, now);
+                bucket = buckets.putIfAbsent(key, created);
+                if (bucket == null) {
+                    bucket = created;
+                    schedule(bucket, now + tolerance);
+                }
+            }
+
+            while (true) {
+                var full_at = bucket.full_at;
+                if (full_at == DEAD)
+                    break; // evicted concurrently, get a fresh bucket
+
+                var next = Math.max(full_at, now) + interval;
+                var wait = next - now - tolerance;
+                if (wait > 0)
+                    return wait;
+                if (FULL_AT.compareAndSet(bucket, full_at, next)) {
+                    charged[index] = bucket;
+                    return 0;
+                }
+            }
+        }
+    }
+
+    // gives back the tokens taken from the first count buckets
+    private static void refund(@NotNull Bucket[] charged, int count) {
+        for (int i = 0; i < count; i++) {
+            var bucket = charged[i];
+            var interval = bucket.key.limit().intervalNanos();
+            while (true) {
+                var full_at = bucket.full_at;
+                // an evicted bucket is already full
+                if (full_at == DEAD || FULL_AT.compareAndSet(bucket, full_at, full_at - interval))
+                    break;
+            }
+        }
+    }
+
+    private void schedule(@NotNull Bucket bucket, long at) {
+        wheel[(int) Math.floorMod(at / tick_nanos, (long) WHEEL_SIZE)].add(bucket);
+    }
+
+    private void advance(long now) {
+        var tick = now / tick_nanos;
+        if (tick <= last_tick || !advancing.compareAndSet(false, true))
+            return;
+        try {
+            var from = last_tick + 1;
+            // after a full turn every slot has been visited
+            var to = Math.min(tick, from + WHEEL_SIZE - 1);
+            for (var t = from; t <= to; t++) {
+                var slot = wheel[(int) Math.floorMod(t, (long) WHEEL_SIZE)];
+                // only drain what was there so rescheduled buckets landing in this slot wait for the next turn
+                for (int n = slot.size(); n > 0; n--) {
+                    var bucket = slot.poll();
+                    if (bucket == null)
+                        break;
+                    var full_at = bucket.full_at;
+                    if (full_at <= now && FULL_AT.compareAndSet(bucket, full_at, DEAD))
+                        buckets.remove(bucket.key, bucket);
+                    else
+                        schedule(bucket, Math.max(bucket.full_at, (t + 1) * tick_nanos));
+                }
+            }
+            last_tick = tick;
+        } finally {
+            advancing.set(false);
+        }
+    }
+
+    /// Evicts every idle bucket that's due, without waiting for the next invocation
+    public void evictIdle() {
+        advance(System.nanoTime());
+    }
+
+    /// Gets the number of buckets currently held
+    ///
+    /// @return the number of buckets
+    public int size() {
+        return buckets.size();
+    }
+
+    /// Responds to a rejected invocation with the rejection message, if set
+    ///
+    /// @param interaction the rejected interaction
+    /// @param wait_nanos the number of nanoseconds until it would be admitted
+    public void reject(@NotNull SlashCommandInvokeInteraction interaction, long wait_nanos) {
+        var message = rejection_message;
+        if (message == null)
+            return;
+        var seconds = Math.max(1, (wait_nanos + 999_999_999) / 1_000_000_000);
+        interaction.createImmediateResponder()
+                .setContent(String.format(message, seconds))
+                .setFlags(MessageFlag.EPHEMERAL)
+                .respond()
+                .whenComplete((result, e) -> {
+                    if (e != null)
+                        logger.debug("failed to respond to rate limited invocation of {}", interaction.getCommandName(), e);
+                });
+    }
+
+    /// Wraps a listener so it only receives admitted invocations
+    ///
+    /// @param listener the listener
+    /// @return the wrapped listener
+    public @NotNull SlashCommandInvokeListener wrap(@NotNull SlashCommandInvokeListener listener) {
+        Objects.requireNonNull(listener, "listener must not be null");
+        return (event) -> {
+            var interaction = event.getSlashCommandInteraction();
+            var wait = tryAcquire(interaction);
+            if (wait > 0)
+                reject(interaction, wait);
+            else
+                listener.onSlashCommandInvoke(event);
+        };
+    }
+}
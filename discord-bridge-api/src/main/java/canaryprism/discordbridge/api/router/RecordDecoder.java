@@ -0,0 +1,307 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.router;
+
+import canaryprism.discordbridge.api.DiscordBridge;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandOptionData;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandInteraction;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandInteractionOption;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandOptionType;
+import canaryprism.discordbridge.api.router.annotation.Option;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/// Decodes the arguments of a [SlashCommandInteraction] into a record
+///
+/// Each record component is an option of the invoked subcommand, named after the component or
+/// the name of an [Option] annotation on the component.
+/// Components map to option types the same way [Option] parameters do,
+/// primitive components are required options while other components are null when the option is absent
+///
+/// ```java
+/// record BanArguments(User user, long days, String reason) {}
+///
+/// var arguments = RecordDecoder.decode(event.getSlashCommandInteraction(), BanArguments.class);
+/// ```
+///
+/// The first decode of a record class on a [DiscordBridge] builds a plan: the components are checked against the
+/// option types supported by the bridge, and a [MethodHandle] is composed that feeds every component straight from
+/// its option into the canonical constructor, unboxing primitive components without an intermediate array.
+/// Plans are cached per record class and bridge, so later decodes only look up each option by name, check the type of its
+/// value, and call the handle
+///
+/// This class is thread safe
+public final class RecordDecoder {
+
+    private RecordDecoder() {}
+
+    private static final ClassValue<ConcurrentHashMap<DiscordBridge, MethodHandle>> plans = new ClassValue<>() {
+        @Override
+        protected ConcurrentHashMap<DiscordBridge, MethodHandle> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final MethodHandle OBJECT_VALUE, INTEGER_VALUE, LONG_VALUE, INT_VALUE, DOUBLE_VALUE, BOOLEAN_VALUE;
+
+    static {
+        var lookup = MethodHandles.lookup();
+        try {
+            OBJECT_VALUE = lookup.findStatic(RecordDecoder.class, "objectValue", MethodType.methodType(Object.class, List.class, String.class, Class.class));
+            INTEGER_VALUE = lookup.findStatic(RecordDecoder.class, "integerValue", MethodType.methodType(Integer.class, List.class, String.class));
+            LONG_VALUE = lookup.findStatic(RecordDecoder.class, "longValue", MethodType.methodType(long.class, List.class, String.class));
+            INT_VALUE = lookup.findStatic(RecordDecoder.class, "intValue", MethodType.methodType(int.class, List.class, String.class));
+            DOUBLE_VALUE = lookup.findStatic(RecordDecoder.class, "doubleValue", MethodType.methodType(double.class, List.class, String.class));
+            BOOLEAN_VALUE = lookup.findStatic(RecordDecoder.class, "booleanValue", MethodType.methodType(boolean.class, List.class, String.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /// Decodes the arguments of an interaction into a record using [MethodHandles#publicLookup()]
+    ///
+    /// @param <R> the record type
+    /// @param interaction the interaction
+    /// @param type the record class
+    /// @return the decoded record
+    /// @throws IllegalArgumentException if the record can't be decoded on the interaction's bridge,
+    ///                                  or an option's value doesn't have the type of its component or doesn't fit in it
+    /// @throws IllegalStateException if a required option is missing
+    /// @see #decode(SlashCommandInteraction, Class, MethodHandles.Lookup)
+    public static <R extends Record> @NotNull R decode(@NotNull SlashCommandInteraction interaction, @NotNull Class<R> type) {
+        return decode(interaction, type, MethodHandles.publicLookup());
+    }
+
+    /// Decodes the arguments of an interaction into a record
+    ///
+    /// The lookup is only used to access the canonical constructor when no plan is cached yet,
+    /// pass a lookup from `MethodHandles.lookup()` in the record's module to decode non-public records
+    ///
+    /// @param <R> the record type
+    /// @param interaction the interaction
+    /// @param type the record class
+    /// @param lookup the lookup used to access the canonical constructor
+    /// @return the decoded record
+    /// @throws IllegalArgumentException if the record can't be decoded on the interaction's bridge,
+    ///                                  or an option's value doesn't have the type of its component or doesn't fit in it
+    /// @throws IllegalStateException if a required option is missing
+    public static <R extends Record> @NotNull R decode(@NotNull SlashCommandInteraction interaction, @NotNull Class<R> type,
+                                                       @NotNull MethodHandles.Lookup lookup) {
+        var handle = plan(type, interaction.getBridge(), lookup);
+        List<?> options = SlashCommandRouter.leafOptions(interaction);
+        try {
+            return type.cast((Object) handle.invokeExact(options));
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e, String.format("constructor of %s threw a checked exception", type.getName()));
+        }
+    }
+
+    /// Checks that a record can be decoded from the options of a command
+    ///
+    /// Every component must name an option with the matching type, and primitive components must name required options
+    ///
+    /// @param type the record class
+    /// @param options the options of the command or subcommand the record is decoded from
+    /// @throws IllegalArgumentException if a component doesn't match an option
+    public static void check(@NotNull Class<? extends Record> type, @NotNull List<? extends @NotNull SlashCommandOptionData> options) {
+        var components = components(type);
+        var names = names(type, components);
+        for (int i = 0; i < components.length; i++) {
+            var component = components[i];
+            var name = names[i];
+            var option_type = optionType(type, component);
+            var option = options.stream()
+                    .filter((e) -> e.getName().equals(name))
+                    .findAny()
+                    .orElseThrow(() -> new IllegalArgumentException(String.format(
+                            "component '%s' of %s has no matching option", component.getName(), type.getName())));
+            if (option.getType() != option_type)
+                throw new IllegalArgumentException(String.format(
+                        "component '%s' of %s needs a %s option but '%s' is %s",
+                        component.getName(), type.getName(), option_type, name, option.getType()));
+            if (component.getType().isPrimitive() && !option.isRequired())
+                throw new IllegalArgumentException(String.format(
+                        "component '%s' of %s is primitive but option '%s' isn't required", component.getName(), type.getName(), name));
+        }
+    }
+
+    private static @NotNull MethodHandle plan(@NotNull Class<? extends Record> type, @NotNull DiscordBridge bridge, @NotNull MethodHandles.Lookup lookup) {
+        Objects.requireNonNull(type, "type must not be null");
+        var by_bridge = plans.get(type);
+        var handle = by_bridge.get(bridge);
+        if (handle == null)
+            handle = by_bridge.computeIfAbsent(bridge, (e) -> compile(type, e, lookup));
+        return handle;
+    }
+
+    private static @NotNull RecordComponent[] components(@NotNull Class<? extends Record> type) {
+        if (!type.isRecord())
+            throw new IllegalArgumentException(String.format("%s is not a record", type.getName()));
+        return type.getRecordComponents();
+    }
+
+    private static @NotNull String[] names(@NotNull Class<? extends Record> type, @NotNull RecordComponent[] components) {
+        var types = new Class<?>[components.length];
+        for (int i = 0; i < types.length; i++)
+            types[i] = components[i].getType();
+
+        // @Option on a component is propagated to the canonical constructor parameter
+        Parameter[] parameters;
+        try {
+            parameters = type.getDeclaredConstructor(types).getParameters();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(String.format("%s has no canonical constructor", type.getName()), e);
+        }
+
+        var names = new String[components.length];
+        for (int i = 0; i < names.length; i++) {
+            var option = parameters[i].getAnnotation(Option.class);
+            names[i] = (option != null && !option.name().isEmpty()) ? option.name() : components[i].getName();
+        }
+        return names;
+    }
+
+    private static @NotNull SlashCommandOptionType optionType(@NotNull Class<?> type, @NotNull RecordComponent component) {
+        var option_type = AnnotatedHandlers.optionType(component.getType());
+        if (option_type == null)
+            throw new IllegalArgumentException(String.format(
+                    "component '%s' of %s has type %s which isn't an option type",
+                    component.getName(), type.getName(), component.getType().getName()));
+        return option_type;
+    }
+
+    private static @NotNull MethodHandle compile(@NotNull Class<? extends Record> type, @NotNull DiscordBridge bridge,
+                                                 @NotNull MethodHandles.Lookup lookup) {
+        var components = components(type);
+        var names = names(type, components);
+
+        var types = new Class<?>[components.length];
+        var extractors = new MethodHandle[components.length];
+        for (int i = 0; i < components.length; i++) {
+            var component = components[i];
+            var option_type = optionType(type, component);
+            if (!option_type.isSupported(bridge))
+                throw new IllegalArgumentException(String.format(
+                        "component '%s' of %s needs option type %s which isn't supported by %s",
+                        component.getName(), type.getName(), option_type, bridge));
+
+            types[i] = component.getType();
+            extractors[i] = extractor(component.getType(), names[i])
+                    .asType(MethodType.methodType(component.getType(), List.class));
+        }
+
+        MethodHandle constructor;
+        try {
+            constructor = lookup.findConstructor(type, MethodType.methodType(void.class, types));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalArgumentException(String.format("can't access the canonical constructor of %s with the provided lookup", type.getName()), e);
+        }
+
+        // feed the same option list to every component extractor
+        MethodHandle handle;
+        if (components.length == 0) {
+            handle = MethodHandles.dropArguments(constructor, 0, List.class);
+        } else {
+            handle = MethodHandles.filterArguments(constructor, 0, extractors);
+            handle = MethodHandles.permuteArguments(handle, MethodType.methodType(type, List.class), new int[components.length]);
+        }
+        return handle.asType(MethodType.methodType(Object.class, List.class));
+    }
+
+    private static @NotNull MethodHandle extractor(@NotNull Class<?> type, @NotNull String name) {
+        if (type == long.class)
+            return MethodHandles.insertArguments(LONG_VALUE, 1, name);
+        if (type == int.class)
+            return MethodHandles.insertArguments(INT_VALUE, 1, name);
+        if (type == double.class)
+            return MethodHandles.insertArguments(DOUBLE_VALUE, 1, name);
+        if (type == boolean.class)
+            return MethodHandles.insertArguments(BOOLEAN_VALUE, 1, name);
+        if (type == Integer.class)
+            return MethodHandles.insertArguments(INTEGER_VALUE, 1, name);
+        // the value is checked against the component type here, so the cast asType adds can't fail
+        return MethodHandles.insertArguments(OBJECT_VALUE, 1, name, type);
+    }
+
+    private static SlashCommandInteractionOption option(@NotNull List<?> options, @NotNull String name) {
+        for (int i = 0, size = options.size(); i < size; i++) {
+            var option = (SlashCommandInteractionOption) options.get(i);
+            if (option.getName().equals(name))
+                return option;
+        }
+        return null;
+    }
+
+    private static <T> T checked(@NotNull Object value, @NotNull String name, @NotNull Class<T> type) {
+        if (!type.isInstance(value))
+            throw new IllegalArgumentException(String.format(
+                    "option '%s' has a %s value but its component needs a %s", name, value.getClass().getName(), type.getName()));
+        return type.cast(value);
+    }
+
+    private static int checkedInt(long value, @NotNull String name) {
+        if ((int) value != value)
+            throw new IllegalArgumentException(String.format("option '%s' value %s doesn't fit in an int", name, value));
+        return (int) value;
+    }
+
+    private static <T> @NotNull T required(@NotNull List<?> options, @NotNull String name, @NotNull Class<T> type) {
+        var option = option(options, name);
+        var value = (option == null) ? null : option.getValue().orElse(null);
+        if (value == null)
+            throw new IllegalStateException(String.format("required option '%s' is missing", name));
+        return checked(value, name, type);
+    }
+
+    private static Object objectValue(@NotNull List<?> options, @NotNull String name, @NotNull Class<?> type) {
+        var option = option(options, name);
+        var value = (option == null) ? null : option.getValue().orElse(null);
+        return (value == null) ? null : checked(value, name, type);
+    }
+
+    private static Integer integerValue(@NotNull List<?> options, @NotNull String name) {
+        var value = (Long) objectValue(options, name, Long.class);
+        return (value == null) ? null : checkedInt(value, name);
+    }
+
+    private static long longValue(@NotNull List<?> options, @NotNull String name) {
+        return required(options, name, Long.class);
+    }
+
+    private static int intValue(@NotNull List<?> options, @NotNull String name) {
+        return checkedInt(required(options, name, Long.class), name);
+    }
+
+    private static double doubleValue(@NotNull List<?> options, @NotNull String name) {
+        return required(options, name, Double.class);
+    }
+
+    private static boolean booleanValue(@NotNull List<?> options, @NotNull String name) {
+        return required(options, name, Boolean.class);
+    }
+}
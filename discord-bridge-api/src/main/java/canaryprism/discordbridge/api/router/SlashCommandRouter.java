@@ -0,0 +1,441 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.router;
+
+import canaryprism.discordbridge.api.DiscordApi;
+import canaryprism.discordbridge.api.event.interaction.SlashCommandAutocompleteEvent;
+import canaryprism.discordbridge.api.event.interaction.SlashCommandInvokeEvent;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandInteraction;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandInteractionOption;
+import canaryprism.discordbridge.api.listener.interaction.SlashCommandAutocompleteListener;
+import canaryprism.discordbridge.api.listener.interaction.SlashCommandInvokeListener;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/// Routes slash command events to handlers registered under command paths
+///
+/// A path is the command name followed by the names of the subcommand group and subcommand, if any,
+/// separated by `/`, like `admin/user/ban`
+///
+/// Paths are held in a trie keyed by each segment, so dispatching an event is at most three hash lookups
+/// no matter how many handlers are registered, and every event reaches exactly one handler.
+/// If there's no handler for the exact path, the handler of the closest registered parent path is used,
+/// so a handler for `admin` also receives `admin/user/ban` unless that has its own handler
+///
+/// Commands can also be routed by ID with [#on(long, String, SlashCommandInvokeListener)],
+/// ID routes are checked before name routes
+///
+/// Autocomplete handlers are registered under a path and the name of the option they complete,
+/// and receive events where that option is the focused one
+///
+/// Events with no handler go to the fallback listeners if set, and are otherwise ignored
+///
+/// Invocations can be rate limited before dispatch with [#setRateLimiter(RateLimiter)],
+/// and deferred automatically when their handler is slow with [#setAutoDeferPolicy(AutoDeferPolicy)].
+/// Handlers run on the thread that received the event unless lanes are set with [#setDispatchLanes(DispatchLanes)]
+///
+/// The router is itself a listener for both event types, add it to a [DiscordApi] with [#attach(DiscordApi)]
+///
+/// This class is thread safe, handlers may be registered while events are being dispatched
+public final class SlashCommandRouter implements SlashCommandInvokeListener, SlashCommandAutocompleteListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlashCommandRouter.class);
+
+    /// Max number of segments in a path, command name, subcommand group and subcommand
+    public static final int MAX_PATH_LENGTH = 3;
+
+    private static final class Node {
+        final @NotNull ConcurrentHashMap<String, Node> children = new ConcurrentHashMap<>();
+        final @NotNull ConcurrentHashMap<String, SlashCommandAutocompleteListener> autocomplete_handlers = new ConcurrentHashMap<>();
+        volatile @Nullable SlashCommandInvokeListener invoke_handler;
+    }
+
+    private final @NotNull ConcurrentHashMap<String, Node> by_name = new ConcurrentHashMap<>();
+    private final @NotNull ConcurrentHashMap<Long, Node> by_id = new ConcurrentHashMap<>();
+
+    private volatile @Nullable SlashCommandInvokeListener invoke_fallback;
+    private volatile @Nullable SlashCommandAutocompleteListener autocomplete_fallback;
+
+    private volatile @Nullable RateLimiter rate_limiter;
+    private volatile @Nullable AutoDeferPolicy auto_defer_policy;
+    private volatile @Nullable DispatchLanes dispatch_lanes;
+
+    /// Splits a path into its segments
+    ///
+    /// @param path the path
+    /// @param min_length the minimum number of segments
+    /// @param max_length the maximum number of segments
+    /// @return the segments
+    /// @throws IllegalArgumentException if the path is invalid
+    static @NotNull String[] parsePath(@NotNull String path, int min_length, int max_length) {
+        Objects.requireNonNull(path, "path must not be null");
+        var segments = (path.isEmpty()) ? new String[0] : path.split("/", -1);
+        if (segments.length < min_length || segments.length > max_length)
+            throw new IllegalArgumentException(String.format(
+                    "path '%s' must have between %s and %s segments", path, min_length, max_length));
+        for (var segment : segments)
+            if (segment.isEmpty())
+                throw new IllegalArgumentException(String.format("path '%s' has an empty segment", path));
+        return segments;
+    }
+
+    private static @NotNull Node node(@NotNull Node root, @NotNull String[] segments, int from) {
+        var node = root;
+        for (int i = from; i < segments.length; i++)
+            node = node.children.computeIfAbsent(segments[i], (e) -> new Node());
+        return node;
+    }
+
+    private @NotNull Node node(@NotNull String path) {
+        var segments = parsePath(path, 1, MAX_PATH_LENGTH);
+        return node(by_name.computeIfAbsent(segments[0], (e) -> new Node()), segments, 1);
+    }
+
+    private @NotNull Node node(long command_id, @NotNull String subcommand_path) {
+        var segments = parsePath(subcommand_path, 0, MAX_PATH_LENGTH - 1);
+        return node(by_id.computeIfAbsent(command_id, (e) -> new Node()), segments, 0);
+    }
+
+    // unlike node(String) this doesn't create the nodes of the path, so removing unregistered paths leaves the trie as it is
+    private @Nullable Node find(@NotNull String path) {
+        var segments = parsePath(path, 1, MAX_PATH_LENGTH);
+        var node = by_name.get(segments[0]);
+        for (int i = 1; i < segments.length && node != null; i++)
+            node = node.children.get(segments[i]);
+        return node;
+    }
+
+    private static void setInvokeHandler(@NotNull Node node, @NotNull SlashCommandInvokeListener handler, @NotNull Object path) {
+        Objects.requireNonNull(handler, "handler must not be null");
+        synchronized (node) {
+            if (node.invoke_handler != null)
+                throw new IllegalStateException(String.format("a handler is already registered for '%s'", path));
+            node.invoke_handler = handler;
+        }
+    }
+
+    private static void setAutocompleteHandler(@NotNull Node node, @NotNull String option, @NotNull SlashCommandAutocompleteListener handler, @NotNull Object path) {
+        Objects.requireNonNull(option, "option must not be null");
+        Objects.requireNonNull(handler, "handler must not be null");
+        if (node.autocomplete_handlers.putIfAbsent(option, handler) != null)
+            throw new IllegalStateException(String.format("an autocomplete handler is already registered for option '%s' of '%s'", option, path));
+    }
+
+    /// Registers a handler for invocations of a command path
+    ///
+    /// @param path the command path, like `admin/user/ban`
+    /// @param handler the handler
+    /// @return this
+    /// @throws IllegalArgumentException if the path is invalid
+    /// @throws IllegalStateException if a handler is already registered for the path
+    public @NotNull SlashCommandRouter on(@NotNull String path, @NotNull SlashCommandInvokeListener handler) {
+        setInvokeHandler(node(path), handler, path);
+        return this;
+    }
+
+    /// Registers a handler for invocations of a subcommand path of the command with an ID
+    ///
+    /// @param command_id the ID of the command
+    /// @param subcommand_path the path after the command name, like `user/ban`, or an empty string for the command itself
+    /// @param handler the handler
+    /// @return this
+    /// @throws IllegalArgumentException if the path is invalid
+    /// @throws IllegalStateException if a handler is already registered for the path
+    public @NotNull SlashCommandRouter on(long command_id, @NotNull String subcommand_path, @NotNull SlashCommandInvokeListener handler) {
+        setInvokeHandler(node(command_id, subcommand_path), handler, command_id + "/" + subcommand_path);
+        return this;
+    }
+
+    /// Registers a handler for autocompleting an option of a command path
+    ///
+    /// @param path the command path, like `admin/user/ban`
+    /// @param option the name of the option to autocomplete
+    /// @param handler the handler
+    /// @return this
+    /// @throws IllegalArgumentException if the path is invalid
+    /// @throws IllegalStateException if a handler is already registered for the option of the path
+    public @NotNull SlashCommandRouter onAutocomplete(@NotNull String path, @NotNull String option, @NotNull SlashCommandAutocompleteListener handler) {
+        setAutocompleteHandler(node(path), option, handler, path);
+        return this;
+    }
+
+    /// Registers a handler for autocompleting an option of a subcommand path of the command with an ID
+    ///
+    /// @param command_id the ID of the command
+    /// @param subcommand_path the path after the command name, like `user/ban`, or an empty string for the command itself
+    /// @param option the name of the option to autocomplete
+    /// @param handler the handler
+    /// @return this
+    /// @throws IllegalArgumentException if the path is invalid
+    /// @throws IllegalStateException if a handler is already registered for the option of the path
+    public @NotNull SlashCommandRouter onAutocomplete(long command_id, @NotNull String subcommand_path, @NotNull String option,
+                                                      @NotNull SlashCommandAutocompleteListener handler) {
+        setAutocompleteHandler(node(command_id, subcommand_path), option, handler, command_id + "/" + subcommand_path);
+        return this;
+    }
+
+    /// Removes the invoke handler of a command path
+    ///
+    /// @param path the command path
+    /// @return whether there was a handler to remove
+    /// @throws IllegalArgumentException if the path is invalid
+    public boolean remove(@NotNull String path) {
+        var node = find(path);
+        if (node == null)
+            return false;
+        synchronized (node) {
+            var removed = node.invoke_handler != null;
+            node.invoke_handler = null;
+            return removed;
+        }
+    }
+
+    /// Removes the autocomplete handler for an option of a command path
+    ///
+    /// @param path the command path
+    /// @param option the name of the option
+    /// @return whether there was a handler to remove
+    /// @throws IllegalArgumentException if the path is invalid
+    public boolean removeAutocomplete(@NotNull String path, @NotNull String option) {
+        var node = find(path);
+        return node != null && node.autocomplete_handlers.remove(option) != null;
+    }
+
+    /// Sets the listener for invocations that have no handler
+    ///
+    /// @param fallback the listener, or null to ignore them
+    /// @return this
+    public @NotNull SlashCommandRouter setFallback(@Nullable SlashCommandInvokeListener fallback) {
+        this.invoke_fallback = fallback;
+        return this;
+    }
+
+    /// Sets the listener for autocompletes that have no handler
+    ///
+    /// @param fallback the listener, or null to ignore them
+    /// @return this
+    public @NotNull SlashCommandRouter setAutocompleteFallback(@Nullable SlashCommandAutocompleteListener fallback) {
+        this.autocomplete_fallback = fallback;
+        return this;
+    }
+
+    /// Sets the rate limiter invocations must pass before reaching their handler
+    ///
+    /// Rejected invocations are passed to [RateLimiter#reject(canaryprism.discordbridge.api.interaction.slash.SlashCommandInvokeInteraction, long)]
+    /// and don't reach any handler or the fallback
+    ///
+    /// @param rate_limiter the rate limiter, or null to admit every invocation
+    /// @return this
+    public @NotNull SlashCommandRouter setRateLimiter(@Nullable RateLimiter rate_limiter) {
+        this.rate_limiter = rate_limiter;
+        return this;
+    }
+
+    /// Sets the policy that defers invocations their handlers don't respond to in time
+    ///
+    /// Handlers receive events whose interaction is a [DeadlineInteraction]
+    ///
+    /// @param auto_defer_policy the policy, or null to not defer invocations automatically
+    /// @return this
+    public @NotNull SlashCommandRouter setAutoDeferPolicy(@Nullable AutoDeferPolicy auto_defer_policy) {
+        this.auto_defer_policy = auto_defer_policy;
+        return this;
+    }
+
+    /// Sets the lanes handlers are run on
+    ///
+    /// Routing, rate limiting and scheduling automatic deferrals still happen on the thread that received the event,
+    /// only the handlers themselves are submitted to the lanes
+    ///
+    /// @param dispatch_lanes the lanes, or null to run handlers on the thread that received the event
+    /// @return this
+    public @NotNull SlashCommandRouter setDispatchLanes(@Nullable DispatchLanes dispatch_lanes) {
+        this.dispatch_lanes = dispatch_lanes;
+        return this;
+    }
+
+    /// Adds this router as a listener for slash command invocations and autocompletes to a [DiscordApi]
+    ///
+    /// @param api the DiscordApi
+    public void attach(@NotNull DiscordApi api) {
+        api.addListener(SlashCommandInvokeListener.class, this);
+        api.addListener(SlashCommandAutocompleteListener.class, this);
+    }
+
+    /// Removes this router from a [DiscordApi]
+    ///
+    /// @param api the DiscordApi
+    public void detach(@NotNull DiscordApi api) {
+        api.removeListener(SlashCommandInvokeListener.class, this);
+        api.removeListener(SlashCommandAutocompleteListener.class, this);
+    }
+
+    private @Nullable Node root(@NotNull SlashCommandInteraction interaction) {
+        if (!by_id.isEmpty()) {
+            var node = by_id.get(interaction.getCommandId());
+            if (node != null)
+                return node;
+        }
+        return by_name.get(interaction.getCommandName());
+    }
+
+    /// Gets the options of the invoked subcommand of an interaction, the top level options if there's no subcommand
+    static @NotNull List<? extends SlashCommandInteractionOption> leafOptions(@NotNull SlashCommandInteraction interaction) {
+        List<? extends SlashCommandInteractionOption> options = interaction.getOptions();
+        while (!options.isEmpty()) {
+            var first = options.get(0);
+            if (first.getValue().isPresent())
+                break;
+            options = first.getOptions();
+        }
+        return options;
+    }
+
+    /// Gets the command path of an interaction, like `admin/user/ban`
+    static @NotNull String path(@NotNull SlashCommandInteraction interaction) {
+        var builder = new StringBuilder(interaction.getCommandName());
+        List<? extends SlashCommandInteractionOption> options = interaction.getOptions();
+        while (!options.isEmpty()) {
+            var first = options.get(0);
+            if (first.getValue().isPresent())
+                break;
+            builder.append('/').append(first.getName());
+            options = first.getOptions();
+        }
+        return builder.toString();
+    }
+
+    /// Finds the handler of the path of an interaction
+    ///
+    /// @param interaction the interaction
+    /// @return the handler, or null if there is none
+    public @Nullable SlashCommandInvokeListener findHandler(@NotNull SlashCommandInteraction interaction) {
+        var node = root(interaction);
+        if (node == null)
+            return null;
+
+        var handler = node.invoke_handler;
+        List<? extends SlashCommandInteractionOption> options = interaction.getOptions();
+        while (!options.isEmpty()) {
+            var first = options.get(0);
+            if (first.getValue().isPresent())
+                break;
+            node = node.children.get(first.getName());
+            if (node == null)
+                break;
+            if (node.invoke_handler != null)
+                handler = node.invoke_handler;
+            options = first.getOptions();
+        }
+        return handler;
+    }
+
+    /// Finds the autocomplete handler for the focused option of the path of an interaction
+    ///
+    /// @param interaction the interaction
+    /// @return the handler, or null if there is none
+    public @Nullable SlashCommandAutocompleteListener findAutocompleteHandler(@NotNull SlashCommandInteraction interaction) {
+        var node = root(interaction);
+        if (node == null)
+            return null;
+
+        var nodes = new Node[MAX_PATH_LENGTH];
+        int depth = 0;
+        nodes[depth++] = node;
+
+        List<? extends SlashCommandInteractionOption> options = interaction.getOptions();
+        while (!options.isEmpty()) {
+            var first = options.get(0);
+            if (first.getValue().isPresent())
+                break;
+            node = node.children.get(first.getName());
+            if (node == null)
+                break;
+            nodes[depth++] = node;
+            options = first.getOptions();
+        }
+
+        String target = null;
+        for (var option : leafOptions(interaction)) {
+            if (option.isAutocompleteTarget().orElse(false)) {
+                target = option.getName();
+                break;
+            }
+        }
+        if (target == null)
+            return null;
+
+        for (int i = depth - 1; i >= 0; i--) {
+            var handler = nodes[i].autocomplete_handlers.get(target);
+            if (handler != null)
+                return handler;
+        }
+        return null;
+    }
+
+    @Override
+    public void onSlashCommandInvoke(SlashCommandInvokeEvent event) {
+        var interaction = event.getSlashCommandInteraction();
+
+        var rate_limiter = this.rate_limiter;
+        if (rate_limiter != null) {
+            var wait = rate_limiter.tryAcquire(interaction);
+            if (wait > 0) {
+                rate_limiter.reject(interaction, wait);
+                return;
+            }
+        }
+
+        var handler = findHandler(interaction);
+        if (handler == null)
+            handler = invoke_fallback;
+
+        var auto_defer_policy = this.auto_defer_policy;
+        if (handler != null && auto_defer_policy != null)
+            event = auto_defer_policy.apply(event);
+
+        var dispatch_lanes = this.dispatch_lanes;
+        if (handler != null && dispatch_lanes != null)
+            dispatch_lanes.submit(event, handler);
+        else if (handler != null)
+            handler.onSlashCommandInvoke(event);
+        else
+            logger.debug("no handler for slash command invocation {}", interaction.getFullCommandName());
+    }
+
+    @Override
+    public void onSlashCommandAutocomplete(SlashCommandAutocompleteEvent event) {
+        var interaction = event.getSlashCommandAutocompleteInteraction();
+        var handler = findAutocompleteHandler(interaction);
+        if (handler == null)
+            handler = autocomplete_fallback;
+
+        var dispatch_lanes = this.dispatch_lanes;
+        if (handler != null && dispatch_lanes != null)
+            dispatch_lanes.submit(event, handler);
+        else if (handler != null)
+            handler.onSlashCommandAutocomplete(event);
+        else
+            logger.debug("no autocomplete handler for slash command {}", interaction.getFullCommandName());
+    }
+}
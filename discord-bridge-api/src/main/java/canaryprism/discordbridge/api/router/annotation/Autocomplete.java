@@ -0,0 +1,40 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.router.annotation;
+
+import java.lang.annotation.*;
+
+/// Marks a method as the autocomplete handler for an option of a slash command path
+///
+/// The method must take a single [canaryprism.discordbridge.api.event.interaction.SlashCommandAutocompleteEvent]
+///
+/// @see canaryprism.discordbridge.api.router.AnnotatedHandlers
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Autocomplete {
+
+    /// The command path, like `admin/user/ban`
+    ///
+    /// @return the command path
+    String path();
+
+    /// The name of the option to autocomplete
+    ///
+    /// @return the name of the option
+    String option();
+}
@@ -0,0 +1,42 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.router.annotation;
+
+import java.lang.annotation.*;
+
+/// Marks a method as the handler of a slash command path
+///
+/// Parameters annotated with [Option] become options of the command,
+/// other parameters must be a [canaryprism.discordbridge.api.event.interaction.SlashCommandInvokeEvent]
+/// or a [canaryprism.discordbridge.api.interaction.slash.SlashCommandInvokeInteraction]
+///
+/// @see canaryprism.discordbridge.api.router.AnnotatedHandlers
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Command {
+
+    /// The command path, like `admin/user/ban`
+    ///
+    /// @return the command path
+    String path();
+
+    /// The description of the command, or of the subcommand if the path has more than one segment
+    ///
+    /// @return the description
+    String description();
+}
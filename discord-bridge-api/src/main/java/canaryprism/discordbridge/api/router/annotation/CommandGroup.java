@@ -0,0 +1,53 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.router.annotation;
+
+import java.lang.annotation.*;
+
+/// Describes a command or subcommand group that only exists as the parent of [Command] methods
+///
+/// Every parent path of a [Command] method needs a description from this annotation on the declaring class
+///
+/// @see canaryprism.discordbridge.api.router.AnnotatedHandlers
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Repeatable(CommandGroup.List.class)
+public @interface CommandGroup {
+
+    /// The path of the command or subcommand group, like `admin` or `admin/user`
+    ///
+    /// @return the path
+    String path();
+
+    /// The description of the command or subcommand group
+    ///
+    /// @return the description
+    String description();
+
+    /// Container for repeated [CommandGroup] annotations
+    @Documented
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.TYPE)
+    @interface List {
+
+        /// The [CommandGroup] annotations
+        ///
+        /// @return the annotations
+        CommandGroup[] value();
+    }
+}
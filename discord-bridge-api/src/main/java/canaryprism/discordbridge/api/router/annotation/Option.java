@@ -0,0 +1,71 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.router.annotation;
+
+import java.lang.annotation.*;
+
+/// Marks a parameter of a [Command] method as a slash command option
+///
+/// Can also rename a record component decoded by [canaryprism.discordbridge.api.router.RecordDecoder]
+///
+/// The type of the option comes from the type of the parameter:
+///
+/// | parameter type | option type |
+/// |---|---|
+/// | `String` | `STRING` |
+/// | `long`, `Long`, `int`, `Integer` | `INTEGER` |
+/// | `double`, `Double` | `NUMBER` |
+/// | `boolean`, `Boolean` | `BOOLEAN` |
+/// | `User` | `USER` |
+/// | `Channel` | `CHANNEL` |
+/// | `Role` | `ROLE` |
+/// | `Mentionable` | `MENTIONABLE` |
+/// | `Attachment` | `ATTACHMENT` |
+///
+/// `int` and `Integer` options are bounded to the range of an `int`, so Discord won't accept values the parameter can't hold.
+/// Optional options are passed as null when absent, so they can't have primitive parameters
+///
+/// @see canaryprism.discordbridge.api.router.AnnotatedHandlers
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface Option {
+
+    /// The name of the option, or empty to use the parameter name
+    ///
+    /// Parameter names are only available when compiled with `-parameters`
+    ///
+    /// @return the name of the option
+    String name() default "";
+
+    /// The description of the option
+    ///
+    /// Required for [Command] parameters, unused on record components
+    ///
+    /// @return the description
+    String description() default "";
+
+    /// Whether the option is required
+    ///
+    /// @return whether the option is required
+    boolean required() default true;
+
+    /// Whether the option is autocompletable, an [Autocomplete] method should exist for it
+    ///
+    /// @return whether the option is autocompletable
+    boolean autocomplete() default false;
+}
@@ -0,0 +1,182 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.trace;
+
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandOptionType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static canaryprism.discordbridge.api.trace.TraceFormat.*;
+
+/// Reads [TracedInteraction]s from a trace written by [InteractionTraceWriter], in the order they were written
+///
+/// Interactions are read one at a time with [#next()], so traces of any length can be streamed.
+/// Malformed input, including a trace whose last record was cut off, fails with an [IOException]
+public final class InteractionTraceReader implements Closeable {
+
+    private final @NotNull DataInputStream in;
+
+    private final @NotNull ArrayList<String> names = new ArrayList<>();
+    private boolean session_started;
+    private long previous_time_nanos;
+
+    /// Constructs a reader reading a trace from a stream
+    ///
+    /// @param in the stream to read the trace from, it's closed when the reader is
+    /// @throws IOException if reading the header fails or the stream isn't a trace of a supported version
+    public InteractionTraceReader(@NotNull InputStream in) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(in));
+        if (this.in.readInt() != MAGIC)
+            throw new IOException("not an interaction trace");
+        var version = this.in.readUnsignedByte();
+        if (version != VERSION)
+            throw new IOException(String.format("unsupported interaction trace version %s", version));
+    }
+
+    /// Opens a trace file for reading
+    ///
+    /// @param path the trace file
+    /// @return the reader
+    /// @throws IOException if the file can't be opened or isn't a trace of a supported version
+    public static @NotNull InteractionTraceReader open(@NotNull Path path) throws IOException {
+        var in = Files.newInputStream(path);
+        try {
+            return new InteractionTraceReader(in);
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /// Reads every interaction in a trace file
+    ///
+    /// @param path the trace file
+    /// @return the interactions in the order they were written
+    /// @throws IOException if reading fails or the trace is malformed
+    public static @NotNull @Unmodifiable List<TracedInteraction> readAll(@NotNull Path path) throws IOException {
+        try (var reader = open(path)) {
+            var interactions = new ArrayList<TracedInteraction>();
+            TracedInteraction interaction;
+            while ((interaction = reader.next()) != null)
+                interactions.add(interaction);
+            return List.copyOf(interactions);
+        }
+    }
+
+    /// Reads the next interaction
+    ///
+    /// @return the interaction, or null if the end of the trace has been reached
+    /// @throws IOException if reading fails or the trace is malformed
+    public @Nullable TracedInteraction next() throws IOException {
+        while (true) {
+            var tag = in.read();
+            switch (tag) {
+                case -1 -> {
+                    return null;
+                }
+                case TAG_SESSION -> {
+                    previous_time_nanos = in.readLong();
+                    names.clear();
+                    session_started = true;
+                }
+                case TAG_INVOKE, TAG_AUTOCOMPLETE -> {
+                    if (!session_started)
+                        throw new IOException("interaction record before any session record");
+                    return readInteraction(tag == TAG_AUTOCOMPLETE);
+                }
+                default -> throw new IOException(String.format("unknown record tag %s", tag));
+            }
+        }
+    }
+
+    private @NotNull TracedInteraction readInteraction(boolean autocomplete) throws IOException {
+        var time_nanos = previous_time_nanos + readSignedVarLong(in);
+        previous_time_nanos = time_nanos;
+
+        var flags = in.readUnsignedByte();
+        var user_id = in.readLong();
+        var server_id = ((flags & INTERACTION_SERVER) != 0) ? (Long) in.readLong() : null;
+        var channel_id = ((flags & INTERACTION_CHANNEL) != 0) ? in.readLong() : 0;
+
+        var parts = in.readUnsignedByte();
+        var command_name = new ArrayList<String>(parts);
+        for (int i = 0; i < parts; i++)
+            command_name.add(readName());
+
+        var count = readVarLong(in);
+        if (count > 25)
+            throw new IOException(String.format("invalid argument count %s", count));
+        var arguments = new ArrayList<TracedArgument>((int) count);
+        for (int i = 0; i < count; i++)
+            arguments.add(readArgument());
+
+        try {
+            return new TracedInteraction(time_nanos, autocomplete, command_name, user_id, server_id, channel_id, arguments);
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    private @NotNull String readName() throws IOException {
+        var index = readVarLong(in);
+        if (index == 0) {
+            var name = in.readUTF();
+            names.add(name);
+            return name;
+        }
+        if (index > names.size())
+            throw new IOException(String.format("name index %s out of range, only %s names read", index, names.size()));
+        return names.get((int) index - 1);
+    }
+
+    private @NotNull TracedArgument readArgument() throws IOException {
+        var name = readName();
+        var type_name = readName();
+        SlashCommandOptionType type;
+        try {
+            type = SlashCommandOptionType.valueOf(type_name);
+        } catch (IllegalArgumentException e) {
+            throw new IOException(String.format("unknown option type %s", type_name), e);
+        }
+        var focused = (in.readUnsignedByte() & ARGUMENT_FOCUSED) != 0;
+        Object value = switch (type) {
+            case STRING, UNKNOWN -> in.readUTF();
+            case INTEGER -> readSignedVarLong(in);
+            case NUMBER -> in.readDouble();
+            case BOOLEAN -> in.readBoolean();
+            case USER, CHANNEL, ROLE, ATTACHMENT -> in.readLong();
+            default -> throw new IOException(String.format("%s arguments can't be traced", type));
+        };
+        return new TracedArgument(name, type, value, focused);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.trace;
+
+import canaryprism.discordbridge.api.DiscordApi;
+import canaryprism.discordbridge.api.entity.DiscordEntity;
+import canaryprism.discordbridge.api.event.interaction.SlashCommandAutocompleteEvent;
+import canaryprism.discordbridge.api.event.interaction.SlashCommandInvokeEvent;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandInteraction;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandInteractionOption;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandOptionType;
+import canaryprism.discordbridge.api.listener.interaction.SlashCommandAutocompleteListener;
+import canaryprism.discordbridge.api.listener.interaction.SlashCommandInvokeListener;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/// Records every invoke and autocomplete interaction of the apis it's attached to into a trace
+///
+/// The recorder is a listener, so it works with any bridge.
+/// Attach it before any other listener so the recorded times are as close as possible to when interactions arrived
+///
+/// IDs can be hashed with a secret key to keep them out of the trace.
+/// Hashes are HMAC-SHA256 truncated to 64 bits, so without the key they can't be traced back to IDs,
+/// while recorders with the same key hash IDs the same way so traces can still be compared.
+/// Distinct IDs colliding is possible but vanishingly unlikely
+///
+/// Failing to write an interaction is logged and never thrown to the bridge dispatching it
+public final class InteractionTraceRecorder implements SlashCommandInvokeListener, SlashCommandAutocompleteListener, Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(InteractionTraceRecorder.class);
+
+    // the types an argument value is traced as, in the order they're checked
+    private static final List<SlashCommandOptionType> VALUE_TYPES = List.of(
+            SlashCommandOptionType.STRING, SlashCommandOptionType.INTEGER, SlashCommandOptionType.NUMBER,
+            SlashCommandOptionType.BOOLEAN, SlashCommandOptionType.USER, SlashCommandOptionType.CHANNEL,
+            SlashCommandOptionType.ROLE, SlashCommandOptionType.ATTACHMENT);
+
+    private static final String HASH_ALGORITHM = "HmacSHA256";
+
+    private final @NotNull InteractionTraceWriter writer;
+    // Macs aren't thread safe, null if IDs aren't hashed
+    private final @Nullable ThreadLocal<Mac> macs;
+
+    // epoch nanos and System.nanoTime() at the same moment, so times are monotonic but still comparable across sessions
+    private final long epoch_nanos;
+    private final long start_nanos;
+
+    private final @NotNull LongAdder recorded = new LongAdder();
+    private final @NotNull LongAdder failures = new LongAdder();
+
+    private InteractionTraceRecorder(@NotNull InteractionTraceWriter writer, @Nullable ThreadLocal<Mac> macs) {
+        this.writer = Objects.requireNonNull(writer, "writer can't be null");
+        this.macs = macs;
+        var now = Instant.now();
+        this.start_nanos = System.nanoTime();
+        this.epoch_nanos = now.getEpochSecond() * 1_000_000_000L + now.getNano();
+    }
+
+    /// Constructs a recorder writing IDs as they are
+    ///
+    /// @param writer the writer to write interactions to, it's closed when the recorder is
+    public InteractionTraceRecorder(@NotNull InteractionTraceWriter writer) {
+        this(writer, (ThreadLocal<Mac>) null);
+    }
+
+    /// Constructs a recorder writing IDs hashed with a key
+    ///
+    /// The key must be kept secret, anyone who has it can find which IDs a trace holds by hashing them
+    ///
+    /// @param writer the writer to write interactions to, it's closed when the recorder is
+    /// @param key the key to hash IDs with, recorders with the same key hash IDs the same way
+    /// @throws IllegalArgumentException if the key is empty
+    public InteractionTraceRecorder(@NotNull InteractionTraceWriter writer, byte @NotNull [] key) {
+        this(writer, macs(key));
+    }
+
+    /// Constructs a recorder writing IDs hashed with a key given as a long
+    ///
+    /// A 64 bit key can be found by trying every value, prefer [#InteractionTraceRecorder(InteractionTraceWriter, byte\[\])]
+    /// with a random key of 32 bytes
+    ///
+    /// @param writer the writer to write interactions to, it's closed when the recorder is
+    /// @param salt the key to hash IDs with, recorders with the same key hash IDs the same way
+    public InteractionTraceRecorder(@NotNull InteractionTraceWriter writer, long salt) {
+        this(writer, macs(bytes(salt)));
+    }
+
+    private static byte @NotNull [] bytes(long value) {
+        var bytes = new byte[Long.BYTES];
+        for (int i = 0; i < Long.BYTES; i++)
+            bytes[i] = (byte) (value >>> (56 - 8 * i));
+        return bytes;
+    }
+
+    private static @NotNull ThreadLocal<Mac> macs(byte @NotNull [] key) {
+        Objects.requireNonNull(key, "key can't be null");
+        if (key.length == 0)
+            throw new IllegalArgumentException("key can't be empty");
+        var copy = key.clone();
+        // fail here rather than on the first interaction
+        mac(copy);
+        return ThreadLocal.withInitial(() -> mac(copy));
+    }
+
+    private static @NotNull Mac mac(byte @NotNull [] key) {
+        try {
+            var mac = Mac.getInstance(HASH_ALGORITHM);
+            mac.init(new SecretKeySpec(key, HASH_ALGORITHM));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(String.format("%s is unavailable", HASH_ALGORITHM), e);
+        }
+    }
+
+    /// Starts recording the interactions of an api
+    ///
+    /// @param api the api
+    public void attach(@NotNull DiscordApi api) {
+        api.addListener(SlashCommandInvokeListener.class, this);
+        api.addListener(SlashCommandAutocompleteListener.class, this);
+    }
+
+    /// Stops recording the interactions of an api
+    ///
+    /// @param api the api
+    public void detach(@NotNull DiscordApi api) {
+        api.removeListener(SlashCommandInvokeListener.class, this);
+        api.removeListener(SlashCommandAutocompleteListener.class, this);
+    }
+
+    @Override
+    public void onSlashCommandInvoke(SlashCommandInvokeEvent event) {
+        record(event.getSlashCommandInteraction(), false);
+    }
+
+    @Override
+    public void onSlashCommandAutocomplete(SlashCommandAutocompleteEvent event) {
+        record(event.getSlashCommandAutocompleteInteraction(), true);
+    }
+
+    private void record(@NotNull SlashCommandInteraction interaction, boolean autocomplete) {
+        var time_nanos = epoch_nanos + (System.nanoTime() - start_nanos);
+        try {
+            var arguments = new ArrayList<TracedArgument>();
+            for (var option : interaction.getArguments())
+                if (option.getOptions().isEmpty())
+                    option.getValue().ifPresent((value) -> arguments.add(trace(option, value)));
+
+            var traced = new TracedInteraction(
+                    time_nanos,
+                    autocomplete,
+                    interaction.getFullCommandName(),
+                    hash(interaction.getUser().getId()),
+                    interaction.getServer().map((e) -> hash(e.getId())).orElse(null),
+                    interaction.getChannel().map((e) -> hash(e.getId())).orElse(0L),
+                    arguments);
+            writer.write(traced);
+            recorded.increment();
+        } catch (IOException | RuntimeException e) {
+            failures.increment();
+            logger.warn("failed to record interaction with /{}", String.join(" ", interaction.getFullCommandName()), e);
+        }
+    }
+
+    private @NotNull TracedArgument trace(@NotNull SlashCommandInteractionOption option, @NotNull Object value) {
+        var focused = option.isAutocompleteTarget().orElse(false);
+        for (var type : VALUE_TYPES) {
+            if (type.getTypeRepresentation().isInstance(value)) {
+                var traced = (value instanceof DiscordEntity entity) ? (Object) hash(entity.getId()) : value;
+                return new TracedArgument(option.getName(), type, traced, focused);
+            }
+        }
+        return new TracedArgument(option.getName(), SlashCommandOptionType.UNKNOWN, String.valueOf(value), focused);
+    }
+
+    private long hash(long id) {
+        if (macs == null)
+            return id;
+        var digest = macs.get().doFinal(bytes(id));
+        // the first 64 bits of the digest
+        long hash = 0;
+        for (int i = 0; i < Long.BYTES; i++)
+            hash = (hash << 8) | (digest[i] & 0xFF);
+        return hash;
+    }
+
+    /// Gets the number of interactions recorded
+    ///
+    /// @return the number of interactions
+    public long getRecordedCount() {
+        return recorded.sum();
+    }
+
+    /// Gets the number of interactions that failed to be recorded
+    ///
+    /// @return the number of failures
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    /// Flushes recorded interactions to the trace
+    ///
+    /// @throws IOException if flushing fails
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    /// Closes the writer, the recorder should be detached from every api first
+    ///
+    /// @throws IOException if closing the writer fails
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.trace;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import static canaryprism.discordbridge.api.trace.TraceFormat.*;
+
+/// Writes [TracedInteraction]s to a trace
+///
+/// Writing is buffered, so interactions only reach the trace when it's flushed or closed.
+/// If the process dies before then, the end of the trace is lost and its last record may be cut off,
+/// which [InteractionTraceReader] reports as an [java.io.EOFException]
+///
+/// Each interaction is encoded on its own before being added to the trace in one write,
+/// so an interaction that fails to encode leaves nothing of itself in the trace
+///
+/// Writers are thread safe
+public final class InteractionTraceWriter implements Closeable, Flushable {
+
+    private final @NotNull DataOutputStream out;
+
+    // the interaction being written, encoded before any of it goes to out
+    private final @NotNull ByteArrayOutputStream record_bytes = new ByteArrayOutputStream();
+    private final @NotNull DataOutputStream record = new DataOutputStream(record_bytes);
+
+    // name -> index + 1 of every name written in the current session
+    private final @NotNull HashMap<String, Integer> names = new HashMap<>();
+    // the names the interaction being written added to names
+    private final @NotNull ArrayList<String> added_names = new ArrayList<>();
+    private boolean session_started;
+    private long previous_time_nanos;
+
+    private InteractionTraceWriter(@NotNull OutputStream out, boolean header) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(out));
+        if (header) {
+            this.out.writeInt(MAGIC);
+            this.out.writeByte(VERSION);
+        }
+    }
+
+    /// Constructs a writer starting a new trace in a stream
+    ///
+    /// @param out the stream to write the trace to, it's closed when the writer is
+    /// @throws IOException if writing the header fails
+    public InteractionTraceWriter(@NotNull OutputStream out) throws IOException {
+        this(out, true);
+    }
+
+    /// Opens a trace file for appending, creating it if it doesn't exist
+    ///
+    /// Interactions are added to the end of the file in a new session, so anything already traced is kept
+    ///
+    /// @param path the trace file
+    /// @return the writer
+    /// @throws IOException if the file can't be opened, or it isn't empty and isn't a trace of a supported version
+    public static @NotNull InteractionTraceWriter open(@NotNull Path path) throws IOException {
+        var empty = !Files.exists(path) || Files.size(path) == 0;
+        if (!empty) {
+            try (var in = new DataInputStream(Files.newInputStream(path))) {
+                if (in.readInt() != MAGIC)
+                    throw new IOException(String.format("%s is not an interaction trace", path));
+                var version = in.readUnsignedByte();
+                if (version != VERSION)
+                    throw new IOException(String.format("can't append to %s, unsupported interaction trace version %s", path, version));
+            }
+        }
+        return new InteractionTraceWriter(Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND), empty);
+    }
+
+    /// Writes an interaction
+    ///
+    /// @param interaction the interaction
+    /// @throws IOException if writing fails
+    public synchronized void write(@NotNull TracedInteraction interaction) throws IOException {
+        var session_started = this.session_started;
+        var previous_time_nanos = this.previous_time_nanos;
+        var starts_session = !session_started || names.size() >= MAX_NAMES;
+        var previous_names = starts_session ? new HashMap<>(names) : null;
+
+        record_bytes.reset();
+        added_names.clear();
+        try {
+            if (starts_session)
+                startSession(interaction.time_nanos());
+            encode(interaction);
+        } catch (IOException | RuntimeException e) {
+            // nothing of the interaction was written, so the trace must go on as if it was never given
+            if (previous_names != null) {
+                names.clear();
+                names.putAll(previous_names);
+            } else {
+                added_names.forEach(names::remove);
+            }
+            this.session_started = session_started;
+            this.previous_time_nanos = previous_time_nanos;
+            throw e;
+        }
+        record_bytes.writeTo(out);
+    }
+
+    private void encode(@NotNull TracedInteraction interaction) throws IOException {
+        record.writeByte(interaction.autocomplete() ? TAG_AUTOCOMPLETE : TAG_INVOKE);
+        writeSignedVarLong(interaction.time_nanos() - previous_time_nanos, record);
+        previous_time_nanos = interaction.time_nanos();
+
+        int flags = 0;
+        if (interaction.server_id() != null)
+            flags |= INTERACTION_SERVER;
+        if (interaction.channel_id() != 0)
+            flags |= INTERACTION_CHANNEL;
+        record.writeByte(flags);
+        record.writeLong(interaction.user_id());
+        if (interaction.server_id() != null)
+            record.writeLong(interaction.server_id());
+        if (interaction.channel_id() != 0)
+            record.writeLong(interaction.channel_id());
+
+        record.writeByte(interaction.command_name().size());
+        for (var name : interaction.command_name())
+            writeName(name);
+
+        writeVarLong(interaction.arguments().size(), record);
+        for (var argument : interaction.arguments())
+            writeArgument(argument);
+    }
+
+    private void startSession(long time_nanos) throws IOException {
+        record.writeByte(TAG_SESSION);
+        record.writeLong(time_nanos);
+        names.clear();
+        previous_time_nanos = time_nanos;
+        session_started = true;
+    }
+
+    private void writeName(@NotNull String name) throws IOException {
+        var index = names.get(name);
+        if (index != null) {
+            writeVarLong(index, record);
+        } else {
+            writeVarLong(0, record);
+            record.writeUTF(name);
+            names.put(name, names.size() + 1);
+            added_names.add(name);
+        }
+    }
+
+    private void writeArgument(@NotNull TracedArgument argument) throws IOException {
+        writeName(argument.name());
+        writeName(argument.type().name());
+        record.writeByte(argument.focused() ? ARGUMENT_FOCUSED : 0);
+        switch (argument.type()) {
+            case STRING, UNKNOWN -> record.writeUTF((String) argument.value());
+            case INTEGER -> writeSignedVarLong((Long) argument.value(), record);
+            case NUMBER -> record.writeDouble((Double) argument.value());
+            case BOOLEAN -> record.writeBoolean((Boolean) argument.value());
+            default -> record.writeLong((Long) argument.value());
+        }
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        out.close();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.trace;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/// Constants and variable length integers of the trace format, shared by [InteractionTraceWriter] and [InteractionTraceReader]
+final class TraceFormat {
+
+    private TraceFormat() {}
+
+    /// Magic number at the start of a trace, `DBIT`
+    static final int MAGIC = 0x44424954;
+    /// Version of the trace format
+    static final int VERSION = 1;
+
+    static final int TAG_SESSION = 0;
+    static final int TAG_INVOKE = 1;
+    static final int TAG_AUTOCOMPLETE = 2;
+
+    static final int INTERACTION_SERVER = 1;
+    static final int INTERACTION_CHANNEL = 1 << 1;
+
+    static final int ARGUMENT_FOCUSED = 1;
+
+    /// Number of names a session refers to by index before a new session starts, so readers don't hold an unbounded table
+    static final int MAX_NAMES = 1 << 16;
+
+    static void writeVarLong(long value, @NotNull DataOutputStream out) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long readVarLong(@NotNull DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            var b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                return value;
+        }
+        throw new IOException("variable length integer is too long");
+    }
+
+    static void writeSignedVarLong(long value, @NotNull DataOutputStream out) throws IOException {
+        writeVarLong((value << 1) ^ (value >> 63), out);
+    }
+
+    static long readSignedVarLong(@NotNull DataInputStream in) throws IOException {
+        var value = readVarLong(in);
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.trace;
+
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandOptionType;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/// An argument of a [TracedInteraction]
+///
+/// Values are stored the way Discord sends them:
+/// - `STRING`, `INTEGER`, `NUMBER` and `BOOLEAN` values are a [String], [Long], [Double] and [Boolean]
+/// - `USER`, `CHANNEL`, `ROLE` and `ATTACHMENT` values are the [Long] ID of the entity
+/// - `UNKNOWN` values are the [String] form of the value
+///
+/// `MENTIONABLE` arguments are traced as the `USER` or `ROLE` they resolved to,
+/// and subcommands and subcommand groups are part of the [command name][TracedInteraction#command_name()] instead
+///
+/// @param name the name of the argument
+/// @param type the type of the argument
+/// @param value the value of the argument
+/// @param focused whether the argument is the target of an autocomplete interaction
+public record TracedArgument(@NotNull String name, @NotNull SlashCommandOptionType type, @NotNull Object value, boolean focused) {
+
+    /// Constructs a traced argument
+    ///
+    /// @param name the name of the argument
+    /// @param type the type of the argument
+    /// @param value the value of the argument
+    /// @param focused whether the argument is the target of an autocomplete interaction
+    /// @throws IllegalArgumentException if the type can't be traced or the value isn't stored the way the type needs
+    public TracedArgument {
+        Objects.requireNonNull(name, "name can't be null");
+        Objects.requireNonNull(value, "value can't be null");
+        var stored = storedType(type);
+        if (!stored.isInstance(value))
+            throw new IllegalArgumentException(String.format("value of %s argument %s must be a %s, not %s",
+                    type, name, stored.getSimpleName(), value.getClass().getName()));
+    }
+
+    static @NotNull Class<?> storedType(@NotNull SlashCommandOptionType type) {
+        return switch (type) {
+            case STRING, UNKNOWN -> String.class;
+            case INTEGER, USER, CHANNEL, ROLE, ATTACHMENT -> Long.class;
+            case NUMBER -> Double.class;
+            case BOOLEAN -> Boolean.class;
+            case SUBCOMMAND, SUBCOMMAND_GROUP, MENTIONABLE ->
+                    throw new IllegalArgumentException(String.format("%s arguments can't be traced", type));
+        };
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.api.trace;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.List;
+
+/// An interaction recorded in a trace
+///
+/// IDs are the ones Discord sent, or hashed ones if the trace was recorded with a key.
+/// An ID always hashes the same way, so the same user or server can be followed across a trace
+///
+/// @param time_nanos when the interaction was received, in nanoseconds since the epoch
+/// @param autocomplete whether this is an autocomplete interaction rather than an invoke interaction
+/// @param command_name the full name of the command, starting with the command and followed by the subcommand group and subcommand if any
+/// @param user_id the ID of the user that caused the interaction
+/// @param server_id the ID of the server the interaction originated from, or null if it came from a DM
+/// @param channel_id the ID of the channel the interaction originated from, or 0 if it isn't known
+/// @param arguments the arguments of the interaction, without subcommands and subcommand groups
+public record TracedInteraction(long time_nanos, boolean autocomplete, @NotNull @Unmodifiable List<String> command_name,
+                                long user_id, @Nullable Long server_id, long channel_id,
+                                @NotNull @Unmodifiable List<TracedArgument> arguments) {
+
+    /// Constructs a traced interaction
+    ///
+    /// @param time_nanos when the interaction was received, in nanoseconds since the epoch
+    /// @param autocomplete whether this is an autocomplete interaction rather than an invoke interaction
+    /// @param command_name the full name of the command
+    /// @param user_id the ID of the user that caused the interaction
+    /// @param server_id the ID of the server the interaction originated from, or null if it came from a DM
+    /// @param channel_id the ID of the channel the interaction originated from, or 0 if it isn't known
+    /// @param arguments the arguments of the interaction
+    /// @throws IllegalArgumentException if the command name doesn't have 1 to 3 parts
+    public TracedInteraction {
+        command_name = List.copyOf(command_name);
+        arguments = List.copyOf(arguments);
+        if (command_name.isEmpty() || command_name.size() > 3)
+            throw new IllegalArgumentException(String.format("command name must have 1 to 3 parts, not %s", command_name.size()));
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+/// # Interaction traces
+///
+/// Recording of real interactions, to replay them later against handlers without Discord
+///
+/// An [canaryprism.discordbridge.api.trace.InteractionTraceRecorder] attached to any api writes every invoke and autocomplete
+/// interaction it sees as a [canaryprism.discordbridge.api.trace.TracedInteraction]
+/// to a trace file with an [canaryprism.discordbridge.api.trace.InteractionTraceWriter],
+/// and an [canaryprism.discordbridge.api.trace.InteractionTraceReader] reads them back in order.
+/// Replaying needs an api interactions can be delivered to, like the in-memory Discord of `discord-bridge-identity`
+///
+/// ## Format
+///
+/// A trace file is append-only, every writer opening the file adds a new session to the end of it.
+/// After a header of the magic number `DBIT` and a version byte, the file is a sequence of records, each starting with a tag byte:
+///  - a session record holds the wall clock time the session started at, in nanoseconds since the epoch
+///  - an interaction record holds the time since the previous record, the user, server and channel IDs,
+///    the command name and every argument with its type and value
+///
+/// Times and counts are variable length integers, and names are written once per session then referred to by index,
+/// so a typical interaction takes a few dozen bytes
+package canaryprism.discordbridge.api.trace;
@@ -20,6 +20,7 @@
 module canaryprism.discordbridge.api {
     requires static org.jetbrains.annotations;
     requires org.slf4j;
+    requires transitive jdk.jfr;
     
     exports canaryprism.discordbridge.api;
     exports canaryprism.discordbridge.api.interaction;
@@ -34,12 +35,20 @@ module canaryprism.discordbridge.api {
     exports canaryprism.discordbridge.api.listener.interaction;
     exports canaryprism.discordbridge.api.event;
     exports canaryprism.discordbridge.api.event.interaction;
+    exports canaryprism.discordbridge.api.event.stream;
     exports canaryprism.discordbridge.api.server.permission;
     exports canaryprism.discordbridge.api.message;
     exports canaryprism.discordbridge.api.enums;
     exports canaryprism.discordbridge.api.data.interaction.slash;
     exports canaryprism.discordbridge.api.data.interaction;
     exports canaryprism.discordbridge.api.misc;
+    exports canaryprism.discordbridge.api.router;
+    exports canaryprism.discordbridge.api.router.annotation;
+    exports canaryprism.discordbridge.api.autocomplete;
+    exports canaryprism.discordbridge.api.metrics;
+    exports canaryprism.discordbridge.api.metrics.jfr;
+    exports canaryprism.discordbridge.api.trace;
     
     uses canaryprism.discordbridge.api.DiscordBridge;
+    uses canaryprism.discordbridge.api.metrics.MetricsRecorder;
 }
\ No newline at end of file
@@ -0,0 +1,193 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandData;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandOptionData;
+import canaryprism.discordbridge.api.event.interaction.SlashCommandAutocompleteEvent;
+import canaryprism.discordbridge.api.event.interaction.SlashCommandInvokeEvent;
+import canaryprism.discordbridge.api.router.AnnotatedHandlers;
+import canaryprism.discordbridge.api.router.SlashCommandRouter;
+import canaryprism.discordbridge.api.router.annotation.Autocomplete;
+import canaryprism.discordbridge.api.router.annotation.Command;
+import canaryprism.discordbridge.api.router.annotation.CommandGroup;
+import canaryprism.discordbridge.api.router.annotation.Option;
+import canaryprism.discordbridge.identity.memory.SyntheticOption;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static canaryprism.discordbridge.api.interaction.slash.SlashCommandOptionType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests for [AnnotatedHandlers]
+public class AnnotatedHandlersTests {
+    
+    @CommandGroup(path = "admin", description = "admin commands")
+    @CommandGroup(path = "admin/user", description = "user commands")
+    private static final class AdminCommands {
+        
+        final List<String> calls = new ArrayList<>();
+        
+        @Command(path = "admin/user/ban", description = "bans a user")
+        private void ban(SlashCommandInvokeEvent event,
+                         @Option(name = "target", description = "the user") String target,
+                         @Option(name = "days", description = "days of messages to delete") int days,
+                         @Option(name = "reason", description = "the reason", required = false, autocomplete = true) String reason) {
+            calls.add(String.format("ban %s %s %s", target, days, reason));
+        }
+        
+        @Command(path = "admin/ping", description = "pings")
+        private void ping(@Option(name = "loud", description = "whether to be loud", required = false) Boolean loud) {
+            calls.add("ping " + loud);
+        }
+        
+        @Autocomplete(path = "admin/user/ban", option = "reason")
+        private void reason(SlashCommandAutocompleteEvent event) {
+            calls.add("reason " + event.getSlashCommandAutocompleteInteraction().getCommandName());
+        }
+    }
+    
+    @Test
+    void boundMethodsShouldGenerateMatchingCommandData() {
+        var data = AnnotatedHandlers.bind(new SlashCommandRouter(), new AdminCommands(), MethodHandles.lookup());
+        
+        assertEquals(1, data.size());
+        var admin = data.get(0);
+        assertEquals("admin", admin.getName());
+        assertEquals("admin commands", admin.getDescription());
+        assertEquals(List.of("ping", "user"), admin.getOptions().stream().map(SlashCommandOptionData::getName).toList());
+        
+        var ping = admin.getOptions().get(0);
+        assertEquals(SUBCOMMAND, ping.getType());
+        assertEquals(BOOLEAN, ping.getOptions().get(0).getType());
+        assertFalse(ping.getOptions().get(0).isRequired());
+        
+        var user = admin.getOptions().get(1);
+        assertEquals(SUBCOMMAND_GROUP, user.getType());
+        assertEquals("user commands", user.getDescription());
+        var ban = user.getOptions().get(0);
+        assertEquals(List.of(STRING, INTEGER, STRING), ban.getOptions().stream().map(SlashCommandOptionData::getType).toList());
+        assertTrue(ban.getOptions().get(2).isAutocompletable());
+    }
+    
+    private static final class IntegerOptions {
+        
+        @Command(path = "roll", description = "rolls dice")
+        void roll(@Option(name = "sides", description = "sides of each die") int sides,
+                  @Option(name = "dice", description = "number of dice", required = false) Integer dice,
+                  @Option(name = "seed", description = "the seed", required = false) Long seed) {}
+    }
+    
+    @Test
+    void intOptionsShouldBeBoundedToTheIntRange() {
+        var roll = AnnotatedHandlers.bind(new SlashCommandRouter(), new IntegerOptions(), MethodHandles.lookup()).get(0);
+        
+        for (var name : List.of("sides", "dice")) {
+            var option = roll.getOptions().stream().filter((e) -> e.getName().equals(name)).findAny().orElseThrow();
+            assertEquals(INTEGER, option.getType());
+            assertEquals(Optional.of((long) Integer.MIN_VALUE), option.getIntegerBoundsMin());
+            assertEquals(Optional.of((long) Integer.MAX_VALUE), option.getIntegerBoundsMax());
+        }
+        var seed = roll.getOptions().stream().filter((e) -> e.getName().equals("seed")).findAny().orElseThrow();
+        assertEquals(Optional.empty(), seed.getIntegerBoundsMin());
+        assertEquals(Optional.empty(), seed.getIntegerBoundsMax());
+    }
+    
+    @Test
+    void boundMethodsShouldReceiveTheirArguments() {
+        var handlers = new AdminCommands();
+        var router = new SlashCommandRouter();
+        var data = AnnotatedHandlers.bind(router, handlers, MethodHandles.lookup());
+        var discord = new TestDiscord(data.toArray(SlashCommandData[]::new));
+        router.attach(discord.api);
+        
+        discord.invoke("admin/user/ban",
+                SyntheticOption.argument("target", STRING, "mewo"),
+                SyntheticOption.argument("days", INTEGER, 7L));
+        discord.invoke("admin/user/ban",
+                SyntheticOption.argument("reason", STRING, "spam"),
+                SyntheticOption.argument("days", INTEGER, 1L),
+                SyntheticOption.argument("target", STRING, "mrrp"));
+        discord.invoke("admin/ping", SyntheticOption.argument("loud", BOOLEAN, true));
+        discord.invoke("admin/ping");
+        discord.autocomplete("admin/user/ban", SyntheticOption.focused("reason", STRING, "sp"));
+        
+        assertEquals(List.of("ban mewo 7 null", "ban mrrp 1 spam", "ping true", "ping null", "reason admin"), handlers.calls);
+    }
+    
+    @Test
+    void missingRequiredOptionsShouldThrow() {
+        var router = new SlashCommandRouter();
+        var data = AnnotatedHandlers.bind(router, new AdminCommands(), MethodHandles.lookup());
+        var discord = new TestDiscord(data.toArray(SlashCommandData[]::new));
+        var thrown = new ArrayList<Throwable>();
+        discord.api.addSlashCommandInvokeListener((e) -> {
+            try {
+                router.onSlashCommandInvoke(e);
+            } catch (RuntimeException t) {
+                thrown.add(t);
+            }
+        });
+        
+        discord.invoke("admin/user/ban", SyntheticOption.argument("target", STRING, "mewo"));
+        
+        assertEquals(1, thrown.size());
+        assertInstanceOf(IllegalStateException.class, thrown.get(0));
+    }
+    
+    private static final class OptionalPrimitive {
+        @Command(path = "mewo", description = "mewo")
+        void mewo(@Option(name = "count", description = "count", required = false) long count) {}
+    }
+    
+    private static final class UnannotatedParameter {
+        @Command(path = "mewo", description = "mewo")
+        void mewo(String text) {}
+    }
+    
+    private static final class MissingGroupDescription {
+        @Command(path = "mewo/mrrp", description = "mrrp")
+        void mrrp() {}
+    }
+    
+    private static final class HandlerAndSubcommands {
+        @Command(path = "mewo", description = "mewo")
+        void mewo() {}
+        
+        @Command(path = "mewo/mrrp", description = "mrrp")
+        void mrrp() {}
+    }
+    
+    @Test
+    void invalidMethodsShouldBeRejectedWithoutRegisteringAnything() {
+        var router = new SlashCommandRouter();
+        var lookup = MethodHandles.lookup();
+        
+        assertThrows(IllegalArgumentException.class, () -> AnnotatedHandlers.bind(router, new OptionalPrimitive(), lookup));
+        assertThrows(IllegalArgumentException.class, () -> AnnotatedHandlers.bind(router, new UnannotatedParameter(), lookup));
+        assertThrows(IllegalArgumentException.class, () -> AnnotatedHandlers.bind(router, new MissingGroupDescription(), lookup));
+        assertThrows(IllegalStateException.class, () -> AnnotatedHandlers.bind(router, new HandlerAndSubcommands(), lookup));
+        // the public lookup can't see the private test classes
+        assertThrows(IllegalArgumentException.class, () -> AnnotatedHandlers.bind(router, new AdminCommands()));
+        
+        // nothing was registered by the failed binds
+        AnnotatedHandlers.bind(router, new AdminCommands(), lookup);
+        assertThrows(IllegalStateException.class, () -> AnnotatedHandlers.bind(router, new AdminCommands(), lookup));
+    }
+}
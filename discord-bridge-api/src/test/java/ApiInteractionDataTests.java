@@ -16,11 +16,22 @@
 
 import canaryprism.discordbridge.api.channel.ChannelType;
 import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandData;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandDataCodec;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandInterner;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandDataBuilder;
 import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandOptionChoiceData;
 import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandOptionData;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandOptionDataBuilder;
+import canaryprism.discordbridge.api.misc.DiscordLocale;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static canaryprism.discordbridge.api.interaction.slash.SlashCommandOptionType.*;
@@ -77,4 +88,199 @@ public class ApiInteractionDataTests {
                                 .setChannelTypeBounds(Set.of(ChannelType.SERVER_TEXT))
                 ));
     }
+    
+    @Test
+    void slashCommandNamesWithUppercaseOrInvalidCharactersShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new SlashCommandData("Mewo", "description"));
+        assertThrows(IllegalArgumentException.class, () -> new SlashCommandData("me wo", "description"));
+        assertThrows(IllegalArgumentException.class, () -> new SlashCommandData("a".repeat(33), "description"));
+        new SlashCommandData("ผู้ใช้", "description");
+        new SlashCommandData("उपयोगकर्ता", "description");
+    }
+    
+    @Test
+    void slashCommandDataBuilderShouldBuildTheSameTreeAsSetters() {
+        var data = new SlashCommandDataBuilder("admin", "admin commands")
+                .addNameLocalization(DiscordLocale.FRENCH, "administrateur")
+                .addOption(new SlashCommandOptionDataBuilder("user", "user commands", SUBCOMMAND_GROUP)
+                        .addOption(new SlashCommandOptionDataBuilder("ban", "bans a user", SUBCOMMAND)
+                                .addOption(new SlashCommandOptionDataBuilder("target", "the user", USER))
+                                .addOption(new SlashCommandOptionDataBuilder("reason", "the reason", STRING)
+                                        .setRequired(false)
+                                        .addChoice("spam", "spam", Map.of(DiscordLocale.FRENCH, "pourriel"))
+                                        .addChoice("other", "other"))))
+                .build();
+        
+        assertEquals("admin", data.getName());
+        assertEquals(Map.of(DiscordLocale.FRENCH, "administrateur"), data.getNameLocalizations());
+        
+        var ban = data.getOptions().get(0).getOptions().get(0);
+        assertEquals("ban", ban.getName());
+        assertEquals(List.of("target", "reason"), ban.getOptions().stream().map(SlashCommandOptionData::getName).toList());
+        assertFalse(ban.getOptions().get(1).isRequired());
+        assertEquals(STRING, ban.getOptions().get(1).getChoices().get(0).getType());
+        
+        // the built tree still checks its setters against siblings
+        assertThrows(IllegalStateException.class, () -> ban.getOptions().get(1).setName("target"));
+    }
+    
+    @Test
+    void slashCommandDataBuilderShouldRejectInvalidTrees() {
+        assertThrows(IllegalArgumentException.class, () -> new SlashCommandDataBuilder("mewo", "mewo")
+                .addOption(new SlashCommandOptionDataBuilder("one", "one", STRING))
+                .addOption(new SlashCommandOptionDataBuilder("one", "one", STRING))
+                .build());
+        
+        assertThrows(IllegalStateException.class, () -> new SlashCommandDataBuilder("mewo", "mewo")
+                .addOption(new SlashCommandOptionDataBuilder("one", "one", STRING).setRequired(false))
+                .addOption(new SlashCommandOptionDataBuilder("two", "two", STRING))
+                .build());
+        
+        assertThrows(IllegalStateException.class, () -> new SlashCommandDataBuilder("mewo", "mewo")
+                .addOption(new SlashCommandOptionDataBuilder("one", "one", SUBCOMMAND))
+                .addOption(new SlashCommandOptionDataBuilder("two", "two", STRING))
+                .build());
+        
+        assertThrows(IllegalStateException.class, () -> new SlashCommandDataBuilder("mewo", "mewo")
+                .addOption(new SlashCommandOptionDataBuilder("one", "one", INTEGER).addChoice("one", "not a long"))
+                .build());
+        
+        assertThrows(IllegalStateException.class, () -> new SlashCommandDataBuilder("mewo", "mewo")
+                .addOption(new SlashCommandOptionDataBuilder("one", "one", STRING).setIntegerBoundsMin(0L))
+                .build());
+    }
+    
+    @Test
+    void localizationsShouldBeCopiedInLocaleOrder() {
+        var localizations = new HashMap<DiscordLocale, String>();
+        localizations.put(DiscordLocale.VIETNAMESE, "meo");
+        localizations.put(DiscordLocale.DANISH, "mjav");
+        localizations.put(DiscordLocale.FRENCH, "miaou");
+        
+        var data = new SlashCommandData("mewo", "mewo")
+                .setNameLocalizations(localizations);
+        localizations.clear();
+        
+        assertEquals(List.of(DiscordLocale.DANISH, DiscordLocale.FRENCH, DiscordLocale.VIETNAMESE),
+                List.copyOf(data.getNameLocalizations().keySet()));
+        assertThrows(UnsupportedOperationException.class, () -> data.getNameLocalizations().clear());
+        
+        localizations.put(DiscordLocale.FRENCH, null);
+        assertThrows(NullPointerException.class, () -> data.setDescriptionLocalizations(localizations));
+    }
+    
+    @Test
+    void slashCommandDataCodecShouldRoundTrip() {
+        var commands = List.of(
+                new SlashCommandDataBuilder("admin", "admin \"commands\"\n")
+                        .addDescriptionLocalization(DiscordLocale.FRENCH, "commandes d'administration")
+                        .addOption(new SlashCommandOptionDataBuilder("ban", "bans a user", SUBCOMMAND)
+                                .addOption(new SlashCommandOptionDataBuilder("days", "days", INTEGER)
+                                        .setIntegerBoundsMin(0L)
+                                        .addChoice("one", 1L))
+                                .addOption(new SlashCommandOptionDataBuilder("factor", "factor", NUMBER)
+                                        .setRequired(false)
+                                        .addChoice("half", 0.5)))
+                        .build(),
+                new SlashCommandData("ping", "pong"));
+        
+        var json = SlashCommandDataCodec.toJson(commands);
+        
+        assertEquals(json, SlashCommandDataCodec.toJson(SlashCommandDataCodec.fromJson(json, true)));
+        assertEquals(json, SlashCommandDataCodec.toJson(SlashCommandDataCodec.fromJson(json, false)));
+        assertEquals(json, SlashCommandDataCodec.toJson(SlashCommandDataCodec.fromBinary(SlashCommandDataCodec.toBinary(commands), true)));
+        assertEquals(json, SlashCommandDataCodec.toJson(SlashCommandDataCodec.fromBinary(SlashCommandDataCodec.toBinary(commands), false)));
+    }
+    
+    @Test
+    void slashCommandDataCodecShouldValidateUntrustedInput() {
+        var json = "[{\"name\": \"Mewo\", \"description\": \"mewo\"}]";
+        
+        assertEquals("Mewo", SlashCommandDataCodec.fromJson(json, true).get(0).getName());
+        assertThrows(IllegalArgumentException.class, () -> SlashCommandDataCodec.fromJson(json, false));
+        assertThrows(IllegalArgumentException.class, () -> SlashCommandDataCodec.fromJson("[{\"name\": \"mewo\"}]", true));
+    }
+    
+    @Test
+    void slashCommandDataCodecShouldRejectOversizedBinaryInput() throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        var out = new DataOutputStream(bytes);
+        out.writeInt(0x44425343);
+        out.writeByte(1);
+        out.writeInt(Integer.MAX_VALUE);
+        
+        var e = assertThrows(IllegalArgumentException.class, () -> SlashCommandDataCodec.fromBinary(bytes.toByteArray(), false));
+        assertTrue(e.getMessage().contains("offset 9"), e.getMessage());
+        // trusted input isn't capped, but only allocates for commands actually read
+        assertThrows(IllegalArgumentException.class, () -> SlashCommandDataCodec.fromBinary(bytes.toByteArray(), true));
+        
+        bytes.reset();
+        out.writeInt(0x44425343);
+        out.writeByte(1);
+        out.writeInt(1);
+        out.writeUTF("mewo");
+        out.writeUTF("mewo");
+        out.writeByte(0);
+        out.writeByte(0);
+        out.writeByte(0);
+        for (int i = 0; i < 100_000; i++) {
+            out.writeByte(1);
+            out.writeUTF("mewo");
+            out.writeUTF("mewo");
+            out.writeByte(0);
+            out.writeByte(0);
+            out.writeUTF("SUBCOMMAND_GROUP");
+            out.writeByte(0);
+            out.writeByte(0);
+            out.writeByte(0);
+        }
+        out.writeByte(0);
+        
+        assertThrows(IllegalArgumentException.class, () -> SlashCommandDataCodec.fromBinary(bytes.toByteArray(), false));
+        assertThrows(IllegalArgumentException.class, () -> SlashCommandDataCodec.fromBinary(bytes.toByteArray(), true));
+        
+        var truncated = SlashCommandDataCodec.toBinary(List.of(new SlashCommandData("ping", "pong")));
+        var eof = assertThrows(IllegalArgumentException.class,
+                () -> SlashCommandDataCodec.fromBinary(Arrays.copyOf(truncated, truncated.length - 1), true));
+        assertTrue(eof.getMessage().contains("offset"), eof.getMessage());
+    }
+    
+    @Test
+    void slashCommandDataCodecShouldRejectOversizedJsonInput() {
+        var options = new StringBuilder();
+        for (int i = 0; i < 26; i++)
+            options.append((i == 0) ? "" : ",").append(String.format("{\"name\": \"o%s\", \"description\": \"o\", \"type\": \"STRING\"}", i));
+        var json = String.format("[{\"name\": \"mewo\", \"description\": \"mewo\", \"options\": [%s]}]", options);
+        
+        assertThrows(IllegalArgumentException.class, () -> SlashCommandDataCodec.fromJson(json, true));
+        
+        var nested = "{\"name\": \"o\", \"description\": \"o\", \"type\": \"SUBCOMMAND_GROUP\", \"options\": [%s]}";
+        var option = "";
+        for (int i = 0; i < 4; i++)
+            option = String.format(nested, option);
+        var deep = String.format("[{\"name\": \"mewo\", \"description\": \"mewo\", \"options\": [%s]}]", option);
+        
+        assertThrows(IllegalArgumentException.class, () -> SlashCommandDataCodec.fromJson(deep, true));
+    }
+    
+    @Test
+    void slashCommandInternerShouldShareIdenticalSubtrees() {
+        var interner = new SlashCommandInterner();
+        
+        var first = interner.intern(new SlashCommandDataBuilder("mewo", "mewo")
+                .addOption(new SlashCommandOptionDataBuilder("one", "one", STRING).addChoice("a", "a"))
+                .addOption(new SlashCommandOptionDataBuilder("two", "two", STRING).addChoice("b", "b"))
+                .build());
+        var second = interner.intern(new SlashCommandDataBuilder("mewo", "mewo")
+                .addOption(new SlashCommandOptionDataBuilder("one", "one", STRING).addChoice("a", "a"))
+                .addOption(new SlashCommandOptionDataBuilder("two", "two", STRING).addChoice("c", "c"))
+                .build());
+        
+        assertSame(first.options().get(0), second.options().get(0));
+        assertNotSame(first.options().get(1), second.options().get(1));
+        
+        var modified = interner.intern(second.withOptions(List.of(second.options().get(0), first.options().get(1))));
+        assertSame(first, modified);
+        assertEquals(SlashCommandDataCodec.toJson(List.of(first.toData())), SlashCommandDataCodec.toJson(List.of(modified.toData())));
+    }
 }
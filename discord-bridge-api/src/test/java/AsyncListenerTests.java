@@ -0,0 +1,137 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandDataBuilder;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandOptionChoiceData;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandOptionDataBuilder;
+import canaryprism.discordbridge.api.listener.interaction.AsyncSlashCommandAutocompleteListener;
+import canaryprism.discordbridge.api.listener.interaction.AsyncSlashCommandInvokeListener;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
+import canaryprism.discordbridge.api.metrics.HistogramMetricsRecorder;
+import canaryprism.discordbridge.identity.memory.SyntheticOption;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static canaryprism.discordbridge.api.interaction.slash.SlashCommandOptionType.STRING;
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests for [AsyncSlashCommandInvokeListener] and [AsyncSlashCommandAutocompleteListener], through the identity bridge
+public class AsyncListenerTests {
+    
+    private final HistogramMetricsRecorder recorder = new HistogramMetricsRecorder();
+    
+    private final TestDiscord discord = new TestDiscord(
+            new SlashCommandDataBuilder("ping", "pong").build(),
+            new SlashCommandDataBuilder("search", "searches")
+                    .addOption(new SlashCommandOptionDataBuilder("query", "the query", STRING)
+                            .setAutocompletable(true))
+                    .build());
+    
+    {
+        BridgeMetrics.setRecorder(recorder);
+    }
+    
+    @AfterEach
+    void resetRecorder() {
+        BridgeMetrics.setRecorder(null);
+    }
+    
+    private long listenerCount(Object listener) {
+        var times = recorder.getListenerTimes().get(listener.getClass().getName());
+        return (times == null) ? 0 : times.getCount();
+    }
+    
+    @Test
+    void stagesCompletingLaterShouldBeTimedUntilTheyComplete() throws InterruptedException {
+        var stage = new CompletableFuture<Void>();
+        AsyncSlashCommandInvokeListener listener = (e) -> stage.thenCompose((ignored) -> e.getSlashCommandInteraction()
+                .createImmediateResponder()
+                .setContent("pong")
+                .respond());
+        discord.api.addAsyncSlashCommandInvokeListener(listener);
+        
+        // returns as soon as the listener has returned its stage
+        var id = discord.invoke("ping");
+        assertTrue(discord.responsesTo(id).isEmpty());
+        assertEquals(0, listenerCount(listener));
+        
+        Thread.sleep(50);
+        stage.complete(null);
+        
+        assertEquals("pong", discord.responsesTo(id).get(0).content());
+        assertEquals(1, listenerCount(listener));
+        var elapsed = recorder.getListenerTimes().get(listener.getClass().getName()).getMaxNanos();
+        assertTrue(elapsed >= TimeUnit.MILLISECONDS.toNanos(50), () -> String.format("timed %s ns", elapsed));
+    }
+    
+    @Test
+    void stagesCompletingExceptionallyShouldBeTimedAndNotThrown() {
+        var stage = new CompletableFuture<Void>();
+        AsyncSlashCommandInvokeListener listener = (e) -> stage;
+        discord.api.addAsyncSlashCommandInvokeListener(listener);
+        
+        discord.invoke("ping");
+        stage.completeExceptionally(new IllegalStateException("failed later"));
+        
+        assertEquals(1, listenerCount(listener));
+        // the failure is only logged, later invocations are still dispatched
+        discord.invoke("ping");
+        assertEquals(2, listenerCount(listener));
+    }
+    
+    @Test
+    void listenersReturningNullShouldThrow() {
+        AsyncSlashCommandInvokeListener listener = (e) -> null;
+        discord.api.addAsyncSlashCommandInvokeListener(listener);
+        
+        assertThrows(NullPointerException.class, () -> discord.invoke("ping"));
+        assertEquals(1, listenerCount(listener));
+    }
+    
+    @Test
+    void asynchronousAutocompletesShouldSuggestWhenTheirStageCompletes() {
+        var stage = new CompletableFuture<List<SlashCommandOptionChoiceData>>();
+        AsyncSlashCommandAutocompleteListener listener = (e) -> stage.thenCompose((choices) -> e.getSlashCommandAutocompleteInteraction()
+                .suggest(choices));
+        discord.api.addAsyncSlashCommandAutocompleteListener(listener);
+        
+        var id = discord.autocomplete("search", SyntheticOption.focused("query", STRING, "me"));
+        assertTrue(discord.responsesTo(id).isEmpty());
+        
+        stage.complete(List.of(new SlashCommandOptionChoiceData("mewo", "mewo")));
+        
+        var responses = discord.responsesTo(id);
+        assertEquals(1, responses.size());
+        assertEquals("mewo", responses.get(0).choices().get(0).getName());
+        assertEquals(1, listenerCount(listener));
+    }
+    
+    @Test
+    void removedAsynchronousListenersShouldNotBeCalled() {
+        AsyncSlashCommandInvokeListener listener = (e) -> CompletableFuture.completedFuture(null);
+        discord.api.addAsyncSlashCommandInvokeListener(listener);
+        discord.invoke("ping");
+        
+        discord.api.removeAsyncSlashCommandInvokeListener(listener);
+        discord.invoke("ping");
+        
+        assertEquals(1, listenerCount(listener));
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandDataBuilder;
+import canaryprism.discordbridge.api.message.MessageFlag;
+import canaryprism.discordbridge.api.router.AutoDeferPolicy;
+import canaryprism.discordbridge.api.router.DeadlineInteraction;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests for [AutoDeferPolicy]
+public class AutoDeferPolicyTests {
+    
+    private static final Duration BUDGET = Duration.ofMillis(100);
+    
+    private final AtomicReference<DeadlineInteraction> received = new AtomicReference<>();
+    
+    private TestDiscord discord(AutoDeferPolicy policy, long handler_millis) {
+        var discord = new TestDiscord(new SlashCommandDataBuilder("ping", "pong").build());
+        discord.api.addSlashCommandInvokeListener(policy.wrap((e) -> {
+            received.set((DeadlineInteraction) e.getSlashCommandInteraction());
+            sleep(handler_millis);
+            e.getSlashCommandInteraction()
+                    .createImmediateResponder()
+                    .setContent("pong")
+                    .respond()
+                    .join();
+        }));
+        return discord;
+    }
+    
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+    
+    @Test
+    void slowHandlersShouldBeDeferredAndEditTheDeferredResponse() {
+        var policy = new AutoDeferPolicy(BUDGET, true);
+        var discord = discord(policy, BUDGET.toMillis() * 4);
+        
+        var id = discord.invoke("ping");
+        
+        var responses = discord.responsesTo(id);
+        assertEquals(List.of("respondLater", "update"), responses.stream().map((e) -> e.kind()).toList());
+        assertEquals(Set.of(MessageFlag.EPHEMERAL), responses.get(0).flags());
+        assertEquals("pong", responses.get(1).content());
+        assertTrue(received.get().isAutoDeferred());
+        assertEquals(1, policy.getInvocationCount());
+        assertEquals(1, policy.getAutoDeferCount());
+    }
+    
+    @Test
+    void fastHandlersShouldRespondWithoutBeingDeferred() {
+        var policy = new AutoDeferPolicy(BUDGET, true);
+        var discord = discord(policy, 0);
+        
+        var id = discord.invoke("ping");
+        // the deferral was scheduled, it must have been cancelled by the response
+        sleep(BUDGET.toMillis() * 3);
+        
+        var responses = discord.responsesTo(id);
+        assertEquals(List.of("respond"), responses.stream().map((e) -> e.kind()).toList());
+        assertEquals("pong", responses.get(0).content());
+        assertFalse(received.get().isAutoDeferred());
+        assertEquals(1, policy.getInvocationCount());
+        assertEquals(0, policy.getAutoDeferCount());
+    }
+    
+    @Test
+    void deadlineShouldMoveToTheTokenLifetimeOnceResponded() {
+        var policy = new AutoDeferPolicy(BUDGET, false);
+        var discord = discord(policy, 0);
+        
+        discord.invoke("ping");
+        
+        var left = received.get().getTimeUntilDeadline();
+        assertTrue(left.compareTo(DeadlineInteraction.RESPONSE_DEADLINE) > 0, left.toString());
+        assertTrue(left.compareTo(DeadlineInteraction.TOKEN_LIFETIME) <= 0, left.toString());
+    }
+    
+    @Test
+    void budgetsOutsideTheResponseDeadlineShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new AutoDeferPolicy(Duration.ofMillis(-1), false));
+        assertThrows(IllegalArgumentException.class, () -> new AutoDeferPolicy(DeadlineInteraction.RESPONSE_DEADLINE, false));
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandDataBuilder;
+import canaryprism.discordbridge.api.listener.interaction.AsyncSlashCommandInvokeListener;
+import canaryprism.discordbridge.api.listener.interaction.SlashCommandInvokeListener;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
+import canaryprism.discordbridge.api.metrics.HistogramMetricsRecorder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests for [BridgeMetrics] and [HistogramMetricsRecorder]
+public class BridgeMetricsTests {
+    
+    private final HistogramMetricsRecorder recorder = new HistogramMetricsRecorder();
+    
+    {
+        BridgeMetrics.setRecorder(recorder);
+    }
+    
+    @AfterEach
+    void resetRecorder() {
+        BridgeMetrics.setRecorder(null);
+    }
+    
+    private static TestDiscord discord() {
+        return new TestDiscord(new SlashCommandDataBuilder("ping", "pong").build());
+    }
+    
+    @Test
+    void bridgesShouldReportEventsListenersResponsesAndRestCalls() {
+        var discord = discord();
+        SlashCommandInvokeListener listener = (e) -> e.getSlashCommandInteraction()
+                .createImmediateResponder()
+                .setContent("pong")
+                .respond();
+        discord.api.addSlashCommandInvokeListener(listener);
+        
+        discord.invoke("ping");
+        discord.invoke("ping");
+        
+        assertEquals(2, recorder.getWrapTimes().get("SlashCommandInvokeEvent").getCount());
+        assertEquals(2, recorder.getListenerTimes().get(listener.getClass().getName()).getCount());
+        assertEquals(2, recorder.getResponseTimes().get("respond").getCount());
+        assertEquals(1, recorder.getRestCallTimes().get("DiscordApi.bulkUpdateGlobalCommands").getCount());
+        assertEquals(0, recorder.getFailureCount("respond"));
+    }
+    
+    @Test
+    void asynchronousListenersShouldBeTimedUntilTheirStageCompletes() {
+        var discord = discord();
+        var stage = new CompletableFuture<Void>();
+        AsyncSlashCommandInvokeListener listener = (e) -> stage;
+        discord.api.addAsyncSlashCommandInvokeListener(listener);
+        
+        discord.invoke("ping");
+        assertNull(recorder.getListenerTimes().get(listener.getClass().getName()));
+        
+        stage.complete(null);
+        assertEquals(1, recorder.getListenerTimes().get(listener.getClass().getName()).getCount());
+    }
+    
+    @Test
+    void failedRestCallsShouldBeCounted() {
+        var discord = discord();
+        var bridge = discord.api.getBridge();
+        
+        var failed = BridgeMetrics.restCall(bridge, "Test.fail", () -> CompletableFuture.failedFuture(new IllegalStateException()));
+        assertTrue(failed.isCompletedExceptionally());
+        assertThrows(IllegalStateException.class, () -> BridgeMetrics.restCall(bridge, "Test.throw", () -> {
+            throw new IllegalStateException();
+        }));
+        var pending = BridgeMetrics.restCall(bridge, "Test.pending", CompletableFuture::new);
+        
+        assertEquals(1, recorder.getFailureCount("Test.fail"));
+        assertEquals(1, recorder.getFailureCount("Test.throw"));
+        assertNull(recorder.getRestCallTimes().get("Test.pending"));
+        pending.complete(null);
+        assertEquals(0, recorder.getFailureCount("Test.pending"));
+        assertEquals(1, recorder.getRestCallTimes().get("Test.pending").getCount());
+    }
+    
+    @Test
+    void nothingShouldBeRecordedOnceTheRecorderIsRemoved() {
+        BridgeMetrics.setRecorder(null);
+        var discord = discord();
+        discord.invoke("ping");
+        
+        assertTrue(recorder.getWrapTimes().isEmpty());
+        assertTrue(recorder.getRestCallTimes().isEmpty());
+        assertNotSame(recorder, BridgeMetrics.recorder());
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+import canaryprism.discordbridge.api.DiscordBridge;
+import canaryprism.discordbridge.api.interaction.response.CoalescingFollowupResponder;
+import canaryprism.discordbridge.api.interaction.response.CoalescingResponseUpdater;
+import canaryprism.discordbridge.api.interaction.response.FollowupResponder;
+import canaryprism.discordbridge.api.interaction.response.ResponseUpdater;
+import canaryprism.discordbridge.api.message.MessageFlag;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests for [CoalescingResponseUpdater] and [CoalescingFollowupResponder]
+public class CoalescingResponseTests {
+    
+    /// An edit sent to a fake responder
+    private record Edit(String target, String content, EnumSet<MessageFlag> flags, long nanos, CompletableFuture<Object> future) {}
+    
+    /// The edits received by a fake responder, left in flight until the test completes them
+    private static final class Edits {
+        
+        private final LinkedBlockingQueue<Edit> edits = new LinkedBlockingQueue<>();
+        
+        CompletableFuture<Object> add(String target, String content, EnumSet<MessageFlag> flags) {
+            var edit = new Edit(target, content, EnumSet.copyOf(flags), System.nanoTime(), new CompletableFuture<>());
+            edits.add(edit);
+            return edit.future();
+        }
+        
+        Edit next() throws InterruptedException {
+            var edit = edits.poll(5, TimeUnit.SECONDS);
+            assertNotNull(edit, "no edit was sent");
+            return edit;
+        }
+        
+        void assertIdle(long millis) throws InterruptedException {
+            var edit = edits.poll(millis, TimeUnit.MILLISECONDS);
+            assertNull(edit, () -> "unexpected edit " + edit);
+        }
+    }
+    
+    private static final class FakeUpdater implements ResponseUpdater {
+        
+        private final Edits edits;
+        private String content;
+        private EnumSet<MessageFlag> flags = EnumSet.noneOf(MessageFlag.class);
+        
+        FakeUpdater(Edits edits) {
+            this.edits = edits;
+        }
+        
+        @Override
+        public @NotNull ResponseUpdater setContent(@NotNull String text) {
+            this.content = text;
+            return this;
+        }
+        
+        @Override
+        public @NotNull ResponseUpdater setFlags(EnumSet<MessageFlag> flags) {
+            this.flags = EnumSet.copyOf(flags);
+            return this;
+        }
+        
+        @Override
+        public @NotNull CompletableFuture<?> update() {
+            return edits.add("original", content, flags);
+        }
+        
+        @Override
+        public @NotNull Object getImplementation() {
+            return this;
+        }
+        
+        @Override
+        public @NotNull DiscordBridge getBridge() {
+            throw new UnsupportedOperationException();
+        }
+    }
+    
+    private static final class FakeFollowupResponder implements FollowupResponder {
+        
+        private final Edits edits;
+        private String content;
+        private EnumSet<MessageFlag> flags = EnumSet.noneOf(MessageFlag.class);
+        
+        FakeFollowupResponder(Edits edits) {
+            this.edits = edits;
+        }
+        
+        @Override
+        public @NotNull FollowupResponder setContent(@NotNull String text) {
+            this.content = text;
+            return this;
+        }
+        
+        @Override
+        public @NotNull FollowupResponder setFlags(EnumSet<MessageFlag> flags) {
+            this.flags = EnumSet.copyOf(flags);
+            return this;
+        }
+        
+        @Override
+        public @NotNull CompletableFuture<?> send() {
+            return edits.add("new", content, flags);
+        }
+        
+        @Override
+        public @NotNull CompletableFuture<?> update(long message_id) {
+            return edits.add(Long.toString(message_id), content, flags);
+        }
+        
+        @Override
+        public @NotNull Object getImplementation() {
+            return this;
+        }
+        
+        @Override
+        public @NotNull DiscordBridge getBridge() {
+            throw new UnsupportedOperationException();
+        }
+    }
+    
+    @Test
+    void updatesMadeWhileAnEditIsInFlightShouldBeMergedIntoOne() throws InterruptedException {
+        var edits = new Edits();
+        var updater = new FakeUpdater(edits).coalescing(1000);
+        
+        var first = updater.setContent("1").update();
+        var edit = edits.next();
+        assertEquals("1", edit.content());
+        
+        var second = updater.setContent("2").update();
+        var third = updater.setContent("3").setFlags(MessageFlag.EPHEMERAL).update();
+        var fourth = updater.setContent("4").update();
+        // replaced before being sent
+        assertTrue(second.isDone());
+        assertTrue(third.isDone());
+        assertFalse(fourth.isDone());
+        // nothing else is sent while the first edit is in flight
+        edits.assertIdle(50);
+        assertFalse(first.isDone());
+        
+        edit.future().complete("sent 1");
+        assertEquals("sent 1", first.join());
+        
+        edit = edits.next();
+        assertEquals("4", edit.content());
+        assertEquals(EnumSet.of(MessageFlag.EPHEMERAL), edit.flags());
+        assertFalse(fourth.isDone());
+        edit.future().complete("sent 4");
+        assertEquals("sent 4", fourth.join());
+        edits.assertIdle(50);
+    }
+    
+    @Test
+    void editsShouldBeSpacedByTheRate() throws InterruptedException {
+        var edits = new Edits();
+        var updater = new FakeUpdater(edits).coalescing(5);
+        
+        updater.setContent("1").update();
+        var first = edits.next();
+        first.future().complete(null);
+        updater.setContent("2").update();
+        var second = edits.next();
+        
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(second.nanos() - first.nanos()) >= 190,
+                () -> String.format("edits were %s ms apart", TimeUnit.NANOSECONDS.toMillis(second.nanos() - first.nanos())));
+    }
+    
+    @Test
+    void failedEditsShouldFailTheirFutureAndNotStopLaterEdits() throws InterruptedException {
+        var edits = new Edits();
+        var updater = new FakeUpdater(edits).coalescing(1000);
+        
+        var failed = updater.setContent("1").update();
+        edits.next().future().completeExceptionally(new IllegalStateException("unknown message"));
+        var exception = assertThrows(CompletionException.class, failed::join);
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+        
+        var next = updater.setContent("2").update();
+        var edit = edits.next();
+        assertEquals("2", edit.content());
+        edit.future().complete(null);
+        assertDoesNotThrow(next::join);
+    }
+    
+    @Test
+    void followupMessagesShouldBeCoalescedSeparately() throws InterruptedException {
+        var edits = new Edits();
+        var responder = new FakeFollowupResponder(edits).coalescing(1000);
+        
+        responder.setContent("a1").update(1);
+        var first = edits.next();
+        responder.setContent("b1").update(2);
+        // the edit of message 1 being in flight doesn't hold back message 2
+        var second = edits.next();
+        assertEquals("1", first.target());
+        assertEquals("2", second.target());
+        assertEquals("b1", second.content());
+        
+        responder.setContent("a2").update(1);
+        responder.setContent("a3").update(1);
+        // new messages aren't coalesced
+        responder.setContent("new").send();
+        var sent = edits.next();
+        assertEquals("new", sent.target());
+        assertEquals("new", sent.content());
+        
+        first.future().complete(null);
+        var merged = edits.next();
+        assertEquals("1", merged.target());
+        assertEquals("a3", merged.content());
+    }
+    
+    @Test
+    void invalidRatesShouldThrow() {
+        var edits = new Edits();
+        assertThrows(IllegalArgumentException.class, () -> new FakeUpdater(edits).coalescing(0));
+        assertThrows(IllegalArgumentException.class, () -> new FakeUpdater(edits).coalescing(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> new FakeFollowupResponder(edits).coalescing(Double.POSITIVE_INFINITY));
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandDataBuilder;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandOptionChoiceData;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandOptionDataBuilder;
+import canaryprism.discordbridge.api.message.MessageFlag;
+import canaryprism.discordbridge.api.router.DispatchLanes;
+import canaryprism.discordbridge.api.router.DispatchLanes.Lane;
+import canaryprism.discordbridge.identity.memory.RecordedResponse;
+import canaryprism.discordbridge.identity.memory.SyntheticOption;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static canaryprism.discordbridge.api.interaction.slash.SlashCommandOptionType.STRING;
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests for [DispatchLanes]
+public class DispatchLanesTests {
+    
+    private final DispatchLanes lanes = new DispatchLanes(1, 1);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    
+    private final TestDiscord discord = new TestDiscord(
+            new SlashCommandDataBuilder("search", "searches")
+                    .addOption(new SlashCommandOptionDataBuilder("query", "the query", STRING)
+                            .setAutocompletable(true))
+                    .build(),
+            new SlashCommandDataBuilder("ping", "pong").build());
+    
+    {
+        // invocations and autocompletes of "block" hold their lane until released
+        discord.api.addSlashCommandInvokeListener(lanes.wrapInvoke((e) -> {
+            var interaction = e.getSlashCommandInteraction();
+            if (interaction.getCommandName().equals("ping"))
+                block();
+            interaction.createImmediateResponder()
+                    .setContent("pong")
+                    .respond();
+        }));
+        discord.api.addSlashCommandAutocompleteListener(lanes.wrapAutocomplete((e) -> {
+            var interaction = e.getSlashCommandAutocompleteInteraction();
+            var query = interaction.getTargetOption().getValue(String.class).orElseThrow();
+            if (query.equals("block"))
+                block();
+            interaction.suggest(List.of(new SlashCommandOptionChoiceData(query, query)));
+        }));
+    }
+    
+    private void block() {
+        started.countDown();
+        try {
+            assertTrue(release.await(5, TimeUnit.SECONDS), "listener was never released");
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+    
+    private void awaitStarted() throws InterruptedException {
+        assertTrue(started.await(5, TimeUnit.SECONDS), "listener never started");
+    }
+    
+    private List<RecordedResponse> await(long interaction_id) throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            var responses = discord.responsesTo(interaction_id);
+            if (!responses.isEmpty())
+                return responses;
+            Thread.sleep(5);
+        }
+        return fail("interaction was never responded to");
+    }
+    
+    private long search(String query) {
+        return discord.autocomplete("search", SyntheticOption.focused("query", STRING, query));
+    }
+    
+    @AfterEach
+    void close() {
+        release.countDown();
+        lanes.close();
+    }
+    
+    @Test
+    void autocompletesShouldNotWaitBehindInvocations() throws InterruptedException {
+        var invocation = discord.invoke("ping");
+        awaitStarted();
+        
+        var autocomplete = search("mewo");
+        var suggestions = await(autocomplete);
+        assertEquals("suggest", suggestions.get(0).kind());
+        assertEquals("mewo", suggestions.get(0).choices().get(0).getName());
+        assertTrue(discord.responsesTo(invocation).isEmpty());
+        
+        release.countDown();
+        assertEquals("pong", await(invocation).get(0).content());
+    }
+    
+    @Test
+    void queuedAutocompletesShouldBeSupersededByNewerOnes() throws InterruptedException {
+        var blocking = search("block");
+        awaitStarted();
+        var superseded = search("me");
+        var latest = search("mewo");
+        
+        release.countDown();
+        await(blocking);
+        assertEquals("mewo", await(latest).get(0).choices().get(0).getName());
+        assertTrue(discord.responsesTo(superseded).isEmpty());
+        assertEquals(1, lanes.getStats(Lane.AUTOCOMPLETE).superseded());
+    }
+    
+    @Test
+    void eventsSubmittedAfterCloseShouldBeShed() {
+        lanes.setBusyMessage("closed");
+        lanes.close();
+        
+        var invocation = discord.invoke("ping");
+        var autocomplete = search("mewo");
+        
+        var responses = discord.responsesTo(invocation);
+        assertEquals(1, responses.size());
+        assertEquals("closed", responses.get(0).content());
+        responses = discord.responsesTo(autocomplete);
+        assertEquals(1, responses.size());
+        assertEquals("suggest", responses.get(0).kind());
+        assertTrue(responses.get(0).choices().isEmpty());
+        
+        for (var lane : Lane.values()) {
+            var stats = lanes.getStats(lane);
+            assertEquals(1, stats.shed());
+            assertEquals(0, stats.queued());
+            assertEquals(0, stats.completed());
+        }
+    }
+    
+    @Test
+    void invocationsAboveTheHighWaterMarkShouldBeShed() throws InterruptedException {
+        lanes.setHighWaterMark(Lane.INVOKE, 1)
+                .setBusyMessage("busy");
+        
+        var running = discord.invoke("ping");
+        awaitStarted();
+        var queued = discord.invoke("ping");
+        var shed = discord.invoke("ping");
+        
+        // shed on the submitting thread, before the lane drains
+        var responses = discord.responsesTo(shed);
+        assertEquals(1, responses.size());
+        assertEquals("respond", responses.get(0).kind());
+        assertEquals("busy", responses.get(0).content());
+        assertEquals(Set.of(MessageFlag.EPHEMERAL), responses.get(0).flags());
+        
+        var stats = lanes.getStats(Lane.INVOKE);
+        assertEquals(3, stats.submitted());
+        assertEquals(1, stats.shed());
+        assertEquals(1, stats.queued());
+        
+        release.countDown();
+        assertEquals("pong", await(running).get(0).content());
+        assertEquals("pong", await(queued).get(0).content());
+    }
+    
+    @Test
+    void autocompletesAboveTheHighWaterMarkShouldBeShed() throws InterruptedException {
+        lanes.setHighWaterMark(Lane.AUTOCOMPLETE, 1);
+        
+        var running = search("block");
+        awaitStarted();
+        // from other users, so they don't supersede each other
+        var queued = discord.autocomplete(TestDiscord.USER_ID + 1, "search", SyntheticOption.focused("query", STRING, "mewo"));
+        var shed = discord.autocomplete(TestDiscord.USER_ID + 2, "search", SyntheticOption.focused("query", STRING, "mrrp"));
+        
+        var responses = discord.responsesTo(shed);
+        assertEquals(1, responses.size());
+        assertEquals("suggest", responses.get(0).kind());
+        assertTrue(responses.get(0).choices().isEmpty());
+        assertEquals(1, lanes.getStats(Lane.AUTOCOMPLETE).shed());
+        assertEquals(0, lanes.getStats(Lane.INVOKE).shed());
+        
+        release.countDown();
+        await(running);
+        assertEquals("mewo", await(queued).get(0).choices().get(0).getName());
+    }
+    
+    @Test
+    void shedInvocationsShouldNotBeAnsweredWithoutABusyMessage() throws InterruptedException {
+        lanes.setHighWaterMark(Lane.INVOKE, 1)
+                .setBusyMessage(null);
+        
+        discord.invoke("ping");
+        awaitStarted();
+        discord.invoke("ping");
+        var shed = discord.invoke("ping");
+        
+        assertEquals(1, lanes.getStats(Lane.INVOKE).shed());
+        assertTrue(discord.responsesTo(shed).isEmpty());
+    }
+    
+    @Test
+    void lanesShouldShedNothingWithoutAHighWaterMark() throws InterruptedException {
+        discord.invoke("ping");
+        awaitStarted();
+        for (int i = 0; i < 100; i++)
+            discord.invoke("ping");
+        
+        var stats = lanes.getStats(Lane.INVOKE);
+        assertEquals(0, stats.shed());
+        assertEquals(100, stats.queued());
+        assertThrows(IllegalArgumentException.class, () -> lanes.setHighWaterMark(Lane.INVOKE, 0));
+    }
+}
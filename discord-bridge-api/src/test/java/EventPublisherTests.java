@@ -0,0 +1,240 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+import canaryprism.discordbridge.api.DiscordBridge;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandDataBuilder;
+import canaryprism.discordbridge.api.event.Event;
+import canaryprism.discordbridge.api.event.interaction.SlashCommandInvokeEvent;
+import canaryprism.discordbridge.api.event.stream.EventPublisher;
+import canaryprism.discordbridge.api.event.stream.OverflowStrategy;
+import canaryprism.discordbridge.api.message.MessageFlag;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests for [EventPublisher] and its subscriptions
+public class EventPublisherTests {
+    
+    private record Numbered(int thread, int number) implements Event {
+        
+        @Override
+        public @NotNull Object getImplementation() {
+            return this;
+        }
+        
+        @Override
+        public @NotNull DiscordBridge getBridge() {
+            throw new UnsupportedOperationException();
+        }
+    }
+    
+    /// A source with a single sink at a time, recording whether it's attached
+    private static final class Source implements EventPublisher.Source<Numbered> {
+        
+        volatile Consumer<? super Numbered> sink;
+        final AtomicBoolean attached = new AtomicBoolean();
+        
+        @Override
+        public @NotNull Runnable attach(@NotNull Consumer<? super Numbered> sink) {
+            this.sink = sink;
+            attached.set(true);
+            return () -> attached.set(false);
+        }
+        
+        void emit(int... numbers) {
+            for (var number : numbers)
+                sink.accept(new Numbered(0, number));
+        }
+    }
+    
+    /// A subscriber recording what it's given, and whether it was ever given two events at once
+    private static final class Recorder<E> implements Flow.Subscriber<E> {
+        
+        final List<E> events = Collections.synchronizedList(new ArrayList<>());
+        final AtomicInteger in_flight = new AtomicInteger();
+        volatile boolean overlapped;
+        volatile Flow.Subscription subscription;
+        volatile Throwable error;
+        
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+        
+        @Override
+        public void onNext(E item) {
+            if (in_flight.getAndIncrement() != 0)
+                overlapped = true;
+            events.add(item);
+            in_flight.decrementAndGet();
+        }
+        
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+        
+        @Override
+        public void onComplete() {
+            fail("event streams never complete");
+        }
+        
+        List<Integer> numbers() {
+            synchronized (events) {
+                return events.stream()
+                        .map((e) -> ((Numbered) e).number())
+                        .toList();
+            }
+        }
+    }
+    
+    private static Recorder<Numbered> subscribe(Source source, OverflowStrategy overflow) {
+        var recorder = new Recorder<Numbered>();
+        new EventPublisher<>(overflow, source).subscribe(recorder);
+        return recorder;
+    }
+    
+    @Test
+    void eventsShouldBeBufferedUntilRequested() {
+        var source = new Source();
+        var recorder = subscribe(source, OverflowStrategy.buffer());
+        
+        source.emit(1, 2, 3);
+        assertEquals(List.of(), recorder.numbers());
+        
+        recorder.subscription.request(2);
+        assertEquals(List.of(1, 2), recorder.numbers());
+        
+        recorder.subscription.request(Long.MAX_VALUE);
+        source.emit(4);
+        assertEquals(List.of(1, 2, 3, 4), recorder.numbers());
+    }
+    
+    @Test
+    void nonPositiveRequestsShouldSignalOnError() {
+        for (var n : new long[] { 0, -1, Long.MIN_VALUE }) {
+            var source = new Source();
+            var recorder = subscribe(source, OverflowStrategy.buffer());
+            source.emit(1);
+            
+            recorder.subscription.request(n);
+            
+            assertInstanceOf(IllegalArgumentException.class, recorder.error);
+            assertFalse(source.attached.get());
+            recorder.subscription.request(1);
+            assertEquals(List.of(), recorder.numbers());
+        }
+    }
+    
+    @Test
+    void cancelledSubscriptionsShouldReceiveNothingMore() {
+        var source = new Source();
+        var recorder = subscribe(source, OverflowStrategy.buffer());
+        recorder.subscription.request(1);
+        source.emit(1, 2, 3);
+        assertEquals(List.of(1), recorder.numbers());
+        
+        recorder.subscription.cancel();
+        assertFalse(source.attached.get());
+        // events already queued and events from a sink that hasn't noticed yet are both discarded
+        source.emit(4);
+        recorder.subscription.request(Long.MAX_VALUE);
+        
+        assertEquals(List.of(1), recorder.numbers());
+        assertNull(recorder.error);
+    }
+    
+    @Test
+    void concurrentSinksShouldDeliverOneEventAtATime() throws InterruptedException {
+        var source = new Source();
+        var recorder = subscribe(source, OverflowStrategy.buffer());
+        recorder.subscription.request(Long.MAX_VALUE);
+        
+        var threads = 4;
+        var per_thread = 20_000;
+        var start = new CountDownLatch(1);
+        var workers = new ArrayList<Thread>();
+        for (int i = 0; i < threads; i++) {
+            var thread = i;
+            var worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                for (int j = 0; j < per_thread; j++)
+                    source.sink.accept(new Numbered(thread, j));
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        start.countDown();
+        for (var worker : workers)
+            worker.join();
+        
+        assertFalse(recorder.overlapped, "onNext was called concurrently");
+        assertEquals(threads * per_thread, recorder.events.size());
+        // each sink's events arrive in the order it gave them
+        var next = new int[threads];
+        for (var event : recorder.events) {
+            assertEquals(next[event.thread()], event.number());
+            next[event.thread()]++;
+        }
+    }
+    
+    @Test
+    void dropOldestShouldKeepTheNewestEventsAtCapacity() {
+        var source = new Source();
+        var recorder = subscribe(source, OverflowStrategy.dropOldest(2));
+        
+        source.emit(1, 2, 3, 4, 5);
+        recorder.subscription.request(Long.MAX_VALUE);
+        
+        assertEquals(List.of(4, 5), recorder.numbers());
+    }
+    
+    @Test
+    void rejectShouldAnswerEventsPastCapacityWithTheBusyReply() {
+        var discord = new TestDiscord(new SlashCommandDataBuilder("ping", "pong").build());
+        var recorder = new Recorder<SlashCommandInvokeEvent>();
+        discord.api.events(SlashCommandInvokeEvent.class, OverflowStrategy.reject(1, "busy")).subscribe(recorder);
+        
+        var kept = discord.invoke("ping");
+        var rejected = discord.invoke(TestDiscord.USER_ID + 1, "ping");
+        
+        assertEquals(List.of(), discord.responsesTo(kept));
+        var busy = discord.responsesTo(rejected);
+        assertEquals(1, busy.size());
+        assertEquals("busy", busy.get(0).content());
+        assertEquals(Set.of(MessageFlag.EPHEMERAL), busy.get(0).flags());
+        
+        recorder.subscription.request(Long.MAX_VALUE);
+        assertEquals(1, recorder.events.size());
+        assertEquals(TestDiscord.USER_ID, recorder.events.get(0).getSlashCommandInteraction().getUser().getId());
+        recorder.subscription.cancel();
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandDataBuilder;
+import canaryprism.discordbridge.api.event.interaction.SlashCommandInvokeEvent;
+import canaryprism.discordbridge.api.listener.interaction.SlashCommandInvokeListener;
+import canaryprism.discordbridge.api.metrics.jfr.BlockingJoinEvent;
+import canaryprism.discordbridge.api.metrics.jfr.CommandBulkUpdateEvent;
+import canaryprism.discordbridge.api.metrics.jfr.InteractionDispatchedEvent;
+import canaryprism.discordbridge.api.metrics.jfr.ListenerExecutedEvent;
+import canaryprism.discordbridge.api.metrics.jfr.ResponseSentEvent;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests for the JDK Flight Recorder events of [canaryprism.discordbridge.api.metrics.BridgeMetrics] and the bridges
+public class FlightRecorderEventsTests {
+    
+    private static final String LISTENER_EXECUTED = "canaryprism.discordbridge.ListenerExecuted";
+    private static final String RESPONSE_SENT = "canaryprism.discordbridge.ResponseSent";
+    private static final String COMMAND_BULK_UPDATE = "canaryprism.discordbridge.CommandBulkUpdate";
+    
+    // a named class, as JFR records lambdas under a name other than their class name
+    private static final class PingListener implements SlashCommandInvokeListener {
+        
+        @Override
+        public void onSlashCommandInvoke(SlashCommandInvokeEvent event) {
+            event.getSlashCommandInteraction()
+                    .createImmediateResponder()
+                    .setContent("pong")
+                    .respond();
+        }
+    }
+    
+    private static RecordedEvent next(BlockingQueue<RecordedEvent> events, String name) throws InterruptedException {
+        // the stream is flushed about once a second
+        var event = events.poll(10, TimeUnit.SECONDS);
+        assertNotNull(event, () -> String.format("no %s event was recorded", name));
+        assertEquals(name, event.getEventType().getName());
+        return event;
+    }
+    
+    @Test
+    void eventsShouldBeDisabledByDefault() {
+        for (var event : List.of(new ListenerExecutedEvent(), new ResponseSentEvent(), new CommandBulkUpdateEvent(),
+                new InteractionDispatchedEvent(), new BlockingJoinEvent()))
+            assertFalse(event.isEnabled(), () -> String.format("%s is enabled", event.getClass().getSimpleName()));
+    }
+    
+    @Test
+    void enabledEventsShouldBeRecordedWithTheirFields() throws InterruptedException {
+        var listener_events = new LinkedBlockingQueue<RecordedEvent>();
+        var response_events = new LinkedBlockingQueue<RecordedEvent>();
+        var bulk_update_events = new LinkedBlockingQueue<RecordedEvent>();
+        try (var stream = new RecordingStream()) {
+            stream.enable(LISTENER_EXECUTED).withoutThreshold();
+            stream.enable(RESPONSE_SENT).withoutThreshold();
+            stream.enable(COMMAND_BULK_UPDATE).withoutThreshold();
+            stream.onEvent(LISTENER_EXECUTED, listener_events::add);
+            stream.onEvent(RESPONSE_SENT, response_events::add);
+            stream.onEvent(COMMAND_BULK_UPDATE, bulk_update_events::add);
+            stream.startAsync();
+            
+            var discord = new TestDiscord(new SlashCommandDataBuilder("ping", "pong").build());
+            discord.api.addSlashCommandInvokeListener(new PingListener());
+            discord.invoke("ping");
+            var bridge = discord.api.getBridge().toString();
+            
+            var executed = next(listener_events, LISTENER_EXECUTED);
+            assertEquals(bridge, executed.getString("bridge"));
+            assertEquals("SlashCommandInvokeEvent", executed.getString("event_type"));
+            assertEquals(PingListener.class.getName(), executed.getClass("listener").getName());
+            assertFalse(executed.getBoolean("thrown"));
+            assertFalse(executed.getDuration().isNegative());
+            
+            var response = next(response_events, RESPONSE_SENT);
+            assertEquals(bridge, response.getString("bridge"));
+            assertEquals("respond", response.getString("kind"));
+            assertFalse(response.getBoolean("failed"));
+            
+            var bulk_update = next(bulk_update_events, COMMAND_BULK_UPDATE);
+            assertEquals(bridge, bulk_update.getString("bridge"));
+            assertEquals("DiscordApi.bulkUpdateGlobalCommands", bulk_update.getString("method"));
+            assertEquals(1, bulk_update.getInt("commands"));
+            assertFalse(bulk_update.getBoolean("failed"));
+        }
+    }
+    
+    @Test
+    void listenersThatThrowShouldBeRecordedAsThrown() throws InterruptedException {
+        var listener_events = new LinkedBlockingQueue<RecordedEvent>();
+        try (var stream = new RecordingStream()) {
+            stream.enable(LISTENER_EXECUTED).withoutThreshold();
+            stream.onEvent(LISTENER_EXECUTED, listener_events::add);
+            stream.startAsync();
+            
+            var discord = new TestDiscord(new SlashCommandDataBuilder("ping", "pong").build());
+            discord.api.addSlashCommandInvokeListener((e) -> {
+                throw new IllegalStateException("mewo");
+            });
+            assertThrows(IllegalStateException.class, () -> discord.invoke("ping"));
+            
+            assertTrue(next(listener_events, LISTENER_EXECUTED).getBoolean("thrown"));
+        }
+    }
+}
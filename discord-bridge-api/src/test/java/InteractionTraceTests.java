@@ -0,0 +1,136 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandDataBuilder;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandOptionDataBuilder;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandOptionType;
+import canaryprism.discordbridge.api.trace.InteractionTraceReader;
+import canaryprism.discordbridge.api.trace.InteractionTraceRecorder;
+import canaryprism.discordbridge.api.trace.InteractionTraceWriter;
+import canaryprism.discordbridge.api.trace.TracedArgument;
+import canaryprism.discordbridge.api.trace.TracedInteraction;
+import canaryprism.discordbridge.identity.memory.SyntheticOption;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static canaryprism.discordbridge.api.interaction.slash.SlashCommandOptionType.STRING;
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests for [InteractionTraceWriter], [InteractionTraceReader] and [InteractionTraceRecorder]
+public class InteractionTraceTests {
+    
+    private static final byte[] KEY = "a key of thirty two bytes, 32 ok".getBytes(StandardCharsets.UTF_8);
+    
+    private static TracedInteraction interaction(long time_nanos, TracedArgument... arguments) {
+        return new TracedInteraction(time_nanos, false, List.of("search"), 1, 2L, 3, List.of(arguments));
+    }
+    
+    private static List<TracedInteraction> read(ByteArrayOutputStream bytes) throws IOException {
+        var interactions = new ArrayList<TracedInteraction>();
+        try (var reader = new InteractionTraceReader(new ByteArrayInputStream(bytes.toByteArray()))) {
+            TracedInteraction interaction;
+            while ((interaction = reader.next()) != null)
+                interactions.add(interaction);
+        }
+        return interactions;
+    }
+    
+    @Test
+    void interactionsShouldRoundTrip() throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        var written = List.of(
+                interaction(1000, new TracedArgument("query", STRING, "mewo", true)),
+                new TracedInteraction(500, true, List.of("admin", "user", "ban"), 4, null, 0, List.of(
+                        new TracedArgument("target", SlashCommandOptionType.USER, 5L, false),
+                        new TracedArgument("days", SlashCommandOptionType.INTEGER, -7L, false),
+                        new TracedArgument("ratio", SlashCommandOptionType.NUMBER, 0.5, false),
+                        new TracedArgument("silent", SlashCommandOptionType.BOOLEAN, true, false))),
+                interaction(2000, new TracedArgument("query", STRING, "mewo", false)));
+        try (var writer = new InteractionTraceWriter(bytes)) {
+            for (var interaction : written)
+                writer.write(interaction);
+        }
+        
+        assertEquals(written, read(bytes));
+    }
+    
+    @Test
+    void interactionsThatFailToEncodeShouldLeaveNothingInTheTrace() throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        // too long for writeUTF, and the first interaction, so it would have started the session
+        var too_long = interaction(1000, new TracedArgument("note", STRING, "x".repeat(70_000), false));
+        var fine = interaction(2000, new TracedArgument("note", STRING, "mewo", false));
+        try (var writer = new InteractionTraceWriter(bytes)) {
+            assertThrows(IOException.class, () -> writer.write(too_long));
+            writer.write(fine);
+            assertThrows(IOException.class, () -> writer.write(too_long));
+            writer.write(fine);
+        }
+        
+        assertEquals(List.of(fine, fine), read(bytes));
+    }
+    
+    private static long hmac(byte[] key, long id) throws Exception {
+        var mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(key, "HmacSHA256"));
+        return ByteBuffer.wrap(mac.doFinal(ByteBuffer.allocate(Long.BYTES).putLong(id).array())).getLong();
+    }
+    
+    private static List<TracedInteraction> record(Function<InteractionTraceWriter, InteractionTraceRecorder> recorders) throws IOException {
+        var discord = new TestDiscord(new SlashCommandDataBuilder("search", "searches")
+                .addOption(new SlashCommandOptionDataBuilder("query", "the query", STRING))
+                .build());
+        var bytes = new ByteArrayOutputStream();
+        try (var recorder = recorders.apply(new InteractionTraceWriter(bytes))) {
+            recorder.attach(discord.api);
+            discord.invoke("search", SyntheticOption.argument("query", STRING, "mewo"));
+            discord.invoke(TestDiscord.USER_ID + 1, "search", SyntheticOption.argument("query", STRING, "mrrp"));
+            discord.invoke("search", SyntheticOption.argument("query", STRING, "mewo"));
+            assertEquals(3, recorder.getRecordedCount());
+            assertEquals(0, recorder.getFailureCount());
+        }
+        return read(bytes);
+    }
+    
+    @Test
+    void recordedIdsShouldBeKeyedHashes() throws Exception {
+        var plain = record(InteractionTraceRecorder::new);
+        var hashed = record((writer) -> new InteractionTraceRecorder(writer, KEY));
+        var other_key = record((writer) -> new InteractionTraceRecorder(writer, "another key".getBytes(StandardCharsets.UTF_8)));
+        
+        assertEquals(TestDiscord.USER_ID, plain.get(0).user_id());
+        assertEquals(Long.valueOf(TestDiscord.SERVER_ID), plain.get(0).server_id());
+        assertEquals("mewo", plain.get(0).arguments().get(0).value());
+        
+        assertEquals(hmac(KEY, TestDiscord.USER_ID), hashed.get(0).user_id());
+        assertEquals(Long.valueOf(hmac(KEY, TestDiscord.SERVER_ID)), hashed.get(0).server_id());
+        assertEquals(hmac(KEY, TestDiscord.CHANNEL_ID), hashed.get(0).channel_id());
+        assertEquals(hashed.get(0).user_id(), hashed.get(2).user_id());
+        assertNotEquals(hashed.get(0).user_id(), hashed.get(1).user_id());
+        assertNotEquals(hashed.get(0).user_id(), other_key.get(0).user_id());
+        assertThrows(IllegalArgumentException.class, () -> new InteractionTraceRecorder(new InteractionTraceWriter(new ByteArrayOutputStream()), new byte[0]));
+    }
+}
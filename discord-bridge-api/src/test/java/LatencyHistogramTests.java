@@ -0,0 +1,106 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+import canaryprism.discordbridge.api.metrics.LatencyHistogram;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests for [LatencyHistogram]
+public class LatencyHistogramTests {
+    
+    @Test
+    void emptyHistogramsShouldReadAsZero() {
+        var histogram = new LatencyHistogram();
+        
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMaxNanos());
+        assertEquals(0, histogram.getMeanNanos());
+        assertEquals(0, histogram.getPercentileNanos(99));
+    }
+    
+    @Test
+    void percentilesShouldBeWithinTheBucketResolution() {
+        var histogram = new LatencyHistogram();
+        for (long i = 1; i <= 100_000; i++)
+            histogram.record(i * 1000);
+        
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(100_000_000, histogram.getMaxNanos());
+        assertEquals(50_000_500, histogram.getMeanNanos(), 1e-6);
+        for (var percentile : new double[] { 1, 50, 90, 99, 99.9 }) {
+            var exact = (long) (percentile * 1000 * 1000);
+            var estimate = histogram.getPercentileNanos(percentile);
+            // the upper bound of the bucket is never below the value, and at most 12.5% above it
+            assertTrue(estimate >= exact && estimate <= exact * 1.125,
+                    String.format("p%s is %s, expected %s", percentile, estimate, exact));
+        }
+        assertEquals(100_000_000, histogram.getPercentileNanos(100));
+    }
+    
+    @Test
+    void smallValuesShouldBeExact() {
+        var histogram = new LatencyHistogram();
+        for (long i = 0; i < 8; i++)
+            histogram.record(i);
+        
+        assertEquals(0, histogram.getPercentileNanos(0));
+        assertEquals(3, histogram.getPercentileNanos(50));
+        assertEquals(7, histogram.getPercentileNanos(100));
+    }
+    
+    @Test
+    void extremeValuesShouldBeRecorded() {
+        var histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        
+        assertEquals(2, histogram.getCount());
+        assertEquals(0, histogram.getPercentileNanos(50));
+        assertEquals(Long.MAX_VALUE, histogram.getPercentileNanos(100));
+        assertEquals(Long.MAX_VALUE, histogram.getMaxNanos());
+    }
+    
+    @Test
+    void concurrentRecordsShouldAllBeCounted() throws InterruptedException {
+        var histogram = new LatencyHistogram();
+        var threads = new ArrayList<Thread>();
+        for (int t = 0; t < 4; t++) {
+            var thread = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++)
+                    histogram.record(i);
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        for (var thread : threads)
+            thread.join();
+        
+        assertEquals(40_000, histogram.getCount());
+        assertEquals(4L * (10_000L * 9_999 / 2), histogram.getTotalNanos());
+        assertEquals(9_999, histogram.getMaxNanos());
+    }
+    
+    @Test
+    void invalidPercentilesShouldThrow() {
+        var histogram = new LatencyHistogram();
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentileNanos(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentileNanos(100.5));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentileNanos(Double.NaN));
+    }
+}
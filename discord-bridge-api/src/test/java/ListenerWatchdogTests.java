@@ -0,0 +1,106 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandDataBuilder;
+import canaryprism.discordbridge.api.event.interaction.SlashCommandInvokeEvent;
+import canaryprism.discordbridge.api.listener.interaction.SlashCommandInvokeListener;
+import canaryprism.discordbridge.api.metrics.ListenerWatchdog;
+import canaryprism.discordbridge.api.metrics.SlowListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests for [ListenerWatchdog]
+public class ListenerWatchdogTests {
+    
+    private final BlockingQueue<SlowListener> reported = new LinkedBlockingQueue<>();
+    
+    @AfterEach
+    void resetWatchdog() {
+        ListenerWatchdog.setThreshold(null);
+        ListenerWatchdog.setHandler(null);
+    }
+    
+    private static TestDiscord discord() {
+        return new TestDiscord(new SlashCommandDataBuilder("ping", "pong").build());
+    }
+    
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+    
+    @Test
+    void watchdogShouldBeDisabledByDefault() {
+        assertTrue(ListenerWatchdog.getThreshold().isEmpty());
+        
+        ListenerWatchdog.setHandler(reported::add);
+        var discord = discord();
+        discord.api.addSlashCommandInvokeListener((e) -> sleep(100));
+        discord.invoke("ping");
+        
+        assertTrue(reported.isEmpty());
+    }
+    
+    @Test
+    void slowListenersShouldBeReportedWhileRunning() throws InterruptedException {
+        ListenerWatchdog.setThreshold(Duration.ofMillis(50));
+        ListenerWatchdog.setHandler(reported::add);
+        var discord = discord();
+        SlashCommandInvokeListener listener = (e) -> sleep(500);
+        discord.api.addSlashCommandInvokeListener(listener);
+        
+        discord.invoke("ping");
+        
+        var slow = reported.poll(5, TimeUnit.SECONDS);
+        assertNotNull(slow, "slow listener wasn't reported");
+        assertEquals(SlashCommandInvokeEvent.class, slow.event_type());
+        assertEquals(listener.getClass(), slow.listener_type());
+        assertEquals("ping", slow.command_name());
+        assertEquals(Thread.currentThread().getName(), slow.thread_name());
+        assertTrue(slow.elapsed_nanos() >= TimeUnit.MILLISECONDS.toNanos(50));
+        assertTrue(slow.stack_trace().stream().anyMatch((e) -> e.getMethodName().equals("sleep")), () -> slow.stack_trace().toString());
+        // reported once, not on every tick past the threshold
+        assertNull(reported.poll(100, TimeUnit.MILLISECONDS));
+    }
+    
+    @Test
+    void fastListenersShouldNotBeReported() throws InterruptedException {
+        ListenerWatchdog.setThreshold(Duration.ofMillis(200));
+        ListenerWatchdog.setHandler(reported::add);
+        var discord = discord();
+        discord.api.addSlashCommandInvokeListener((e) -> {});
+        
+        discord.invoke("ping");
+        
+        assertNull(reported.poll(400, TimeUnit.MILLISECONDS));
+    }
+    
+    @Test
+    void nonPositiveThresholdsShouldBeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> ListenerWatchdog.setThreshold(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> ListenerWatchdog.setThreshold(Duration.ofMillis(-1)));
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandDataBuilder;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandOptionDataBuilder;
+import canaryprism.discordbridge.api.message.MessageFlag;
+import canaryprism.discordbridge.api.router.RateLimit;
+import canaryprism.discordbridge.api.router.RateLimiter;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static canaryprism.discordbridge.api.interaction.slash.SlashCommandOptionType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests for [RateLimiter]
+public class RateLimiterTests {
+    
+    private static final Duration HOUR = Duration.ofHours(1);
+    
+    private static final long ALICE = TestDiscord.USER_ID;
+    private static final long BOB = TestDiscord.USER_ID + 1;
+    private static final long CAROL = TestDiscord.USER_ID + 2;
+    
+    private final List<String> admitted = new ArrayList<>();
+    
+    private TestDiscord discord(RateLimiter limiter) {
+        var discord = new TestDiscord(
+                new SlashCommandDataBuilder("admin", "admin commands")
+                        .addOption(new SlashCommandOptionDataBuilder("user", "user commands", SUBCOMMAND_GROUP)
+                                .addOption(new SlashCommandOptionDataBuilder("ban", "bans a user", SUBCOMMAND))
+                                .addOption(new SlashCommandOptionDataBuilder("kick", "kicks a user", SUBCOMMAND)))
+                        .addOption(new SlashCommandOptionDataBuilder("info", "server info", SUBCOMMAND))
+                        .build(),
+                new SlashCommandDataBuilder("ping", "pong").build());
+        discord.api.addSlashCommandInvokeListener(limiter.wrap((e) -> admitted.add(String.format("%s %s",
+                String.join("/", e.getSlashCommandInteraction().getFullCommandName()),
+                e.getSlashCommandInteraction().getUser().getId() - TestDiscord.USER_ID))));
+        return discord;
+    }
+    
+    @Test
+    void rejectedInvocationsShouldNotUseTheTokensOfTheirOtherLimits() {
+        var limiter = new RateLimiter()
+                .limit("ping", RateLimit.perCommand(3, HOUR), RateLimit.perServer(2, HOUR), RateLimit.perUser(1, HOUR))
+                .setRejectionMessage("slow down, try again in %s seconds");
+        var discord = discord(limiter);
+        
+        discord.invoke(ALICE, "ping");
+        // takes from the command and server buckets before the user bucket rejects it
+        var rejected = discord.invoke(ALICE, "ping");
+        discord.invoke(BOB, "ping");
+        // the server bucket is empty now, only because of alice and bob
+        discord.invoke(CAROL, "ping");
+        
+        assertEquals(List.of("ping 0", "ping 1"), admitted);
+        
+        var responses = discord.responsesTo(rejected);
+        assertEquals(1, responses.size());
+        assertEquals("respond", responses.get(0).kind());
+        assertTrue(responses.get(0).content().startsWith("slow down, try again in "), responses.get(0).content());
+        assertEquals(Set.of(MessageFlag.EPHEMERAL), responses.get(0).flags());
+    }
+    
+    @Test
+    void subcommandsShouldShareTheBucketsOfTheirClosestLimitedParent() {
+        var limiter = new RateLimiter()
+                .limit("admin", RateLimit.perUser(1, HOUR))
+                .limit("admin/user/kick", RateLimit.perUser(2, HOUR))
+                .setDefault(RateLimit.perUser(1, HOUR));
+        var discord = discord(limiter);
+        
+        discord.invoke("admin/user/ban");
+        discord.invoke("admin/info");
+        discord.invoke("admin/user/kick");
+        discord.invoke("admin/user/kick");
+        discord.invoke("admin/user/kick");
+        discord.invoke("ping");
+        discord.invoke("ping");
+        
+        assertEquals(List.of("admin/user/ban 0", "admin/user/kick 0", "admin/user/kick 0", "ping 0"), admitted);
+    }
+    
+    @Test
+    void usersShouldHaveSeparateBuckets() {
+        var limiter = new RateLimiter()
+                .setDefault(RateLimit.perUser(1, HOUR));
+        var discord = discord(limiter);
+        
+        discord.invoke(ALICE, "ping");
+        discord.invoke(BOB, "ping");
+        discord.invoke(ALICE, "ping");
+        
+        assertEquals(List.of("ping 0", "ping 1"), admitted);
+        assertEquals(2, limiter.size());
+    }
+    
+    @Test
+    void idleBucketsShouldBeEvictedByTheTimerWheel() throws InterruptedException {
+        var limiter = new RateLimiter(Duration.ofMillis(10))
+                .setDefault(RateLimit.perUser(1, Duration.ofMillis(20)));
+        var discord = discord(limiter);
+        
+        discord.invoke(ALICE, "ping");
+        discord.invoke(BOB, "ping");
+        assertEquals(2, limiter.size());
+        
+        // a bucket is idle once it's full again, 20ms after its last token was taken
+        var deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (limiter.size() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            limiter.evictIdle();
+        }
+        assertEquals(0, limiter.size());
+        
+        discord.invoke(ALICE, "ping");
+        assertEquals(List.of("ping 0", "ping 1", "ping 0"), admitted);
+    }
+    
+    @Test
+    void invalidLimitsShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> RateLimit.perUser(0, HOUR));
+        assertThrows(IllegalArgumentException.class, () -> RateLimit.perUser(10, Duration.ofNanos(5)));
+        assertThrows(IllegalArgumentException.class, () -> new RateLimiter(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> new RateLimiter().limit("admin//ban", RateLimit.perUser(1, HOUR)));
+    }
+}
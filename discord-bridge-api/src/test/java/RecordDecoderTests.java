@@ -0,0 +1,112 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandData;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandDataBuilder;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandOptionDataBuilder;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandInvokeInteraction;
+import canaryprism.discordbridge.api.router.RecordDecoder;
+import canaryprism.discordbridge.api.router.annotation.Option;
+import canaryprism.discordbridge.identity.memory.SyntheticOption;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static canaryprism.discordbridge.api.interaction.slash.SlashCommandOptionType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests for [RecordDecoder]
+public class RecordDecoderTests {
+    
+    private record Ban(String target, long days, @Option(name = "reason") String why, Integer count) {}
+    
+    private record WrongType(long target) {}
+    
+    private record BoxedWrongType(Double target) {}
+    
+    private record NarrowDays(int days) {}
+    
+    private record NarrowCount(Integer count) {}
+    
+    private static final SlashCommandData BAN = new SlashCommandDataBuilder("ban", "bans a user")
+            .addOption(new SlashCommandOptionDataBuilder("target", "the user", STRING))
+            .addOption(new SlashCommandOptionDataBuilder("days", "days", INTEGER))
+            .addOption(new SlashCommandOptionDataBuilder("reason", "the reason", STRING).setRequired(false))
+            .addOption(new SlashCommandOptionDataBuilder("count", "count", INTEGER).setRequired(false))
+            .build();
+    
+    /// Invokes `ban` with the arguments and passes its interaction to the consumer
+    private static void invoke(Consumer<SlashCommandInvokeInteraction> consumer, SyntheticOption... arguments) {
+        var discord = new TestDiscord(BAN);
+        discord.api.addSlashCommandInvokeListener((e) -> consumer.accept(e.getSlashCommandInteraction()));
+        discord.invoke("ban", arguments);
+    }
+    
+    @Test
+    void argumentsShouldBeDecodedIntoTheRecord() {
+        var decoded = new ArrayList<Ban>();
+        invoke((e) -> decoded.add(RecordDecoder.decode(e, Ban.class, MethodHandles.lookup())),
+                SyntheticOption.argument("target", STRING, "mewo"),
+                SyntheticOption.argument("days", INTEGER, 7L),
+                SyntheticOption.argument("reason", STRING, "spam"));
+        invoke((e) -> decoded.add(RecordDecoder.decode(e, Ban.class, MethodHandles.lookup())),
+                SyntheticOption.argument("count", INTEGER, 3L),
+                SyntheticOption.argument("days", INTEGER, 1L),
+                SyntheticOption.argument("target", STRING, "mrrp"));
+        
+        assertEquals(List.of(new Ban("mewo", 7, "spam", null), new Ban("mrrp", 1, null, 3)), decoded);
+    }
+    
+    @Test
+    void missingRequiredOptionsShouldThrowIllegalStateException() {
+        invoke((e) -> assertThrows(IllegalStateException.class, () -> RecordDecoder.decode(e, Ban.class, MethodHandles.lookup())),
+                SyntheticOption.argument("target", STRING, "mewo"));
+    }
+    
+    @Test
+    void valuesOfTheWrongTypeShouldThrowIllegalArgumentException() {
+        invoke((e) -> {
+                    assertThrows(IllegalArgumentException.class, () -> RecordDecoder.decode(e, WrongType.class, MethodHandles.lookup()));
+                    assertThrows(IllegalArgumentException.class, () -> RecordDecoder.decode(e, BoxedWrongType.class, MethodHandles.lookup()));
+                },
+                SyntheticOption.argument("target", STRING, "mewo"),
+                SyntheticOption.argument("days", INTEGER, 7L));
+    }
+    
+    @Test
+    void valuesOutOfIntRangeShouldThrowIllegalArgumentException() {
+        invoke((e) -> {
+                    assertThrows(IllegalArgumentException.class, () -> RecordDecoder.decode(e, NarrowDays.class, MethodHandles.lookup()));
+                    assertThrows(IllegalArgumentException.class, () -> RecordDecoder.decode(e, NarrowCount.class, MethodHandles.lookup()));
+                },
+                SyntheticOption.argument("target", STRING, "mewo"),
+                SyntheticOption.argument("days", INTEGER, 1L << 40),
+                SyntheticOption.argument("count", INTEGER, -(1L << 40)));
+    }
+    
+    @Test
+    void checkShouldMatchComponentsAgainstOptions() {
+        var options = BAN.getOptions();
+        
+        RecordDecoder.check(Ban.class, options);
+        assertThrows(IllegalArgumentException.class, () -> RecordDecoder.check(WrongType.class, options));
+        assertThrows(IllegalArgumentException.class, () -> RecordDecoder.check(NarrowDays.class, options.subList(2, 4)));
+        assertThrows(IllegalArgumentException.class, () -> RecordDecoder.check(Ban.class, options.subList(0, 2)));
+    }
+}
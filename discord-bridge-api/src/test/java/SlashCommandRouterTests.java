@@ -0,0 +1,171 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandDataBuilder;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandOptionDataBuilder;
+import canaryprism.discordbridge.api.router.SlashCommandRouter;
+import canaryprism.discordbridge.identity.memory.SyntheticOption;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static canaryprism.discordbridge.api.interaction.slash.SlashCommandOptionType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests for [SlashCommandRouter]
+public class SlashCommandRouterTests {
+    
+    private static TestDiscord discord() {
+        return new TestDiscord(
+                new SlashCommandDataBuilder("admin", "admin commands")
+                        .addOption(new SlashCommandOptionDataBuilder("user", "user commands", SUBCOMMAND_GROUP)
+                                .addOption(new SlashCommandOptionDataBuilder("ban", "bans a user", SUBCOMMAND)
+                                        .addOption(new SlashCommandOptionDataBuilder("target", "the user", STRING))
+                                        .addOption(new SlashCommandOptionDataBuilder("reason", "the reason", STRING)
+                                                .setRequired(false)
+                                                .setAutocompletable(true)))
+                                .addOption(new SlashCommandOptionDataBuilder("kick", "kicks a user", SUBCOMMAND)
+                                        .addOption(new SlashCommandOptionDataBuilder("reason", "the reason", STRING)
+                                                .setAutocompletable(true))))
+                        .build(),
+                new SlashCommandDataBuilder("ping", "pong").build());
+    }
+    
+    @Test
+    void invocationsShouldReachTheHandlerOfTheirExactPath() {
+        var discord = discord();
+        var router = new SlashCommandRouter();
+        var calls = new ArrayList<String>();
+        router.on("admin/user/ban", (e) -> calls.add("ban " + e.getSlashCommandInteraction().getFullCommandName()))
+                .on("admin/user/kick", (e) -> calls.add("kick"))
+                .on("ping", (e) -> calls.add("ping"));
+        router.attach(discord.api);
+        
+        discord.invoke("admin/user/ban", SyntheticOption.argument("target", STRING, "mewo"));
+        discord.invoke("admin/user/kick", SyntheticOption.argument("reason", STRING, "mrrp"));
+        discord.invoke("ping");
+        
+        assertEquals(List.of("ban [admin, user, ban]", "kick", "ping"), calls);
+    }
+    
+    @Test
+    void invocationsWithoutAHandlerShouldFallBackToTheClosestParentPath() {
+        var discord = discord();
+        var router = new SlashCommandRouter();
+        var calls = new ArrayList<String>();
+        router.on("admin", (e) -> calls.add("admin"))
+                .on("admin/user/kick", (e) -> calls.add("kick"))
+                .setFallback((e) -> calls.add("fallback"));
+        router.attach(discord.api);
+        
+        discord.invoke("admin/user/ban", SyntheticOption.argument("target", STRING, "mewo"));
+        discord.invoke("admin/user/kick", SyntheticOption.argument("reason", STRING, "mrrp"));
+        discord.invoke("ping");
+        
+        assertEquals(List.of("admin", "kick", "fallback"), calls);
+    }
+    
+    @Test
+    void commandIdRoutesShouldBeCheckedBeforeNameRoutes() {
+        var discord = discord();
+        var router = new SlashCommandRouter();
+        var calls = new ArrayList<String>();
+        router.on("admin/user/ban", (e) -> calls.add("name"))
+                .on(discord.command("admin").id(), "user/ban", (e) -> calls.add("id"));
+        router.attach(discord.api);
+        
+        discord.invoke("admin/user/ban", SyntheticOption.argument("target", STRING, "mewo"));
+        
+        assertEquals(List.of("id"), calls);
+    }
+    
+    @Test
+    void autocompletesShouldReachTheHandlerOfTheirFocusedOption() {
+        var discord = discord();
+        var router = new SlashCommandRouter();
+        var calls = new ArrayList<String>();
+        router.onAutocomplete("admin/user/ban", "reason", (e) -> calls.add("ban reason"))
+                .onAutocomplete("admin", "reason", (e) -> calls.add("admin reason"))
+                .setAutocompleteFallback((e) -> calls.add("fallback"));
+        router.attach(discord.api);
+        
+        discord.autocomplete("admin/user/ban",
+                SyntheticOption.argument("target", STRING, "mewo"),
+                SyntheticOption.focused("reason", STRING, "sp"));
+        discord.autocomplete("admin/user/kick", SyntheticOption.focused("reason", STRING, "sp"));
+        discord.autocomplete("admin/user/ban", SyntheticOption.focused("target", STRING, "me"));
+        
+        assertEquals(List.of("ban reason", "admin reason", "fallback"), calls);
+    }
+    
+    @Test
+    void registeringAPathTwiceShouldThrow() {
+        var router = new SlashCommandRouter();
+        router.on("admin/user/ban", (e) -> {});
+        router.onAutocomplete("admin/user/ban", "reason", (e) -> {});
+        
+        assertThrows(IllegalStateException.class, () -> router.on("admin/user/ban", (e) -> {}));
+        assertThrows(IllegalStateException.class, () -> router.onAutocomplete("admin/user/ban", "reason", (e) -> {}));
+        assertThrows(IllegalArgumentException.class, () -> router.on("admin/user/ban/extra", (e) -> {}));
+        assertThrows(IllegalArgumentException.class, () -> router.on("admin//ban", (e) -> {}));
+    }
+    
+    @Test
+    void removedHandlersShouldNoLongerReceiveEvents() {
+        var discord = discord();
+        var router = new SlashCommandRouter();
+        var calls = new ArrayList<String>();
+        router.on("admin", (e) -> calls.add("admin"))
+                .on("admin/user/ban", (e) -> calls.add("ban"))
+                .onAutocomplete("admin/user/ban", "reason", (e) -> calls.add("reason"));
+        router.attach(discord.api);
+        
+        assertTrue(router.remove("admin/user/ban"));
+        assertFalse(router.remove("admin/user/ban"));
+        assertTrue(router.removeAutocomplete("admin/user/ban", "reason"));
+        assertFalse(router.removeAutocomplete("admin/user/ban", "reason"));
+        
+        // never registered, shouldn't create anything that changes routing
+        assertFalse(router.remove("ping"));
+        assertFalse(router.remove("admin/role/add"));
+        assertFalse(router.removeAutocomplete("admin/role/add", "reason"));
+        
+        discord.invoke("admin/user/ban", SyntheticOption.argument("target", STRING, "mewo"));
+        discord.autocomplete("admin/user/ban", SyntheticOption.focused("reason", STRING, "sp"));
+        discord.invoke("ping");
+        
+        assertEquals(List.of("admin"), calls);
+        
+        router.on("admin/user/ban", (e) -> calls.add("ban again"));
+        discord.invoke("admin/user/ban", SyntheticOption.argument("target", STRING, "mewo"));
+        assertEquals(List.of("admin", "ban again"), calls);
+    }
+    
+    @Test
+    void detachedRoutersShouldNoLongerReceiveEvents() {
+        var discord = discord();
+        var router = new SlashCommandRouter();
+        var calls = new ArrayList<String>();
+        router.on("ping", (e) -> calls.add("ping"));
+        router.attach(discord.api);
+        discord.invoke("ping");
+        router.detach(discord.api);
+        discord.invoke("ping");
+        
+        assertEquals(List.of("ping"), calls);
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+import canaryprism.discordbridge.api.autocomplete.SuggestionCache;
+import canaryprism.discordbridge.api.autocomplete.SuggestionCache.Scope;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandDataBuilder;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandOptionChoiceData;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandOptionDataBuilder;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandAutocompleteInteraction;
+import canaryprism.discordbridge.identity.memory.SyntheticOption;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static canaryprism.discordbridge.api.interaction.slash.SlashCommandOptionType.STRING;
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests for [SuggestionCache]
+public class SuggestionCacheTests {
+    
+    private static final Duration MINUTE = Duration.ofMinutes(1);
+    
+    private final TestDiscord discord = new TestDiscord(
+            new SlashCommandDataBuilder("search", "searches")
+                    .addOption(new SlashCommandOptionDataBuilder("query", "the query", STRING)
+                            .setAutocompletable(true))
+                    .build());
+    
+    private final AtomicInteger lookups = new AtomicInteger();
+    
+    private List<SlashCommandOptionChoiceData> lookup(SlashCommandAutocompleteInteraction interaction) {
+        lookups.incrementAndGet();
+        var query = interaction.getTargetOption().getValue(String.class).orElseThrow();
+        return List.of(new SlashCommandOptionChoiceData(query + " result", query));
+    }
+    
+    private long search(long user_id, String query) {
+        return discord.autocomplete(user_id, "search", SyntheticOption.focused("query", STRING, query));
+    }
+    
+    private long search(String query) {
+        return search(TestDiscord.USER_ID, query);
+    }
+    
+    @Test
+    void repeatedAutocompletesShouldBeAnsweredFromTheCache() {
+        var cache = new SuggestionCache(MINUTE, 100);
+        discord.api.addSlashCommandAutocompleteListener(cache.wrap(this::lookup));
+        
+        var first = search("mew");
+        var second = search("mew");
+        search("mewo");
+        
+        assertEquals(2, lookups.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(1.0 / 3, cache.getHitRate(), 1e-9);
+        assertEquals(2, cache.size());
+        assertEquals(discord.responsesTo(first).get(0).choices(), discord.responsesTo(second).get(0).choices());
+        assertEquals("mew result", discord.responsesTo(second).get(0).choices().get(0).getName());
+    }
+    
+    @Test
+    void userScopedSuggestionsShouldNotBeShared() {
+        var global = new SuggestionCache(MINUTE, 100);
+        var per_user = new SuggestionCache(MINUTE, 100, Scope.USER);
+        var global_lookups = new AtomicInteger();
+        discord.api.addSlashCommandAutocompleteListener(global.wrap((e) -> {
+            global_lookups.incrementAndGet();
+            return List.of();
+        }));
+        discord.api.addSlashCommandAutocompleteListener(per_user.wrap(this::lookup));
+        
+        search(TestDiscord.USER_ID, "mew");
+        search(TestDiscord.USER_ID + 1, "mew");
+        search(TestDiscord.USER_ID + 1, "mew");
+        
+        assertEquals(1, global_lookups.get());
+        assertEquals(2, lookups.get());
+        assertEquals(2, per_user.size());
+    }
+    
+    @Test
+    void concurrentAutocompletesShouldShareOneLookup() {
+        var cache = new SuggestionCache(MINUTE, 100);
+        var pending = new CompletableFuture<List<SlashCommandOptionChoiceData>>();
+        discord.api.addSlashCommandAutocompleteListener(cache.wrapAsync((e) -> {
+            lookups.incrementAndGet();
+            return pending;
+        }));
+        
+        var first = search("mew");
+        var second = search("mew");
+        assertTrue(discord.responsesTo(first).isEmpty());
+        
+        pending.complete(List.of(new SlashCommandOptionChoiceData("mewo", "mewo")));
+        assertEquals(1, lookups.get());
+        assertEquals("mewo", discord.responsesTo(first).get(0).choices().get(0).getName());
+        assertEquals("mewo", discord.responsesTo(second).get(0).choices().get(0).getName());
+    }
+    
+    @Test
+    void failedLookupsShouldNotBeCached() {
+        var cache = new SuggestionCache(MINUTE, 100);
+        discord.api.addSlashCommandAutocompleteListener(cache.wrap((e) -> {
+            if (lookups.getAndIncrement() == 0)
+                throw new IllegalStateException("database is down");
+            return lookup(e);
+        }));
+        
+        var failed = search("mew");
+        var retried = search("mew");
+        
+        assertTrue(discord.responsesTo(failed).isEmpty());
+        assertEquals("mew result", discord.responsesTo(retried).get(0).choices().get(0).getName());
+        assertEquals(3, lookups.get());
+        assertEquals(1, cache.size());
+    }
+    
+    @Test
+    void oldestEntriesShouldBeEvictedPastTheMaxSize() {
+        var cache = new SuggestionCache(MINUTE, 2);
+        discord.api.addSlashCommandAutocompleteListener(cache.wrap(this::lookup));
+        
+        search("a");
+        search("b");
+        search("c");
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        
+        // "a" was evicted, "c" is still cached
+        search("c");
+        search("a");
+        assertEquals(4, lookups.get());
+    }
+    
+    @Test
+    void entriesShouldExpireAfterTheirTimeToLive() throws InterruptedException {
+        var cache = new SuggestionCache(Duration.ofMillis(20), 100);
+        discord.api.addSlashCommandAutocompleteListener(cache.wrap(this::lookup));
+        
+        search("mew");
+        Thread.sleep(50);
+        search("mew");
+        
+        assertEquals(2, lookups.get());
+        assertEquals(0, cache.getHitCount());
+    }
+    
+    @Test
+    void invalidatedCommandsShouldBeLookedUpAgain() {
+        var cache = new SuggestionCache(MINUTE, 100);
+        discord.api.addSlashCommandAutocompleteListener(cache.wrap(this::lookup));
+        
+        search("mew");
+        cache.invalidate(discord.command("search").id());
+        assertEquals(0, cache.size());
+        search("mew");
+        
+        assertEquals(2, lookups.get());
+    }
+}
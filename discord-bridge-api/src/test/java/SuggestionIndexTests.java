@@ -0,0 +1,107 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+import canaryprism.discordbridge.api.autocomplete.SuggestionIndex;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandOptionChoiceData;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests for [SuggestionIndex]
+public class SuggestionIndexTests {
+    
+    private static List<String> names(List<SlashCommandOptionChoiceData> choices) {
+        return choices.stream()
+                .map(SlashCommandOptionChoiceData::getName)
+                .toList();
+    }
+    
+    @Test
+    void exactMatchesShouldComeBeforePrefixMatchesBeforeTrigramMatches() {
+        var index = SuggestionIndex.ofValues(List.of("urban ban", "banana split", "ban", "band", "apple"));
+        
+        assertEquals(List.of("ban", "banana split", "band", "urban ban"), names(index.suggest("ban")));
+    }
+    
+    @Test
+    void queriesShouldIgnoreCaseAndRepeatedWhitespace() {
+        var index = SuggestionIndex.ofValues(List.of("Banana Split", "Apple Pie"));
+        
+        assertEquals(List.of("Banana Split"), names(index.suggest("  banana   SPL")));
+        assertEquals(List.of("Apple Pie"), names(index.suggest("APPLE PIE ")));
+    }
+    
+    @Test
+    void trigramsShouldMatchWordsInTheMiddleOfNames() {
+        var index = SuggestionIndex.ofValues(List.of("java", "javascript", "kotlin"));
+        
+        assertEquals(List.of("javascript"), names(index.suggest("scrip")));
+        assertEquals(List.of(), index.suggest("xyz"));
+        // " sc" isn't in "javascript", the word starts in the middle of the name
+        assertEquals(List.of(), index.withMinSimilarity(1).suggest("scrip"));
+    }
+    
+    @Test
+    void emptyQueriesShouldSuggestTheFirstChoicesUpToTheLimit() {
+        var values = IntStream.range(0, 40)
+                .mapToObj((i) -> "choice " + i)
+                .toList();
+        var index = SuggestionIndex.ofValues(values);
+        
+        assertEquals(40, index.size());
+        assertEquals(values.subList(0, SuggestionIndex.MAX_SUGGESTIONS), names(index.suggest("")));
+        assertEquals(values.subList(0, 3), names(index.suggest("", 3)));
+        assertEquals(SuggestionIndex.MAX_SUGGESTIONS, index.suggest("choice").size());
+    }
+    
+    @Test
+    void usageShouldRankChoicesWithinATier() {
+        var index = SuggestionIndex.ofValues(List.of("ban", "banana", "band", "bandana"));
+        var usage = Map.of("band", 5L, "bandana", 2L, "ban", 100L);
+        
+        // usage doesn't lift a prefix match above the exact match
+        assertEquals(List.of("ban", "band", "bandana", "banana"),
+                names(index.suggest("ban", 25, (e) -> usage.getOrDefault(e.getName(), 0L))));
+        assertEquals(List.of("ban", "band", "bandana"),
+                names(index.suggest("", 3, (e) -> usage.getOrDefault(e.getName(), 0L))));
+    }
+    
+    @Test
+    void choicesShouldBeKeptAsGiven() {
+        var choice = new SlashCommandOptionChoiceData("Mewo", 42L);
+        var index = SuggestionIndex.of(List.of(choice));
+        
+        assertSame(choice, index.suggest("me").get(0));
+        assertEquals(List.of(42L), SuggestionIndex.of(List.of(42L), (e) -> "the answer")
+                .suggest("answer")
+                .stream()
+                .map(SlashCommandOptionChoiceData::getValue)
+                .toList());
+    }
+    
+    @Test
+    void invalidArgumentsShouldThrow() {
+        var index = SuggestionIndex.ofValues(List.of("mewo"));
+        assertThrows(IllegalArgumentException.class, () -> index.suggest("m", 0));
+        assertThrows(IllegalArgumentException.class, () -> index.suggest("m", SuggestionIndex.MAX_SUGGESTIONS + 1));
+        assertThrows(IllegalArgumentException.class, () -> index.withMinSimilarity(0));
+        assertThrows(IllegalArgumentException.class, () -> index.withMinSimilarity(1.5));
+    }
+}
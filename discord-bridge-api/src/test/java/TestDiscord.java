@@ -0,0 +1,98 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+import canaryprism.discordbridge.api.DiscordApi;
+import canaryprism.discordbridge.api.DiscordBridge;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandData;
+import canaryprism.discordbridge.identity.memory.InMemoryDiscord;
+import canaryprism.discordbridge.identity.memory.RecordedResponse;
+import canaryprism.discordbridge.identity.memory.RegisteredCommand;
+import canaryprism.discordbridge.identity.memory.SyntheticInteraction;
+import canaryprism.discordbridge.identity.memory.SyntheticOption;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static canaryprism.discordbridge.api.interaction.slash.SlashCommandOptionType.SUBCOMMAND;
+import static canaryprism.discordbridge.api.interaction.slash.SlashCommandOptionType.SUBCOMMAND_GROUP;
+
+/// An [InMemoryDiscord] loaded through the identity implementation, for tests that need real events
+final class TestDiscord {
+    
+    static final long SERVER_ID = 1000L << 22;
+    static final long CHANNEL_ID = 1001L << 22;
+    static final long USER_ID = 1002L << 22;
+    
+    final InMemoryDiscord discord = new InMemoryDiscord(1L << 22);
+    final DiscordApi api;
+    final List<RecordedResponse> responses = Collections.synchronizedList(new ArrayList<>());
+    
+    TestDiscord(SlashCommandData... commands) {
+        discord.addServer(SERVER_ID, "test server");
+        discord.setResponseHandler(responses::add);
+        api = DiscordBridge.load(discord);
+        api.bulkUpdateGlobalCommands(Set.of(commands)).join();
+    }
+    
+    RegisteredCommand command(String name) {
+        return discord.getGlobalCommands()
+                .stream()
+                .filter((e) -> e.data().getName().equals(name))
+                .findAny()
+                .orElseThrow();
+    }
+    
+    /// Builds an interaction with a command path, like `admin/user/ban`, whose last segments are subcommands
+    SyntheticInteraction interaction(boolean autocomplete, long user_id, String path, SyntheticOption... arguments) {
+        var segments = path.split("/");
+        var options = List.of(arguments);
+        for (int i = segments.length - 1; i > 0; i--)
+            options = List.of(SyntheticOption.subcommand(segments[i], (i == segments.length - 1) ? SUBCOMMAND : SUBCOMMAND_GROUP, options));
+        return new SyntheticInteraction(discord.nextId(), autocomplete, command(segments[0]), user_id, SERVER_ID, CHANNEL_ID, options);
+    }
+    
+    /// Invokes a command path as [#USER_ID] and returns the ID of the interaction
+    long invoke(String path, SyntheticOption... arguments) {
+        return invoke(USER_ID, path, arguments);
+    }
+    
+    long invoke(long user_id, String path, SyntheticOption... arguments) {
+        var interaction = interaction(false, user_id, path, arguments);
+        discord.interact(interaction);
+        return interaction.id();
+    }
+    
+    /// Autocompletes an option of a command path, one of the arguments should be focused
+    long autocomplete(String path, SyntheticOption... arguments) {
+        return autocomplete(USER_ID, path, arguments);
+    }
+    
+    long autocomplete(long user_id, String path, SyntheticOption... arguments) {
+        var interaction = interaction(true, user_id, path, arguments);
+        discord.interact(interaction);
+        return interaction.id();
+    }
+    
+    List<RecordedResponse> responsesTo(long interaction_id) {
+        synchronized (responses) {
+            return responses.stream()
+                    .filter((e) -> e.interaction_id() == interaction_id)
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+import canaryprism.discordbridge.api.autocomplete.SuggestionIndex;
+import canaryprism.discordbridge.api.autocomplete.UsageTracker;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandData;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandDataBuilder;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandOptionChoiceData;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandOptionDataBuilder;
+import canaryprism.discordbridge.identity.memory.SyntheticOption;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static canaryprism.discordbridge.api.interaction.slash.SlashCommandOptionType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests for [UsageTracker]
+public class UsageTrackerTests {
+    
+    private static final SlashCommandData MODERATION = new SlashCommandDataBuilder("moderation", "moderation commands")
+            .addOption(new SlashCommandOptionDataBuilder("ban", "bans a user", SUBCOMMAND)
+                    .addOption(new SlashCommandOptionDataBuilder("target", "the user", STRING))
+                    .addOption(new SlashCommandOptionDataBuilder("reason", "the reason", STRING)
+                            .setAutocompletable(true)))
+            .build();
+    
+    private final TestDiscord discord = new TestDiscord(MODERATION);
+    
+    private void ban(String target, String reason, int times) {
+        for (int i = 0; i < times; i++)
+            discord.invoke("moderation/ban",
+                    SyntheticOption.argument("target", STRING, target),
+                    SyntheticOption.argument("reason", STRING, reason));
+    }
+    
+    private long estimate(UsageTracker tracker, String option, String value) {
+        return tracker.estimate(TestDiscord.SERVER_ID, discord.command("moderation").id(), "moderation/ban", option, value);
+    }
+    
+    @Test
+    void onlyAutocompletableOptionsShouldBeCounted() {
+        var tracker = new UsageTracker()
+                .track(MODERATION);
+        tracker.attach(discord.api);
+        
+        ban("mewo", "spam", 3);
+        
+        assertEquals(3, estimate(tracker, "reason", "spam"));
+        assertEquals(0, estimate(tracker, "target", "mewo"));
+        assertEquals(0, estimate(tracker, "reason", "raid"));
+    }
+    
+    @Test
+    void explicitlyTrackedOptionsShouldBeCounted() {
+        var untracked = new UsageTracker();
+        var tracker = new UsageTracker()
+                .track("moderation/ban", "target");
+        untracked.attach(discord.api);
+        tracker.attach(discord.api);
+        
+        ban("mewo", "spam", 2);
+        
+        assertEquals(2, estimate(tracker, "target", "mewo"));
+        assertEquals(0, estimate(tracker, "reason", "spam"));
+        assertEquals(0, estimate(untracked, "reason", "spam"));
+    }
+    
+    @Test
+    void suggestionsShouldBeRankedByUsage() {
+        var tracker = new UsageTracker()
+                .track(List.of(MODERATION));
+        tracker.attach(discord.api);
+        var index = SuggestionIndex.ofValues(List.of("spam", "raid", "scam", "slurs"));
+        discord.api.addSlashCommandAutocompleteListener((e) -> index.complete(e.getSlashCommandAutocompleteInteraction(), tracker));
+        
+        ban("mewo", "scam", 1);
+        ban("mewo", "raid", 3);
+        ban("mewo", "slurs", 2);
+        
+        var everything = discord.autocomplete("moderation/ban", SyntheticOption.focused("reason", STRING, ""));
+        var prefixed = discord.autocomplete("moderation/ban", SyntheticOption.focused("reason", STRING, "s"));
+        
+        assertEquals(List.of("raid", "slurs", "scam", "spam"), discord.responsesTo(everything).get(0).choices()
+                .stream()
+                .map(SlashCommandOptionChoiceData::getName)
+                .toList());
+        assertEquals(List.of("slurs", "scam", "spam"), discord.responsesTo(prefixed).get(0).choices()
+                .stream()
+                .map(SlashCommandOptionChoiceData::getName)
+                .toList());
+    }
+    
+    @Test
+    void countsShouldHalveEveryHalfLife() throws InterruptedException {
+        var tracker = new UsageTracker(1 << 10, 4, Duration.ofMillis(200))
+                .track(MODERATION);
+        tracker.attach(discord.api);
+        
+        ban("mewo", "spam", 8);
+        assertEquals(8, estimate(tracker, "reason", "spam"));
+        
+        Thread.sleep(250);
+        assertEquals(4, estimate(tracker, "reason", "spam"));
+        
+        // several half lives at once
+        Thread.sleep(1000);
+        assertEquals(0, estimate(tracker, "reason", "spam"));
+    }
+    
+    @Test
+    void invalidSizesShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new UsageTracker(0, 4, Duration.ofDays(1)));
+        assertThrows(IllegalArgumentException.class, () -> new UsageTracker(16, 0, Duration.ofDays(1)));
+        assertThrows(IllegalArgumentException.class, () -> new UsageTracker(16, 4, Duration.ZERO));
+        assertEquals(4L * 16 * 4, new UsageTracker(10, 4, Duration.ofDays(1)).getMemoryBytes());
+    }
+}
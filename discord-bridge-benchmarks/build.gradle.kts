@@ -0,0 +1,45 @@
+plugins {
+    `java-library`
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+description = "JMH benchmarks for discord-bridge and its implementations"
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    jmh(project(":discord-bridge-api"))
+    jmh(project(":discord-bridge-identity"))
+    jmh(project(":discord-bridge-javacord"))
+    jmh(project(":discord-bridge-jda"))
+    jmh(project(":discord-bridge-discord4j"))
+    jmh(project(":discord-bridge-kord"))
+
+    // the implementations only have these as compileOnly
+    jmh("org.javacord:javacord:3.8.0")
+    jmh("net.dv8tion:JDA:5.3.0")
+    jmh("com.discord4j:discord4j-core:3.2.7")
+    jmh("dev.kord:kord-core:0.15.0")
+}
+
+jmh {
+    jmhVersion = "1.37"
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("results/jmh/results-${project.version}.json")
+}
+
+// the benchmarks are only run from the build, never published
+tasks.withType<AbstractPublishToMaven>().configureEach {
+    enabled = false
+}
+
+// prints how much each bridge adds over using its library directly, side by side
+tasks.register<JavaExec>("wrapperOverhead") {
+    group = "benchmark"
+    description = "Compares the overhead of every bridge over its library"
+    classpath = files(tasks.named("jmhJar"))
+    mainClass = "canaryprism.discordbridge.benchmarks.WrapperOverheadBenchmark"
+}
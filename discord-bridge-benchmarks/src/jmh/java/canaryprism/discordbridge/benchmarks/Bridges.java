@@ -0,0 +1,96 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.benchmarks;
+
+import canaryprism.discordbridge.api.DiscordBridge;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandData;
+import canaryprism.discordbridge.discord4j.DiscordBridgeDiscord4J;
+import canaryprism.discordbridge.identity.IdentityBridge;
+import canaryprism.discordbridge.javacord.DiscordBridgeJavacord;
+import canaryprism.discordbridge.jda.DiscordBridgeJDA;
+import canaryprism.discordbridge.kord.DiscordBridgeKord;
+import org.jetbrains.annotations.NotNull;
+
+/// The bridges benchmarks can be parameterized over
+///
+/// [#IDENTITY] does no conversion at all and is the baseline the others are measured against
+enum Bridges {
+    IDENTITY {
+        @Override
+        @NotNull DiscordBridge create() {
+            return new IdentityBridge();
+        }
+
+        @Override
+        @NotNull Object convertData(@NotNull DiscordBridge bridge, @NotNull SlashCommandData data) {
+            return data;
+        }
+    },
+    JAVACORD {
+        @Override
+        @NotNull DiscordBridge create() {
+            return new DiscordBridgeJavacord();
+        }
+
+        @Override
+        @NotNull Object convertData(@NotNull DiscordBridge bridge, @NotNull SlashCommandData data) {
+            return ((DiscordBridgeJavacord) bridge).convertData(data);
+        }
+    },
+    JDA {
+        @Override
+        @NotNull DiscordBridge create() {
+            return new DiscordBridgeJDA();
+        }
+
+        @Override
+        @NotNull Object convertData(@NotNull DiscordBridge bridge, @NotNull SlashCommandData data) {
+            return ((DiscordBridgeJDA) bridge).convertData(data);
+        }
+    },
+    DISCORD4J {
+        @Override
+        @NotNull DiscordBridge create() {
+            return new DiscordBridgeDiscord4J();
+        }
+
+        @Override
+        @NotNull Object convertData(@NotNull DiscordBridge bridge, @NotNull SlashCommandData data) {
+            return ((DiscordBridgeDiscord4J) bridge).convertData(data);
+        }
+    },
+    KORD {
+        @Override
+        @NotNull DiscordBridge create() {
+            return new DiscordBridgeKord();
+        }
+
+        @Override
+        @NotNull Object convertData(@NotNull DiscordBridge bridge, @NotNull SlashCommandData data) {
+            return ((DiscordBridgeKord) bridge).convertData(data);
+        }
+    };
+
+    abstract @NotNull DiscordBridge create();
+
+    /// Converts a command to the type the library sends to Discord
+    ///
+    /// @param bridge a bridge created by this constant
+    /// @param data the command
+    /// @return the converted command
+    abstract @NotNull Object convertData(@NotNull DiscordBridge bridge, @NotNull SlashCommandData data);
+}
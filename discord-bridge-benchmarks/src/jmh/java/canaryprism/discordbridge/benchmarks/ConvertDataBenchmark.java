@@ -0,0 +1,136 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.benchmarks;
+
+import canaryprism.discordbridge.api.DiscordBridge;
+import canaryprism.discordbridge.api.channel.ChannelType;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandData;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandDataBuilder;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandOptionDataBuilder;
+import canaryprism.discordbridge.api.enums.PartialSupport;
+import canaryprism.discordbridge.api.interaction.ContextType;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandOptionType;
+import canaryprism.discordbridge.api.misc.DiscordLocale;
+import canaryprism.discordbridge.api.server.permission.PermissionType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/// Measures converting a realistic command tree to the type each library sends to Discord
+///
+/// The command is a moderation command with 2 subcommand groups, 5 subcommands and options of most types,
+/// using only the values each bridge supports
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConvertDataBenchmark {
+
+    @Param({ "JAVACORD", "JDA", "DISCORD4J", "KORD" })
+    public Bridges implementation;
+
+    /// whether every name and description is localized to every locale the bridge supports
+    @Param({ "false", "true" })
+    public boolean localized;
+
+    private DiscordBridge bridge;
+    private SlashCommandData command;
+
+    private Map<DiscordLocale, String> localizations(String text) {
+        var map = new EnumMap<DiscordLocale, String>(DiscordLocale.class);
+        if (localized)
+            for (var locale : supported(Set.of(DiscordLocale.values())))
+                if (locale != DiscordLocale.UNKNOWN)
+                    map.put(locale, text + "-" + locale.ordinal());
+        return map;
+    }
+
+    private <T extends PartialSupport> Set<T> supported(Set<T> values) {
+        return values.stream()
+                .filter((e) -> bridge.getSupportedValues(((Enum<?>) e).getDeclaringClass().asSubclass(PartialSupport.class)).contains(e))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private SlashCommandOptionDataBuilder option(String name, String description, SlashCommandOptionType type) {
+        return new SlashCommandOptionDataBuilder(name, description, type)
+                .setNameLocalizations(localizations(name))
+                .setDescriptionLocalizations(localizations(description));
+    }
+
+    private SlashCommandOptionDataBuilder subcommand(String name, String description, SlashCommandOptionDataBuilder... options) {
+        var subcommand = option(name, description, SlashCommandOptionType.SUBCOMMAND);
+        for (var option : options)
+            subcommand.addOption(option);
+        return subcommand;
+    }
+
+    private SlashCommandOptionDataBuilder member(boolean required) {
+        return option("member", "the member", SlashCommandOptionType.USER).setRequired(required);
+    }
+
+    private SlashCommandOptionDataBuilder reason() {
+        return option("reason", "the reason", SlashCommandOptionType.STRING)
+                .setStringLengthBoundsMax(512L);
+    }
+
+    @Setup
+    public void setup() {
+        bridge = implementation.create();
+
+        var duration = option("duration", "how long for", SlashCommandOptionType.STRING).setRequired(true);
+        for (var unit : new String[] { "1 minute", "10 minutes", "1 hour", "1 day", "1 week" })
+            duration.addChoice(unit, unit.replace(" ", ""), localizations(unit));
+
+        command = new SlashCommandDataBuilder("moderation", "moderation commands")
+                .setNameLocalizations(localizations("moderation"))
+                .setDescriptionLocalizations(localizations("moderation commands"))
+                .setRequiredPermissions(supported(Set.of(PermissionType.BAN_MEMBERS, PermissionType.KICK_MEMBERS, PermissionType.MODERATE_MEMBERS)))
+                .setAllowedContexts(supported(Set.of(ContextType.SERVER)))
+                .addOption(option("member", "manage members", SlashCommandOptionType.SUBCOMMAND_GROUP)
+                        .addOption(subcommand("ban", "ban a member",
+                                member(true),
+                                option("days", "days of messages to delete", SlashCommandOptionType.INTEGER)
+                                        .setIntegerBoundsMin(0L)
+                                        .setIntegerBoundsMax(7L),
+                                reason(),
+                                option("silent", "whether to announce the ban", SlashCommandOptionType.BOOLEAN)))
+                        .addOption(subcommand("kick", "kick a member", member(true), reason()))
+                        .addOption(subcommand("timeout", "time out a member", member(true), duration, reason())))
+                .addOption(option("channel", "manage channels", SlashCommandOptionType.SUBCOMMAND_GROUP)
+                        .addOption(subcommand("lock", "lock a channel",
+                                option("channel", "the channel", SlashCommandOptionType.CHANNEL)
+                                        .setChannelTypeBounds(supported(Set.of(ChannelType.SERVER_TEXT, ChannelType.SERVER_NEWS, ChannelType.SERVER_FORUM))),
+                                reason()))
+                        .addOption(subcommand("slowmode", "set the slowmode of a channel",
+                                option("seconds", "seconds between messages", SlashCommandOptionType.NUMBER)
+                                        .setRequired(true)
+                                        .setNumberBoundsMin(0.0)
+                                        .setNumberBoundsMax(21600.0))))
+                .build();
+    }
+
+    @Benchmark
+    public Object convertData() {
+        return implementation.convertData(bridge, command);
+    }
+}
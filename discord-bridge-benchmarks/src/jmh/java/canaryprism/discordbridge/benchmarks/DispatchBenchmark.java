@@ -0,0 +1,102 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.benchmarks;
+
+import canaryprism.discordbridge.api.event.interaction.SlashCommandInvokeEvent;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandInteractionOption;
+import canaryprism.discordbridge.api.listener.interaction.SlashCommandInvokeListener;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.hooks.EventListener;
+import org.javacord.api.listener.interaction.SlashCommandCreateListener;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/// Measures dispatching an invocation from the library's listener through the bridge to listeners
+/// that each read an argument, the way the library itself would call the bridge
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DispatchBenchmark {
+
+    /// the bridge, Discord4J and Kord events can't be stubbed
+    @Param({ "JAVACORD", "JDA" })
+    public Bridges implementation;
+
+    /// number of listeners added
+    @Param({ "1", "4" })
+    public int listeners;
+
+    private Runnable dispatch;
+
+    // listeners store the argument here so they can't be optimized away
+    private Object reason;
+
+    private SlashCommandInvokeListener listener() {
+        return new SlashCommandInvokeListener() {
+            @Override
+            public void onSlashCommandInvoke(@NotNull SlashCommandInvokeEvent event) {
+                reason = event.getSlashCommandInteraction()
+                        .getArgumentByName("reason")
+                        .flatMap(SlashCommandInteractionOption::getValue)
+                        .orElse(null);
+            }
+        };
+    }
+
+    @Setup
+    public void setup() {
+        var bridge = implementation.create();
+        var native_listeners = new ArrayList<>();
+        dispatch = switch (implementation) {
+            case JAVACORD -> {
+                var api = bridge.loadApi(JavacordStubs.api(native_listeners::add));
+                for (int i = 0; i < listeners; i++)
+                    api.addListener(SlashCommandInvokeListener.class, listener());
+                var event = JavacordStubs.event(JavacordStubs.interaction());
+                var created = native_listeners.stream()
+                        .map(SlashCommandCreateListener.class::cast)
+                        .toList();
+                yield () -> {
+                    for (var listener : created)
+                        listener.onSlashCommandCreate(event);
+                };
+            }
+            case JDA -> {
+                var jda = JDAStubs.jda(native_listeners::add);
+                var api = bridge.loadApi(jda);
+                for (int i = 0; i < listeners; i++)
+                    api.addListener(SlashCommandInvokeListener.class, listener());
+                var event = new SlashCommandInteractionEvent(jda, 0, JDAStubs.interaction(jda));
+                var listener = ((EventListener) native_listeners.get(0));
+                yield () -> listener.onEvent(event);
+            }
+            default -> throw new IllegalStateException(String.format("no stub event for %s", implementation));
+        };
+    }
+
+    @Benchmark
+    public Object dispatch() {
+        dispatch.run();
+        return reason;
+    }
+}
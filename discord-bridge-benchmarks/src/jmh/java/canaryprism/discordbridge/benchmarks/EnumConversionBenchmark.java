@@ -0,0 +1,98 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.benchmarks;
+
+import canaryprism.discordbridge.api.DiscordBridge;
+import canaryprism.discordbridge.api.channel.ChannelType;
+import canaryprism.discordbridge.api.enums.DiscordBridgeEnum;
+import canaryprism.discordbridge.api.enums.PartialSupport;
+import canaryprism.discordbridge.api.interaction.ContextType;
+import canaryprism.discordbridge.api.interaction.InstallationType;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandOptionType;
+import canaryprism.discordbridge.api.message.MessageFlag;
+import canaryprism.discordbridge.api.misc.DiscordLocale;
+import canaryprism.discordbridge.api.server.permission.PermissionType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/// Measures converting every supported api enum value to its implementation value and back
+///
+/// Values a bridge can't convert back, because several api values share one implementation value, are left out
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EnumConversionBenchmark {
+
+    private static final List<Class<? extends PartialSupport>> TYPES = List.of(
+            ChannelType.class, SlashCommandOptionType.class, MessageFlag.class, PermissionType.class,
+            ContextType.class, InstallationType.class, DiscordLocale.class);
+
+    @Param({ "IDENTITY", "JAVACORD", "JDA", "DISCORD4J", "KORD" })
+    public Bridges implementation;
+
+    private DiscordBridge bridge;
+
+    private DiscordBridgeEnum[] values;
+    private Class<? extends DiscordBridgeEnum>[] types;
+    private Object[] implementation_values;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        bridge = implementation.create();
+
+        var value_list = new ArrayList<DiscordBridgeEnum>();
+        var type_list = new ArrayList<Class<? extends DiscordBridgeEnum>>();
+        var implementation_value_list = new ArrayList<>();
+        for (var type : TYPES) {
+            for (var value : bridge.getSupportedValues(type)) {
+                var implementation_value = bridge.getImplementationValue(value);
+                try {
+                    if (bridge.convertInternalObject(type, implementation_value) != value)
+                        continue;
+                } catch (RuntimeException e) {
+                    continue;
+                }
+                value_list.add(value);
+                type_list.add(type);
+                implementation_value_list.add(implementation_value);
+            }
+        }
+        values = value_list.toArray(DiscordBridgeEnum[]::new);
+        types = type_list.toArray(Class[]::new);
+        implementation_values = implementation_value_list.toArray();
+    }
+
+    @Benchmark
+    public void toImplementation(Blackhole blackhole) {
+        for (var value : values)
+            blackhole.consume(bridge.getImplementationValue(value));
+    }
+
+    @Benchmark
+    public void fromImplementation(Blackhole blackhole) {
+        for (int i = 0; i < implementation_values.length; i++)
+            blackhole.consume(bridge.convertInternalObject(types[i], implementation_values[i]));
+    }
+}
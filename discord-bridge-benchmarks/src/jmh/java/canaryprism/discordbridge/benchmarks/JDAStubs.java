@@ -0,0 +1,100 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.benchmarks;
+
+import gnu.trove.map.hash.TLongObjectHashMap;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.interactions.commands.Command;
+import net.dv8tion.jda.api.interactions.commands.OptionMapping;
+import net.dv8tion.jda.api.interactions.commands.SlashCommandInteraction;
+import net.dv8tion.jda.api.requests.RestAction;
+import net.dv8tion.jda.api.utils.data.DataObject;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/// Stub JDA objects for invocations of the `/moderation` command, built from a [SyntheticInvocation]
+final class JDAStubs {
+
+    private JDAStubs() {}
+
+    private static final long COMMAND_ID = 1;
+
+    private static final List<String> COMMAND_OPTIONS = List.of(
+            "{\"name\":\"target\",\"description\":\"the target\",\"type\":3,\"required\":true}",
+            "{\"name\":\"days\",\"description\":\"days of messages to delete\",\"type\":4}",
+            "{\"name\":\"reason\",\"description\":\"the reason\",\"type\":3}",
+            "{\"name\":\"silent\",\"description\":\"whether to announce the ban\",\"type\":5}");
+
+    /// Creates a stub [JDA] that returns a stub command for any command id
+    ///
+    /// @param listeners receives every event listener added
+    /// @return the stub
+    @SuppressWarnings("unchecked")
+    static @NotNull JDA jda(@NotNull Consumer<Object> listeners) {
+        var command = Stubs.stub(Command.class, Map.of(
+                "getIdLong", COMMAND_ID,
+                "getId", Long.toString(COMMAND_ID),
+                "getApplicationIdLong", 2L,
+                "getName", "moderation",
+                "getOptions", COMMAND_OPTIONS.stream()
+                        .map((e) -> new Command.Option(DataObject.fromJson(e)))
+                        .toList()));
+        RestAction<Command> retrieve = Stubs.stub(RestAction.class, Map.of(
+                "complete", command,
+                "submit", (Stubs.Answer) (args) -> CompletableFuture.completedFuture(command)));
+        return Stubs.stub(JDA.class, Map.of(
+                "retrieveCommandById", retrieve,
+                "addEventListener", (Stubs.Answer) (args) -> {
+                    Arrays.stream((Object[]) args[0]).forEach(listeners);
+                    return null;
+                }));
+    }
+
+    /// Creates a stub [SlashCommandInteraction] for [SyntheticInvocation#MODERATION_BAN] with real [OptionMapping]s
+    ///
+    /// @param jda the stub JDA the interaction belongs to
+    /// @return the stub
+    static @NotNull SlashCommandInteraction interaction(@NotNull JDA jda) {
+        return interaction(jda, SyntheticInvocation.MODERATION_BAN);
+    }
+
+    /// Creates a stub [SlashCommandInteraction] with real [OptionMapping]s
+    ///
+    /// @param jda the stub JDA the interaction belongs to
+    /// @param invocation the invocation
+    /// @return the stub
+    static @NotNull SlashCommandInteraction interaction(@NotNull JDA jda, @NotNull SyntheticInvocation invocation) {
+        var options = invocation.arguments()
+                .stream()
+                .map((e) -> new OptionMapping(DataObject.fromJson(e.json()), new TLongObjectHashMap<>(), jda, null))
+                .toList();
+        return Stubs.stub(SlashCommandInteraction.class, Map.of(
+                "getJDA", jda,
+                "getIdLong", 3L,
+                "getCommandIdLong", COMMAND_ID,
+                "getCommandId", Long.toString(COMMAND_ID),
+                "getName", invocation.name(),
+                "getSubcommandGroup", invocation.group(),
+                "getSubcommandName", invocation.subcommand(),
+                "getOptions", options));
+    }
+}
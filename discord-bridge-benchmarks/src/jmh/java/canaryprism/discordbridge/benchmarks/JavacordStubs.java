@@ -0,0 +1,102 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.benchmarks;
+
+import org.javacord.api.DiscordApi;
+import org.javacord.api.event.interaction.SlashCommandCreateEvent;
+import org.javacord.api.interaction.SlashCommandInteraction;
+import org.javacord.api.interaction.SlashCommandInteractionOption;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/// Stub Javacord objects for invocations of the `/moderation` command, built from a [SyntheticInvocation]
+final class JavacordStubs {
+
+    private JavacordStubs() {}
+
+    private static SlashCommandInteractionOption option(String name, Map<String, ?> value) {
+        var answers = new HashMap<String, Object>(value);
+        answers.put("getName", name);
+        return Stubs.stub(SlashCommandInteractionOption.class, answers);
+    }
+
+    private static SlashCommandInteractionOption group(String name, SlashCommandInteractionOption... options) {
+        return option(name, Map.of("getOptions", List.of(options)));
+    }
+
+    /// Creates a stub [DiscordApi]
+    ///
+    /// @param listeners receives every slash command listener added
+    /// @return the stub
+    static @NotNull DiscordApi api(@NotNull Consumer<Object> listeners) {
+        return Stubs.stub(DiscordApi.class, Map.of(
+                "addSlashCommandCreateListener", (Stubs.Answer) (args) -> {
+                    listeners.accept(args[0]);
+                    return null;
+                }));
+    }
+
+    private static SlashCommandInteractionOption argument(SyntheticInvocation.Argument argument) {
+        var value = argument.value();
+        if (value instanceof String string)
+            return option(argument.name(), Map.of("getStringValue", Optional.of(string)));
+        else if (value instanceof Long number)
+            return option(argument.name(), Map.of("getLongValue", Optional.of(number)));
+        else
+            return option(argument.name(), Map.of("getBooleanValue", Optional.of((Boolean) value)));
+    }
+
+    /// Creates a stub [SlashCommandInteraction] for [SyntheticInvocation#MODERATION_BAN]
+    ///
+    /// @return the stub
+    static @NotNull SlashCommandInteraction interaction() {
+        return interaction(SyntheticInvocation.MODERATION_BAN);
+    }
+
+    /// Creates a stub [SlashCommandInteraction]
+    ///
+    /// @param invocation the invocation
+    /// @return the stub
+    static @NotNull SlashCommandInteraction interaction(@NotNull SyntheticInvocation invocation) {
+        var arguments = invocation.arguments()
+                .stream()
+                .map(JavacordStubs::argument)
+                .toArray(SlashCommandInteractionOption[]::new);
+        var options = List.of(group(invocation.group(), group(invocation.subcommand(), arguments)));
+        return Stubs.stub(SlashCommandInteraction.class, Map.of(
+                "getId", 3L,
+                "getCommandId", 1L,
+                "getApplicationId", 2L,
+                "getCommandName", invocation.name(),
+                "getOptions", options));
+    }
+
+    /// Creates a stub [SlashCommandCreateEvent] for an interaction
+    ///
+    /// @param interaction the interaction
+    /// @return the stub
+    static @NotNull SlashCommandCreateEvent event(@NotNull SlashCommandInteraction interaction) {
+        return Stubs.stub(SlashCommandCreateEvent.class, Map.of(
+                "getSlashCommandInteraction", interaction,
+                "getInteraction", interaction));
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.benchmarks;
+
+import canaryprism.discordbridge.api.DiscordApi;
+import canaryprism.discordbridge.api.DiscordBridge;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/// Measures [DiscordBridge#load(Object)] finding the bridge for a stub api object among every bridge on the classpath
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoadBenchmark {
+
+    /// the bridge the api object belongs to, Discord4J and Kord clients can't be stubbed
+    @Param({ "JAVACORD", "JDA" })
+    public Bridges implementation;
+
+    private Object api;
+
+    @Setup
+    public void setup() {
+        api = switch (implementation) {
+            case JAVACORD -> JavacordStubs.api((e) -> {});
+            case JDA -> JDAStubs.jda((e) -> {});
+            default -> throw new IllegalStateException(String.format("no stub api for %s", implementation));
+        };
+    }
+
+    @Benchmark
+    public DiscordApi load() {
+        return DiscordBridge.load(api);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.benchmarks;
+
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandInteractionOption;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandInvokeInteraction;
+import canaryprism.discordbridge.javacord.DiscordBridgeJavacord;
+import canaryprism.discordbridge.jda.DiscordBridgeJDA;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/// Measures looking up the arguments of an invocation of `/moderation member ban` with 4 arguments
+///
+/// Bridges wrap the options again on every call, so this includes wrapping them
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OptionLookupBenchmark {
+
+    /// the bridge, Discord4J and Kord interactions can't be stubbed
+    @Param({ "JAVACORD", "JDA" })
+    public Bridges implementation;
+
+    private SlashCommandInvokeInteraction interaction;
+
+    @Setup
+    public void setup() {
+        var bridge = implementation.create();
+        interaction = switch (implementation) {
+            case JAVACORD -> new canaryprism.discordbridge.javacord.interaction.slash.SlashCommandInvokeInteractionImpl(
+                    (DiscordBridgeJavacord) bridge, JavacordStubs.interaction());
+            case JDA -> new canaryprism.discordbridge.jda.interaction.slash.SlashCommandInvokeInteractionImpl(
+                    (DiscordBridgeJDA) bridge, JDAStubs.interaction(JDAStubs.jda((e) -> {})));
+            default -> throw new IllegalStateException(String.format("no stub interaction for %s", implementation));
+        };
+    }
+
+    @Benchmark
+    public List<? extends SlashCommandInteractionOption> getArguments() {
+        return interaction.getArguments();
+    }
+
+    @Benchmark
+    public Object getArgumentByName() {
+        return interaction.getArgumentByName("reason")
+                .flatMap(SlashCommandInteractionOption::getValue)
+                .orElseThrow();
+    }
+}
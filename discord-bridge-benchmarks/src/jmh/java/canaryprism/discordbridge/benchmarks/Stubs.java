@@ -0,0 +1,88 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.benchmarks;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/// Stub native objects for the benchmarks, built from proxies
+///
+/// A stub answers a method by its name from a map of answers regardless of overload,
+/// falls back to default methods, and otherwise returns an empty value for the return type.
+/// Every bridge pays the same proxy overhead, so the stubs don't skew comparisons between them
+final class Stubs {
+
+    private Stubs() {}
+
+    /// Computes the answer to a method from its arguments
+    @FunctionalInterface
+    interface Answer {
+        Object answer(Object[] args) throws Throwable;
+    }
+
+    static <T> @NotNull T stub(@NotNull Class<T> type, @NotNull Map<String, ?> answers) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+            var answer = answers.get(method.getName());
+            if (answer instanceof Answer computed)
+                return computed.answer((args == null) ? new Object[0] : args);
+            if (answer != null)
+                return answer;
+            return switch (method.getName()) {
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                case "toString" -> type.getSimpleName() + " stub";
+                default -> (method.isDefault()) ? InvocationHandler.invokeDefault(proxy, method, args) : empty(method.getReturnType());
+            };
+        }));
+    }
+
+    private static Object empty(Class<?> type) {
+        if (type == Optional.class)
+            return Optional.empty();
+        if (type == List.class || type == Collection.class)
+            return List.of();
+        if (type == Set.class)
+            return Set.of();
+        if (type == Stream.class)
+            return Stream.empty();
+        if (type == boolean.class)
+            return false;
+        if (type == long.class)
+            return 0L;
+        if (type == int.class)
+            return 0;
+        if (type == double.class)
+            return 0.0;
+        if (type == float.class)
+            return 0f;
+        if (type == short.class)
+            return (short) 0;
+        if (type == byte.class)
+            return (byte) 0;
+        if (type == char.class)
+            return '\0';
+        return null;
+    }
+}
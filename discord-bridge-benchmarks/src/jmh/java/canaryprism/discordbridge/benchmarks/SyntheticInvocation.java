@@ -0,0 +1,71 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.benchmarks;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/// An invocation of a slash command the stubs of every library are built from,
+/// so every bridge is measured on the same payload
+///
+/// @param name the name of the command
+/// @param group the name of the subcommand group
+/// @param subcommand the name of the subcommand
+/// @param arguments the arguments, in the order Discord sends them
+record SyntheticInvocation(@NotNull String name, @NotNull String group, @NotNull String subcommand,
+                           @NotNull List<Argument> arguments) {
+
+    /// `/moderation member ban target:someone days:7 reason:spam silent:true`
+    static final SyntheticInvocation MODERATION_BAN = new SyntheticInvocation("moderation", "member", "ban", List.of(
+            new Argument("target", "someone"),
+            new Argument("days", 7L),
+            new Argument("reason", "spam"),
+            new Argument("silent", true)));
+
+    /// An argument of an invocation
+    ///
+    /// @param name the name of the argument
+    /// @param value the value, a [String], [Long] or [Boolean]
+    record Argument(@NotNull String name, @NotNull Object value) {
+
+        Argument {
+            if (!(value instanceof String || value instanceof Long || value instanceof Boolean))
+                throw new IllegalArgumentException(String.format("value %s of argument %s isn't a String, Long or Boolean", value, name));
+        }
+
+        /// Gets the Discord option type of the argument
+        ///
+        /// @return the option type
+        int type() {
+            if (value instanceof String)
+                return 3;
+            else if (value instanceof Long)
+                return 4;
+            else
+                return 5;
+        }
+
+        /// Gets the argument as the JSON Discord sends for it
+        ///
+        /// @return the JSON
+        @NotNull String json() {
+            var json_value = (value instanceof String string) ? String.format("\"%s\"", string) : value.toString();
+            return String.format("{\"name\":\"%s\",\"type\":%s,\"value\":%s}", name, type(), json_value);
+        }
+    }
+}
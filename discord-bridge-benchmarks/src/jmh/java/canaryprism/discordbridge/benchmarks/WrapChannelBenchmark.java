@@ -0,0 +1,65 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.benchmarks;
+
+import canaryprism.discordbridge.api.DiscordBridge;
+import canaryprism.discordbridge.api.channel.Channel;
+import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
+import org.javacord.api.entity.channel.ServerTextChannel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/// Measures `ChannelDirector.wrapChannel` picking the most specific wrapper for a server text channel
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WrapChannelBenchmark {
+
+    /// the bridge, Discord4J and Kord channels can't be stubbed
+    @Param({ "JAVACORD", "JDA" })
+    public Bridges implementation;
+
+    private Function<DiscordBridge, Channel> wrap;
+    private DiscordBridge bridge;
+
+    @Setup
+    public void setup() {
+        bridge = implementation.create();
+        wrap = switch (implementation) {
+            case JAVACORD -> {
+                var channel = Stubs.stub(ServerTextChannel.class, Map.of("getId", 4L));
+                yield (e) -> canaryprism.discordbridge.javacord.channel.ChannelDirector.wrapChannel(e, channel);
+            }
+            case JDA -> {
+                var channel = Stubs.stub(TextChannel.class, Map.of("getIdLong", 4L, "getId", "4"));
+                yield (e) -> canaryprism.discordbridge.jda.channel.ChannelDirector.wrapChannel(e, channel);
+            }
+            default -> throw new IllegalStateException(String.format("no stub channel for %s", implementation));
+        };
+    }
+
+    @Benchmark
+    public Channel wrapChannel() {
+        return wrap.apply(bridge);
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.benchmarks;
+
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandInteractionOption;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandInvokeInteraction;
+import canaryprism.discordbridge.api.listener.interaction.SlashCommandInvokeListener;
+import canaryprism.discordbridge.javacord.DiscordBridgeJavacord;
+import canaryprism.discordbridge.jda.DiscordBridgeJDA;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.hooks.EventListener;
+import net.dv8tion.jda.api.interactions.commands.OptionMapping;
+import org.javacord.api.listener.interaction.SlashCommandCreateListener;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/// Compares what each bridge adds over using its library directly, on the same [SyntheticInvocation]
+///
+/// Every phase of handling the invocation is measured reading the native objects directly and going through the bridge:
+/// - `wrap`, getting the interaction of an event
+/// - `options`, reading every argument of the interaction
+/// - `dispatch`, delivering an event from the library to a listener that reads an argument
+///
+/// The difference between the two is what the bridge costs.
+/// Run [#main(String[])] to print the overhead of every bridge side by side
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WrapperOverheadBenchmark {
+
+    private static final List<String> PHASES = List.of("wrap", "options", "dispatch");
+
+    private static final SyntheticInvocation INVOCATION = SyntheticInvocation.MODERATION_BAN;
+
+    /// the bridge, Discord4J and Kord events can't be built offline
+    @Param({ "JAVACORD", "JDA" })
+    public Bridges implementation;
+
+    private Supplier<Object> native_wrap;
+    private Supplier<Object> bridge_wrap;
+
+    private Consumer<Blackhole> native_options;
+    private SlashCommandInvokeInteraction interaction;
+
+    private Runnable native_dispatch;
+    private Runnable bridge_dispatch;
+
+    // listeners store the argument here so they can't be optimized away
+    private Object reason;
+
+    @Setup
+    public void setup() {
+        var bridge = implementation.create();
+        var native_listeners = new ArrayList<>();
+        SlashCommandInvokeListener listener = (event) -> reason = event.getSlashCommandInteraction()
+                .getArgumentByName("reason")
+                .flatMap(SlashCommandInteractionOption::getValue)
+                .orElse(null);
+        switch (implementation) {
+            case JAVACORD -> {
+                var javacord = (DiscordBridgeJavacord) bridge;
+                var api = bridge.loadApi(JavacordStubs.api(native_listeners::add));
+                api.addListener(SlashCommandInvokeListener.class, listener);
+                var native_interaction = JavacordStubs.interaction(INVOCATION);
+                var event = JavacordStubs.event(native_interaction);
+
+                native_wrap = event::getSlashCommandInteraction;
+                bridge_wrap = () -> new canaryprism.discordbridge.javacord.event.interaction.SlashCommandInvokeEventImpl(javacord, event)
+                        .getSlashCommandInteraction();
+
+                native_options = (blackhole) -> {
+                    var subcommand = native_interaction.getOptionByName(INVOCATION.group())
+                            .flatMap((e) -> e.getOptionByName(INVOCATION.subcommand()))
+                            .orElseThrow();
+                    for (var argument : INVOCATION.arguments()) {
+                        var option = subcommand.getOptionByName(argument.name()).orElseThrow();
+                        if (argument.value() instanceof String)
+                            blackhole.consume(option.getStringValue().orElseThrow());
+                        else if (argument.value() instanceof Long)
+                            blackhole.consume(option.getLongValue().orElseThrow());
+                        else
+                            blackhole.consume(option.getBooleanValue().orElseThrow());
+                    }
+                };
+                interaction = new canaryprism.discordbridge.javacord.interaction.slash.SlashCommandInvokeInteractionImpl(javacord, native_interaction);
+
+                SlashCommandCreateListener native_listener = (e) -> reason = e.getSlashCommandInteraction()
+                        .getOptionByName(INVOCATION.group())
+                        .flatMap((group) -> group.getOptionByName(INVOCATION.subcommand()))
+                        .flatMap((subcommand) -> subcommand.getOptionByName("reason"))
+                        .flatMap(org.javacord.api.interaction.SlashCommandInteractionOption::getStringValue)
+                        .orElse(null);
+                native_dispatch = () -> native_listener.onSlashCommandCreate(event);
+                var bridge_listeners = native_listeners.stream()
+                        .map(SlashCommandCreateListener.class::cast)
+                        .toList();
+                bridge_dispatch = () -> {
+                    for (var e : bridge_listeners)
+                        e.onSlashCommandCreate(event);
+                };
+            }
+            case JDA -> {
+                var jda_bridge = (DiscordBridgeJDA) bridge;
+                var jda = JDAStubs.jda(native_listeners::add);
+                var api = bridge.loadApi(jda);
+                api.addListener(SlashCommandInvokeListener.class, listener);
+                var native_interaction = JDAStubs.interaction(jda, INVOCATION);
+                var event = new SlashCommandInteractionEvent(jda, 0, native_interaction);
+
+                native_wrap = event::getInteraction;
+                bridge_wrap = () -> new canaryprism.discordbridge.jda.event.interaction.SlashCommandInvokeEventImpl(jda_bridge, event)
+                        .getSlashCommandInteraction();
+
+                native_options = (blackhole) -> {
+                    for (var argument : INVOCATION.arguments()) {
+                        var mapping = native_interaction.getOption(argument.name());
+                        switch (mapping.getType()) {
+                            case STRING -> blackhole.consume(mapping.getAsString());
+                            case INTEGER -> blackhole.consume(mapping.getAsLong());
+                            default -> blackhole.consume(mapping.getAsBoolean());
+                        }
+                    }
+                };
+                interaction = new canaryprism.discordbridge.jda.interaction.slash.SlashCommandInvokeInteractionImpl(jda_bridge, native_interaction);
+
+                EventListener native_listener = (e) -> {
+                    if (e instanceof SlashCommandInteractionEvent slash_command)
+                        reason = slash_command.getOption("reason", OptionMapping::getAsString);
+                };
+                native_dispatch = () -> native_listener.onEvent(event);
+                var bridge_listener = ((EventListener) native_listeners.get(0));
+                bridge_dispatch = () -> bridge_listener.onEvent(event);
+            }
+            default -> throw new IllegalStateException(String.format("no native event for %s", implementation));
+        }
+    }
+
+    @Benchmark
+    public Object nativeWrap() {
+        return native_wrap.get();
+    }
+
+    @Benchmark
+    public Object bridgeWrap() {
+        return bridge_wrap.get();
+    }
+
+    @Benchmark
+    public void nativeOptions(Blackhole blackhole) {
+        native_options.accept(blackhole);
+    }
+
+    @Benchmark
+    public void bridgeOptions(Blackhole blackhole) {
+        for (var argument : INVOCATION.arguments())
+            blackhole.consume(interaction.getArgumentByName(argument.name())
+                    .flatMap(SlashCommandInteractionOption::getValue)
+                    .orElseThrow());
+    }
+
+    @Benchmark
+    public Object nativeDispatch() {
+        native_dispatch.run();
+        return reason;
+    }
+
+    @Benchmark
+    public Object bridgeDispatch() {
+        bridge_dispatch.run();
+        return reason;
+    }
+
+    /// Runs the benchmark for every bridge and prints the time of every phase natively and through the bridge,
+    /// and the overhead of the bridge
+    ///
+    /// @param args ignored
+    /// @throws RunnerException if the benchmark fails to run
+    public static void main(String[] args) throws RunnerException {
+        var options = new OptionsBuilder()
+                .include(WrapperOverheadBenchmark.class.getName() + "\\.")
+                .build();
+
+        // implementation -> benchmark method -> ns/op
+        var scores = new TreeMap<String, Map<String, Double>>();
+        for (var result : new Runner(options).run())
+            scores.computeIfAbsent(result.getParams().getParam("implementation"), (e) -> new HashMap<>())
+                    .put(result.getPrimaryResult().getLabel(), result.getPrimaryResult().getScore());
+
+        System.out.printf("%n%-10s %-10s %12s %12s %12s %10s%n", "bridge", "phase", "native ns", "bridge ns", "overhead ns", "overhead");
+        scores.forEach((implementation, methods) -> {
+            for (var phase : PHASES) {
+                var capitalized = Character.toUpperCase(phase.charAt(0)) + phase.substring(1);
+                var native_score = methods.get("native" + capitalized);
+                var bridge_score = methods.get("bridge" + capitalized);
+                if (native_score == null || bridge_score == null)
+                    continue;
+                System.out.printf("%-10s %-10s %12.1f %12.1f %12.1f %9.2fx%n",
+                        implementation, phase, native_score, bridge_score, bridge_score - native_score, bridge_score / native_score);
+            }
+        });
+    }
+}
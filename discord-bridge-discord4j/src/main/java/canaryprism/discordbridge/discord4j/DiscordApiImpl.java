@@ -21,10 +21,20 @@ import canaryprism.discordbridge.api.DiscordApi;
 import canaryprism.discordbridge.api.DiscordBridge;
 import canaryprism.discordbridge.api.data.interaction.CommandData;
 import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandData;
+import canaryprism.discordbridge.api.event.Event;
+import canaryprism.discordbridge.api.event.interaction.SlashCommandAutocompleteEvent;
+import canaryprism.discordbridge.api.event.interaction.SlashCommandInvokeEvent;
+import canaryprism.discordbridge.api.event.stream.OverflowStrategy;
 import canaryprism.discordbridge.api.interaction.slash.SlashCommand;
 import canaryprism.discordbridge.api.listener.ApiAttachableListener;
+import canaryprism.discordbridge.api.listener.interaction.AsyncSlashCommandAutocompleteListener;
+import canaryprism.discordbridge.api.listener.interaction.AsyncSlashCommandInvokeListener;
 import canaryprism.discordbridge.api.listener.interaction.SlashCommandAutocompleteListener;
 import canaryprism.discordbridge.api.listener.interaction.SlashCommandInvokeListener;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
+import canaryprism.discordbridge.api.metrics.ListenerWatchdog;
+import canaryprism.discordbridge.api.metrics.jfr.InteractionDispatchedEvent;
+import canaryprism.discordbridge.api.metrics.jfr.ListenerExecutedEvent;
 import canaryprism.discordbridge.api.server.Server;
 import canaryprism.discordbridge.discord4j.event.interaction.SlashCommandAutocompleteEventImpl;
 import canaryprism.discordbridge.discord4j.event.interaction.SlashCommandInvokeEventImpl;
@@ -37,14 +47,23 @@ import discord4j.core.event.domain.interaction.ChatInputInteractionEvent;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Unmodifiable;
 import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.adapter.JdkFlowAdapter;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 import java.util.stream.Collectors;
 
 public class DiscordApiImpl implements DiscordApi {
     
+    private static final Logger logger = LoggerFactory.getLogger(DiscordApiImpl.class);
+    
     public final DiscordBridgeDiscord4J bridge;
     public final GatewayDiscordClient api;
     public final CompletableFuture<Long> app_id;
@@ -66,51 +85,113 @@ public class DiscordApiImpl implements DiscordApi {
         api.on(new ReactiveEventAdapter() {
             @Override
             public @NotNull Publisher<?> onChatInputAutoCompleteInteraction(@NotNull ChatInputAutoCompleteEvent e) {
+                var dispatched = new InteractionDispatchedEvent();
+                dispatched.begin();
+                var start = System.nanoTime();
                 var event = new SlashCommandAutocompleteEventImpl(bridge, e);
-                for (var listener : listener_list.getListeners(SlashCommandAutocompleteListener.class))
-                    listener.onSlashCommandAutocomplete(event);
-                return Mono.empty();
+                var recorder = BridgeMetrics.recorder();
+                recorder.eventReceived(bridge, SlashCommandAutocompleteEvent.class, System.nanoTime() - start);
+                var listeners = 0;
+                for (var listener : listener_list.getListeners(SlashCommandAutocompleteListener.class)) {
+                    listeners++;
+                    var executed = new ListenerExecutedEvent();
+                    executed.begin();
+                    var listener_start = System.nanoTime();
+                    var watch = ListenerWatchdog.watch(bridge, SlashCommandAutocompleteEvent.class, event, listener, listener_start);
+                    var thrown = true;
+                    try {
+                        listener.onSlashCommandAutocomplete(event);
+                        thrown = false;
+                    } finally {
+                        watch.done();
+                        recorder.listenerCompleted(bridge, SlashCommandAutocompleteEvent.class, listener, System.nanoTime() - listener_start);
+                        executed.complete(bridge, SlashCommandAutocompleteEvent.class, listener, thrown);
+                    }
+                }
+                var pending = new ArrayList<Mono<?>>();
+                for (var listener : listener_list.getListeners(AsyncSlashCommandAutocompleteListener.class)) {
+                    listeners++;
+                    pending.add(Mono.fromFuture(BridgeMetrics.asyncListener(bridge, SlashCommandAutocompleteEvent.class, event, listener, () -> listener.onSlashCommandAutocomplete(event)))
+                            .onErrorResume((t) -> {
+                                logger.error("Exception in asynchronous event listener", t);
+                                return Mono.empty();
+                            }));
+                }
+                dispatched.complete(bridge, SlashCommandAutocompleteEvent.class, event, listeners);
+                // holds the event back until the asynchronous listeners finish
+                return pending.isEmpty() ? Mono.empty() : Mono.when(pending);
             }
             
             @Override
             public @NotNull Publisher<?> onChatInputInteraction(@NotNull ChatInputInteractionEvent e) {
+                var dispatched = new InteractionDispatchedEvent();
+                dispatched.begin();
+                var start = System.nanoTime();
                 var event = new SlashCommandInvokeEventImpl(bridge, e);
-                for (var listener : listener_list.getListeners(SlashCommandInvokeListener.class))
-                    listener.onSlashCommandInvoke(event);
-                return Mono.empty();
+                var recorder = BridgeMetrics.recorder();
+                recorder.eventReceived(bridge, SlashCommandInvokeEvent.class, System.nanoTime() - start);
+                var listeners = 0;
+                for (var listener : listener_list.getListeners(SlashCommandInvokeListener.class)) {
+                    listeners++;
+                    var executed = new ListenerExecutedEvent();
+                    executed.begin();
+                    var listener_start = System.nanoTime();
+                    var watch = ListenerWatchdog.watch(bridge, SlashCommandInvokeEvent.class, event, listener, listener_start);
+                    var thrown = true;
+                    try {
+                        listener.onSlashCommandInvoke(event);
+                        thrown = false;
+                    } finally {
+                        watch.done();
+                        recorder.listenerCompleted(bridge, SlashCommandInvokeEvent.class, listener, System.nanoTime() - listener_start);
+                        executed.complete(bridge, SlashCommandInvokeEvent.class, listener, thrown);
+                    }
+                }
+                var pending = new ArrayList<Mono<?>>();
+                for (var listener : listener_list.getListeners(AsyncSlashCommandInvokeListener.class)) {
+                    listeners++;
+                    pending.add(Mono.fromFuture(BridgeMetrics.asyncListener(bridge, SlashCommandInvokeEvent.class, event, listener, () -> listener.onSlashCommandInvoke(event)))
+                            .onErrorResume((t) -> {
+                                logger.error("Exception in asynchronous event listener", t);
+                                return Mono.empty();
+                            }));
+                }
+                dispatched.complete(bridge, SlashCommandInvokeEvent.class, event, listeners);
+                // holds the event back until the asynchronous listeners finish
+                return pending.isEmpty() ? Mono.empty() : Mono.when(pending);
             }
         });
     }
     
     @Override
     public @NotNull CompletableFuture<? extends @NotNull @Unmodifiable Set<? extends @NotNull SlashCommand>> getGlobalSlashCommands() {
-        return api.rest()
+        return BridgeMetrics.restCall(bridge, "DiscordApi.getGlobalSlashCommands", () -> api.rest()
                 .getApplicationService()
-                .getGlobalApplicationCommands(app_id.join())
+                .getGlobalApplicationCommands(BridgeMetrics.join(bridge, "DiscordApi.getGlobalSlashCommands", app_id))
                 .filter((e) -> e.type().toOptional().map((type) -> type == 1).orElse(false))
                 .map((e) -> new SlashCommandImpl(bridge, e, api))
                 .collect(Collectors.toUnmodifiableSet())
-                .toFuture();
+                .toFuture());
     }
     
     @Override
     public @NotNull CompletableFuture<? extends @NotNull @Unmodifiable Set<? extends @NotNull SlashCommand>> bulkUpdateGlobalCommands(@NotNull Set<? extends @NotNull CommandData> commands) {
-        return api.rest()
+        return BridgeMetrics.commandBulkUpdate(bridge, "DiscordApi.bulkUpdateGlobalCommands", commands.size(), () -> api.rest()
                 .getApplicationService()
                 .bulkOverwriteGlobalApplicationCommand(
-                        app_id.join(),
+                        BridgeMetrics.join(bridge, "DiscordApi.bulkUpdateGlobalCommands", app_id),
                         commands.stream()
                                 .map(SlashCommandData.class::cast)
                                 .map(bridge::convertData)
                                 .toList())
                 .map((e) -> new SlashCommandImpl(bridge, e, api))
                 .collect(Collectors.toUnmodifiableSet())
-                .toFuture();
+                .toFuture());
     }
     
     @Override
     public @NotNull @Unmodifiable Set<? extends Server> getServers() {
-        return guilds.join();
+        return BridgeMetrics.join(bridge, "DiscordApi.getServers", guilds);
     }
     @Override
     public <T extends ApiAttachableListener> void addListener(@NotNull Class<T> type, @NotNull T listener) {
@@ -122,6 +203,33 @@ public class DiscordApiImpl implements DiscordApi {
         listener_list.removeListener(type, listener);
     }
     
+    @Override
+    public <E extends Event> @NotNull Flow.Publisher<E> events(@NotNull Class<E> type, @NotNull OverflowStrategy overflow) {
+        var invoke = type.isAssignableFrom(SlashCommandInvokeEvent.class);
+        var autocomplete = type.isAssignableFrom(SlashCommandAutocompleteEvent.class);
+        if (!invoke && !autocomplete)
+            throw new IllegalArgumentException(String.format("unsupported event type %s", type));
+        // reactor's own backpressure operators stand in for EventPublisher, the gateway flux feeds the subscriber directly
+        var events = Flux.merge(
+                invoke ?
+                        api.on(ChatInputInteractionEvent.class)
+                                .map((e) -> type.cast(new SlashCommandInvokeEventImpl(bridge, e)))
+                        :
+                        Flux.<E>empty(),
+                autocomplete ?
+                        api.on(ChatInputAutoCompleteEvent.class)
+                                .map((e) -> type.cast(new SlashCommandAutocompleteEventImpl(bridge, e)))
+                        :
+                        Flux.<E>empty());
+        return JdkFlowAdapter.publisherToFlowPublisher(switch (overflow.getKind()) {
+            case BUFFER -> events.onBackpressureBuffer();
+            case DROP_OLDEST -> events.onBackpressureBuffer(overflow.getCapacity(),
+                    (e) -> logger.debug("dropped {}, {} events are waiting to be requested", e, overflow.getCapacity()),
+                    BufferOverflowStrategy.DROP_OLDEST);
+            case REJECT -> events.onBackpressureBuffer(overflow.getCapacity(), overflow::replyBusy, BufferOverflowStrategy.DROP_LATEST);
+        });
+    }
+    
     @Override
     public @NotNull Object getImplementation() {
         return api;
@@ -458,7 +458,34 @@ public final class DiscordBridgeDiscord4J implements DiscordBridge {
                 .collect(Collectors.toCollection(() -> EnumSet.noneOf(PermissionType.class))));
     }
     
+    /// Locale translation tables in both directions
+    ///
+    /// Discord4J uses plain language tags, the tags of every [DiscordLocale] are computed once here
+    /// so converting localizations doesn't need to parse anything
+    private static final class LocaleTable {
+        static final String[] to_discord4j;
+        static final Map<String, DiscordLocale> from_discord4j;
+        
+        static {
+            var locales = DiscordLocale.values();
+            to_discord4j = new String[locales.length];
+            var map = new HashMap<String, DiscordLocale>();
+            for (var locale : locales) {
+                var tag = locale.locale.toLanguageTag();
+                to_discord4j[locale.ordinal()] = tag;
+                if (locale != DiscordLocale.UNKNOWN)
+                    map.put(tag, locale);
+            }
+            from_discord4j = Map.copyOf(map);
+        }
+    }
+    
     public static DiscordLocale convertLocale(@NotNull String locale) {
+        var converted = LocaleTable.from_discord4j.get(locale);
+        if (converted != null)
+            return converted;
+        
+        // not one of the canonical tags, fall back to parsing it
         return DiscordLocale.fromLocale(Locale.forLanguageTag(locale))
                 .orElseGet(() -> {
                     log.debug("unsupported Discord4J locale '{}', converting to UNKNOWN", locale);
@@ -467,7 +494,24 @@ public final class DiscordBridgeDiscord4J implements DiscordBridge {
     }
     
     public static String convertLocale(@NotNull DiscordLocale locale) {
-        return locale.locale.toLanguageTag();
+        return LocaleTable.to_discord4j[locale.ordinal()];
+    }
+    
+    public static @NotNull Map<String, String> convertLocalizations(@NotNull Map<DiscordLocale, String> localizations) {
+        var converted = new HashMap<String, String>(localizations.size() * 2);
+        for (var e : localizations.entrySet())
+            converted.put(convertLocale(e.getKey()), e.getValue());
+        return converted;
+    }
+    
+    public static @NotNull @Unmodifiable Map<DiscordLocale, @NotNull String> convertInternalLocalizations(@NotNull Map<String, String> localizations) {
+        if (localizations.isEmpty())
+            return Map.of();
+        
+        var converted = new EnumMap<DiscordLocale, String>(DiscordLocale.class);
+        for (var e : localizations.entrySet())
+            converted.put(convertLocale(e.getKey()), e.getValue());
+        return Collections.unmodifiableMap(converted);
     }
     
     public @NotNull ApplicationCommandRequest convertData(@NotNull SlashCommandData data) {
@@ -475,22 +519,10 @@ public final class DiscordBridgeDiscord4J implements DiscordBridge {
                 .name(data.getName())
                 .description(data.getDescription())
                 .nameLocalizationsOrNull(
-                        data.getNameLocalizations()
-                                .entrySet()
-                                .stream()
-                                .map((e) -> Map.entry(
-                                        convertLocale(e.getKey()), e.getValue()
-                                ))
-                                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue))
+                        convertLocalizations(data.getNameLocalizations())
                 )
                 .descriptionLocalizationsOrNull(
-                        data.getDescriptionLocalizations()
-                                .entrySet()
-                                .stream()
-                                .map((e) -> Map.entry(
-                                        convertLocale(e.getKey()), e.getValue()
-                                ))
-                                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue))
+                        convertLocalizations(data.getDescriptionLocalizations())
                 )
                 .options(data.getOptions()
                         .stream()
@@ -532,22 +564,10 @@ public final class DiscordBridgeDiscord4J implements DiscordBridge {
                 .name(data.getName())
                 .description(data.getDescription())
                 .nameLocalizationsOrNull(
-                        data.getNameLocalizations()
-                                .entrySet()
-                                .stream()
-                                .map((e) -> Map.entry(
-                                        convertLocale(e.getKey()), e.getValue()
-                                ))
-                                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue))
+                        convertLocalizations(data.getNameLocalizations())
                 )
                 .descriptionLocalizationsOrNull(
-                        data.getDescriptionLocalizations()
-                                .entrySet()
-                                .stream()
-                                .map((e) -> Map.entry(
-                                        convertLocale(e.getKey()), e.getValue()
-                                ))
-                                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue))
+                        convertLocalizations(data.getDescriptionLocalizations())
                 )
                 .type(((ApplicationCommandOption.Type) getImplementationValue(data.getType())).getValue())
                 .options(data.getOptions()
@@ -581,13 +601,7 @@ public final class DiscordBridgeDiscord4J implements DiscordBridge {
         return ApplicationCommandOptionChoiceData.builder()
                 .name(data.getName())
                 .nameLocalizationsOrNull(
-                        data.getNameLocalizations()
-                                .entrySet()
-                                .stream()
-                                .map((e) -> Map.entry(
-                                        convertLocale(e.getKey()), e.getValue()
-                                ))
-                                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue))
+                        convertLocalizations(data.getNameLocalizations())
                 )
                 .value(data.getValue())
                 .build();
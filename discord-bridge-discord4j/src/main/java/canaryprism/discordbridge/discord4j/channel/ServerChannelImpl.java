@@ -17,6 +17,7 @@
 package canaryprism.discordbridge.discord4j.channel;
 
 import canaryprism.discordbridge.api.channel.ServerChannel;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
 import canaryprism.discordbridge.api.server.Server;
 import canaryprism.discordbridge.discord4j.DiscordBridgeDiscord4J;
 import canaryprism.discordbridge.discord4j.server.ServerImpl;
@@ -46,7 +47,7 @@ public class ServerChannelImpl<T extends GuildChannel> extends ChannelImpl<T> im
     
     @Override
     public @NotNull Server getServer() {
-        return server.join();
+        return BridgeMetrics.join(bridge, "ServerChannel.getServer", server);
     }
     
     @Override
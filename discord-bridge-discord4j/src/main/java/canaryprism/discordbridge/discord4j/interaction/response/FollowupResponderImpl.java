@@ -19,6 +19,7 @@ package canaryprism.discordbridge.discord4j.interaction.response;
 import canaryprism.discordbridge.api.DiscordBridge;
 import canaryprism.discordbridge.api.interaction.response.FollowupResponder;
 import canaryprism.discordbridge.api.message.MessageFlag;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
 import canaryprism.discordbridge.discord4j.DiscordBridgeDiscord4J;
 import discord4j.common.util.Snowflake;
 import discord4j.core.event.domain.interaction.ChatInputInteractionEvent;
@@ -42,9 +43,9 @@ public class FollowupResponderImpl implements FollowupResponder {
     
     @Override
     public @NotNull CompletableFuture<?> send() {
-        return event.createFollowup(content)
+        return BridgeMetrics.response(bridge, "followup.send", () -> event.createFollowup(content)
                 .withEphemeral(ephemeral)
-                .toFuture();
+                .toFuture());
     }
     
     @Override
@@ -52,8 +53,9 @@ public class FollowupResponderImpl implements FollowupResponder {
         if (ephemeral)
             throw new IllegalArgumentException("can't edit message to be ephemeral");
         
-        return event.editFollowup(Snowflake.of(message_id))
-                .toFuture();
+        return BridgeMetrics.response(bridge, "followup.update", () -> event.editFollowup(Snowflake.of(message_id))
+                .withContentOrNull(content)
+                .toFuture());
     }
     
     @Override
@@ -19,6 +19,7 @@ package canaryprism.discordbridge.discord4j.interaction.response;
 import canaryprism.discordbridge.api.DiscordBridge;
 import canaryprism.discordbridge.api.interaction.response.ImmediateResponder;
 import canaryprism.discordbridge.api.message.MessageFlag;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
 import canaryprism.discordbridge.discord4j.DiscordBridgeDiscord4J;
 import discord4j.core.spec.InteractionApplicationCommandCallbackReplyMono;
 import org.jetbrains.annotations.NotNull;
@@ -38,7 +39,7 @@ public class ImmediateResponderImpl implements ImmediateResponder {
     
     @Override
     public @NotNull CompletableFuture<?> respond() {
-        return responder.toFuture();
+        return BridgeMetrics.response(bridge, "respond", () -> responder.toFuture());
     }
     
     @Override
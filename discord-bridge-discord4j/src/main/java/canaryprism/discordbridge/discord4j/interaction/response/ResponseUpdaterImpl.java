@@ -19,6 +19,7 @@ package canaryprism.discordbridge.discord4j.interaction.response;
 import canaryprism.discordbridge.api.DiscordBridge;
 import canaryprism.discordbridge.api.interaction.response.ResponseUpdater;
 import canaryprism.discordbridge.api.message.MessageFlag;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
 import canaryprism.discordbridge.discord4j.DiscordBridgeDiscord4J;
 import discord4j.core.spec.InteractionReplyEditMono;
 import org.jetbrains.annotations.NotNull;
@@ -38,7 +39,7 @@ public class ResponseUpdaterImpl implements ResponseUpdater {
     
     @Override
     public @NotNull CompletableFuture<?> update() {
-        return updater.toFuture();
+        return BridgeMetrics.response(bridge, "update", () -> updater.toFuture());
     }
     
     @Override
@@ -22,6 +22,7 @@ import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandOptionCh
 import canaryprism.discordbridge.api.entity.user.User;
 import canaryprism.discordbridge.api.interaction.slash.SlashCommandAutocompleteInteraction;
 import canaryprism.discordbridge.api.interaction.slash.SlashCommandInteractionOption;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
 import canaryprism.discordbridge.api.server.Server;
 import canaryprism.discordbridge.discord4j.DiscordBridgeDiscord4J;
 import canaryprism.discordbridge.discord4j.channel.ChannelDirector;
@@ -40,10 +41,15 @@ public record SlashCommandAutocompleteInteractionImpl(DiscordBridgeDiscord4J bri
     
     @Override
     public @NotNull CompletableFuture<?> suggest(@NotNull List<? extends @NotNull SlashCommandOptionChoiceData> choices) {
-        return event.respondWithSuggestions(choices.stream()
+        return BridgeMetrics.response(bridge, "suggest", () -> event.respondWithSuggestions(choices.stream()
                         .map(bridge::convertData)
                         .toList())
-                .toFuture();
+                .toFuture());
+    }
+    
+    @Override
+    public long getId() {
+        return event.getInteraction().getId().asLong();
     }
     
     @Override
@@ -50,17 +50,10 @@ public record SlashCommandImpl(DiscordBridgeDiscord4J bridge, ApplicationCommand
     
     @Override
     public @NotNull @Unmodifiable Map<DiscordLocale, @NotNull String> getNameLocalizations() {
-        return data.nameLocalizations()
+        return DiscordBridgeDiscord4J.convertInternalLocalizations(data.nameLocalizations()
                 .toOptional()
                 .flatMap(Function.identity())
-                .orElse(Map.of())
-                .entrySet()
-                .stream()
-                .map((e) -> Map.entry(
-                        DiscordBridgeDiscord4J.convertLocale(e.getKey()),
-                        e.getValue()
-                ))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+                .orElse(Map.of()));
     }
     
     @Override
@@ -70,17 +63,10 @@ public record SlashCommandImpl(DiscordBridgeDiscord4J bridge, ApplicationCommand
     
     @Override
     public @NotNull @Unmodifiable Map<DiscordLocale, @NotNull String> getDescriptionLocalizations() {
-        return data.descriptionLocalizations()
+        return DiscordBridgeDiscord4J.convertInternalLocalizations(data.descriptionLocalizations()
                 .toOptional()
                 .flatMap(Function.identity())
-                .orElse(Map.of())
-                .entrySet()
-                .stream()
-                .map((e) -> Map.entry(
-                        DiscordBridgeDiscord4J.convertLocale(e.getKey()),
-                        e.getValue()
-                ))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+                .orElse(Map.of()));
     }
     
     @Override
@@ -24,6 +24,7 @@ import canaryprism.discordbridge.api.interaction.response.ImmediateResponder;
 import canaryprism.discordbridge.api.interaction.response.ResponseUpdater;
 import canaryprism.discordbridge.api.interaction.slash.SlashCommandInvokeInteraction;
 import canaryprism.discordbridge.api.interaction.slash.SlashCommandInteractionOption;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
 import canaryprism.discordbridge.api.server.Server;
 import canaryprism.discordbridge.discord4j.DiscordBridgeDiscord4J;
 import canaryprism.discordbridge.discord4j.channel.ChannelDirector;
@@ -71,6 +72,11 @@ public record SlashCommandInvokeInteractionImpl(DiscordBridgeDiscord4J bridge, C
         );
     }
     
+    @Override
+    public long getId() {
+        return interaction.getId().asLong();
+    }
+    
     @Override
     public long getApplicationId() {
         return interaction.getApplicationId().asLong();
@@ -98,9 +104,9 @@ public record SlashCommandInvokeInteractionImpl(DiscordBridgeDiscord4J bridge, C
     
     @Override
     public @NotNull CompletableFuture<? extends @NotNull ResponseUpdater> respondLater(boolean ephemeral) {
-        return event.deferReply(InteractionCallbackSpec.builder().ephemeral(ephemeral).build())
+        return BridgeMetrics.response(bridge, "respondLater", () -> event.deferReply(InteractionCallbackSpec.builder().ephemeral(ephemeral).build())
                 .toFuture()
-                .thenApply((ignored) -> new ResponseUpdaterImpl(bridge, event.editReply()));
+                .thenApply((ignored) -> new ResponseUpdaterImpl(bridge, event.editReply())));
     }
     
     @Override
@@ -26,7 +26,6 @@ import org.jetbrains.annotations.Unmodifiable;
 
 import java.util.Map;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 public record SlashCommandOptionChoiceImpl(DiscordBridgeDiscord4J bridge, ApplicationCommandOptionChoiceData data) implements SlashCommandOptionChoice {
     
@@ -42,17 +41,10 @@ public record SlashCommandOptionChoiceImpl(DiscordBridgeDiscord4J bridge, Applic
     
     @Override
     public @NotNull @Unmodifiable Map<DiscordLocale, @NotNull String> getNameLocalizations() {
-        return data.nameLocalizations()
+        return DiscordBridgeDiscord4J.convertInternalLocalizations(data.nameLocalizations()
                 .toOptional()
                 .flatMap(Function.identity())
-                .orElse(Map.of())
-                .entrySet()
-                .stream()
-                .map((e) -> Map.entry(
-                        DiscordBridgeDiscord4J.convertLocale(e.getKey()),
-                        e.getValue()
-                ))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+                .orElse(Map.of()));
     }
     
     @Override
@@ -46,17 +46,10 @@ public record SlashCommandOptionImpl(DiscordBridgeDiscord4J bridge, ApplicationC
     
     @Override
     public @NotNull @Unmodifiable Map<DiscordLocale, @NotNull String> getNameLocalizations() {
-        return data.nameLocalizations()
+        return DiscordBridgeDiscord4J.convertInternalLocalizations(data.nameLocalizations()
                 .toOptional()
                 .flatMap(Function.identity())
-                .orElse(Map.of())
-                .entrySet()
-                .stream()
-                .map((e) -> Map.entry(
-                        DiscordBridgeDiscord4J.convertLocale(e.getKey()),
-                        e.getValue()
-                ))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+                .orElse(Map.of()));
     }
     
     @Override
@@ -66,17 +59,10 @@ public record SlashCommandOptionImpl(DiscordBridgeDiscord4J bridge, ApplicationC
     
     @Override
     public @NotNull @Unmodifiable Map<DiscordLocale, @NotNull String> getDescriptionLocalizations() {
-        return data.descriptionLocalizations()
+        return DiscordBridgeDiscord4J.convertInternalLocalizations(data.descriptionLocalizations()
                 .toOptional()
                 .flatMap(Function.identity())
-                .orElse(Map.of())
-                .entrySet()
-                .stream()
-                .map((e) -> Map.entry(
-                        DiscordBridgeDiscord4J.convertLocale(e.getKey()),
-                        e.getValue()
-                ))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+                .orElse(Map.of()));
     }
     
     @Override
@@ -21,6 +21,7 @@ import canaryprism.discordbridge.api.data.interaction.CommandData;
 import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandData;
 import canaryprism.discordbridge.api.interaction.Command;
 import canaryprism.discordbridge.api.interaction.slash.SlashCommand;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
 import canaryprism.discordbridge.api.server.Server;
 import canaryprism.discordbridge.discord4j.DiscordBridgeDiscord4J;
 import canaryprism.discordbridge.discord4j.interaction.slash.SlashCommandImpl;
@@ -42,21 +43,21 @@ public record ServerImpl(DiscordBridgeDiscord4J bridge, Guild server, GatewayDis
     
     @Override
     public @NotNull CompletableFuture<? extends @NotNull @Unmodifiable Set<? extends @NotNull SlashCommand>> getServerSlashCommands() {
-        return client.rest()
+        return BridgeMetrics.restCall(bridge, "Server.getServerSlashCommands", () -> client.rest()
                 .getApplicationService()
-                .getGuildApplicationCommands(app_id.join(), server.getId().asLong())
+                .getGuildApplicationCommands(BridgeMetrics.join(bridge, "Server.getServerSlashCommands", app_id), server.getId().asLong())
                 .filter((e) -> e.type().toOptional().map((type) -> type == 1).orElse(false))
                 .map((e) -> new SlashCommandImpl(bridge, e, client))
                 .collect(Collectors.toUnmodifiableSet())
-                .toFuture();
+                .toFuture());
     }
     
     @Override
     public @NotNull CompletableFuture<? extends @NotNull @Unmodifiable Set<? extends @NotNull Command>> bulkUpdateServerCommands(Set<? extends @NotNull CommandData> commands) {
-        return client.rest()
+        return BridgeMetrics.commandBulkUpdate(bridge, "Server.bulkUpdateServerCommands", commands.size(), () -> client.rest()
                 .getApplicationService()
                 .bulkOverwriteGuildApplicationCommand(
-                        app_id.join(),
+                        BridgeMetrics.join(bridge, "Server.bulkUpdateServerCommands", app_id),
                         server.getId().asLong(),
                         commands.stream()
                                 .map(SlashCommandData.class::cast)
@@ -64,7 +65,7 @@ public record ServerImpl(DiscordBridgeDiscord4J bridge, Guild server, GatewayDis
                                 .toList())
                 .map((e) -> new SlashCommandImpl(bridge, e, client))
                 .collect(Collectors.toUnmodifiableSet())
-                .toFuture();
+                .toFuture());
     }
     
     @Override
@@ -10,6 +10,8 @@ repositories {
 
 dependencies {
     compileOnly(project(":discord-bridge-api"))
+    implementation("io.github.canary-prism:commons-event:1.0.0")
+    implementation("org.slf4j:slf4j-api")
     
     testImplementation(project(":discord-bridge-api"))
 }
\ No newline at end of file
@@ -0,0 +1,217 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.identity;
+
+import canaryprism.commons.event.EventListenerList;
+import canaryprism.discordbridge.api.DiscordApi;
+import canaryprism.discordbridge.api.DiscordBridge;
+import canaryprism.discordbridge.api.data.interaction.CommandData;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandData;
+import canaryprism.discordbridge.api.event.Event;
+import canaryprism.discordbridge.api.event.interaction.SlashCommandAutocompleteEvent;
+import canaryprism.discordbridge.api.event.interaction.SlashCommandInvokeEvent;
+import canaryprism.discordbridge.api.event.stream.EventPublisher;
+import canaryprism.discordbridge.api.event.stream.OverflowStrategy;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommand;
+import canaryprism.discordbridge.api.listener.ApiAttachableListener;
+import canaryprism.discordbridge.api.listener.interaction.AsyncSlashCommandAutocompleteListener;
+import canaryprism.discordbridge.api.listener.interaction.AsyncSlashCommandInvokeListener;
+import canaryprism.discordbridge.api.listener.interaction.SlashCommandAutocompleteListener;
+import canaryprism.discordbridge.api.listener.interaction.SlashCommandInvokeListener;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
+import canaryprism.discordbridge.api.metrics.ListenerWatchdog;
+import canaryprism.discordbridge.api.metrics.jfr.InteractionDispatchedEvent;
+import canaryprism.discordbridge.api.metrics.jfr.ListenerExecutedEvent;
+import canaryprism.discordbridge.api.server.Server;
+import canaryprism.discordbridge.identity.event.interaction.SlashCommandAutocompleteEventImpl;
+import canaryprism.discordbridge.identity.event.interaction.SlashCommandInvokeEventImpl;
+import canaryprism.discordbridge.identity.interaction.slash.SlashCommandImpl;
+import canaryprism.discordbridge.identity.memory.InMemoryDiscord;
+import canaryprism.discordbridge.identity.memory.SyntheticInteraction;
+import canaryprism.discordbridge.identity.server.ServerImpl;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+public record DiscordApiImpl(IdentityBridge bridge, InMemoryDiscord discord, EventListenerList<ApiAttachableListener> listener_list) implements DiscordApi {
+    
+    private static final Logger logger = LoggerFactory.getLogger(DiscordApiImpl.class);
+    
+    public DiscordApiImpl(IdentityBridge bridge, InMemoryDiscord discord) {
+        this(bridge, discord, new EventListenerList<>());
+    }
+    
+    public DiscordApiImpl {
+        discord.addInteractionHandler((e) -> {
+            if (e.autocomplete())
+                dispatchAutocomplete(bridge, discord, listener_list, e);
+            else
+                dispatchInvoke(bridge, discord, listener_list, e);
+        });
+    }
+    
+    private static void dispatchAutocomplete(IdentityBridge bridge, InMemoryDiscord discord,
+                                             EventListenerList<ApiAttachableListener> listener_list, SyntheticInteraction e) {
+        var dispatched = new InteractionDispatchedEvent();
+        dispatched.begin();
+        var start = System.nanoTime();
+        var event = new SlashCommandAutocompleteEventImpl(bridge, discord, e);
+        var recorder = BridgeMetrics.recorder();
+        recorder.eventReceived(bridge, SlashCommandAutocompleteEvent.class, System.nanoTime() - start);
+        var listeners = 0;
+        for (var listener : listener_list.getListeners(SlashCommandAutocompleteListener.class)) {
+            listeners++;
+            var executed = new ListenerExecutedEvent();
+            executed.begin();
+            var listener_start = System.nanoTime();
+            var watch = ListenerWatchdog.watch(bridge, SlashCommandAutocompleteEvent.class, event, listener, listener_start);
+            var thrown = true;
+            try {
+                listener.onSlashCommandAutocomplete(event);
+                thrown = false;
+            } finally {
+                watch.done();
+                recorder.listenerCompleted(bridge, SlashCommandAutocompleteEvent.class, listener, System.nanoTime() - listener_start);
+                executed.complete(bridge, SlashCommandAutocompleteEvent.class, listener, thrown);
+            }
+        }
+        for (var listener : listener_list.getListeners(AsyncSlashCommandAutocompleteListener.class)) {
+            listeners++;
+            BridgeMetrics.asyncListener(bridge, SlashCommandAutocompleteEvent.class, event, listener, () -> listener.onSlashCommandAutocomplete(event))
+                    .exceptionally((t) -> {
+                        logger.error("Exception in asynchronous event listener", t);
+                        return null;
+                    });
+        }
+        dispatched.complete(bridge, SlashCommandAutocompleteEvent.class, event, listeners);
+    }
+    
+    private static void dispatchInvoke(IdentityBridge bridge, InMemoryDiscord discord,
+                                       EventListenerList<ApiAttachableListener> listener_list, SyntheticInteraction e) {
+        var dispatched = new InteractionDispatchedEvent();
+        dispatched.begin();
+        var start = System.nanoTime();
+        var event = new SlashCommandInvokeEventImpl(bridge, discord, e);
+        var recorder = BridgeMetrics.recorder();
+        recorder.eventReceived(bridge, SlashCommandInvokeEvent.class, System.nanoTime() - start);
+        var listeners = 0;
+        for (var listener : listener_list.getListeners(SlashCommandInvokeListener.class)) {
+            listeners++;
+            var executed = new ListenerExecutedEvent();
+            executed.begin();
+            var listener_start = System.nanoTime();
+            var watch = ListenerWatchdog.watch(bridge, SlashCommandInvokeEvent.class, event, listener, listener_start);
+            var thrown = true;
+            try {
+                listener.onSlashCommandInvoke(event);
+                thrown = false;
+            } finally {
+                watch.done();
+                recorder.listenerCompleted(bridge, SlashCommandInvokeEvent.class, listener, System.nanoTime() - listener_start);
+                executed.complete(bridge, SlashCommandInvokeEvent.class, listener, thrown);
+            }
+        }
+        for (var listener : listener_list.getListeners(AsyncSlashCommandInvokeListener.class)) {
+            listeners++;
+            BridgeMetrics.asyncListener(bridge, SlashCommandInvokeEvent.class, event, listener, () -> listener.onSlashCommandInvoke(event))
+                    .exceptionally((t) -> {
+                        logger.error("Exception in asynchronous event listener", t);
+                        return null;
+                    });
+        }
+        dispatched.complete(bridge, SlashCommandInvokeEvent.class, event, listeners);
+    }
+    
+    @Override
+    public @NotNull CompletableFuture<? extends @NotNull @Unmodifiable Set<? extends @NotNull SlashCommand>> getGlobalSlashCommands() {
+        return BridgeMetrics.restCall(bridge, "DiscordApi.getGlobalSlashCommands", () -> CompletableFuture.completedFuture(discord.getGlobalCommands()
+                .stream()
+                .map((e) -> new SlashCommandImpl(bridge, discord, e))
+                .collect(Collectors.toUnmodifiableSet())));
+    }
+    
+    @Override
+    public @NotNull CompletableFuture<? extends @NotNull @Unmodifiable Set<? extends @NotNull SlashCommand>> bulkUpdateGlobalCommands(@NotNull Set<? extends @NotNull CommandData> commands) {
+        return BridgeMetrics.commandBulkUpdate(bridge, "DiscordApi.bulkUpdateGlobalCommands", commands.size(), () -> {
+            try {
+                return CompletableFuture.completedFuture(discord.setGlobalCommands(commands.stream()
+                                .map(SlashCommandData.class::cast)
+                                .toList())
+                        .stream()
+                        .map((e) -> new SlashCommandImpl(bridge, discord, e))
+                        .collect(Collectors.toUnmodifiableSet()));
+            } catch (IllegalArgumentException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        });
+    }
+    
+    @Override
+    public @NotNull @Unmodifiable Set<? extends Server> getServers() {
+        return discord.getServers()
+                .entrySet()
+                .stream()
+                .map((e) -> new ServerImpl(bridge, discord, e.getKey(), e.getValue()))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+    
+    @Override
+    public <T extends ApiAttachableListener> void addListener(@NotNull Class<T> type, @NotNull T listener) {
+        listener_list.addListener(type, listener);
+    }
+    
+    @Override
+    public <T extends ApiAttachableListener> void removeListener(@NotNull Class<T> type, @NotNull T listener) {
+        listener_list.removeListener(type, listener);
+    }
+    
+    @Override
+    public <E extends Event> @NotNull Flow.Publisher<E> events(@NotNull Class<E> type, @NotNull OverflowStrategy overflow) {
+        var invoke = type.isAssignableFrom(SlashCommandInvokeEvent.class);
+        var autocomplete = type.isAssignableFrom(SlashCommandAutocompleteEvent.class);
+        if (!invoke && !autocomplete)
+            throw new IllegalArgumentException(String.format("unsupported event type %s", type));
+        return new EventPublisher<>(overflow, (sink) -> {
+            Consumer<SyntheticInteraction> handler = (e) -> {
+                if (e.autocomplete() ? autocomplete : invoke)
+                    sink.accept(type.cast(e.autocomplete() ?
+                            new SlashCommandAutocompleteEventImpl(bridge, discord, e)
+                            :
+                            new SlashCommandInvokeEventImpl(bridge, discord, e)));
+            };
+            discord.addInteractionHandler(handler);
+            return () -> discord.removeInteractionHandler(handler);
+        });
+    }
+    
+    @Override
+    public @NotNull Object getImplementation() {
+        return discord;
+    }
+    
+    @Override
+    public @NotNull DiscordBridge getBridge() {
+        return bridge;
+    }
+}
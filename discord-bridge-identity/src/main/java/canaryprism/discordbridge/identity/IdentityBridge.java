@@ -23,6 +23,7 @@ import canaryprism.discordbridge.api.enums.DiscordBridgeEnum;
 import canaryprism.discordbridge.api.enums.PartialSupport;
 import canaryprism.discordbridge.api.enums.TypeValue;
 import canaryprism.discordbridge.api.exceptions.UnsupportedImplementationException;
+import canaryprism.discordbridge.identity.memory.InMemoryDiscord;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.reflect.Type;
@@ -33,12 +34,14 @@ public final class IdentityBridge implements DiscordBridge {
     
     @Override
     public boolean canLoadApi(@NotNull Object o) {
-        return false;
+        return o instanceof InMemoryDiscord;
     }
     
     @Override
     public @NotNull DiscordApi loadApi(@NotNull Object api) {
-        throw new UnsupportedImplementationException("discord-bridge-identity cannot load any object");
+        if (api instanceof InMemoryDiscord discord)
+            return new DiscordApiImpl(this, discord);
+        throw new UnsupportedImplementationException("discord-bridge-identity can only load an InMemoryDiscord");
     }
     
     @Override
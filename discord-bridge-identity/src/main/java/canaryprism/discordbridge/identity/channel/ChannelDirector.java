@@ -0,0 +1,34 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.identity.channel;
+
+import canaryprism.discordbridge.api.channel.MessageChannel;
+import canaryprism.discordbridge.identity.IdentityBridge;
+import canaryprism.discordbridge.identity.memory.InMemoryDiscord;
+import canaryprism.discordbridge.identity.server.ServerImpl;
+import org.jetbrains.annotations.Nullable;
+
+public final class ChannelDirector {
+    
+    private ChannelDirector() {}
+    
+    public static MessageChannel wrapChannel(IdentityBridge bridge, InMemoryDiscord discord, long id, @Nullable Long server_id) {
+        if (server_id == null)
+            return new MessageChannelImpl(bridge, discord, id);
+        return new ServerMessageChannelImpl(bridge, discord, id, ServerImpl.of(bridge, discord, server_id));
+    }
+}
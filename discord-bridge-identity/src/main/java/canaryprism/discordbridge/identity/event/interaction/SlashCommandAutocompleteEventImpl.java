@@ -0,0 +1,44 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.identity.event.interaction;
+
+import canaryprism.discordbridge.api.DiscordBridge;
+import canaryprism.discordbridge.api.event.interaction.SlashCommandAutocompleteEvent;
+import canaryprism.discordbridge.api.interaction.Interaction;
+import canaryprism.discordbridge.identity.IdentityBridge;
+import canaryprism.discordbridge.identity.interaction.slash.SlashCommandAutocompleteInteractionImpl;
+import canaryprism.discordbridge.identity.memory.InMemoryDiscord;
+import canaryprism.discordbridge.identity.memory.SyntheticInteraction;
+import org.jetbrains.annotations.NotNull;
+
+public record SlashCommandAutocompleteEventImpl(IdentityBridge bridge, InMemoryDiscord discord, SyntheticInteraction interaction) implements SlashCommandAutocompleteEvent {
+    
+    @Override
+    public @NotNull Interaction getInteraction() {
+        return new SlashCommandAutocompleteInteractionImpl(bridge, discord, interaction);
+    }
+    
+    @Override
+    public @NotNull Object getImplementation() {
+        return interaction;
+    }
+    
+    @Override
+    public @NotNull DiscordBridge getBridge() {
+        return bridge;
+    }
+}
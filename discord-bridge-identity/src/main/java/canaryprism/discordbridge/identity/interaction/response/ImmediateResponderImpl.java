@@ -0,0 +1,81 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.identity.interaction.response;
+
+import canaryprism.discordbridge.api.DiscordBridge;
+import canaryprism.discordbridge.api.interaction.response.ImmediateResponder;
+import canaryprism.discordbridge.api.message.MessageFlag;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
+import canaryprism.discordbridge.identity.IdentityBridge;
+import canaryprism.discordbridge.identity.memory.InMemoryDiscord;
+import canaryprism.discordbridge.identity.memory.RecordedResponse;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+public class ImmediateResponderImpl implements ImmediateResponder {
+    
+    public final IdentityBridge bridge;
+    public final InMemoryDiscord discord;
+    public final long interaction_id;
+    
+    public ImmediateResponderImpl(IdentityBridge bridge, InMemoryDiscord discord, long interaction_id) {
+        this.bridge = bridge;
+        this.discord = discord;
+        this.interaction_id = interaction_id;
+    }
+    
+    private String content;
+    private EnumSet<MessageFlag> flags = EnumSet.noneOf(MessageFlag.class);
+    
+    private CompletableFuture<?> record(String kind, Object result) {
+        discord.recordResponse(new RecordedResponse(interaction_id, kind, content, Set.copyOf(flags), List.of()));
+        return CompletableFuture.completedFuture(result);
+    }
+    
+    @Override
+    public @NotNull CompletableFuture<?> respond() {
+        return BridgeMetrics.response(bridge, "respond", () -> record("respond", null));
+    }
+    
+    @Override
+    public @NotNull ImmediateResponder setContent(@NotNull String text) {
+        this.content = text;
+        return this;
+    }
+    
+    @Override
+    public @NotNull ImmediateResponder setFlags(EnumSet<MessageFlag> flags) {
+        if (flags.contains(MessageFlag.UNKNOWN))
+            throw new IllegalArgumentException("UNKNOWN flag disallowed here");
+        this.flags = EnumSet.copyOf(flags);
+        return this;
+    }
+    
+    @Override
+    public @NotNull Object getImplementation() {
+        return discord;
+    }
+    
+    @Override
+    public @NotNull DiscordBridge getBridge() {
+        return bridge;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.identity.interaction.slash;
+
+import canaryprism.discordbridge.api.DiscordBridge;
+import canaryprism.discordbridge.api.interaction.ContextType;
+import canaryprism.discordbridge.api.interaction.InstallationType;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommand;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandOption;
+import canaryprism.discordbridge.api.misc.DiscordLocale;
+import canaryprism.discordbridge.api.server.Server;
+import canaryprism.discordbridge.api.server.permission.PermissionType;
+import canaryprism.discordbridge.identity.IdentityBridge;
+import canaryprism.discordbridge.identity.memory.InMemoryDiscord;
+import canaryprism.discordbridge.identity.memory.RegisteredCommand;
+import canaryprism.discordbridge.identity.server.ServerImpl;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+public record SlashCommandImpl(IdentityBridge bridge, InMemoryDiscord discord, RegisteredCommand command) implements SlashCommand {
+    
+    @Override
+    public @NotNull List<? extends @NotNull SlashCommandOption> getOptions() {
+        return command.data()
+                .getOptions()
+                .stream()
+                .map((e) -> new SlashCommandOptionImpl(bridge, e))
+                .toList();
+    }
+    
+    @Override
+    public long getApplicationId() {
+        return command.application_id();
+    }
+    
+    @Override
+    public boolean isDefaultDisabled() {
+        return command.data().isDefaultDisabled();
+    }
+    
+    @Override
+    public @NotNull Optional<? extends Set<? extends PermissionType>> getDefaultRequiredPermissions() {
+        return command.data()
+                .getRequiredPermissions()
+                .map(Set::copyOf);
+    }
+    
+    @SuppressWarnings("deprecation")
+    @Override
+    public boolean isEnabledInDMs() {
+        return command.server_id() == null && command.data().isEnabledInDMs();
+    }
+    
+    @Override
+    public @NotNull Optional<? extends @Unmodifiable Set<? extends ContextType>> getAllowedContexts() {
+        if (isServerCommand())
+            return Optional.empty();
+        
+        return command.data()
+                .getAllowedContexts()
+                .map(Set::copyOf);
+    }
+    
+    @Override
+    public @NotNull Optional<? extends @Unmodifiable Set<? extends InstallationType>> getInstallationTypes() {
+        if (isServerCommand())
+            return Optional.empty();
+        
+        return command.data()
+                .getAllowedInstallationTypes()
+                .map(Set::copyOf);
+    }
+    
+    @Override
+    public @NotNull Optional<? extends Server> getServer() {
+        return Optional.ofNullable(command.server_id())
+                .map((e) -> ServerImpl.of(bridge, discord, e));
+    }
+    
+    @Override
+    public boolean isNSFW() {
+        return command.data().isNSFW();
+    }
+    
+    @Override
+    public CompletableFuture<Void> delete() {
+        if (discord.deleteCommand(command.id()))
+            return CompletableFuture.completedFuture(null);
+        return CompletableFuture.failedFuture(new IllegalStateException(String.format("command %s was already deleted", command.id())));
+    }
+    
+    @Override
+    public @NotNull String getName() {
+        return command.data().getName();
+    }
+    
+    @Override
+    public @NotNull Map<DiscordLocale, @NotNull String> getNameLocalizations() {
+        return command.data().getNameLocalizations();
+    }
+    
+    @Override
+    public @NotNull String getDescription() {
+        return command.data().getDescription();
+    }
+    
+    @Override
+    public @NotNull Map<DiscordLocale, @NotNull String> getDescriptionLocalizations() {
+        return command.data().getDescriptionLocalizations();
+    }
+    
+    @Override
+    public long getId() {
+        return command.id();
+    }
+    
+    @Override
+    public @NotNull String getIdAsString() {
+        return Long.toString(command.id());
+    }
+    
+    @Override
+    public @NotNull Object getImplementation() {
+        return command;
+    }
+    
+    @Override
+    public @NotNull DiscordBridge getBridge() {
+        return bridge;
+    }
+}
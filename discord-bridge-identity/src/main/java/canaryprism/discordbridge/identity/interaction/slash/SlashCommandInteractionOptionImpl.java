@@ -0,0 +1,94 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.identity.interaction.slash;
+
+import canaryprism.discordbridge.api.DiscordBridge;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandOptionData;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandInteractionOption;
+import canaryprism.discordbridge.identity.IdentityBridge;
+import canaryprism.discordbridge.identity.channel.ChannelDirector;
+import canaryprism.discordbridge.identity.entity.user.UserImpl;
+import canaryprism.discordbridge.identity.memory.InMemoryDiscord;
+import canaryprism.discordbridge.identity.memory.SyntheticInteraction;
+import canaryprism.discordbridge.identity.memory.SyntheticOption;
+import canaryprism.discordbridge.identity.message.AttachmentImpl;
+import canaryprism.discordbridge.identity.server.permission.RoleImpl;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Optional;
+
+public record SlashCommandInteractionOptionImpl(IdentityBridge bridge, InMemoryDiscord discord, SyntheticInteraction interaction,
+                                                SyntheticOption option, @Nullable SlashCommandOptionData data) implements SlashCommandInteractionOption {
+    
+    public static @NotNull List<SlashCommandInteractionOptionImpl> wrap(IdentityBridge bridge, InMemoryDiscord discord, SyntheticInteraction interaction,
+                                                                      List<SyntheticOption> options, List<SlashCommandOptionData> data) {
+        return options.stream()
+                .map((option) -> new SlashCommandInteractionOptionImpl(bridge, discord, interaction, option, data.stream()
+                        .filter((e) -> e.getName().equals(option.name()))
+                        .findAny()
+                        .orElse(null)))
+                .toList();
+    }
+    
+    @Override
+    public @NotNull Optional<Boolean> isAutocompleteTarget() {
+        if (interaction.autocomplete() && option.focused())
+            return Optional.of(true);
+        else if (data != null && data.isAutocompletable())
+            return Optional.of(false);
+        else
+            return Optional.empty();
+    }
+    
+    @SuppressWarnings("DuplicateBranchesInSwitch")
+    @Override
+    public @NotNull Optional<?> getValue() {
+        var value = option.value();
+        if (value == null)
+            return Optional.empty();
+        return Optional.of(switch (option.type()) {
+            case USER -> new UserImpl(bridge, discord, (Long) value);
+            case CHANNEL -> ChannelDirector.wrapChannel(bridge, discord, (Long) value, interaction.server_id());
+            case ROLE -> new RoleImpl(bridge, discord, (Long) value);
+            case MENTIONABLE -> new UserImpl(bridge, discord, (Long) value);
+            case ATTACHMENT -> new AttachmentImpl(bridge, discord, (Long) value);
+            default -> value;
+        });
+    }
+    
+    @Override
+    public @NotNull String getName() {
+        return option.name();
+    }
+    
+    @Override
+    public @NotNull List<? extends @NotNull SlashCommandInteractionOption> getOptions() {
+        return wrap(bridge, discord, interaction, option.options(), (data == null) ? List.of() : data.getOptions());
+    }
+    
+    @Override
+    public @NotNull Object getImplementation() {
+        return option;
+    }
+    
+    @Override
+    public @NotNull DiscordBridge getBridge() {
+        return bridge;
+    }
+}
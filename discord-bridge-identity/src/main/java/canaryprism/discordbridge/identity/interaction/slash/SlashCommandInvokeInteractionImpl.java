@@ -0,0 +1,123 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.identity.interaction.slash;
+
+import canaryprism.discordbridge.api.DiscordBridge;
+import canaryprism.discordbridge.api.channel.MessageChannel;
+import canaryprism.discordbridge.api.entity.user.User;
+import canaryprism.discordbridge.api.interaction.response.FollowupResponder;
+import canaryprism.discordbridge.api.interaction.response.ImmediateResponder;
+import canaryprism.discordbridge.api.interaction.response.ResponseUpdater;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandInteractionOption;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandInvokeInteraction;
+import canaryprism.discordbridge.api.message.MessageFlag;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
+import canaryprism.discordbridge.api.server.Server;
+import canaryprism.discordbridge.identity.IdentityBridge;
+import canaryprism.discordbridge.identity.channel.ChannelDirector;
+import canaryprism.discordbridge.identity.entity.user.UserImpl;
+import canaryprism.discordbridge.identity.interaction.response.FollowupResponderImpl;
+import canaryprism.discordbridge.identity.interaction.response.ImmediateResponderImpl;
+import canaryprism.discordbridge.identity.interaction.response.ResponseUpdaterImpl;
+import canaryprism.discordbridge.identity.memory.InMemoryDiscord;
+import canaryprism.discordbridge.identity.memory.RecordedResponse;
+import canaryprism.discordbridge.identity.memory.SyntheticInteraction;
+import canaryprism.discordbridge.identity.server.ServerImpl;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+public record SlashCommandInvokeInteractionImpl(IdentityBridge bridge, InMemoryDiscord discord, SyntheticInteraction interaction) implements SlashCommandInvokeInteraction {
+    
+    @Override
+    public long getId() {
+        return interaction.id();
+    }
+    
+    @Override
+    public long getApplicationId() {
+        return interaction.command().application_id();
+    }
+    
+    @Override
+    public long getCommandId() {
+        return interaction.command().id();
+    }
+    
+    @Override
+    public @NotNull String getCommandName() {
+        return interaction.command().data().getName();
+    }
+    
+    @Override
+    public @NotNull Optional<Long> getServerCommandServerId() {
+        return Optional.ofNullable(interaction.command().server_id());
+    }
+    
+    @Override
+    public @NotNull User getUser() {
+        return new UserImpl(bridge, discord, interaction.user_id());
+    }
+    
+    @Override
+    public @NotNull Optional<? extends Server> getServer() {
+        return Optional.ofNullable(interaction.server_id())
+                .map((e) -> ServerImpl.of(bridge, discord, e));
+    }
+    
+    @Override
+    public @NotNull Optional<? extends MessageChannel> getChannel() {
+        return Optional.of(ChannelDirector.wrapChannel(bridge, discord, interaction.channel_id(), interaction.server_id()));
+    }
+    
+    @Override
+    public @NotNull List<? extends @NotNull SlashCommandInteractionOption> getOptions() {
+        return SlashCommandInteractionOptionImpl.wrap(bridge, discord, interaction, interaction.options(), interaction.command().data().getOptions());
+    }
+    
+    @Override
+    public @NotNull ImmediateResponder createImmediateResponder() {
+        return new ImmediateResponderImpl(bridge, discord, interaction.id());
+    }
+    
+    @Override
+    public @NotNull CompletableFuture<? extends @NotNull ResponseUpdater> respondLater(boolean ephemeral) {
+        return BridgeMetrics.response(bridge, "respondLater", () -> {
+            var flags = ephemeral ? Set.of(MessageFlag.EPHEMERAL) : Set.<MessageFlag>of();
+            discord.recordResponse(new RecordedResponse(interaction.id(), "respondLater", null, flags, List.of()));
+            return CompletableFuture.completedFuture(new ResponseUpdaterImpl(bridge, discord, interaction.id()));
+        });
+    }
+    
+    @Override
+    public @NotNull FollowupResponder createFollowupResponder() {
+        return new FollowupResponderImpl(bridge, discord, interaction.id());
+    }
+    
+    @Override
+    public @NotNull Object getImplementation() {
+        return interaction;
+    }
+    
+    @Override
+    public @NotNull DiscordBridge getBridge() {
+        return bridge;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.identity.interaction.slash;
+
+import canaryprism.discordbridge.api.DiscordBridge;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandOptionChoiceData;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandOptionChoice;
+import canaryprism.discordbridge.api.misc.DiscordLocale;
+import canaryprism.discordbridge.identity.IdentityBridge;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+public record SlashCommandOptionChoiceImpl(IdentityBridge bridge, SlashCommandOptionChoiceData choice) implements SlashCommandOptionChoice {
+    
+    @Override
+    public @NotNull Object getValue() {
+        return choice.getValue();
+    }
+    
+    @Override
+    public @NotNull Map<DiscordLocale, @NotNull String> getNameLocalizations() {
+        return choice.getNameLocalizations();
+    }
+    
+    @Override
+    public @NotNull String getName() {
+        return choice.getName();
+    }
+    
+    @Override
+    public @NotNull Object getImplementation() {
+        return choice;
+    }
+    
+    @Override
+    public @NotNull DiscordBridge getBridge() {
+        return bridge;
+    }
+}
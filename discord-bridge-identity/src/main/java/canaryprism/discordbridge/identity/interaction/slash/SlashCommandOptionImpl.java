@@ -0,0 +1,132 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.identity.interaction.slash;
+
+import canaryprism.discordbridge.api.DiscordBridge;
+import canaryprism.discordbridge.api.channel.ChannelType;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandOptionData;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandOption;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandOptionChoice;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandOptionType;
+import canaryprism.discordbridge.api.misc.DiscordLocale;
+import canaryprism.discordbridge.identity.IdentityBridge;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+public record SlashCommandOptionImpl(IdentityBridge bridge, SlashCommandOptionData option) implements SlashCommandOption {
+    
+    @Override
+    public @NotNull SlashCommandOptionType getType() {
+        return option.getType();
+    }
+    
+    @Override
+    public boolean isRequired() {
+        return option.isRequired();
+    }
+    
+    @Override
+    public boolean isAutocompletable() {
+        return option.isAutocompletable();
+    }
+    
+    @Override
+    public @NotNull List<? extends @NotNull SlashCommandOptionChoice> getChoices() {
+        return option.getChoices()
+                .stream()
+                .map((e) -> new SlashCommandOptionChoiceImpl(bridge, e))
+                .toList();
+    }
+    
+    @Override
+    public @NotNull List<? extends @NotNull SlashCommandOption> getOptions() {
+        return option.getOptions()
+                .stream()
+                .map((e) -> new SlashCommandOptionImpl(bridge, e))
+                .toList();
+    }
+    
+    @Override
+    public @NotNull Set<? extends @NotNull ChannelType> getChannelTypeBounds() {
+        return Set.copyOf(option.getChannelTypeBounds());
+    }
+    
+    @Override
+    public @NotNull Optional<@Range(from = MIN_NUMBER, to = MAX_NUMBER) Long> getIntegerBoundsMin() {
+        return option.getIntegerBoundsMin();
+    }
+    
+    @Override
+    public @NotNull Optional<@Range(from = MIN_NUMBER, to = MAX_NUMBER) Long> getIntegerBoundsMax() {
+        return option.getIntegerBoundsMax();
+    }
+    
+    @Override
+    public @NotNull Optional<@Range(from = MIN_NUMBER, to = MAX_NUMBER) Double> getNumberBoundsMin() {
+        return option.getNumberBoundsMin();
+    }
+    
+    @Override
+    public @NotNull Optional<@Range(from = MIN_NUMBER, to = MAX_NUMBER) Double> getNumberBoundsMax() {
+        return option.getNumberBoundsMax();
+    }
+    
+    @Override
+    public @NotNull Optional<@Range(from = 0, to = Long.MAX_VALUE) Long> getStringLengthBoundsMin() {
+        return option.getStringLengthBoundsMin();
+    }
+    
+    @Override
+    public @NotNull Optional<@Range(from = 0, to = Long.MAX_VALUE) Long> getStringLengthBoundsMax() {
+        return option.getStringLengthBoundsMax();
+    }
+    
+    @Override
+    public @NotNull String getName() {
+        return option.getName();
+    }
+    
+    @Override
+    public @NotNull Map<DiscordLocale, @NotNull String> getNameLocalizations() {
+        return option.getNameLocalizations();
+    }
+    
+    @Override
+    public @NotNull String getDescription() {
+        return option.getDescription();
+    }
+    
+    @Override
+    public @NotNull Map<DiscordLocale, @NotNull String> getDescriptionLocalizations() {
+        return option.getDescriptionLocalizations();
+    }
+    
+    @Override
+    public @NotNull Object getImplementation() {
+        return option;
+    }
+    
+    @Override
+    public @NotNull DiscordBridge getBridge() {
+        return bridge;
+    }
+}
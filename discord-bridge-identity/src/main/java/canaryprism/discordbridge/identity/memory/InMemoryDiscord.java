@@ -0,0 +1,266 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.identity.memory;
+
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandData;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandDataCodec;
+import canaryprism.discordbridge.api.interaction.Interaction;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/// An in-memory stand-in for Discord, with no network or gateway
+///
+/// Load it with `DiscordBridge.load(new InMemoryDiscord(application_id))` to get a
+/// [canaryprism.discordbridge.api.DiscordApi] backed by the identity implementation.
+/// Commands registered through the api are kept here, and [#interact(SyntheticInteraction)] delivers interactions
+/// with them straight to the listeners of every api loaded from this object.
+/// [SyntheticEventGenerator] builds and fires such interactions in bulk
+///
+/// Responses to interactions complete immediately and are passed to the response handler if one is set
+///
+/// This class is thread safe
+public final class InMemoryDiscord {
+
+    private static final long SEQUENCE_MASK = (1L << 22) - 1;
+
+    private final long application_id;
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final ConcurrentHashMap<Long, String> servers = new ConcurrentHashMap<>();
+    private volatile @NotNull @Unmodifiable List<RegisteredCommand> global_commands = List.of();
+    private final ConcurrentHashMap<Long, List<RegisteredCommand>> server_commands = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, RegisteredCommand> commands_by_id = new ConcurrentHashMap<>();
+
+    private final CopyOnWriteArrayList<Consumer<? super SyntheticInteraction>> interaction_handlers = new CopyOnWriteArrayList<>();
+    private volatile @NotNull Consumer<? super RecordedResponse> response_handler = (e) -> {};
+    private final LongAdder responses = new LongAdder();
+
+    /// Constructs an in-memory Discord with no servers or commands
+    ///
+    /// @param application_id the ID of the application (bot)
+    public InMemoryDiscord(long application_id) {
+        this.application_id = application_id;
+    }
+
+    /// Gets the ID of the application (bot)
+    ///
+    /// @return the ID of the application
+    public long getApplicationId() {
+        return application_id;
+    }
+
+    /// Generates a new snowflake ID with the current time as its timestamp
+    ///
+    /// IDs are unique as long as fewer than 4194304 are generated each millisecond
+    ///
+    /// @return the ID
+    public long nextId() {
+        var timestamp = System.currentTimeMillis() - Interaction.DISCORD_EPOCH_MILLIS;
+        return (timestamp << 22) | (sequence.getAndIncrement() & SEQUENCE_MASK);
+    }
+
+    /// Adds a server the bot is in, or renames it if it was already added
+    ///
+    /// @param id the ID of the server
+    /// @param name the name of the server
+    public void addServer(long id, @NotNull String name) {
+        servers.put(id, Objects.requireNonNull(name, "name can't be null"));
+    }
+
+    /// Removes a server the bot is in along with its commands
+    ///
+    /// @param id the ID of the server
+    public synchronized void removeServer(long id) {
+        servers.remove(id);
+        var removed = server_commands.remove(id);
+        if (removed != null)
+            removed.forEach((e) -> commands_by_id.remove(e.id()));
+    }
+
+    /// Gets the servers the bot is in
+    ///
+    /// @return an unmodifiable view of the names of the servers by ID
+    public @NotNull @Unmodifiable Map<Long, String> getServers() {
+        return Collections.unmodifiableMap(servers);
+    }
+
+    /// Gets the registered global commands
+    ///
+    /// @return the global commands
+    public @NotNull @Unmodifiable List<RegisteredCommand> getGlobalCommands() {
+        return global_commands;
+    }
+
+    /// Gets the commands registered in a server
+    ///
+    /// @param server_id the ID of the server
+    /// @return the commands of the server, empty if the bot isn't in the server
+    public @NotNull @Unmodifiable List<RegisteredCommand> getServerCommands(long server_id) {
+        return server_commands.getOrDefault(server_id, List.of());
+    }
+
+    /// Gets a registered global or server command by its ID
+    ///
+    /// @param id the ID of the command
+    /// @return the command, or [Optional#empty()] if there's none with the ID
+    public @NotNull Optional<RegisteredCommand> getCommandById(long id) {
+        return Optional.ofNullable(commands_by_id.get(id));
+    }
+
+    /// Overwrites the global commands
+    ///
+    /// Like Discord, commands keep their ID if a command with the same name was already registered
+    ///
+    /// @param commands the commands
+    /// @return the registered commands
+    /// @throws IllegalArgumentException if two commands have the same name
+    public synchronized @NotNull @Unmodifiable List<RegisteredCommand> setGlobalCommands(@NotNull Collection<? extends SlashCommandData> commands) {
+        var registered = overwrite(global_commands, null, commands);
+        global_commands = registered;
+        return registered;
+    }
+
+    /// Overwrites the commands of a server
+    ///
+    /// Like Discord, commands keep their ID if a command with the same name was already registered
+    ///
+    /// @param server_id the ID of the server
+    /// @param commands the commands
+    /// @return the registered commands
+    /// @throws IllegalArgumentException if the bot isn't in the server or two commands have the same name
+    public synchronized @NotNull @Unmodifiable List<RegisteredCommand> setServerCommands(long server_id, @NotNull Collection<? extends SlashCommandData> commands) {
+        if (!servers.containsKey(server_id))
+            throw new IllegalArgumentException(String.format("bot isn't in server %s", server_id));
+        var registered = overwrite(getServerCommands(server_id), server_id, commands);
+        server_commands.put(server_id, registered);
+        return registered;
+    }
+
+    private @NotNull @Unmodifiable List<RegisteredCommand> overwrite(@NotNull List<RegisteredCommand> current, @Nullable Long server_id,
+                                                                    @NotNull Collection<? extends SlashCommandData> commands) {
+        var names = new HashSet<String>();
+        for (var command : commands)
+            if (!names.add(command.getName()))
+                throw new IllegalArgumentException(String.format("duplicate command name '%s'", command.getName()));
+
+        var ids = new HashMap<String, Long>();
+        for (var command : current)
+            ids.put(command.data().getName(), command.id());
+
+        // a round trip through the codec is a deep copy, so later changes to the data don't affect registered commands
+        var copies = SlashCommandDataCodec.fromBinary(SlashCommandDataCodec.toBinary(List.copyOf(commands)), true);
+        var registered = copies.stream()
+                .map((e) -> new RegisteredCommand(
+                        Optional.ofNullable(ids.get(e.getName())).orElseGet(this::nextId),
+                        application_id, server_id, e))
+                .toList();
+
+        current.forEach((e) -> commands_by_id.remove(e.id()));
+        registered.forEach((e) -> commands_by_id.put(e.id(), e));
+        return registered;
+    }
+
+    /// Deletes a registered global or server command
+    ///
+    /// @param id the ID of the command
+    /// @return whether there was a command with the ID
+    public synchronized boolean deleteCommand(long id) {
+        var command = commands_by_id.remove(id);
+        if (command == null)
+            return false;
+        if (command.server_id() == null)
+            global_commands = global_commands.stream()
+                    .filter((e) -> e.id() != id)
+                    .toList();
+        else
+            server_commands.computeIfPresent(command.server_id(), (key, list) -> list.stream()
+                    .filter((e) -> e.id() != id)
+                    .toList());
+        return true;
+    }
+
+    /// Adds a handler receiving every interaction, apis loaded from this object add one each
+    ///
+    /// @param handler the handler
+    public void addInteractionHandler(@NotNull Consumer<? super SyntheticInteraction> handler) {
+        interaction_handlers.add(Objects.requireNonNull(handler, "handler can't be null"));
+    }
+
+    /// Removes a handler added with [#addInteractionHandler(Consumer)]
+    ///
+    /// @param handler the handler
+    public void removeInteractionHandler(@NotNull Consumer<? super SyntheticInteraction> handler) {
+        interaction_handlers.remove(handler);
+    }
+
+    /// Delivers an interaction to every handler on the calling thread, the way a gateway event would be
+    ///
+    /// @param interaction the interaction
+    public void interact(@NotNull SyntheticInteraction interaction) {
+        for (var handler : interaction_handlers)
+            handler.accept(interaction);
+    }
+
+    /// Sets the handler receiving every response sent
+    ///
+    /// @param handler the handler, or null to discard responses
+    public void setResponseHandler(@Nullable Consumer<? super RecordedResponse> handler) {
+        this.response_handler = (handler == null) ? (e) -> {} : handler;
+    }
+
+    /// Gets the handler receiving every response sent
+    ///
+    /// @return the handler, one discarding responses if none is set
+    public @NotNull Consumer<? super RecordedResponse> getResponseHandler() {
+        return response_handler;
+    }
+
+    /// Records a response, called by the identity implementation whenever a response is sent
+    ///
+    /// @param response the response
+    public void recordResponse(@NotNull RecordedResponse response) {
+        responses.increment();
+        response_handler.accept(response);
+    }
+
+    /// Gets the number of responses sent
+    ///
+    /// @return the number of responses
+    public long getResponseCount() {
+        return responses.sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("InMemoryDiscord[application_id=%s, servers=%s]", application_id, servers.size());
+    }
+}
@@ -0,0 +1,334 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.identity.memory;
+
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandOptionType;
+import canaryprism.discordbridge.api.metrics.LatencyHistogram;
+import canaryprism.discordbridge.api.trace.InteractionTraceReader;
+import canaryprism.discordbridge.api.trace.TracedInteraction;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiPredicate;
+
+/// Replays a trace recorded with [canaryprism.discordbridge.api.trace.InteractionTraceRecorder] against an [InMemoryDiscord]
+///
+/// Every traced interaction is delivered with [InMemoryDiscord#interact(SyntheticInteraction)] to a command of the same name,
+/// a server command of the traced server if it has one or else a global command.
+/// Interactions with commands that aren't registered are skipped
+///
+/// Interactions are delivered on the calling thread, spaced out like they were traced at 1x speed,
+/// proportionally closer at higher speeds, or back to back at [#MAX_SPEED]
+///
+/// For every command the replay reports the latency from delivering an interaction to its first response, and whether the response was correct:
+/// - invocations must be answered with `respond` or `respondLater`, and autocompletes with `suggest`
+/// - if a validator is set, it must accept the first response too
+///
+/// Interactions still unanswered after the response timeout are reported as unanswered,
+/// and ones whose listeners threw as failed
+///
+/// ```java
+/// var replayer = new InteractionTraceReplayer(discord);
+/// var report = replayer.replay(Path.of("interactions.trace"), 10);
+/// report.commands().forEach((name, command) -> System.out.printf("/%s p99 %s ns%n", name, command.latencies().getPercentileNanos(99)));
+/// ```
+///
+/// A replayer runs one replay at a time
+public final class InteractionTraceReplayer {
+    
+    /// The speed replaying interactions back to back, without waiting between them
+    public static final double MAX_SPEED = Double.POSITIVE_INFINITY;
+    
+    /// The time waited by default for interactions to be answered after the last one is delivered
+    public static final Duration DEFAULT_RESPONSE_TIMEOUT = Duration.ofSeconds(10);
+    
+    private static final long DRAIN_POLL_NANOS = 1_000_000;
+    
+    private final InMemoryDiscord discord;
+    
+    private volatile @NotNull Duration response_timeout = DEFAULT_RESPONSE_TIMEOUT;
+    private volatile @Nullable BiPredicate<? super TracedInteraction, ? super RecordedResponse> validator;
+    
+    // interaction id -> interaction being replayed and not answered yet
+    private final ConcurrentHashMap<Long, Pending> pending = new ConcurrentHashMap<>();
+    
+    /// The result of replaying a trace
+    ///
+    /// @param commands the result for every command, by full name like `moderation member ban`
+    /// @param interactions the number of interactions delivered
+    /// @param skipped the number of interactions skipped because their command isn't registered
+    /// @param nanos the time taken to replay, until every interaction was answered or the response timeout passed
+    public record Report(@NotNull @Unmodifiable Map<String, CommandReport> commands, long interactions, long skipped, long nanos) {
+        
+        /// Gets the rate interactions were replayed at
+        ///
+        /// @return the number of interactions delivered per second
+        public double perSecond() {
+            return (nanos == 0) ? 0 : interactions * 1e9 / nanos;
+        }
+        
+        /// Gets whether every command was answered correctly
+        ///
+        /// @return whether every command is [correct][CommandReport#isCorrect()]
+        public boolean isCorrect() {
+            return commands.values()
+                    .stream()
+                    .allMatch(CommandReport::isCorrect);
+        }
+    }
+    
+    /// The result of replaying the interactions with one command
+    ///
+    /// @param latencies the latency from delivering each interaction to its first response
+    /// @param interactions the number of interactions delivered
+    /// @param responded the number of interactions answered
+    /// @param incorrect the number of interactions answered with the wrong kind of response, or a response the validator rejected
+    /// @param unanswered the number of interactions not answered within the response timeout
+    /// @param failed the number of interactions a listener threw for
+    public record CommandReport(@NotNull LatencyHistogram latencies, long interactions, long responded,
+                                long incorrect, long unanswered, long failed) {
+        
+        /// Gets whether every interaction was answered correctly
+        ///
+        /// @return whether no interaction was incorrect, unanswered or failed
+        public boolean isCorrect() {
+            return incorrect == 0 && unanswered == 0 && failed == 0;
+        }
+    }
+    
+    private static final class Tally {
+        
+        final LatencyHistogram latencies = new LatencyHistogram();
+        final LongAdder interactions = new LongAdder();
+        final LongAdder responded = new LongAdder();
+        final LongAdder incorrect = new LongAdder();
+        final LongAdder unanswered = new LongAdder();
+        final LongAdder failed = new LongAdder();
+        
+        @NotNull CommandReport report() {
+            return new CommandReport(latencies, interactions.sum(), responded.sum(), incorrect.sum(), unanswered.sum(), failed.sum());
+        }
+    }
+    
+    private record Pending(@NotNull TracedInteraction traced, @NotNull Tally tally, long start_nanos) {}
+    
+    /// Constructs a replayer delivering interactions to an in-memory Discord
+    ///
+    /// @param discord the in-memory Discord
+    public InteractionTraceReplayer(@NotNull InMemoryDiscord discord) {
+        this.discord = Objects.requireNonNull(discord, "discord can't be null");
+    }
+    
+    /// Sets the time waited for interactions to be answered after the last one is delivered
+    ///
+    /// @param timeout the timeout
+    /// @throws IllegalArgumentException if the timeout is negative
+    public void setResponseTimeout(@NotNull Duration timeout) {
+        if (timeout.isNegative())
+            throw new IllegalArgumentException(String.format("response timeout %s can't be negative", timeout));
+        this.response_timeout = timeout;
+    }
+    
+    /// Sets a validator checking the first response to every interaction, on top of its kind
+    ///
+    /// @param validator the validator, returning whether a response is correct for an interaction, or null to only check the kind
+    public void setValidator(@Nullable BiPredicate<? super TracedInteraction, ? super RecordedResponse> validator) {
+        this.validator = validator;
+    }
+    
+    /// Replays a trace file, reading it as it's replayed
+    ///
+    /// @param trace the trace file
+    /// @param speed how many times faster than traced to replay, or [#MAX_SPEED]
+    /// @return the report
+    /// @throws IOException if reading the trace fails or it's malformed
+    /// @throws IllegalArgumentException if the speed isn't positive
+    public @NotNull Report replay(@NotNull Path trace, double speed) throws IOException {
+        try (var reader = InteractionTraceReader.open(trace)) {
+            var interactions = new Iterator<TracedInteraction>() {
+                
+                private @Nullable TracedInteraction next;
+                
+                @Override
+                public boolean hasNext() {
+                    if (next == null) {
+                        try {
+                            next = reader.next();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }
+                    return next != null;
+                }
+                
+                @Override
+                public TracedInteraction next() {
+                    if (!hasNext())
+                        throw new NoSuchElementException();
+                    var next = this.next;
+                    this.next = null;
+                    return next;
+                }
+            };
+            return replay(() -> interactions, speed);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+    
+    /// Replays traced interactions
+    ///
+    /// @param trace the interactions, in the order they were traced
+    /// @param speed how many times faster than traced to replay, or [#MAX_SPEED]
+    /// @return the report
+    /// @throws IllegalArgumentException if the speed isn't positive
+    public synchronized @NotNull Report replay(@NotNull Iterable<? extends TracedInteraction> trace, double speed) {
+        if (!(speed > 0))
+            throw new IllegalArgumentException(String.format("speed %s must be positive", speed));
+        
+        var tallies = new TreeMap<String, Tally>();
+        var commands = new HashMap<String, Optional<RegisteredCommand>>();
+        var validator = this.validator;
+        var previous_handler = discord.getResponseHandler();
+        discord.setResponseHandler((response) -> {
+            answered(response, validator);
+            previous_handler.accept(response);
+        });
+        
+        long interactions = 0;
+        long skipped = 0;
+        var start = System.nanoTime();
+        try {
+            var first_time_nanos = 0L;
+            for (var traced : trace) {
+                if (interactions + skipped == 0)
+                    first_time_nanos = traced.time_nanos();
+                
+                var command = commands.computeIfAbsent(traced.server_id() + ":" + traced.command_name().get(0), (e) -> resolve(traced));
+                if (command.isEmpty()) {
+                    skipped++;
+                    continue;
+                }
+                
+                if (speed != MAX_SPEED) {
+                    var due = start + (long) ((traced.time_nanos() - first_time_nanos) / speed);
+                    long wait;
+                    while ((wait = due - System.nanoTime()) > 0)
+                        LockSupport.parkNanos(wait);
+                }
+                
+                var interaction = new SyntheticInteraction(
+                        discord.nextId(),
+                        traced.autocomplete(),
+                        command.get(),
+                        traced.user_id(),
+                        traced.server_id(),
+                        (traced.channel_id() != 0) ? traced.channel_id() : discord.nextId(),
+                        options(traced));
+                var tally = tallies.computeIfAbsent(String.join(" ", traced.command_name()), (e) -> new Tally());
+                tally.interactions.increment();
+                interactions++;
+                
+                pending.put(interaction.id(), new Pending(traced, tally, System.nanoTime()));
+                try {
+                    discord.interact(interaction);
+                } catch (RuntimeException e) {
+                    pending.remove(interaction.id());
+                    tally.failed.increment();
+                }
+            }
+            
+            var deadline = System.nanoTime() + response_timeout.toNanos();
+            while (!pending.isEmpty() && System.nanoTime() - deadline < 0)
+                LockSupport.parkNanos(DRAIN_POLL_NANOS);
+        } finally {
+            discord.setResponseHandler(previous_handler);
+            for (var e : pending.values())
+                e.tally().unanswered.increment();
+            pending.clear();
+        }
+        var nanos = System.nanoTime() - start;
+        
+        var reports = new TreeMap<String, CommandReport>();
+        tallies.forEach((name, tally) -> reports.put(name, tally.report()));
+        return new Report(Collections.unmodifiableMap(reports), interactions, skipped, nanos);
+    }
+    
+    private void answered(@NotNull RecordedResponse response,
+                          @Nullable BiPredicate<? super TracedInteraction, ? super RecordedResponse> validator) {
+        var pending = this.pending.remove(response.interaction_id());
+        if (pending == null)
+            return;
+        var tally = pending.tally();
+        tally.latencies.record(System.nanoTime() - pending.start_nanos());
+        tally.responded.increment();
+        
+        var expected_kind = (pending.traced().autocomplete()) ?
+                response.kind().equals("suggest")
+                :
+                response.kind().equals("respond") || response.kind().equals("respondLater");
+        if (!expected_kind || (validator != null && !validator.test(pending.traced(), response)))
+            tally.incorrect.increment();
+    }
+    
+    private @NotNull Optional<RegisteredCommand> resolve(@NotNull TracedInteraction traced) {
+        var name = traced.command_name().get(0);
+        var server_commands = (traced.server_id() == null) ? List.<RegisteredCommand>of() : discord.getServerCommands(traced.server_id());
+        return server_commands.stream()
+                .filter((e) -> e.data().getName().equals(name))
+                .findAny()
+                .or(() -> discord.getGlobalCommands()
+                        .stream()
+                        .filter((e) -> e.data().getName().equals(name))
+                        .findAny());
+    }
+    
+    private static @NotNull List<SyntheticOption> options(@NotNull TracedInteraction traced) {
+        var arguments = new ArrayList<SyntheticOption>(traced.arguments().size());
+        for (var argument : traced.arguments())
+            arguments.add((argument.focused()) ?
+                    SyntheticOption.focused(argument.name(), argument.type(), argument.value())
+                    :
+                    SyntheticOption.argument(argument.name(), argument.type(), argument.value()));
+        
+        var name = traced.command_name();
+        return switch (name.size()) {
+            case 1 -> arguments;
+            case 2 -> List.of(SyntheticOption.subcommand(name.get(1), SlashCommandOptionType.SUBCOMMAND, arguments));
+            default -> List.of(SyntheticOption.subcommand(name.get(1), SlashCommandOptionType.SUBCOMMAND_GROUP,
+                    List.of(SyntheticOption.subcommand(name.get(2), SlashCommandOptionType.SUBCOMMAND, arguments))));
+        };
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.identity.memory;
+
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandOptionChoiceData;
+import canaryprism.discordbridge.api.message.MessageFlag;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.List;
+import java.util.Set;
+
+/// A response sent to an [InMemoryDiscord]
+///
+/// @param interaction_id the ID of the interaction responded to
+/// @param kind the kind of response, one of `respond`, `respondLater`, `suggest`, `update`, `followup.send` or `followup.update`
+/// @param content the content of the message, or null if none was set or the response has no message
+/// @param flags the flags of the message
+/// @param choices the suggested choices, empty unless the response is a `suggest`
+public record RecordedResponse(long interaction_id, @NotNull String kind, @Nullable String content,
+                               @NotNull @Unmodifiable Set<MessageFlag> flags,
+                               @NotNull @Unmodifiable List<SlashCommandOptionChoiceData> choices) {
+}
@@ -0,0 +1,32 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.identity.memory;
+
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandData;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/// A command registered to an [InMemoryDiscord]
+///
+/// The data is a copy taken when the command was registered, it must not be modified
+///
+/// @param id the ID of the command
+/// @param application_id the ID of the application the command belongs to
+/// @param server_id the ID of the server the command is registered in, or null if it's a global command
+/// @param data the data the command was registered with
+public record RegisteredCommand(long id, long application_id, @Nullable Long server_id, @NotNull SlashCommandData data) {
+}
@@ -0,0 +1,306 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.identity.memory;
+
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandOptionData;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandOptionType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.LongStream;
+
+/// Generates [SyntheticInteraction]s with the commands registered to an [InMemoryDiscord] and fires them at its listeners
+///
+/// Every subcommand of every registered command is a possible target.
+/// Invocations get a value for every required option and a random selection of the optional ones,
+/// respecting choices, bounds and length limits.
+/// Autocompletes focus a random autocompletable option, and only target subcommands that have one
+///
+/// Interactions are generated ahead of time into a pool that firing cycles through, each getting a fresh ID,
+/// so firing costs little more than dispatching to the listeners.
+/// Call [#refresh()] to generate a new pool after the registered commands change
+///
+/// ```java
+/// var discord = new InMemoryDiscord(application_id);
+/// var api = DiscordBridge.load(discord);
+/// api.bulkUpdateGlobalCommands(commands).join();
+/// api.addSlashCommandInvokeListener(handler);
+///
+/// var generator = new SyntheticEventGenerator(discord, 42);
+/// var report = generator.fireInvocations(10_000_000);
+/// System.out.printf("%.0f invocations/s%n", report.perSecond());
+/// ```
+///
+/// Firing methods may be called from several threads at once to fire in parallel
+public final class SyntheticEventGenerator {
+    
+    /// The number of interactions of each kind generated into the pool by default
+    public static final int DEFAULT_POOL_SIZE = 4096;
+    
+    private static final int USERS = 1024;
+    private static final int CHANNELS_PER_SERVER = 8;
+    private static final long DEFAULT_BOUND = 1000;
+    private static final int DEFAULT_MAX_LENGTH = 16;
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyz0123456789";
+    
+    private final InMemoryDiscord discord;
+    private final SplittableRandom random;
+    private final int pool_size;
+    private final long[] users;
+    
+    private volatile SyntheticInteraction @NotNull [] invocations = new SyntheticInteraction[0];
+    private volatile SyntheticInteraction @NotNull [] autocompletes = new SyntheticInteraction[0];
+    
+    /// The result of firing interactions
+    ///
+    /// @param interactions the number of interactions fired
+    /// @param nanos the time taken to fire them, including running every listener
+    public record Report(long interactions, long nanos) {
+        
+        /// Gets the rate interactions were fired at
+        ///
+        /// @return the number of interactions fired per second
+        public double perSecond() {
+            return (nanos == 0) ? 0 : interactions * 1e9 / nanos;
+        }
+    }
+    
+    // a subcommand path through a command, and the options of the subcommand
+    private record Target(RegisteredCommand command, List<SlashCommandOptionData> path, List<SlashCommandOptionData> arguments) {
+        
+        boolean autocompletable() {
+            return arguments.stream().anyMatch(SlashCommandOptionData::isAutocompletable);
+        }
+    }
+    
+    /// Constructs a generator with a pool of [#DEFAULT_POOL_SIZE] interactions of each kind
+    ///
+    /// @param discord the in-memory Discord
+    /// @param seed the seed for the random values, the same seed and commands generate the same interactions
+    public SyntheticEventGenerator(@NotNull InMemoryDiscord discord, long seed) {
+        this(discord, seed, DEFAULT_POOL_SIZE);
+    }
+    
+    /// Constructs a generator
+    ///
+    /// @param discord the in-memory Discord
+    /// @param seed the seed for the random values, the same seed and commands generate the same interactions
+    /// @param pool_size the number of interactions of each kind to generate ahead of time
+    /// @throws IllegalArgumentException if the pool size isn't positive
+    public SyntheticEventGenerator(@NotNull InMemoryDiscord discord, long seed, int pool_size) {
+        if (pool_size <= 0)
+            throw new IllegalArgumentException(String.format("pool size %s must be positive", pool_size));
+        this.discord = discord;
+        this.random = new SplittableRandom(seed);
+        this.pool_size = pool_size;
+        this.users = LongStream.range(0, USERS)
+                .map((e) -> discord.nextId())
+                .toArray();
+        refresh();
+    }
+    
+    /// Generates a new pool of interactions from the commands currently registered
+    public synchronized void refresh() {
+        var targets = new ArrayList<Target>();
+        for (var command : discord.getGlobalCommands())
+            addTargets(targets, command, List.of(), command.data().getOptions());
+        for (var server : discord.getServers().keySet())
+            for (var command : discord.getServerCommands(server))
+                addTargets(targets, command, List.of(), command.data().getOptions());
+        var autocompletable = targets.stream()
+                .filter(Target::autocompletable)
+                .toList();
+        
+        var invocations = new SyntheticInteraction[targets.isEmpty() ? 0 : pool_size];
+        for (int i = 0; i < invocations.length; i++)
+            invocations[i] = generate(targets.get(random.nextInt(targets.size())), false);
+        var autocompletes = new SyntheticInteraction[autocompletable.isEmpty() ? 0 : pool_size];
+        for (int i = 0; i < autocompletes.length; i++)
+            autocompletes[i] = generate(autocompletable.get(random.nextInt(autocompletable.size())), true);
+        
+        this.invocations = invocations;
+        this.autocompletes = autocompletes;
+    }
+    
+    private static void addTargets(List<Target> targets, RegisteredCommand command, List<SlashCommandOptionData> path, List<SlashCommandOptionData> options) {
+        var subcommands = options.stream()
+                .filter((e) -> e.getType() == SlashCommandOptionType.SUBCOMMAND || e.getType() == SlashCommandOptionType.SUBCOMMAND_GROUP)
+                .toList();
+        if (subcommands.isEmpty()) {
+            targets.add(new Target(command, path, options));
+            return;
+        }
+        for (var subcommand : subcommands) {
+            var sub_path = new ArrayList<>(path);
+            sub_path.add(subcommand);
+            addTargets(targets, command, List.copyOf(sub_path), subcommand.getOptions());
+        }
+    }
+    
+    private SyntheticInteraction generate(Target target, boolean autocomplete) {
+        var server_id = target.command().server_id();
+        if (server_id == null && !discord.getServers().isEmpty()) {
+            var servers = List.copyOf(discord.getServers().keySet());
+            server_id = servers.get(random.nextInt(servers.size()));
+        }
+        var channel_id = (server_id == null) ? discord.nextId() : server_id + 1 + random.nextInt(CHANNELS_PER_SERVER);
+        
+        @Nullable SlashCommandOptionData focused = null;
+        if (autocomplete) {
+            var autocompletable = target.arguments()
+                    .stream()
+                    .filter(SlashCommandOptionData::isAutocompletable)
+                    .toList();
+            focused = autocompletable.get(random.nextInt(autocompletable.size()));
+        }
+        
+        var arguments = new ArrayList<SyntheticOption>();
+        for (var option : target.arguments()) {
+            if (option == focused)
+                arguments.add(SyntheticOption.focused(option.getName(), option.getType(), partial(generateValue(option, server_id))));
+            else if (option.isRequired() || random.nextBoolean())
+                arguments.add(SyntheticOption.argument(option.getName(), option.getType(), generateValue(option, server_id)));
+        }
+        
+        List<SyntheticOption> options = List.copyOf(arguments);
+        for (int i = target.path().size() - 1; i >= 0; i--) {
+            var subcommand = target.path().get(i);
+            options = List.of(SyntheticOption.subcommand(subcommand.getName(), subcommand.getType(), options));
+        }
+        
+        return new SyntheticInteraction(0, autocomplete, target.command(), users[random.nextInt(users.length)], server_id, channel_id, options);
+    }
+    
+    // a partially typed value, only strings can be partial
+    private Object partial(Object value) {
+        if (value instanceof String string && !string.isEmpty())
+            return string.substring(0, random.nextInt(string.length() + 1));
+        return value;
+    }
+    
+    private Object generateValue(SlashCommandOptionData option, @Nullable Long server_id) {
+        var choices = option.getChoices();
+        if (!choices.isEmpty())
+            return choices.get(random.nextInt(choices.size())).getValue();
+        
+        return switch (option.getType()) {
+            case STRING -> {
+                var min = option.getStringLengthBoundsMin().orElse(1L).intValue();
+                var max = option.getStringLengthBoundsMax().orElse((long) Math.max(min, DEFAULT_MAX_LENGTH)).intValue();
+                var length = min + random.nextInt(max - min + 1);
+                var builder = new StringBuilder(length);
+                for (int i = 0; i < length; i++)
+                    builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+                yield builder.toString();
+            }
+            case INTEGER -> {
+                var max_bound = option.getIntegerBoundsMax();
+                var min = option.getIntegerBoundsMin().orElse(Math.min(-DEFAULT_BOUND, max_bound.orElse(DEFAULT_BOUND)));
+                var max = max_bound.orElse(Math.max(min, DEFAULT_BOUND));
+                yield min + random.nextLong(max - min + 1);
+            }
+            case NUMBER -> {
+                var max_bound = option.getNumberBoundsMax();
+                var min = option.getNumberBoundsMin().orElse(Math.min(-DEFAULT_BOUND, max_bound.orElse((double) DEFAULT_BOUND)));
+                var max = max_bound.orElse(Math.max(min, DEFAULT_BOUND));
+                yield (min.equals(max)) ? min : random.nextDouble(min, max);
+            }
+            case BOOLEAN -> random.nextBoolean();
+            case USER, MENTIONABLE -> users[random.nextInt(users.length)];
+            case CHANNEL -> (server_id == null) ? discord.nextId() : server_id + 1 + random.nextInt(CHANNELS_PER_SERVER);
+            case ROLE, ATTACHMENT -> discord.nextId();
+            default -> throw new IllegalStateException(String.format("can't generate a value for option '%s' of type %s", option.getName(), option.getType()));
+        };
+    }
+    
+    private SyntheticInteraction next(SyntheticInteraction[] pool, int index, String kind) {
+        if (pool.length == 0)
+            throw new IllegalStateException(String.format("no registered commands to generate %s for", kind));
+        var template = pool[index % pool.length];
+        return new SyntheticInteraction(discord.nextId(), template.autocomplete(), template.command(),
+                template.user_id(), template.server_id(), template.channel_id(), template.options());
+    }
+    
+    /// Gets a random invocation from the pool with a fresh ID, without firing it
+    ///
+    /// @return the invocation
+    /// @throws IllegalStateException if no commands were registered when the pool was generated
+    public @NotNull SyntheticInteraction nextInvocation() {
+        return next(invocations, ThreadLocalRandom.current().nextInt(pool_size), "invocations");
+    }
+    
+    /// Gets a random autocomplete from the pool with a fresh ID, without firing it
+    ///
+    /// @return the autocomplete
+    /// @throws IllegalStateException if no autocompletable options were registered when the pool was generated
+    public @NotNull SyntheticInteraction nextAutocomplete() {
+        return next(autocompletes, ThreadLocalRandom.current().nextInt(pool_size), "autocompletes");
+    }
+    
+    /// Fires invocations at the listeners on the calling thread
+    ///
+    /// @param count the number of invocations to fire
+    /// @return the report
+    /// @throws IllegalStateException if no commands were registered when the pool was generated
+    public @NotNull Report fireInvocations(long count) {
+        return fire(count, 0);
+    }
+    
+    /// Fires autocompletes at the listeners on the calling thread
+    ///
+    /// @param count the number of autocompletes to fire
+    /// @return the report
+    /// @throws IllegalStateException if no autocompletable options were registered when the pool was generated
+    public @NotNull Report fireAutocompletes(long count) {
+        return fire(count, 1);
+    }
+    
+    /// Fires a mix of invocations and autocompletes at the listeners on the calling thread
+    ///
+    /// @param count the number of interactions to fire
+    /// @param autocomplete_ratio the fraction of the interactions that are autocompletes, between 0 and 1
+    /// @return the report
+    /// @throws IllegalArgumentException if the count is negative or the ratio isn't between 0 and 1
+    /// @throws IllegalStateException if the pool has no interactions of a kind that has to be fired
+    public @NotNull Report fire(long count, double autocomplete_ratio) {
+        if (count < 0)
+            throw new IllegalArgumentException(String.format("count %s must not be negative", count));
+        if (!(autocomplete_ratio >= 0 && autocomplete_ratio <= 1))
+            throw new IllegalArgumentException(String.format("autocomplete ratio %s must be between 0 and 1", autocomplete_ratio));
+        var invocations = this.invocations;
+        var autocompletes = this.autocompletes;
+        var offset = ThreadLocalRandom.current().nextInt(pool_size);
+        
+        var start = System.nanoTime();
+        var accumulated = 0.0;
+        for (long i = 0; i < count; i++) {
+            var index = (int) ((offset + i) % pool_size);
+            accumulated += autocomplete_ratio;
+            if (accumulated >= 1) {
+                accumulated -= 1;
+                discord.interact(next(autocompletes, index, "autocompletes"));
+            } else {
+                discord.interact(next(invocations, index, "invocations"));
+            }
+        }
+        return new Report(count, System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.identity.memory;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.List;
+
+/// An interaction with a command registered to an [InMemoryDiscord]
+///
+/// @param id the ID of the interaction
+/// @param autocomplete whether this is an autocomplete interaction rather than an invoke interaction
+/// @param command the command the interaction is for
+/// @param user_id the ID of the user that caused the interaction
+/// @param server_id the ID of the server the interaction originated from, or null if it came from a DM
+/// @param channel_id the ID of the channel the interaction originated from
+/// @param options the options of the interaction
+public record SyntheticInteraction(long id, boolean autocomplete, @NotNull RegisteredCommand command, long user_id,
+                                   @Nullable Long server_id, long channel_id,
+                                   @NotNull @Unmodifiable List<SyntheticOption> options) {
+}
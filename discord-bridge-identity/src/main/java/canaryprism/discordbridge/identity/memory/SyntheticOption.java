@@ -0,0 +1,74 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.identity.memory;
+
+import canaryprism.discordbridge.api.interaction.slash.SlashCommandOptionType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.List;
+
+/// An option of a [SyntheticInteraction]
+///
+/// Values are stored the way Discord sends them:
+/// - `STRING`, `INTEGER`, `NUMBER` and `BOOLEAN` values are a [String], [Long], [Double] and [Boolean]
+/// - `USER`, `CHANNEL`, `ROLE`, `MENTIONABLE` and `ATTACHMENT` values are the [Long] ID of the entity,
+///   mentionables are always users
+/// - `SUBCOMMAND` and `SUBCOMMAND_GROUP` have no value
+///
+/// @param name the name of the option
+/// @param type the type of the option
+/// @param value the value of the option, or null if it's a subcommand or subcommand group
+/// @param focused whether the option is the target of an autocomplete interaction
+/// @param options the options of a subcommand or subcommand group
+public record SyntheticOption(@NotNull String name, @NotNull SlashCommandOptionType type, @Nullable Object value,
+                              boolean focused, @NotNull @Unmodifiable List<SyntheticOption> options) {
+
+    /// Creates an argument option
+    ///
+    /// @param name the name of the option
+    /// @param type the type of the option
+    /// @param value the value of the option
+    /// @return the option
+    public static @NotNull SyntheticOption argument(@NotNull String name, @NotNull SlashCommandOptionType type, @NotNull Object value) {
+        return new SyntheticOption(name, type, value, false, List.of());
+    }
+
+    /// Creates a focused argument option, the target of an autocomplete interaction
+    ///
+    /// @param name the name of the option
+    /// @param type the type of the option
+    /// @param value the partial value the user has typed
+    /// @return the option
+    public static @NotNull SyntheticOption focused(@NotNull String name, @NotNull SlashCommandOptionType type, @NotNull Object value) {
+        return new SyntheticOption(name, type, value, true, List.of());
+    }
+
+    /// Creates a subcommand or subcommand group option
+    ///
+    /// @param name the name of the subcommand or group
+    /// @param type [SlashCommandOptionType#SUBCOMMAND] or [SlashCommandOptionType#SUBCOMMAND_GROUP]
+    /// @param options the options of the subcommand or group
+    /// @return the option
+    /// @throws IllegalArgumentException if the type isn't a subcommand or subcommand group
+    public static @NotNull SyntheticOption subcommand(@NotNull String name, @NotNull SlashCommandOptionType type, @NotNull List<SyntheticOption> options) {
+        if (type != SlashCommandOptionType.SUBCOMMAND && type != SlashCommandOptionType.SUBCOMMAND_GROUP)
+            throw new IllegalArgumentException(String.format("type %s isn't a subcommand or subcommand group", type));
+        return new SyntheticOption(name, type, null, false, List.copyOf(options));
+    }
+}
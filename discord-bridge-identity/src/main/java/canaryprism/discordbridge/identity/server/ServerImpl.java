@@ -0,0 +1,90 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.identity.server;
+
+import canaryprism.discordbridge.api.DiscordBridge;
+import canaryprism.discordbridge.api.data.interaction.CommandData;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandData;
+import canaryprism.discordbridge.api.interaction.Command;
+import canaryprism.discordbridge.api.interaction.slash.SlashCommand;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
+import canaryprism.discordbridge.api.server.Server;
+import canaryprism.discordbridge.identity.IdentityBridge;
+import canaryprism.discordbridge.identity.interaction.slash.SlashCommandImpl;
+import canaryprism.discordbridge.identity.memory.InMemoryDiscord;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+public record ServerImpl(IdentityBridge bridge, InMemoryDiscord discord, long id, String name) implements Server {
+    
+    public static @NotNull ServerImpl of(IdentityBridge bridge, InMemoryDiscord discord, long id) {
+        return new ServerImpl(bridge, discord, id, Objects.requireNonNullElse(discord.getServers().get(id), ""));
+    }
+    
+    @Override
+    public @NotNull CompletableFuture<? extends Set<? extends SlashCommand>> getServerSlashCommands() {
+        return BridgeMetrics.restCall(bridge, "Server.getServerSlashCommands", () -> CompletableFuture.completedFuture(discord.getServerCommands(id)
+                .stream()
+                .map((e) -> new SlashCommandImpl(bridge, discord, e))
+                .collect(Collectors.toUnmodifiableSet())));
+    }
+    
+    @Override
+    public @NotNull CompletableFuture<? extends @NotNull Set<? extends @NotNull Command>> bulkUpdateServerCommands(@NotNull Set<? extends @NotNull CommandData> commands) {
+        return BridgeMetrics.commandBulkUpdate(bridge, "Server.bulkUpdateServerCommands", commands.size(), () -> {
+            try {
+                return CompletableFuture.completedFuture(discord.setServerCommands(id, commands.stream()
+                                .map(SlashCommandData.class::cast)
+                                .toList())
+                        .stream()
+                        .map((e) -> new SlashCommandImpl(bridge, discord, e))
+                        .collect(Collectors.toUnmodifiableSet()));
+            } catch (IllegalArgumentException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        });
+    }
+    
+    @Override
+    public long getId() {
+        return id;
+    }
+    
+    @Override
+    public @NotNull String getIdAsString() {
+        return Long.toString(id);
+    }
+    
+    @Override
+    public @NotNull String getName() {
+        return name;
+    }
+    
+    @Override
+    public @NotNull Object getImplementation() {
+        return discord;
+    }
+    
+    @Override
+    public @NotNull DiscordBridge getBridge() {
+        return bridge;
+    }
+}
@@ -1,6 +1,10 @@
 module canaryprism.discordbridge.identity {
     requires canaryprism.discordbridge.api;
     requires static org.jetbrains.annotations;
+    requires canaryprism.commons.event;
+    requires org.slf4j;
+    
+    exports canaryprism.discordbridge.identity.memory;
     
     provides canaryprism.discordbridge.api.DiscordBridge
             with canaryprism.discordbridge.identity.IdentityBridge;
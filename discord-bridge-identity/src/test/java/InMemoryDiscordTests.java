@@ -0,0 +1,163 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+import canaryprism.discordbridge.api.DiscordBridge;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandData;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandDataBuilder;
+import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandOptionDataBuilder;
+import canaryprism.discordbridge.identity.memory.InMemoryDiscord;
+import canaryprism.discordbridge.identity.memory.RecordedResponse;
+import canaryprism.discordbridge.identity.memory.RegisteredCommand;
+import canaryprism.discordbridge.identity.memory.SyntheticEventGenerator;
+import canaryprism.discordbridge.identity.memory.SyntheticInteraction;
+import canaryprism.discordbridge.identity.memory.SyntheticOption;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static canaryprism.discordbridge.api.interaction.slash.SlashCommandOptionType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests for [InMemoryDiscord]
+public class InMemoryDiscordTests {
+    
+    private static final long APPLICATION_ID = 1L << 22;
+    private static final long SERVER_ID = 2L << 22;
+    
+    private final InMemoryDiscord discord = new InMemoryDiscord(APPLICATION_ID);
+    
+    private static SlashCommandData command(String name) {
+        return new SlashCommandDataBuilder(name, "the " + name + " command")
+                .addOption(new SlashCommandOptionDataBuilder("query", "the query", STRING)
+                        .setAutocompletable(true))
+                .build();
+    }
+    
+    private static List<String> names(List<RegisteredCommand> commands) {
+        return commands.stream()
+                .map((e) -> e.data().getName())
+                .toList();
+    }
+    
+    @Test
+    void commandsShouldKeepTheirIdAcrossOverwrites() {
+        var first = discord.setGlobalCommands(List.of(command("ping"), command("search")));
+        var second = discord.setGlobalCommands(List.of(command("search"), command("help")));
+        
+        assertEquals(List.of("search", "help"), names(discord.getGlobalCommands()));
+        assertEquals(first.get(1).id(), second.get(0).id());
+        assertNotEquals(first.get(0).id(), second.get(1).id());
+        assertTrue(discord.getCommandById(first.get(0).id()).isEmpty());
+        assertEquals(second.get(1), discord.getCommandById(second.get(1).id()).orElseThrow());
+        assertEquals(APPLICATION_ID, second.get(0).application_id());
+        assertNull(second.get(0).server_id());
+    }
+    
+    @Test
+    void registeredCommandsShouldBeCopies() {
+        var data = command("ping");
+        discord.setGlobalCommands(List.of(data));
+        data.setDescription("changed afterwards");
+        
+        assertEquals("the ping command", discord.getGlobalCommands().get(0).data().getDescription());
+    }
+    
+    @Test
+    void duplicateNamesShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> discord.setGlobalCommands(List.of(command("ping"), command("ping"))));
+        assertTrue(discord.getGlobalCommands().isEmpty());
+    }
+    
+    @Test
+    void serverCommandsShouldBelongToTheirServer() {
+        assertThrows(IllegalArgumentException.class, () -> discord.setServerCommands(SERVER_ID, List.of(command("ping"))));
+        
+        discord.addServer(SERVER_ID, "test server");
+        var registered = discord.setServerCommands(SERVER_ID, List.of(command("ping"), command("search")));
+        assertEquals(Long.valueOf(SERVER_ID), registered.get(0).server_id());
+        assertEquals(List.of("ping", "search"), names(discord.getServerCommands(SERVER_ID)));
+        assertTrue(discord.getGlobalCommands().isEmpty());
+        
+        assertTrue(discord.deleteCommand(registered.get(0).id()));
+        assertFalse(discord.deleteCommand(registered.get(0).id()));
+        assertEquals(List.of("search"), names(discord.getServerCommands(SERVER_ID)));
+        
+        discord.removeServer(SERVER_ID);
+        assertTrue(discord.getServerCommands(SERVER_ID).isEmpty());
+        assertTrue(discord.getCommandById(registered.get(1).id()).isEmpty());
+    }
+    
+    @Test
+    void idsShouldBeUniqueSnowflakesOfTheCurrentTime() {
+        var ids = new HashSet<Long>();
+        var before = System.currentTimeMillis();
+        for (int i = 0; i < 10_000; i++)
+            assertTrue(ids.add(discord.nextId()));
+        var timestamp = (discord.nextId() >>> 22) + 1420070400000L;
+        
+        assertTrue(timestamp >= before && timestamp <= System.currentTimeMillis());
+    }
+    
+    @Test
+    void interactionsShouldReachTheListenersOfLoadedApis() {
+        var api = DiscordBridge.load(discord);
+        discord.addServer(SERVER_ID, "test server");
+        api.bulkUpdateGlobalCommands(Set.of(command("search"))).join();
+        var responses = new ArrayList<RecordedResponse>();
+        discord.setResponseHandler(responses::add);
+        api.addSlashCommandInvokeListener((e) -> e.getSlashCommandInteraction()
+                .createImmediateResponder()
+                .setContent("found " + e.getSlashCommandInteraction().getArguments().get(0).getValue().orElseThrow())
+                .respond());
+        
+        var search = discord.getGlobalCommands().get(0);
+        var id = discord.nextId();
+        discord.interact(new SyntheticInteraction(id, false, search, 3L << 22, SERVER_ID, 4L << 22,
+                List.of(SyntheticOption.argument("query", STRING, "mewo"))));
+        
+        assertEquals(1, responses.size());
+        assertEquals(id, responses.get(0).interaction_id());
+        assertEquals("respond", responses.get(0).kind());
+        assertEquals("found mewo", responses.get(0).content());
+        assertEquals(1, discord.getResponseCount());
+    }
+    
+    @Test
+    void generatorsShouldFireInteractionsOfTheRegisteredCommands() {
+        var api = DiscordBridge.load(discord);
+        api.bulkUpdateGlobalCommands(Set.of(command("search"), new SlashCommandDataBuilder("ping", "pong").build())).join();
+        var invocations = new AtomicLong();
+        var autocompletes = new AtomicLong();
+        api.addSlashCommandInvokeListener((e) -> invocations.incrementAndGet());
+        api.addSlashCommandAutocompleteListener((e) -> {
+            autocompletes.incrementAndGet();
+            assertEquals("search", e.getSlashCommandAutocompleteInteraction().getCommandName());
+        });
+        
+        var generator = new SyntheticEventGenerator(discord, 42, 64);
+        var report = generator.fire(1000, 0.25);
+        
+        assertEquals(1000, report.interactions());
+        assertEquals(750, invocations.get());
+        assertEquals(250, autocompletes.get());
+        assertThrows(IllegalArgumentException.class, () -> generator.fire(1, 2));
+        assertThrows(IllegalStateException.class, () -> new SyntheticEventGenerator(new InMemoryDiscord(APPLICATION_ID), 42, 64).nextInvocation());
+    }
+}
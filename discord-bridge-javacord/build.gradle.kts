@@ -15,4 +15,5 @@ dependencies {
     implementation("org.slf4j:slf4j-api")
 
     testImplementation(project(":discord-bridge-api"))
+    testImplementation("org.javacord:javacord:3.8.0")
 }
\ No newline at end of file
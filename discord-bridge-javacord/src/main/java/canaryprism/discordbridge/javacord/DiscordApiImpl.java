@@ -20,12 +20,24 @@ import canaryprism.discordbridge.api.DiscordApi;
 import canaryprism.discordbridge.api.DiscordBridge;
 import canaryprism.discordbridge.api.data.interaction.CommandData;
 import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandData;
+import canaryprism.discordbridge.api.event.Event;
+import canaryprism.discordbridge.api.event.interaction.SlashCommandAutocompleteEvent;
+import canaryprism.discordbridge.api.event.interaction.SlashCommandInvokeEvent;
+import canaryprism.discordbridge.api.event.stream.EventPublisher;
+import canaryprism.discordbridge.api.event.stream.OverflowStrategy;
 import canaryprism.discordbridge.api.interaction.slash.SlashCommand;
 import canaryprism.discordbridge.api.listener.ApiAttachableListener;
+import canaryprism.discordbridge.api.listener.interaction.AsyncSlashCommandAutocompleteListener;
+import canaryprism.discordbridge.api.listener.interaction.AsyncSlashCommandInvokeListener;
 import canaryprism.discordbridge.api.listener.interaction.SlashCommandAutocompleteListener;
 import canaryprism.discordbridge.api.listener.interaction.SlashCommandInvokeListener;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
 import canaryprism.discordbridge.api.server.Server;
+import canaryprism.discordbridge.javacord.event.interaction.SlashCommandAutocompleteEventImpl;
+import canaryprism.discordbridge.javacord.event.interaction.SlashCommandInvokeEventImpl;
 import canaryprism.discordbridge.javacord.interaction.slash.SlashCommandImpl;
+import canaryprism.discordbridge.javacord.listener.interaction.AsyncAutocompleteCreateListenerDelegate;
+import canaryprism.discordbridge.javacord.listener.interaction.AsyncSlashCommandCreateListenerDelegate;
 import canaryprism.discordbridge.javacord.listener.interaction.AutocompleteCreateListenerDelegate;
 import canaryprism.discordbridge.javacord.listener.interaction.SlashCommandCreateListenerDelegate;
 import canaryprism.discordbridge.javacord.server.ServerImpl;
@@ -38,6 +50,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.WeakHashMap;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -45,15 +58,15 @@ public record DiscordApiImpl(DiscordBridgeJavacord bridge, org.javacord.api.Disc
     
     @Override
     public @NotNull CompletableFuture<? extends @NotNull Set<? extends @NotNull SlashCommand>> getGlobalSlashCommands() {
-        return api.getGlobalSlashCommands()
+        return BridgeMetrics.restCall(bridge, "DiscordApi.getGlobalSlashCommands", () -> api.getGlobalSlashCommands()
                 .thenApply((set) -> set.stream()
                         .map((e) -> new SlashCommandImpl(bridge, e))
-                        .collect(Collectors.toUnmodifiableSet()));
+                        .collect(Collectors.toUnmodifiableSet())));
     }
     
     @Override
     public @NotNull CompletableFuture<? extends @NotNull Set<? extends @NotNull SlashCommand>> bulkUpdateGlobalCommands(@NotNull Set<? extends @NotNull CommandData> commands) {
-        return api.bulkOverwriteGlobalApplicationCommands(
+        return BridgeMetrics.commandBulkUpdate(bridge, "DiscordApi.bulkUpdateGlobalCommands", commands.size(), () -> api.bulkOverwriteGlobalApplicationCommands(
                         commands.stream()
                                 .map(SlashCommandData.class::cast)
                                 .map(bridge::convertData)
@@ -62,7 +75,7 @@ public record DiscordApiImpl(DiscordBridgeJavacord bridge, org.javacord.api.Disc
                         set.stream()
                                 .map(org.javacord.api.interaction.SlashCommand.class::cast)
                                 .map((e) -> new SlashCommandImpl(bridge, e))
-                                .collect(Collectors.toUnmodifiableSet()));
+                                .collect(Collectors.toUnmodifiableSet())));
     }
     
     @Override
@@ -73,39 +86,85 @@ public record DiscordApiImpl(DiscordBridgeJavacord bridge, org.javacord.api.Disc
                 .collect(Collectors.toUnmodifiableSet());
     }
     
-    private static final Map<ApiAttachableListener, GloballyAttachableListener> listener_delegate_map = new WeakHashMap<>();
+    // one map per listener type, as the same object can be added as several types of listener
+    private static final Map<Class<? extends ApiAttachableListener>, Map<ApiAttachableListener, GloballyAttachableListener>> listener_delegate_maps = Map.of(
+            SlashCommandInvokeListener.class, new WeakHashMap<>(),
+            SlashCommandAutocompleteListener.class, new WeakHashMap<>(),
+            AsyncSlashCommandInvokeListener.class, new WeakHashMap<>(),
+            AsyncSlashCommandAutocompleteListener.class, new WeakHashMap<>());
+    
+    private static Map<ApiAttachableListener, GloballyAttachableListener> delegateMap(Class<? extends ApiAttachableListener> type) {
+        var map = listener_delegate_maps.get(type);
+        if (map == null)
+            throw new UnsupportedOperationException(String.format("unsupported listener type %s", type));
+        return map;
+    }
     
     @SuppressWarnings("unchecked")
-    private static <T extends ApiAttachableListener, R extends GloballyAttachableListener> R delegate(T listener, Function<? super T, ? extends R> delegate_function) {
-        if (listener_delegate_map.containsKey(listener))
-            return ((R) listener_delegate_map.get(listener));
-        var delegate = delegate_function.apply(listener);
-        listener_delegate_map.put(listener, delegate);
-        return delegate;
+    private static <T extends ApiAttachableListener, R extends GloballyAttachableListener> R delegate(Class<T> type, T listener, Function<? super T, ? extends R> delegate_function) {
+        var map = delegateMap(type);
+        synchronized (map) {
+            if (map.containsKey(listener))
+                return ((R) map.get(listener));
+            var delegate = delegate_function.apply(listener);
+            map.put(listener, delegate);
+            return delegate;
+        }
     }
     
     @Override
     public <T extends ApiAttachableListener> void addListener(@NotNull Class<T> type, @NotNull T listener) {
         if (type == SlashCommandInvokeListener.class)
-            api.addSlashCommandCreateListener(delegate(((SlashCommandInvokeListener) listener),
+            api.addSlashCommandCreateListener(delegate(SlashCommandInvokeListener.class, ((SlashCommandInvokeListener) listener),
                     (e) -> new SlashCommandCreateListenerDelegate(bridge, e)));
         else if (type == SlashCommandAutocompleteListener.class)
-            api.addAutocompleteCreateListener(delegate(((SlashCommandAutocompleteListener) listener),
+            api.addAutocompleteCreateListener(delegate(SlashCommandAutocompleteListener.class, ((SlashCommandAutocompleteListener) listener),
                     (e) -> new AutocompleteCreateListenerDelegate(bridge, e)));
+        else if (type == AsyncSlashCommandInvokeListener.class)
+            api.addSlashCommandCreateListener(delegate(AsyncSlashCommandInvokeListener.class, ((AsyncSlashCommandInvokeListener) listener),
+                    (e) -> new AsyncSlashCommandCreateListenerDelegate(bridge, e)));
+        else if (type == AsyncSlashCommandAutocompleteListener.class)
+            api.addAutocompleteCreateListener(delegate(AsyncSlashCommandAutocompleteListener.class, ((AsyncSlashCommandAutocompleteListener) listener),
+                    (e) -> new AsyncAutocompleteCreateListenerDelegate(bridge, e)));
         else
             throw new UnsupportedOperationException(String.format("unsupported listener type %s", type));
     }
     
     @Override
     public <T extends ApiAttachableListener> void removeListener(@NotNull Class<T> type, @NotNull T listener) {
-        if (listener_delegate_map.containsKey(listener)) {
-            if (type == SlashCommandInvokeListener.class)
-                api.removeListener(SlashCommandCreateListener.class, ((SlashCommandCreateListener) listener_delegate_map.get(listener)));
-            else if (type == SlashCommandAutocompleteListener.class)
-                api.removeListener(AutocompleteCreateListener.class, ((AutocompleteCreateListener) listener_delegate_map.get(listener)));
-            else
-                throw new UnsupportedOperationException(String.format("unsupported listener type %s", type));
+        var map = delegateMap(type);
+        GloballyAttachableListener delegate;
+        synchronized (map) {
+            delegate = map.get(listener);
         }
+        if (delegate instanceof SlashCommandCreateListener slash_command_delegate)
+            api.removeListener(SlashCommandCreateListener.class, slash_command_delegate);
+        else if (delegate instanceof AutocompleteCreateListener autocomplete_delegate)
+            api.removeListener(AutocompleteCreateListener.class, autocomplete_delegate);
+    }
+    
+    @Override
+    public <E extends Event> @NotNull Flow.Publisher<E> events(@NotNull Class<E> type, @NotNull OverflowStrategy overflow) {
+        var invoke = type.isAssignableFrom(SlashCommandInvokeEvent.class);
+        var autocomplete = type.isAssignableFrom(SlashCommandAutocompleteEvent.class);
+        if (!invoke && !autocomplete)
+            throw new IllegalArgumentException(String.format("unsupported event type %s", type));
+        return new EventPublisher<>(overflow, (sink) -> {
+            var invoke_manager = invoke ?
+                    api.addSlashCommandCreateListener((e) -> sink.accept(type.cast(new SlashCommandInvokeEventImpl(bridge, e))))
+                    :
+                    null;
+            var autocomplete_manager = autocomplete ?
+                    api.addAutocompleteCreateListener((e) -> sink.accept(type.cast(new SlashCommandAutocompleteEventImpl(bridge, e))))
+                    :
+                    null;
+            return () -> {
+                if (invoke_manager != null)
+                    invoke_manager.remove();
+                if (autocomplete_manager != null)
+                    autocomplete_manager.remove();
+            };
+        });
     }
     
     @Override
@@ -50,6 +50,7 @@ import org.javacord.api.entity.permission.Role;
 import org.javacord.api.entity.user.User;
 import org.javacord.api.interaction.*;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -410,16 +411,47 @@ public final class DiscordBridgeJavacord implements DiscordBridge {
         return "DiscordBridge Javacord 3.8.0 Implementation";
     }
     
+    /// Locale translation tables in both directions, indexed by ordinal
+    ///
+    /// These are computed once by parsing every locale's language tag,
+    /// so converting localizations doesn't need to parse anything
+    private static final class LocaleTable {
+        static final canaryprism.discordbridge.api.misc.DiscordLocale[] from_javacord;
+        static final DiscordLocale[] to_javacord;
+        
+        static {
+            var javacord_locales = DiscordLocale.values();
+            from_javacord = new canaryprism.discordbridge.api.misc.DiscordLocale[javacord_locales.length];
+            for (var locale : javacord_locales)
+                from_javacord[locale.ordinal()] = canaryprism.discordbridge.api.misc.DiscordLocale.fromLocale(Locale.forLanguageTag(locale.getLocaleCode()))
+                        .orElse(canaryprism.discordbridge.api.misc.DiscordLocale.UNKNOWN);
+            
+            var locales = canaryprism.discordbridge.api.misc.DiscordLocale.values();
+            to_javacord = new DiscordLocale[locales.length];
+            for (var locale : locales)
+                to_javacord[locale.ordinal()] = DiscordLocale.fromLocaleCode(locale.locale.toLanguageTag());
+        }
+    }
+    
     public static canaryprism.discordbridge.api.misc.DiscordLocale convertLocale(@NotNull DiscordLocale locale) {
-        return canaryprism.discordbridge.api.misc.DiscordLocale.fromLocale(Locale.forLanguageTag(locale.getLocaleCode()))
-                .orElseGet(() -> {
-                    log.debug("unsupported Javacord locale '{}', converting to UNKNOWN", locale);
-                    return canaryprism.discordbridge.api.misc.DiscordLocale.UNKNOWN;
-                });
+        var converted = LocaleTable.from_javacord[locale.ordinal()];
+        if (converted == canaryprism.discordbridge.api.misc.DiscordLocale.UNKNOWN)
+            log.debug("unsupported Javacord locale '{}', converting to UNKNOWN", locale);
+        return converted;
     }
     
     public static DiscordLocale convertLocale(@NotNull canaryprism.discordbridge.api.misc.DiscordLocale locale) {
-        return DiscordLocale.fromLocaleCode(locale.locale.toLanguageTag());
+        return LocaleTable.to_javacord[locale.ordinal()];
+    }
+    
+    public static @NotNull @Unmodifiable Map<canaryprism.discordbridge.api.misc.DiscordLocale, @NotNull String> convertInternalLocalizations(@NotNull Map<DiscordLocale, String> localizations) {
+        if (localizations.isEmpty())
+            return Map.of();
+        
+        var converted = new EnumMap<canaryprism.discordbridge.api.misc.DiscordLocale, String>(canaryprism.discordbridge.api.misc.DiscordLocale.class);
+        for (var e : localizations.entrySet())
+            converted.put(convertLocale(e.getKey()), e.getValue());
+        return Collections.unmodifiableMap(converted);
     }
     
     public @NotNull SlashCommandBuilder convertData(@NotNull SlashCommandData data) {
@@ -449,12 +481,14 @@ public final class DiscordBridgeJavacord implements DiscordBridge {
                 .ifPresent(builder::setDefaultEnabledForPermissions);
         
         for (var e : data.getNameLocalizations().entrySet()) {
-            if (convertLocale(e.getKey()) != DiscordLocale.UNKNOWN)
-                builder.addNameLocalization(convertLocale(e.getKey()), e.getValue());
+            var locale = convertLocale(e.getKey());
+            if (locale != DiscordLocale.UNKNOWN)
+                builder.addNameLocalization(locale, e.getValue());
         }
         for (var e : data.getDescriptionLocalizations().entrySet()) {
-            if (convertLocale(e.getKey()) != DiscordLocale.UNKNOWN)
-                builder.addDescriptionLocalization(convertLocale(e.getKey()), e.getValue());
+            var locale = convertLocale(e.getKey());
+            if (locale != DiscordLocale.UNKNOWN)
+                builder.addDescriptionLocalization(locale, e.getValue());
         }
         
         return builder;
@@ -489,12 +523,14 @@ public final class DiscordBridgeJavacord implements DiscordBridge {
         data.getStringLengthBoundsMax().ifPresent(builder::setMaxLength);
         
         for (var e : data.getNameLocalizations().entrySet()) {
-            if (convertLocale(e.getKey()) != DiscordLocale.UNKNOWN)
-                builder.addNameLocalization(convertLocale(e.getKey()), e.getValue());
+            var locale = convertLocale(e.getKey());
+            if (locale != DiscordLocale.UNKNOWN)
+                builder.addNameLocalization(locale, e.getValue());
         }
         for (var e : data.getDescriptionLocalizations().entrySet()) {
-            if (convertLocale(e.getKey()) != DiscordLocale.UNKNOWN)
-                builder.addDescriptionLocalization(convertLocale(e.getKey()), e.getValue());
+            var locale = convertLocale(e.getKey());
+            if (locale != DiscordLocale.UNKNOWN)
+                builder.addDescriptionLocalization(locale, e.getValue());
         }
         
         return builder.build();
@@ -512,8 +548,9 @@ public final class DiscordBridgeJavacord implements DiscordBridge {
         }
         
         for (var e : data.getNameLocalizations().entrySet()) {
-            if (convertLocale(e.getKey()) != DiscordLocale.UNKNOWN)
-                builder.addNameLocalization(convertLocale(e.getKey()), e.getValue());
+            var locale = convertLocale(e.getKey());
+            if (locale != DiscordLocale.UNKNOWN)
+                builder.addNameLocalization(locale, e.getValue());
         }
         
         return builder.build();
@@ -18,6 +18,7 @@ package canaryprism.discordbridge.javacord.interaction.response;
 
 import canaryprism.discordbridge.api.DiscordBridge;
 import canaryprism.discordbridge.api.interaction.response.FollowupResponder;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
 import org.javacord.api.interaction.callback.InteractionFollowupMessageBuilder;
 import org.javacord.api.interaction.callback.InteractionMessageBuilderBase;
 import org.jetbrains.annotations.NotNull;
@@ -28,12 +29,12 @@ public record FollowupResponderImpl(DiscordBridge bridge, InteractionFollowupMes
     
     @Override
     public @NotNull CompletableFuture<?> send() {
-        return responder.send();
+        return BridgeMetrics.response(bridge, "followup.send", () -> responder.send());
     }
     
     @Override
     public @NotNull CompletableFuture<?> update(long message_id) {
-        return responder.update(message_id);
+        return BridgeMetrics.response(bridge, "followup.update", () -> responder.update(message_id));
     }
     
     @Override
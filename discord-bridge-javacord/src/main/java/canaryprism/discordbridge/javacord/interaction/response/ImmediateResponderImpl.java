@@ -18,6 +18,7 @@ package canaryprism.discordbridge.javacord.interaction.response;
 
 import canaryprism.discordbridge.api.DiscordBridge;
 import canaryprism.discordbridge.api.interaction.response.ImmediateResponder;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
 import org.javacord.api.interaction.callback.InteractionImmediateResponseBuilder;
 import org.javacord.api.interaction.callback.InteractionMessageBuilderBase;
 import org.jetbrains.annotations.NotNull;
@@ -28,7 +29,7 @@ public record ImmediateResponderImpl(DiscordBridge bridge, InteractionImmediateR
     
     @Override
     public @NotNull CompletableFuture<?> respond() {
-        return responder.respond();
+        return BridgeMetrics.response(bridge, "respond", () -> responder.respond());
     }
     
     @Override
@@ -18,6 +18,7 @@ package canaryprism.discordbridge.javacord.interaction.response;
 
 import canaryprism.discordbridge.api.DiscordBridge;
 import canaryprism.discordbridge.api.interaction.response.ResponseUpdater;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
 import org.javacord.api.interaction.callback.InteractionMessageBuilderBase;
 import org.javacord.api.interaction.callback.InteractionOriginalResponseUpdater;
 import org.jetbrains.annotations.NotNull;
@@ -28,7 +29,7 @@ public record ResponseUpdaterImpl(DiscordBridge bridge, InteractionOriginalRespo
     
     @Override
     public @NotNull CompletableFuture<?> update() {
-        return updater.update();
+        return BridgeMetrics.response(bridge, "update", () -> updater.update());
     }
     
     @Override
@@ -18,6 +18,7 @@ package canaryprism.discordbridge.javacord.interaction.slash;
 
 import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandOptionChoiceData;
 import canaryprism.discordbridge.api.interaction.slash.SlashCommandAutocompleteInteraction;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
 import canaryprism.discordbridge.javacord.DiscordBridgeJavacord;
 import org.javacord.api.interaction.AutocompleteInteraction;
 import org.jetbrains.annotations.NotNull;
@@ -33,9 +34,9 @@ public class SlashCommandAutocompleteInteractionImpl extends SlashCommandInvokeI
     
     @Override
     public @NotNull CompletableFuture<?> suggest(@NotNull List<? extends @NotNull SlashCommandOptionChoiceData> choices) {
-        return ((AutocompleteInteraction) interaction)
+        return BridgeMetrics.response(bridge, "suggest", () -> ((AutocompleteInteraction) interaction)
                 .respondWithChoices(choices.stream()
                         .map(bridge::convertData)
-                        .toList());
+                        .toList()));
     }
 }
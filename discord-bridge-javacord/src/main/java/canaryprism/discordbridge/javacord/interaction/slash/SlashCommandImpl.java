@@ -130,14 +130,7 @@ public record SlashCommandImpl(DiscordBridge bridge, org.javacord.api.interactio
     
     @Override
     public @NotNull Map<DiscordLocale, @NotNull String> getNameLocalizations() {
-        return command.getNameLocalizations()
-                .entrySet()
-                .stream()
-                .map((e) -> Map.entry(
-                        DiscordBridgeJavacord.convertLocale(e.getKey()),
-                        e.getValue()
-                ))
-                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue));
+        return DiscordBridgeJavacord.convertInternalLocalizations(command.getNameLocalizations());
     }
     
     @Override
@@ -147,13 +140,6 @@ public record SlashCommandImpl(DiscordBridge bridge, org.javacord.api.interactio
     
     @Override
     public @NotNull Map<DiscordLocale, @NotNull String> getDescriptionLocalizations() {
-        return command.getDescriptionLocalizations()
-                .entrySet()
-                .stream()
-                .map((e) -> Map.entry(
-                        DiscordBridgeJavacord.convertLocale(e.getKey()),
-                        e.getValue()
-                ))
-                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue));
+        return DiscordBridgeJavacord.convertInternalLocalizations(command.getDescriptionLocalizations());
     }
 }
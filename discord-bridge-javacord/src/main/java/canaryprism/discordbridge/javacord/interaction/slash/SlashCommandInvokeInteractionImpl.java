@@ -24,6 +24,7 @@ import canaryprism.discordbridge.api.interaction.response.ImmediateResponder;
 import canaryprism.discordbridge.api.interaction.response.ResponseUpdater;
 import canaryprism.discordbridge.api.interaction.slash.SlashCommandInvokeInteraction;
 import canaryprism.discordbridge.api.interaction.slash.SlashCommandInteractionOption;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
 import canaryprism.discordbridge.api.server.Server;
 import canaryprism.discordbridge.javacord.DiscordBridgeJavacord;
 import canaryprism.discordbridge.javacord.channel.ChannelDirector;
@@ -49,6 +50,11 @@ public class SlashCommandInvokeInteractionImpl implements SlashCommandInvokeInte
         this.interaction = interaction;
     }
     
+    @Override
+    public long getId() {
+        return interaction.getId();
+    }
+    
     @Override
     public long getApplicationId() {
         return interaction.getApplicationId();
@@ -76,8 +82,8 @@ public class SlashCommandInvokeInteractionImpl implements SlashCommandInvokeInte
     
     @Override
     public @NotNull CompletableFuture<? extends @NotNull ResponseUpdater> respondLater(boolean ephemeral) {
-        return interaction.respondLater(ephemeral)
-                .thenApply((e) -> new ResponseUpdaterImpl(bridge, e));
+        return BridgeMetrics.response(bridge, "respondLater", () -> interaction.respondLater(ephemeral)
+                .thenApply((e) -> new ResponseUpdaterImpl(bridge, e)));
     }
     
     @Override
@@ -24,7 +24,6 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 public record SlashCommandOptionChoiceImpl(DiscordBridge bridge, org.javacord.api.interaction.SlashCommandOptionChoice choice) implements SlashCommandOptionChoice {
     
@@ -38,14 +37,7 @@ public record SlashCommandOptionChoiceImpl(DiscordBridge bridge, org.javacord.ap
     
     @Override
     public @NotNull Map<DiscordLocale, @NotNull String> getNameLocalizations() {
-        return choice.getNameLocalizations()
-                .entrySet()
-                .stream()
-                .map((e) -> Map.entry(
-                        DiscordBridgeJavacord.convertLocale(e.getKey()),
-                        e.getValue()
-                ))
-                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue));
+        return DiscordBridgeJavacord.convertInternalLocalizations(choice.getNameLocalizations());
     }
     
     @Override
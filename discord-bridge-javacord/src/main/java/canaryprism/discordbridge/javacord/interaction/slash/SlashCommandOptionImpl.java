@@ -107,14 +107,7 @@ public record SlashCommandOptionImpl(DiscordBridge bridge, org.javacord.api.inte
     
     @Override
     public @NotNull Map<DiscordLocale, @NotNull String> getNameLocalizations() {
-        return option.getNameLocalizations()
-                .entrySet()
-                .stream()
-                .map((e) -> Map.entry(
-                        DiscordBridgeJavacord.convertLocale(e.getKey()),
-                        e.getValue()
-                ))
-                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue));
+        return DiscordBridgeJavacord.convertInternalLocalizations(option.getNameLocalizations());
     }
     
     @Override
@@ -124,14 +117,7 @@ public record SlashCommandOptionImpl(DiscordBridge bridge, org.javacord.api.inte
     
     @Override
     public @NotNull Map<DiscordLocale, @NotNull String> getDescriptionLocalizations() {
-        return option.getDescriptionLocalizations()
-                .entrySet()
-                .stream()
-                .map((e) -> Map.entry(
-                        DiscordBridgeJavacord.convertLocale(e.getKey()),
-                        e.getValue()
-                ))
-                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue));
+        return DiscordBridgeJavacord.convertInternalLocalizations(option.getDescriptionLocalizations());
     }
     
     @Override
@@ -0,0 +1,49 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.javacord.listener.interaction;
+
+import canaryprism.discordbridge.api.event.interaction.SlashCommandAutocompleteEvent;
+import canaryprism.discordbridge.api.listener.interaction.AsyncSlashCommandAutocompleteListener;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
+import canaryprism.discordbridge.api.metrics.jfr.InteractionDispatchedEvent;
+import canaryprism.discordbridge.javacord.DiscordBridgeJavacord;
+import canaryprism.discordbridge.javacord.event.interaction.SlashCommandAutocompleteEventImpl;
+import org.javacord.api.event.interaction.AutocompleteCreateEvent;
+import org.javacord.api.listener.interaction.AutocompleteCreateListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public record AsyncAutocompleteCreateListenerDelegate(DiscordBridgeJavacord bridge, AsyncSlashCommandAutocompleteListener listener) implements AutocompleteCreateListener {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AsyncAutocompleteCreateListenerDelegate.class);
+    
+    @Override
+    public void onAutocompleteCreate(AutocompleteCreateEvent event) {
+        var dispatched = new InteractionDispatchedEvent();
+        dispatched.begin();
+        var start = System.nanoTime();
+        var wrapped = new SlashCommandAutocompleteEventImpl(bridge, event);
+        BridgeMetrics.recorder().eventReceived(bridge, SlashCommandAutocompleteEvent.class, System.nanoTime() - start);
+        // javacord's listener thread is free as soon as the stage is returned, completion is only tracked
+        BridgeMetrics.asyncListener(bridge, SlashCommandAutocompleteEvent.class, wrapped, listener, () -> listener.onSlashCommandAutocomplete(wrapped))
+                .exceptionally((e) -> {
+                    logger.error("Exception in asynchronous event listener", e);
+                    return null;
+                });
+        dispatched.complete(bridge, SlashCommandAutocompleteEvent.class, wrapped, 1);
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.javacord.listener.interaction;
+
+import canaryprism.discordbridge.api.DiscordBridge;
+import canaryprism.discordbridge.api.event.interaction.SlashCommandInvokeEvent;
+import canaryprism.discordbridge.api.listener.interaction.AsyncSlashCommandInvokeListener;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
+import canaryprism.discordbridge.api.metrics.jfr.InteractionDispatchedEvent;
+import canaryprism.discordbridge.javacord.event.interaction.SlashCommandInvokeEventImpl;
+import org.javacord.api.event.interaction.SlashCommandCreateEvent;
+import org.javacord.api.listener.interaction.SlashCommandCreateListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public record AsyncSlashCommandCreateListenerDelegate(DiscordBridge bridge, AsyncSlashCommandInvokeListener listener) implements SlashCommandCreateListener {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AsyncSlashCommandCreateListenerDelegate.class);
+    
+    @Override
+    public void onSlashCommandCreate(SlashCommandCreateEvent event) {
+        var dispatched = new InteractionDispatchedEvent();
+        dispatched.begin();
+        var start = System.nanoTime();
+        var wrapped = new SlashCommandInvokeEventImpl(bridge, event);
+        BridgeMetrics.recorder().eventReceived(bridge, SlashCommandInvokeEvent.class, System.nanoTime() - start);
+        // javacord's listener thread is free as soon as the stage is returned, completion is only tracked
+        BridgeMetrics.asyncListener(bridge, SlashCommandInvokeEvent.class, wrapped, listener, () -> listener.onSlashCommandInvoke(wrapped))
+                .exceptionally((e) -> {
+                    logger.error("Exception in asynchronous event listener", e);
+                    return null;
+                });
+        dispatched.complete(bridge, SlashCommandInvokeEvent.class, wrapped, 1);
+    }
+}
@@ -16,7 +16,12 @@
 
 package canaryprism.discordbridge.javacord.listener.interaction;
 
+import canaryprism.discordbridge.api.event.interaction.SlashCommandAutocompleteEvent;
 import canaryprism.discordbridge.api.listener.interaction.SlashCommandAutocompleteListener;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
+import canaryprism.discordbridge.api.metrics.ListenerWatchdog;
+import canaryprism.discordbridge.api.metrics.jfr.InteractionDispatchedEvent;
+import canaryprism.discordbridge.api.metrics.jfr.ListenerExecutedEvent;
 import canaryprism.discordbridge.javacord.DiscordBridgeJavacord;
 import canaryprism.discordbridge.javacord.event.interaction.SlashCommandAutocompleteEventImpl;
 import org.javacord.api.event.interaction.AutocompleteCreateEvent;
@@ -26,6 +31,25 @@ public record AutocompleteCreateListenerDelegate(DiscordBridgeJavacord bridge, S
     
     @Override
     public void onAutocompleteCreate(AutocompleteCreateEvent event) {
-        listener.onSlashCommandAutocomplete(new SlashCommandAutocompleteEventImpl(bridge, event));
+        var dispatched = new InteractionDispatchedEvent();
+        dispatched.begin();
+        var start = System.nanoTime();
+        var wrapped = new SlashCommandAutocompleteEventImpl(bridge, event);
+        var recorder = BridgeMetrics.recorder();
+        recorder.eventReceived(bridge, SlashCommandAutocompleteEvent.class, System.nanoTime() - start);
+        var executed = new ListenerExecutedEvent();
+        executed.begin();
+        var listener_start = System.nanoTime();
+        var watch = ListenerWatchdog.watch(bridge, SlashCommandAutocompleteEvent.class, wrapped, listener, listener_start);
+        var thrown = true;
+        try {
+            listener.onSlashCommandAutocomplete(wrapped);
+            thrown = false;
+        } finally {
+            watch.done();
+            recorder.listenerCompleted(bridge, SlashCommandAutocompleteEvent.class, listener, System.nanoTime() - listener_start);
+            executed.complete(bridge, SlashCommandAutocompleteEvent.class, listener, thrown);
+        }
+        dispatched.complete(bridge, SlashCommandAutocompleteEvent.class, wrapped, 1);
     }
 }
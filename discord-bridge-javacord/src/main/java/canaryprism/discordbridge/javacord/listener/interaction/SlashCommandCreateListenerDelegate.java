@@ -17,7 +17,12 @@
 package canaryprism.discordbridge.javacord.listener.interaction;
 
 import canaryprism.discordbridge.api.DiscordBridge;
+import canaryprism.discordbridge.api.event.interaction.SlashCommandInvokeEvent;
 import canaryprism.discordbridge.api.listener.interaction.SlashCommandInvokeListener;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
+import canaryprism.discordbridge.api.metrics.ListenerWatchdog;
+import canaryprism.discordbridge.api.metrics.jfr.InteractionDispatchedEvent;
+import canaryprism.discordbridge.api.metrics.jfr.ListenerExecutedEvent;
 import canaryprism.discordbridge.javacord.event.interaction.SlashCommandInvokeEventImpl;
 import org.javacord.api.event.interaction.SlashCommandCreateEvent;
 import org.javacord.api.listener.interaction.SlashCommandCreateListener;
@@ -26,6 +31,25 @@ public record SlashCommandCreateListenerDelegate(DiscordBridge bridge, SlashComm
     
     @Override
     public void onSlashCommandCreate(SlashCommandCreateEvent event) {
-        listener.onSlashCommandInvoke(new SlashCommandInvokeEventImpl(bridge, event));
+        var dispatched = new InteractionDispatchedEvent();
+        dispatched.begin();
+        var start = System.nanoTime();
+        var wrapped = new SlashCommandInvokeEventImpl(bridge, event);
+        var recorder = BridgeMetrics.recorder();
+        recorder.eventReceived(bridge, SlashCommandInvokeEvent.class, System.nanoTime() - start);
+        var executed = new ListenerExecutedEvent();
+        executed.begin();
+        var listener_start = System.nanoTime();
+        var watch = ListenerWatchdog.watch(bridge, SlashCommandInvokeEvent.class, wrapped, listener, listener_start);
+        var thrown = true;
+        try {
+            listener.onSlashCommandInvoke(wrapped);
+            thrown = false;
+        } finally {
+            watch.done();
+            recorder.listenerCompleted(bridge, SlashCommandInvokeEvent.class, listener, System.nanoTime() - listener_start);
+            executed.complete(bridge, SlashCommandInvokeEvent.class, listener, thrown);
+        }
+        dispatched.complete(bridge, SlashCommandInvokeEvent.class, wrapped, 1);
     }
 }
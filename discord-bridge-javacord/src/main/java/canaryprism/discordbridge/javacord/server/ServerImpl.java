@@ -21,6 +21,7 @@ import canaryprism.discordbridge.api.data.interaction.CommandData;
 import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandData;
 import canaryprism.discordbridge.api.interaction.Command;
 import canaryprism.discordbridge.api.interaction.slash.SlashCommand;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
 import canaryprism.discordbridge.api.server.Server;
 import canaryprism.discordbridge.javacord.DiscordBridgeJavacord;
 import canaryprism.discordbridge.javacord.interaction.slash.SlashCommandImpl;
@@ -34,16 +35,16 @@ public record ServerImpl(DiscordBridgeJavacord bridge, org.javacord.api.entity.s
     
     @Override
     public @NotNull CompletableFuture<? extends @NotNull Set<? extends @NotNull SlashCommand>> getServerSlashCommands() {
-        return server.getSlashCommands()
+        return BridgeMetrics.restCall(bridge, "Server.getServerSlashCommands", () -> server.getSlashCommands()
                 .thenApply((set) -> set.stream()
                         .map((e) -> new SlashCommandImpl(bridge, e))
                         .collect(Collectors.toUnmodifiableSet())
-                );
+                ));
     }
     
     @Override
     public @NotNull CompletableFuture<? extends @NotNull Set<? extends @NotNull Command>> bulkUpdateServerCommands(@NotNull Set<? extends @NotNull CommandData> commands) {
-        return server.getApi().bulkOverwriteServerApplicationCommands(server,
+        return BridgeMetrics.commandBulkUpdate(bridge, "Server.bulkUpdateServerCommands", commands.size(), () -> server.getApi().bulkOverwriteServerApplicationCommands(server,
                 commands.stream()
                         .map(SlashCommandData.class::cast)
                         .map(bridge::convertData)
@@ -52,7 +53,7 @@ public record ServerImpl(DiscordBridgeJavacord bridge, org.javacord.api.entity.s
                         set.stream()
                                 .map(org.javacord.api.interaction.SlashCommand.class::cast)
                                 .map((e) -> new SlashCommandImpl(bridge, e))
-                                .collect(Collectors.toUnmodifiableSet()));
+                                .collect(Collectors.toUnmodifiableSet())));
     }
     
     @Override
@@ -0,0 +1,188 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+import canaryprism.discordbridge.api.event.interaction.SlashCommandAutocompleteEvent;
+import canaryprism.discordbridge.api.event.interaction.SlashCommandInvokeEvent;
+import canaryprism.discordbridge.api.listener.interaction.AsyncSlashCommandAutocompleteListener;
+import canaryprism.discordbridge.api.listener.interaction.AsyncSlashCommandInvokeListener;
+import canaryprism.discordbridge.api.listener.interaction.SlashCommandAutocompleteListener;
+import canaryprism.discordbridge.api.listener.interaction.SlashCommandInvokeListener;
+import canaryprism.discordbridge.api.router.SlashCommandRouter;
+import canaryprism.discordbridge.api.trace.InteractionTraceRecorder;
+import canaryprism.discordbridge.api.trace.InteractionTraceWriter;
+import canaryprism.discordbridge.javacord.DiscordApiImpl;
+import canaryprism.discordbridge.javacord.DiscordBridgeJavacord;
+import canaryprism.discordbridge.javacord.listener.interaction.AsyncAutocompleteCreateListenerDelegate;
+import canaryprism.discordbridge.javacord.listener.interaction.AsyncSlashCommandCreateListenerDelegate;
+import canaryprism.discordbridge.javacord.listener.interaction.AutocompleteCreateListenerDelegate;
+import canaryprism.discordbridge.javacord.listener.interaction.SlashCommandCreateListenerDelegate;
+import org.javacord.api.listener.GloballyAttachableListener;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests for [DiscordApiImpl]
+public class DiscordApiImplTests {
+    
+    private final List<GloballyAttachableListener> added = new ArrayList<>();
+    private final List<GloballyAttachableListener> removed = new ArrayList<>();
+    
+    /// A Javacord api that only records the listeners added to and removed from it
+    private final org.javacord.api.DiscordApi javacord = (org.javacord.api.DiscordApi) Proxy.newProxyInstance(
+            org.javacord.api.DiscordApi.class.getClassLoader(),
+            new Class<?>[] { org.javacord.api.DiscordApi.class },
+            (proxy, method, args) -> switch (method.getName()) {
+                case "addSlashCommandCreateListener", "addAutocompleteCreateListener" -> {
+                    added.add((GloballyAttachableListener) args[0]);
+                    yield null;
+                }
+                case "removeListener" -> {
+                    removed.add((GloballyAttachableListener) args[args.length - 1]);
+                    yield null;
+                }
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                case "toString" -> "fake Javacord api";
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+    
+    private final DiscordApiImpl api = new DiscordApiImpl(new DiscordBridgeJavacord(), javacord);
+    
+    private static final class BothListener implements SlashCommandInvokeListener, SlashCommandAutocompleteListener {
+        
+        @Override
+        public void onSlashCommandInvoke(SlashCommandInvokeEvent event) {}
+        
+        @Override
+        public void onSlashCommandAutocomplete(SlashCommandAutocompleteEvent event) {}
+    }
+    
+    private static final class AsyncBothListener implements AsyncSlashCommandInvokeListener, AsyncSlashCommandAutocompleteListener {
+        
+        @Override
+        public CompletionStage<?> onSlashCommandInvoke(SlashCommandInvokeEvent event) {
+            return CompletableFuture.completedFuture(null);
+        }
+        
+        @Override
+        public CompletionStage<?> onSlashCommandAutocomplete(SlashCommandAutocompleteEvent event) {
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+    
+    @Test
+    void listenersOfBothTypesShouldGetADelegateForEach() {
+        var listener = new BothListener();
+        
+        api.addSlashCommandInvokeListener(listener);
+        api.addSlashCommandAutocompleteListener(listener);
+        
+        assertEquals(2, added.size());
+        var invoke = assertInstanceOf(SlashCommandCreateListenerDelegate.class, added.get(0));
+        var autocomplete = assertInstanceOf(AutocompleteCreateListenerDelegate.class, added.get(1));
+        assertSame(listener, invoke.listener());
+        assertSame(listener, autocomplete.listener());
+        
+        api.removeSlashCommandInvokeListener(listener);
+        api.removeSlashCommandAutocompleteListener(listener);
+        
+        assertEquals(List.of(invoke, autocomplete), removed);
+    }
+    
+    @Test
+    void addingAListenerAgainShouldReuseItsDelegate() {
+        SlashCommandInvokeListener listener = (e) -> {};
+        
+        api.addSlashCommandInvokeListener(listener);
+        api.addSlashCommandInvokeListener(listener);
+        
+        assertEquals(2, added.size());
+        assertSame(added.get(0), added.get(1));
+    }
+    
+    @Test
+    void removingAListenerNeverAddedShouldDoNothing() {
+        api.removeSlashCommandInvokeListener((e) -> {});
+        
+        assertEquals(List.of(), removed);
+    }
+    
+    @Test
+    void routersShouldAttachAndDetach() {
+        var router = new SlashCommandRouter();
+        
+        router.attach(api);
+        assertEquals(2, added.size());
+        assertInstanceOf(SlashCommandCreateListenerDelegate.class, added.get(0));
+        assertInstanceOf(AutocompleteCreateListenerDelegate.class, added.get(1));
+        
+        router.detach(api);
+        assertEquals(added, removed);
+    }
+    
+    @Test
+    void traceRecordersShouldAttachAndDetach() throws IOException {
+        try (var recorder = new InteractionTraceRecorder(new InteractionTraceWriter(new ByteArrayOutputStream()), new byte[] { 1, 2, 3 })) {
+            recorder.attach(api);
+            assertEquals(2, added.size());
+            assertSame(recorder, assertInstanceOf(SlashCommandCreateListenerDelegate.class, added.get(0)).listener());
+            assertSame(recorder, assertInstanceOf(AutocompleteCreateListenerDelegate.class, added.get(1)).listener());
+            
+            recorder.detach(api);
+            assertEquals(added, removed);
+        }
+    }
+    
+    @Test
+    void asynchronousListenersShouldBeAddedAndRemovedThroughAsyncDelegates() {
+        var listener = new AsyncBothListener();
+        
+        api.addAsyncSlashCommandInvokeListener(listener);
+        api.addAsyncSlashCommandAutocompleteListener(listener);
+        
+        assertEquals(2, added.size());
+        var invoke = assertInstanceOf(AsyncSlashCommandCreateListenerDelegate.class, added.get(0));
+        var autocomplete = assertInstanceOf(AsyncAutocompleteCreateListenerDelegate.class, added.get(1));
+        assertSame(listener, invoke.listener());
+        assertSame(listener, autocomplete.listener());
+        
+        api.removeAsyncSlashCommandInvokeListener(listener);
+        api.removeAsyncSlashCommandAutocompleteListener(listener);
+        
+        assertEquals(List.of(invoke, autocomplete), removed);
+    }
+    
+    @Test
+    void synchronousAndAsynchronousRegistrationsShouldBeRemovedSeparately() {
+        var listener = new BothListener();
+        AsyncSlashCommandInvokeListener async_listener = (e) -> CompletableFuture.completedFuture(null);
+        
+        api.addSlashCommandInvokeListener(listener);
+        api.addAsyncSlashCommandInvokeListener(async_listener);
+        api.removeAsyncSlashCommandInvokeListener(async_listener);
+        
+        assertEquals(List.of(added.get(1)), removed);
+        assertInstanceOf(AsyncSlashCommandCreateListenerDelegate.class, removed.get(0));
+    }
+}
@@ -21,10 +21,21 @@ import canaryprism.discordbridge.api.DiscordApi;
 import canaryprism.discordbridge.api.DiscordBridge;
 import canaryprism.discordbridge.api.data.interaction.CommandData;
 import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandData;
+import canaryprism.discordbridge.api.event.Event;
+import canaryprism.discordbridge.api.event.interaction.SlashCommandAutocompleteEvent;
+import canaryprism.discordbridge.api.event.interaction.SlashCommandInvokeEvent;
+import canaryprism.discordbridge.api.event.stream.EventPublisher;
+import canaryprism.discordbridge.api.event.stream.OverflowStrategy;
 import canaryprism.discordbridge.api.interaction.slash.SlashCommand;
 import canaryprism.discordbridge.api.listener.ApiAttachableListener;
+import canaryprism.discordbridge.api.listener.interaction.AsyncSlashCommandAutocompleteListener;
+import canaryprism.discordbridge.api.listener.interaction.AsyncSlashCommandInvokeListener;
 import canaryprism.discordbridge.api.listener.interaction.SlashCommandAutocompleteListener;
 import canaryprism.discordbridge.api.listener.interaction.SlashCommandInvokeListener;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
+import canaryprism.discordbridge.api.metrics.ListenerWatchdog;
+import canaryprism.discordbridge.api.metrics.jfr.InteractionDispatchedEvent;
+import canaryprism.discordbridge.api.metrics.jfr.ListenerExecutedEvent;
 import canaryprism.discordbridge.api.server.Server;
 import canaryprism.discordbridge.jda.event.interaction.SlashCommandAutocompleteEventImpl;
 import canaryprism.discordbridge.jda.event.interaction.SlashCommandInvokeEventImpl;
@@ -35,16 +46,22 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.hooks.EventListener;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
 import net.dv8tion.jda.api.interactions.commands.Command;
 import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 import java.util.stream.Collectors;
 
 public record DiscordApiImpl(DiscordBridgeJDA bridge, JDA jda, EventListenerList<ApiAttachableListener> listener_list) implements DiscordApi {
     
+    private static final Logger logger = LoggerFactory.getLogger(DiscordApiImpl.class);
+    
     public DiscordApiImpl(DiscordBridgeJDA bridge, JDA jda) {
         this(bridge, jda, new EventListenerList<>());
     }
@@ -53,16 +70,74 @@ public record DiscordApiImpl(DiscordBridgeJDA bridge, JDA jda, EventListenerList
         jda.addEventListener(new ListenerAdapter() {
             @Override
             public void onCommandAutoCompleteInteraction(@NotNull CommandAutoCompleteInteractionEvent e) {
+                var dispatched = new InteractionDispatchedEvent();
+                dispatched.begin();
+                var start = System.nanoTime();
                 var event = new SlashCommandAutocompleteEventImpl(bridge, e);
-                for (var listener : listener_list.getListeners(SlashCommandAutocompleteListener.class))
-                    listener.onSlashCommandAutocomplete(event);
+                var recorder = BridgeMetrics.recorder();
+                recorder.eventReceived(bridge, SlashCommandAutocompleteEvent.class, System.nanoTime() - start);
+                var listeners = 0;
+                for (var listener : listener_list.getListeners(SlashCommandAutocompleteListener.class)) {
+                    listeners++;
+                    var executed = new ListenerExecutedEvent();
+                    executed.begin();
+                    var listener_start = System.nanoTime();
+                    var watch = ListenerWatchdog.watch(bridge, SlashCommandAutocompleteEvent.class, event, listener, listener_start);
+                    var thrown = true;
+                    try {
+                        listener.onSlashCommandAutocomplete(event);
+                        thrown = false;
+                    } finally {
+                        watch.done();
+                        recorder.listenerCompleted(bridge, SlashCommandAutocompleteEvent.class, listener, System.nanoTime() - listener_start);
+                        executed.complete(bridge, SlashCommandAutocompleteEvent.class, listener, thrown);
+                    }
+                }
+                for (var listener : listener_list.getListeners(AsyncSlashCommandAutocompleteListener.class)) {
+                    listeners++;
+                    BridgeMetrics.asyncListener(bridge, SlashCommandAutocompleteEvent.class, event, listener, () -> listener.onSlashCommandAutocomplete(event))
+                            .exceptionally((t) -> {
+                                logger.error("Exception in asynchronous event listener", t);
+                                return null;
+                            });
+                }
+                dispatched.complete(bridge, SlashCommandAutocompleteEvent.class, event, listeners);
             }
             
             @Override
             public void onSlashCommandInteraction(@NotNull SlashCommandInteractionEvent e) {
+                var dispatched = new InteractionDispatchedEvent();
+                dispatched.begin();
+                var start = System.nanoTime();
                 var event = new SlashCommandInvokeEventImpl(bridge, e);
-                for (var listener : listener_list.getListeners(SlashCommandInvokeListener.class))
-                    listener.onSlashCommandInvoke(event);
+                var recorder = BridgeMetrics.recorder();
+                recorder.eventReceived(bridge, SlashCommandInvokeEvent.class, System.nanoTime() - start);
+                var listeners = 0;
+                for (var listener : listener_list.getListeners(SlashCommandInvokeListener.class)) {
+                    listeners++;
+                    var executed = new ListenerExecutedEvent();
+                    executed.begin();
+                    var listener_start = System.nanoTime();
+                    var watch = ListenerWatchdog.watch(bridge, SlashCommandInvokeEvent.class, event, listener, listener_start);
+                    var thrown = true;
+                    try {
+                        listener.onSlashCommandInvoke(event);
+                        thrown = false;
+                    } finally {
+                        watch.done();
+                        recorder.listenerCompleted(bridge, SlashCommandInvokeEvent.class, listener, System.nanoTime() - listener_start);
+                        executed.complete(bridge, SlashCommandInvokeEvent.class, listener, thrown);
+                    }
+                }
+                for (var listener : listener_list.getListeners(AsyncSlashCommandInvokeListener.class)) {
+                    listeners++;
+                    BridgeMetrics.asyncListener(bridge, SlashCommandInvokeEvent.class, event, listener, () -> listener.onSlashCommandInvoke(event))
+                            .exceptionally((t) -> {
+                                logger.error("Exception in asynchronous event listener", t);
+                                return null;
+                            });
+                }
+                dispatched.complete(bridge, SlashCommandInvokeEvent.class, event, listeners);
             }
         });
     }
@@ -73,7 +148,7 @@ public record DiscordApiImpl(DiscordBridgeJDA bridge, JDA jda, EventListenerList
     
     @Override
     public @NotNull CompletableFuture<? extends @NotNull Set<? extends @NotNull SlashCommand>> getGlobalSlashCommands() {
-        return jda.retrieveCommands()
+        return BridgeMetrics.restCall(bridge, "DiscordApi.getGlobalSlashCommands", () -> jda.retrieveCommands()
                 .submit()
                 .thenApply((list) ->
                         list.stream()
@@ -81,12 +156,12 @@ public record DiscordApiImpl(DiscordBridgeJDA bridge, JDA jda, EventListenerList
                                 .peek((e) -> command_cache.put(e.getIdLong(), CompletableFuture.completedFuture(e)))
                                 .map((e) -> new SlashCommandImpl(bridge, e))
                                 .collect(Collectors.toUnmodifiableSet())
-                );
+                ));
     }
     
     @Override
     public @NotNull CompletableFuture<? extends @NotNull Set<? extends @NotNull SlashCommand>> bulkUpdateGlobalCommands(@NotNull Set<? extends @NotNull CommandData> commands) {
-        return jda.updateCommands()
+        return BridgeMetrics.commandBulkUpdate(bridge, "DiscordApi.bulkUpdateGlobalCommands", commands.size(), () -> jda.updateCommands()
                 .addCommands(commands.stream()
                         .map(SlashCommandData.class::cast)
                         .map(bridge::convertData)
@@ -96,7 +171,7 @@ public record DiscordApiImpl(DiscordBridgeJDA bridge, JDA jda, EventListenerList
                         list.stream()
                                 .peek((e) -> command_cache.put(e.getIdLong(), CompletableFuture.completedFuture(e)))
                                 .map((e) -> new SlashCommandImpl(bridge, e))
-                                .collect(Collectors.toUnmodifiableSet()));
+                                .collect(Collectors.toUnmodifiableSet())));
     }
     
     @Override
@@ -117,6 +192,24 @@ public record DiscordApiImpl(DiscordBridgeJDA bridge, JDA jda, EventListenerList
         listener_list.removeListener(type, listener);
     }
     
+    @Override
+    public <E extends Event> @NotNull Flow.Publisher<E> events(@NotNull Class<E> type, @NotNull OverflowStrategy overflow) {
+        var invoke = type.isAssignableFrom(SlashCommandInvokeEvent.class);
+        var autocomplete = type.isAssignableFrom(SlashCommandAutocompleteEvent.class);
+        if (!invoke && !autocomplete)
+            throw new IllegalArgumentException(String.format("unsupported event type %s", type));
+        return new EventPublisher<>(overflow, (sink) -> {
+            EventListener listener = (e) -> {
+                if (invoke && e instanceof SlashCommandInteractionEvent slash_command)
+                    sink.accept(type.cast(new SlashCommandInvokeEventImpl(bridge, slash_command)));
+                else if (autocomplete && e instanceof CommandAutoCompleteInteractionEvent autocomplete_event)
+                    sink.accept(type.cast(new SlashCommandAutocompleteEventImpl(bridge, autocomplete_event)));
+            };
+            jda.addEventListener(listener);
+            return () -> jda.removeEventListener(listener);
+        });
+    }
+    
     @Override
     public @NotNull Object getImplementation() {
         return jda;
@@ -68,6 +68,7 @@ import net.dv8tion.jda.api.interactions.commands.build.OptionData;
 import net.dv8tion.jda.api.interactions.commands.build.SubcommandData;
 import net.dv8tion.jda.api.interactions.commands.build.SubcommandGroupData;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -435,33 +436,61 @@ public final class DiscordBridgeJDA implements DiscordBridge {
         return "DiscordBridge JDA 5.3.0 Implementation";
     }
     
+    /// Locale translation tables in both directions, indexed by ordinal
+    ///
+    /// These are computed once by parsing every locale's language tag,
+    /// so converting localizations doesn't need to parse anything
+    private static final class LocaleTable {
+        static final canaryprism.discordbridge.api.misc.DiscordLocale[] from_jda;
+        static final DiscordLocale[] to_jda;
+        
+        static {
+            var jda_locales = DiscordLocale.values();
+            from_jda = new canaryprism.discordbridge.api.misc.DiscordLocale[jda_locales.length];
+            for (var locale : jda_locales)
+                from_jda[locale.ordinal()] = canaryprism.discordbridge.api.misc.DiscordLocale.fromLocale(Locale.forLanguageTag(locale.getLocale()))
+                        .orElse(canaryprism.discordbridge.api.misc.DiscordLocale.UNKNOWN);
+            
+            var locales = canaryprism.discordbridge.api.misc.DiscordLocale.values();
+            to_jda = new DiscordLocale[locales.length];
+            for (var locale : locales)
+                to_jda[locale.ordinal()] = DiscordLocale.from(locale.locale);
+        }
+    }
+    
     public static canaryprism.discordbridge.api.misc.DiscordLocale convertLocale(@NotNull DiscordLocale locale) {
-        return canaryprism.discordbridge.api.misc.DiscordLocale.fromLocale(Locale.forLanguageTag(locale.getLocale()))
-                .orElseGet(() -> {
-                    log.debug("unsupported JDA locale '{}', converting to UNKNOWN", locale);
-                    return canaryprism.discordbridge.api.misc.DiscordLocale.UNKNOWN;
-                });
+        var converted = LocaleTable.from_jda[locale.ordinal()];
+        if (converted == canaryprism.discordbridge.api.misc.DiscordLocale.UNKNOWN)
+            log.debug("unsupported JDA locale '{}', converting to UNKNOWN", locale);
+        return converted;
     }
     
     public static DiscordLocale convertLocale(@NotNull canaryprism.discordbridge.api.misc.DiscordLocale locale) {
-        return DiscordLocale.from(locale.locale);
+        return LocaleTable.to_jda[locale.ordinal()];
+    }
+    
+    public static @NotNull Map<DiscordLocale, String> convertLocalizations(@NotNull Map<canaryprism.discordbridge.api.misc.DiscordLocale, String> localizations) {
+        var converted = new EnumMap<DiscordLocale, String>(DiscordLocale.class);
+        for (var e : localizations.entrySet())
+            converted.put(convertLocale(e.getKey()), e.getValue());
+        return converted;
+    }
+    
+    public static @NotNull @Unmodifiable Map<canaryprism.discordbridge.api.misc.DiscordLocale, @NotNull String> convertInternalLocalizations(@NotNull Map<DiscordLocale, String> localizations) {
+        if (localizations.isEmpty())
+            return Map.of();
+        
+        var converted = new EnumMap<canaryprism.discordbridge.api.misc.DiscordLocale, String>(canaryprism.discordbridge.api.misc.DiscordLocale.class);
+        for (var e : localizations.entrySet())
+            converted.put(convertLocale(e.getKey()), e.getValue());
+        return Collections.unmodifiableMap(converted);
     }
     
     @SuppressWarnings("deprecation")
     public @NotNull net.dv8tion.jda.api.interactions.commands.build.SlashCommandData convertData(@NotNull SlashCommandData data) {
         var builder = Commands.slash(data.getName(), data.getDescription())
-                .setNameLocalizations(data.getNameLocalizations()
-                        .entrySet()
-                        .stream()
-                        .map((e) -> Map.entry(
-                                convertLocale(e.getKey()), e.getValue()))
-                        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)))
-                .setDescriptionLocalizations(data.getDescriptionLocalizations()
-                        .entrySet()
-                        .stream()
-                        .map((e) -> Map.entry(
-                                convertLocale(e.getKey()), e.getValue()))
-                        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)))
+                .setNameLocalizations(convertLocalizations(data.getNameLocalizations()))
+                .setDescriptionLocalizations(convertLocalizations(data.getDescriptionLocalizations()))
                 .setGuildOnly(!data.isEnabledInDMs())
                 .setNSFW(data.isNSFW());
         
@@ -521,18 +550,8 @@ public final class DiscordBridgeJDA implements DiscordBridge {
     public Object convertData(@NotNull SlashCommandOptionData data) {
         return switch (data.getType()) {
             case SUBCOMMAND_GROUP -> new SubcommandGroupData(data.getName(), data.getDescription())
-                    .setNameLocalizations(data.getNameLocalizations()
-                            .entrySet()
-                            .stream()
-                            .map((e) -> Map.entry(
-                                    convertLocale(e.getKey()), e.getValue()))
-                            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)))
-                    .setDescriptionLocalizations(data.getDescriptionLocalizations()
-                            .entrySet()
-                            .stream()
-                            .map((e) -> Map.entry(
-                                    convertLocale(e.getKey()), e.getValue()))
-                            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)))
+                    .setNameLocalizations(convertLocalizations(data.getNameLocalizations()))
+                    .setDescriptionLocalizations(convertLocalizations(data.getDescriptionLocalizations()))
                     .addSubcommands(data.getOptions()
                             .stream()
                             .map(this::convertData)
@@ -540,18 +559,8 @@ public final class DiscordBridgeJDA implements DiscordBridge {
                             .toList());
             
             case SUBCOMMAND -> new SubcommandData(data.getName(), data.getDescription())
-                    .setNameLocalizations(data.getNameLocalizations()
-                            .entrySet()
-                            .stream()
-                            .map((e) -> Map.entry(
-                                    convertLocale(e.getKey()), e.getValue()))
-                            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)))
-                    .setDescriptionLocalizations(data.getDescriptionLocalizations()
-                            .entrySet()
-                            .stream()
-                            .map((e) -> Map.entry(
-                                    convertLocale(e.getKey()), e.getValue()))
-                            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)))
+                    .setNameLocalizations(convertLocalizations(data.getNameLocalizations()))
+                    .setDescriptionLocalizations(convertLocalizations(data.getDescriptionLocalizations()))
                     .addOptions(data.getOptions()
                             .stream()
                             .map(this::convertData)
@@ -560,18 +569,8 @@ public final class DiscordBridgeJDA implements DiscordBridge {
             
             default -> {
                 var builder = new OptionData(((OptionType) getImplementationValue(data.getType())), data.getName(), data.getDescription())
-                        .setNameLocalizations(data.getNameLocalizations()
-                                .entrySet()
-                                .stream()
-                                .map((e) -> Map.entry(
-                                        convertLocale(e.getKey()), e.getValue()))
-                                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)))
-                        .setDescriptionLocalizations(data.getDescriptionLocalizations()
-                                .entrySet()
-                                .stream()
-                                .map((e) -> Map.entry(
-                                        convertLocale(e.getKey()), e.getValue()))
-                                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)))
+                        .setNameLocalizations(convertLocalizations(data.getNameLocalizations()))
+                        .setDescriptionLocalizations(convertLocalizations(data.getDescriptionLocalizations()))
                         .setRequired(data.isRequired())
                         .setAutoComplete(data.isAutocompletable());
                 
@@ -608,11 +607,6 @@ public final class DiscordBridgeJDA implements DiscordBridge {
             case STRING -> new Command.Choice(data.getName(), ((String) data.getValue()));
             default -> throw new UnsupportedOperationException(
                     String.format("%s doesn't support option choices for type %s", this, data.getType()));
-        }).setNameLocalizations(data.getNameLocalizations()
-                .entrySet()
-                .stream()
-                .map((e) -> Map.entry(
-                        convertLocale(e.getKey()), e.getValue()))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+        }).setNameLocalizations(convertLocalizations(data.getNameLocalizations()));
     }
 }
@@ -19,6 +19,7 @@ package canaryprism.discordbridge.jda.interaction.response;
 import canaryprism.discordbridge.api.DiscordBridge;
 import canaryprism.discordbridge.api.interaction.response.FollowupResponder;
 import canaryprism.discordbridge.api.message.MessageFlag;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
 import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.interactions.InteractionHook;
 import net.dv8tion.jda.api.requests.restaction.WebhookMessageCreateAction;
@@ -39,7 +40,7 @@ public class FollowupResponderImpl implements FollowupResponder {
     }
     
     private String content;
-    private EnumSet<MessageFlag> flags;
+    private EnumSet<MessageFlag> flags = EnumSet.noneOf(MessageFlag.class);
     
     private <T extends WebhookMessageCreateAction<Message>> T applyCreate(T action) {
         action.setContent(content);
@@ -68,12 +69,12 @@ public class FollowupResponderImpl implements FollowupResponder {
     
     @Override
     public @NotNull CompletableFuture<?> send() {
-        return applyCreate(hook.sendMessage("")).submit();
+        return BridgeMetrics.response(bridge, "followup.send", () -> applyCreate(hook.sendMessage("")).submit());
     }
     
     @Override
     public @NotNull CompletableFuture<?> update(long message_id) {
-        return applyEdit(hook.editMessageById(message_id, "")).submit();
+        return BridgeMetrics.response(bridge, "followup.update", () -> applyEdit(hook.editMessageById(message_id, "")).submit());
     }
     
     @Override
@@ -19,6 +19,7 @@ package canaryprism.discordbridge.jda.interaction.response;
 import canaryprism.discordbridge.api.DiscordBridge;
 import canaryprism.discordbridge.api.interaction.response.ImmediateResponder;
 import canaryprism.discordbridge.api.message.MessageFlag;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
 import net.dv8tion.jda.api.requests.restaction.interactions.ReplyCallbackAction;
 import net.dv8tion.jda.api.utils.messages.MessageCreateRequest;
 import org.jetbrains.annotations.NotNull;
@@ -30,7 +31,7 @@ public record ImmediateResponderImpl(DiscordBridge bridge, ReplyCallbackAction c
     
     @Override
     public @NotNull CompletableFuture<?> respond() {
-        return callback.submit();
+        return BridgeMetrics.response(bridge, "respond", () -> callback.submit());
     }
     
     @Override
@@ -19,6 +19,7 @@ package canaryprism.discordbridge.jda.interaction.response;
 import canaryprism.discordbridge.api.DiscordBridge;
 import canaryprism.discordbridge.api.interaction.response.ResponseUpdater;
 import canaryprism.discordbridge.api.message.MessageFlag;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
 import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.requests.restaction.WebhookMessageEditAction;
 import net.dv8tion.jda.api.utils.messages.MessageRequest;
@@ -31,7 +32,7 @@ public record ResponseUpdaterImpl(DiscordBridge bridge, WebhookMessageEditAction
     
     @Override
     public @NotNull CompletableFuture<?> update() {
-        return action.submit();
+        return BridgeMetrics.response(bridge, "update", () -> action.submit());
     }
     
     @Override
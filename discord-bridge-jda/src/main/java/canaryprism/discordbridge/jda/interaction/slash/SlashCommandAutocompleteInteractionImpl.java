@@ -22,6 +22,7 @@ import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandOptionCh
 import canaryprism.discordbridge.api.entity.user.User;
 import canaryprism.discordbridge.api.interaction.slash.SlashCommandAutocompleteInteraction;
 import canaryprism.discordbridge.api.interaction.slash.SlashCommandInteractionOption;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
 import canaryprism.discordbridge.api.server.Server;
 import canaryprism.discordbridge.jda.DiscordApiImpl;
 import canaryprism.discordbridge.jda.DiscordBridgeJDA;
@@ -55,9 +56,14 @@ public class SlashCommandAutocompleteInteractionImpl implements SlashCommandAuto
                         .complete());
     }
     
+    @Override
+    public long getId() {
+        return interaction.getIdLong();
+    }
+    
     @Override
     public long getApplicationId() {
-        return future_command.join().getApplicationIdLong();
+        return BridgeMetrics.join(bridge, "SlashCommandAutocompleteInteraction.getApplicationId", future_command).getApplicationIdLong();
     }
     
     @Override
@@ -84,7 +90,7 @@ public class SlashCommandAutocompleteInteractionImpl implements SlashCommandAuto
             }
         }
         try {
-            var server = ((Guild) FieldHolder.guild_field.get(future_command.join()));
+            var server = ((Guild) FieldHolder.guild_field.get(BridgeMetrics.join(bridge, "SlashCommandAutocompleteInteraction.getServerCommandServerId", future_command)));
             
             return Optional.ofNullable(server)
                     .map(Guild::getIdLong);
@@ -142,11 +148,11 @@ public class SlashCommandAutocompleteInteractionImpl implements SlashCommandAuto
     
     @Override
     public @NotNull CompletableFuture<?> suggest(@NotNull List<? extends @NotNull SlashCommandOptionChoiceData> choices) {
-        return interaction
+        return BridgeMetrics.response(bridge, "suggest", () -> interaction
                 .replyChoices(choices.stream()
                         .map(bridge::convertData)
                         .toList())
-                .submit();
+                .submit());
     }
     
     @Override
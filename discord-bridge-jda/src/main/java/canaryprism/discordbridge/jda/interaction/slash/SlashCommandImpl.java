@@ -147,15 +147,7 @@ public record SlashCommandImpl(DiscordBridge bridge, Command command) implements
     
     @Override
     public @NotNull Map<DiscordLocale, @NotNull String> getNameLocalizations() {
-        return command.getNameLocalizations()
-                .toMap()
-                .entrySet()
-                .stream()
-                .map((e) -> Map.entry(
-                        DiscordBridgeJDA.convertLocale(e.getKey()),
-                        e.getValue()
-                ))
-                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue));
+        return DiscordBridgeJDA.convertInternalLocalizations(command.getNameLocalizations().toMap());
     }
     
     @Override
@@ -165,15 +157,7 @@ public record SlashCommandImpl(DiscordBridge bridge, Command command) implements
     
     @Override
     public @NotNull Map<DiscordLocale, @NotNull String> getDescriptionLocalizations() {
-        return command.getDescriptionLocalizations()
-                .toMap()
-                .entrySet()
-                .stream()
-                .map((e) -> Map.entry(
-                        DiscordBridgeJDA.convertLocale(e.getKey()),
-                        e.getValue()
-                ))
-                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue));
+        return DiscordBridgeJDA.convertInternalLocalizations(command.getDescriptionLocalizations().toMap());
     }
     
     @Override
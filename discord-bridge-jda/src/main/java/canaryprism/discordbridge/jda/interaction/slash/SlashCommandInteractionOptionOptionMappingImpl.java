@@ -18,6 +18,7 @@ package canaryprism.discordbridge.jda.interaction.slash;
 
 import canaryprism.discordbridge.api.DiscordBridge;
 import canaryprism.discordbridge.api.interaction.slash.SlashCommandInteractionOption;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
 import canaryprism.discordbridge.jda.channel.ChannelDirector;
 import canaryprism.discordbridge.jda.entity.user.UserImpl;
 import canaryprism.discordbridge.jda.message.AttachmentImpl;
@@ -54,7 +55,7 @@ public record SlashCommandInteractionOptionOptionMappingImpl(DiscordBridge bridg
                 && autocomplete.getFocusedOption().getName().equals(mapping.getName());
         if (is_autocomplete)
             return Optional.of(true);
-        else if (future.join().isAutocompletable())
+        else if (BridgeMetrics.join(bridge, "SlashCommandInteractionOption.isAutocompleteTarget", future).isAutocompletable())
             return Optional.of(false);
         else
             return Optional.empty();
@@ -24,6 +24,7 @@ import canaryprism.discordbridge.api.interaction.response.ImmediateResponder;
 import canaryprism.discordbridge.api.interaction.response.ResponseUpdater;
 import canaryprism.discordbridge.api.interaction.slash.SlashCommandInteractionOption;
 import canaryprism.discordbridge.api.interaction.slash.SlashCommandInvokeInteraction;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
 import canaryprism.discordbridge.api.server.Server;
 import canaryprism.discordbridge.jda.DiscordApiImpl;
 import canaryprism.discordbridge.jda.DiscordBridgeJDA;
@@ -61,9 +62,14 @@ public class SlashCommandInvokeInteractionImpl implements SlashCommandInvokeInte
                         .complete());
     }
     
+    @Override
+    public long getId() {
+        return interaction.getIdLong();
+    }
+    
     @Override
     public long getApplicationId() {
-        return future_command.join().getApplicationIdLong();
+        return BridgeMetrics.join(bridge, "SlashCommandInvokeInteraction.getApplicationId", future_command).getApplicationIdLong();
     }
     
     @Override
@@ -90,7 +96,7 @@ public class SlashCommandInvokeInteractionImpl implements SlashCommandInvokeInte
             }
         }
         try {
-            var server = ((Guild) FieldHolder.guild_field.get(future_command.join()));
+            var server = ((Guild) FieldHolder.guild_field.get(BridgeMetrics.join(bridge, "SlashCommandInvokeInteraction.getServerCommandServerId", future_command)));
             
             return Optional.ofNullable(server)
                     .map(Guild::getIdLong);
@@ -112,9 +118,9 @@ public class SlashCommandInvokeInteractionImpl implements SlashCommandInvokeInte
     @Override
     public @NotNull CompletableFuture<? extends @NotNull ResponseUpdater> respondLater(boolean ephemeral) {
         try {
-            return ((IReplyCallback) interaction).deferReply(ephemeral)
+            return BridgeMetrics.response(bridge, "respondLater", () -> ((IReplyCallback) interaction).deferReply(ephemeral)
                     .submit()
-                    .thenApply((e) -> new ResponseUpdaterImpl(bridge, e.editOriginal("")));
+                    .thenApply((e) -> new ResponseUpdaterImpl(bridge, e.editOriginal(""))));
         } catch (ClassCastException e) {
             throw new UnsupportedOperationException("can't respond to autocomplete interactions", e);
         }
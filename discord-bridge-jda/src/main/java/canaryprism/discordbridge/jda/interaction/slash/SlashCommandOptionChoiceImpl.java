@@ -24,7 +24,6 @@ import net.dv8tion.jda.api.interactions.commands.Command;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Map;
-import java.util.stream.Collectors;
 
 public record SlashCommandOptionChoiceImpl(DiscordBridge bridge, Command.Choice choice) implements SlashCommandOptionChoice {
     
@@ -41,15 +40,7 @@ public record SlashCommandOptionChoiceImpl(DiscordBridge bridge, Command.Choice
     
     @Override
     public @NotNull Map<DiscordLocale, @NotNull String> getNameLocalizations() {
-        return choice.getNameLocalizations()
-                .toMap()
-                .entrySet()
-                .stream()
-                .map((e) -> Map.entry(
-                        DiscordBridgeJDA.convertLocale(e.getKey()),
-                        e.getValue()
-                ))
-                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue));
+        return DiscordBridgeJDA.convertInternalLocalizations(choice.getNameLocalizations().toMap());
     }
     
     @Override
@@ -106,15 +106,7 @@ public record SlashCommandOptionOptionImpl(DiscordBridge bridge, Command.Option
     
     @Override
     public @NotNull Map<DiscordLocale, @NotNull String> getNameLocalizations() {
-        return option.getNameLocalizations()
-                .toMap()
-                .entrySet()
-                .stream()
-                .map((e) -> Map.entry(
-                        DiscordBridgeJDA.convertLocale(e.getKey()),
-                        e.getValue()
-                ))
-                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue));
+        return DiscordBridgeJDA.convertInternalLocalizations(option.getNameLocalizations().toMap());
     }
     
     @Override
@@ -124,15 +116,7 @@ public record SlashCommandOptionOptionImpl(DiscordBridge bridge, Command.Option
     
     @Override
     public @NotNull Map<DiscordLocale, @NotNull String> getDescriptionLocalizations() {
-        return option.getDescriptionLocalizations()
-                .toMap()
-                .entrySet()
-                .stream()
-                .map((e) -> Map.entry(
-                        DiscordBridgeJDA.convertLocale(e.getKey()),
-                        e.getValue()
-                ))
-                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue));
+        return DiscordBridgeJDA.convertInternalLocalizations(option.getDescriptionLocalizations().toMap());
     }
     
     @Override
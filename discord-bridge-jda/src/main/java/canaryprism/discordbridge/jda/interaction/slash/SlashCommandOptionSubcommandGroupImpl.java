@@ -28,7 +28,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Range;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 public record SlashCommandOptionSubcommandGroupImpl(DiscordBridge bridge, Command.SubcommandGroup subcommand_group) implements SlashCommandOption {
     
@@ -112,15 +111,7 @@ public record SlashCommandOptionSubcommandGroupImpl(DiscordBridge bridge, Comman
     
     @Override
     public @NotNull Map<DiscordLocale, @NotNull String> getNameLocalizations() {
-        return subcommand_group.getNameLocalizations()
-                .toMap()
-                .entrySet()
-                .stream()
-                .map((e) -> Map.entry(
-                        DiscordBridgeJDA.convertLocale(e.getKey()),
-                        e.getValue()
-                ))
-                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue));
+        return DiscordBridgeJDA.convertInternalLocalizations(subcommand_group.getNameLocalizations().toMap());
     }
     
     @Override
@@ -130,14 +121,6 @@ public record SlashCommandOptionSubcommandGroupImpl(DiscordBridge bridge, Comman
     
     @Override
     public @NotNull Map<DiscordLocale, @NotNull String> getDescriptionLocalizations() {
-        return subcommand_group.getDescriptionLocalizations()
-                .toMap()
-                .entrySet()
-                .stream()
-                .map((e) -> Map.entry(
-                        DiscordBridgeJDA.convertLocale(e.getKey()),
-                        e.getValue()
-                ))
-                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue));
+        return DiscordBridgeJDA.convertInternalLocalizations(subcommand_group.getDescriptionLocalizations().toMap());
     }
 }
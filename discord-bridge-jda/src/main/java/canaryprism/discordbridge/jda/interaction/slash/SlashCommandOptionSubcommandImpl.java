@@ -28,7 +28,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Range;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 public record SlashCommandOptionSubcommandImpl(DiscordBridge bridge, Command.Subcommand subcommand) implements SlashCommandOption {
     
@@ -112,15 +111,7 @@ public record SlashCommandOptionSubcommandImpl(DiscordBridge bridge, Command.Sub
     
     @Override
     public @NotNull Map<DiscordLocale, @NotNull String> getNameLocalizations() {
-        return subcommand.getNameLocalizations()
-                .toMap()
-                .entrySet()
-                .stream()
-                .map((e) -> Map.entry(
-                        DiscordBridgeJDA.convertLocale(e.getKey()),
-                        e.getValue()
-                ))
-                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue));
+        return DiscordBridgeJDA.convertInternalLocalizations(subcommand.getNameLocalizations().toMap());
     }
     
     @Override
@@ -130,14 +121,6 @@ public record SlashCommandOptionSubcommandImpl(DiscordBridge bridge, Command.Sub
     
     @Override
     public @NotNull Map<DiscordLocale, @NotNull String> getDescriptionLocalizations() {
-        return subcommand.getDescriptionLocalizations()
-                .toMap()
-                .entrySet()
-                .stream()
-                .map((e) -> Map.entry(
-                        DiscordBridgeJDA.convertLocale(e.getKey()),
-                        e.getValue()
-                ))
-                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue));
+        return DiscordBridgeJDA.convertInternalLocalizations(subcommand.getDescriptionLocalizations().toMap());
     }
 }
@@ -21,6 +21,7 @@ import canaryprism.discordbridge.api.data.interaction.CommandData;
 import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandData;
 import canaryprism.discordbridge.api.interaction.Command;
 import canaryprism.discordbridge.api.interaction.slash.SlashCommand;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
 import canaryprism.discordbridge.api.server.Server;
 import canaryprism.discordbridge.jda.DiscordApiImpl;
 import canaryprism.discordbridge.jda.DiscordBridgeJDA;
@@ -36,7 +37,7 @@ public record ServerImpl(DiscordBridgeJDA bridge, Guild server) implements Serve
     
     @Override
     public @NotNull CompletableFuture<? extends Set<? extends SlashCommand>> getServerSlashCommands() {
-        return server.retrieveCommands()
+        return BridgeMetrics.restCall(bridge, "Server.getServerSlashCommands", () -> server.retrieveCommands()
                 .submit()
                 .thenApply((list) ->
                         list.stream()
@@ -44,12 +45,12 @@ public record ServerImpl(DiscordBridgeJDA bridge, Guild server) implements Serve
                                 .peek((e) -> DiscordApiImpl.command_cache.put(e.getIdLong(), CompletableFuture.completedFuture(e)))
                                 .map((e) -> new SlashCommandImpl(bridge, e))
                                 .collect(Collectors.toUnmodifiableSet())
-                );
+                ));
     }
     
     @Override
     public @NotNull CompletableFuture<? extends @NotNull Set<? extends @NotNull Command>> bulkUpdateServerCommands(@NotNull Set<? extends @NotNull CommandData> commands) {
-        return server.updateCommands()
+        return BridgeMetrics.commandBulkUpdate(bridge, "Server.bulkUpdateServerCommands", commands.size(), () -> server.updateCommands()
                 .addCommands(commands.stream()
                         .map(SlashCommandData.class::cast)
                         .map(bridge::convertData)
@@ -59,7 +60,7 @@ public record ServerImpl(DiscordBridgeJDA bridge, Guild server) implements Serve
                         list.stream()
                                 .peek((e) -> DiscordApiImpl.command_cache.put(e.getIdLong(), CompletableFuture.completedFuture(e)))
                                 .map((e) -> new SlashCommandImpl(bridge, e))
-                                .collect(Collectors.toUnmodifiableSet()));
+                                .collect(Collectors.toUnmodifiableSet())));
     }
     
     @Override
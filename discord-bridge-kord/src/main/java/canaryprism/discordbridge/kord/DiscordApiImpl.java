@@ -21,10 +21,21 @@ import canaryprism.discordbridge.api.DiscordApi;
 import canaryprism.discordbridge.api.DiscordBridge;
 import canaryprism.discordbridge.api.data.interaction.CommandData;
 import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandData;
+import canaryprism.discordbridge.api.event.Event;
+import canaryprism.discordbridge.api.event.interaction.SlashCommandAutocompleteEvent;
+import canaryprism.discordbridge.api.event.interaction.SlashCommandInvokeEvent;
+import canaryprism.discordbridge.api.event.stream.EventPublisher;
+import canaryprism.discordbridge.api.event.stream.OverflowStrategy;
 import canaryprism.discordbridge.api.interaction.slash.SlashCommand;
 import canaryprism.discordbridge.api.listener.ApiAttachableListener;
+import canaryprism.discordbridge.api.listener.interaction.AsyncSlashCommandAutocompleteListener;
+import canaryprism.discordbridge.api.listener.interaction.AsyncSlashCommandInvokeListener;
 import canaryprism.discordbridge.api.listener.interaction.SlashCommandAutocompleteListener;
 import canaryprism.discordbridge.api.listener.interaction.SlashCommandInvokeListener;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
+import canaryprism.discordbridge.api.metrics.ListenerWatchdog;
+import canaryprism.discordbridge.api.metrics.jfr.InteractionDispatchedEvent;
+import canaryprism.discordbridge.api.metrics.jfr.ListenerExecutedEvent;
 import canaryprism.discordbridge.api.server.Server;
 import canaryprism.discordbridge.kord.event.interaction.SlashCommandAutocompleteEventImpl;
 import canaryprism.discordbridge.kord.event.interaction.SlashCommandInvokeEventImpl;
@@ -39,15 +50,19 @@ import kotlin.Unit;
 import kotlin.coroutines.Continuation;
 import kotlin.coroutines.CoroutineContext;
 import kotlin.coroutines.EmptyCoroutineContext;
+import kotlinx.coroutines.flow.FlowKt;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Unmodifiable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 import java.util.stream.Collectors;
 
 public record DiscordApiImpl(DiscordBridgeKord bridge, Kord kord, EventListenerList<ApiAttachableListener> listener_list) implements DiscordApi {
@@ -57,70 +72,139 @@ public record DiscordApiImpl(DiscordBridgeKord bridge, Kord kord, EventListenerL
     public DiscordApiImpl(DiscordBridgeKord bridge, Kord kord) {
         this(bridge, kord, new EventListenerList<>());
         DiscordBridgeKord.on(kord, ChatInputCommandInteractionCreateEvent.class, (e) -> {
-            for (var listener : listener_list.getListeners(SlashCommandInvokeListener.class))
-                listener.onSlashCommandInvoke(new SlashCommandInvokeEventImpl(bridge, e));
+            var dispatched = new InteractionDispatchedEvent();
+            dispatched.begin();
+            var start = System.nanoTime();
+            var event = new SlashCommandInvokeEventImpl(bridge, e);
+            var recorder = BridgeMetrics.recorder();
+            recorder.eventReceived(bridge, SlashCommandInvokeEvent.class, System.nanoTime() - start);
+            var listeners = 0;
+            for (var listener : listener_list.getListeners(SlashCommandInvokeListener.class)) {
+                listeners++;
+                var executed = new ListenerExecutedEvent();
+                executed.begin();
+                var listener_start = System.nanoTime();
+                var watch = ListenerWatchdog.watch(bridge, SlashCommandInvokeEvent.class, event, listener, listener_start);
+                var thrown = true;
+                try {
+                    listener.onSlashCommandInvoke(event);
+                    thrown = false;
+                } finally {
+                    watch.done();
+                    recorder.listenerCompleted(bridge, SlashCommandInvokeEvent.class, listener, System.nanoTime() - listener_start);
+                    executed.complete(bridge, SlashCommandInvokeEvent.class, listener, thrown);
+                }
+            }
+            var pending = new ArrayList<CompletableFuture<?>>();
+            for (var listener : listener_list.getListeners(AsyncSlashCommandInvokeListener.class)) {
+                listeners++;
+                pending.add(BridgeMetrics.asyncListener(bridge, SlashCommandInvokeEvent.class, event, listener, () -> listener.onSlashCommandInvoke(event))
+                        .exceptionally((t) -> {
+                            logger.error("Exception in asynchronous event listener", t);
+                            return null;
+                        }));
+            }
+            dispatched.complete(bridge, SlashCommandInvokeEvent.class, event, listeners);
+            // the coroutine of the event suspends until the asynchronous listeners finish
+            return pending.isEmpty() ? null : CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new));
         }, logger);
         DiscordBridgeKord.on(kord, AutoCompleteInteractionCreateEvent.class, (e) -> {
-            for (var listener : listener_list.getListeners(SlashCommandAutocompleteListener.class))
-                listener.onSlashCommandAutocomplete(new SlashCommandAutocompleteEventImpl(bridge, e));
+            var dispatched = new InteractionDispatchedEvent();
+            dispatched.begin();
+            var start = System.nanoTime();
+            var event = new SlashCommandAutocompleteEventImpl(bridge, e);
+            var recorder = BridgeMetrics.recorder();
+            recorder.eventReceived(bridge, SlashCommandAutocompleteEvent.class, System.nanoTime() - start);
+            var listeners = 0;
+            for (var listener : listener_list.getListeners(SlashCommandAutocompleteListener.class)) {
+                listeners++;
+                var executed = new ListenerExecutedEvent();
+                executed.begin();
+                var listener_start = System.nanoTime();
+                var watch = ListenerWatchdog.watch(bridge, SlashCommandAutocompleteEvent.class, event, listener, listener_start);
+                var thrown = true;
+                try {
+                    listener.onSlashCommandAutocomplete(event);
+                    thrown = false;
+                } finally {
+                    watch.done();
+                    recorder.listenerCompleted(bridge, SlashCommandAutocompleteEvent.class, listener, System.nanoTime() - listener_start);
+                    executed.complete(bridge, SlashCommandAutocompleteEvent.class, listener, thrown);
+                }
+            }
+            var pending = new ArrayList<CompletableFuture<?>>();
+            for (var listener : listener_list.getListeners(AsyncSlashCommandAutocompleteListener.class)) {
+                listeners++;
+                pending.add(BridgeMetrics.asyncListener(bridge, SlashCommandAutocompleteEvent.class, event, listener, () -> listener.onSlashCommandAutocomplete(event))
+                        .exceptionally((t) -> {
+                            logger.error("Exception in asynchronous event listener", t);
+                            return null;
+                        }));
+            }
+            dispatched.complete(bridge, SlashCommandAutocompleteEvent.class, event, listeners);
+            // the coroutine of the event suspends until the asynchronous listeners finish
+            return pending.isEmpty() ? null : CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new));
         }, logger);
     }
     
     @Override
     public @NotNull CompletableFuture<? extends @NotNull @Unmodifiable Set<? extends @NotNull SlashCommand>> getGlobalSlashCommands() {
-        
-        var future = new CompletableFuture<Set<? extends SlashCommand>>();
-        
-        kord.getRest()
-                .getInteraction()
-                .getGlobalApplicationCommands(kord.getSelfId(), true, new Continuation<>() {
-                    @Override
-                    public @NotNull CoroutineContext getContext() {
-                        return EmptyCoroutineContext.INSTANCE;
-                    }
-                    
-                    @Override
-                    public void resumeWith(@NotNull Object o) {
-                        @SuppressWarnings("unchecked") var list = ((List<DiscordApplicationCommand>) o);
-                        
-                        future.complete(list.stream()
-                                .filter((e) -> e.getType().getValue() == ApplicationCommandType.ChatInput.INSTANCE)
-                                .map((e) -> new SlashCommandImpl(bridge, e, kord))
-                                .collect(Collectors.toUnmodifiableSet()));
-                    }
-                });
+        return BridgeMetrics.restCall(bridge, "DiscordApi.getGlobalSlashCommands", () -> {
+            var future = new CompletableFuture<Set<? extends SlashCommand>>();
             
-        return future;
+            kord.getRest()
+                    .getInteraction()
+                    .getGlobalApplicationCommands(kord.getSelfId(), true, new Continuation<>() {
+                        @Override
+                        public @NotNull CoroutineContext getContext() {
+                            return EmptyCoroutineContext.INSTANCE;
+                        }
+                        
+                        @Override
+                        public void resumeWith(@NotNull Object o) {
+                            @SuppressWarnings("unchecked") var list = ((List<DiscordApplicationCommand>) o);
+                            
+                            future.complete(list.stream()
+                                    .filter((e) -> e.getType().getValue() == ApplicationCommandType.ChatInput.INSTANCE)
+                                    .map((e) -> new SlashCommandImpl(bridge, e, kord))
+                                    .collect(Collectors.toUnmodifiableSet()));
+                        }
+                    });
+                
+            return future;
+        });
     }
     
     @Override
     public @NotNull CompletableFuture<? extends @NotNull @Unmodifiable Set<? extends @NotNull SlashCommand>> bulkUpdateGlobalCommands(@NotNull Set<? extends @NotNull CommandData> commands) {
-        var future = new CompletableFuture<Set<SlashCommandImpl>>();
-        kord.getRest()
-                .getInteraction()
-                .createGlobalApplicationCommands(
-                        kord.getSelfId(),
-                        commands.stream()
-                                .map(SlashCommandData.class::cast)
-                                .map(bridge::convertData)
-                                .toList(),
-                        new Continuation<>() {
-                            @Override
-                            public @NotNull CoroutineContext getContext() {
-                                return EmptyCoroutineContext.INSTANCE;
-                            }
-                            
-                            @SuppressWarnings("unchecked")
-                            @Override
-                            public void resumeWith(@NotNull Object o) {
-                                var list = ((List<DiscordApplicationCommand>) o);
+        return BridgeMetrics.commandBulkUpdate(bridge, "DiscordApi.bulkUpdateGlobalCommands", commands.size(), () -> {
+            var future = new CompletableFuture<Set<SlashCommandImpl>>();
+            kord.getRest()
+                    .getInteraction()
+                    .createGlobalApplicationCommands(
+                            kord.getSelfId(),
+                            commands.stream()
+                                    .map(SlashCommandData.class::cast)
+                                    .map(bridge::convertData)
+                                    .toList(),
+                            new Continuation<>() {
+                                @Override
+                                public @NotNull CoroutineContext getContext() {
+                                    return EmptyCoroutineContext.INSTANCE;
+                                }
                                 
-                                future.complete(list.stream()
-                                        .map((e) -> new SlashCommandImpl(bridge, e, kord))
-                                        .collect(Collectors.toUnmodifiableSet()));
-                            }
-                        });
-        return future;
+                                @SuppressWarnings("unchecked")
+                                @Override
+                                public void resumeWith(@NotNull Object o) {
+                                    var list = ((List<DiscordApplicationCommand>) o);
+                                    
+                                    future.complete(list.stream()
+                                            .map((e) -> new SlashCommandImpl(bridge, e, kord))
+                                            .collect(Collectors.toUnmodifiableSet()));
+                                }
+                            });
+            return future;
+        });
     }
     
     @Override
@@ -144,7 +228,7 @@ public record DiscordApiImpl(DiscordBridgeKord bridge, Kord kord, EventListenerL
                     }
                 });
         
-        return future.join();
+        return BridgeMetrics.join(bridge, "DiscordApi.getServers", future);
     }
     
     @Override
@@ -157,6 +241,27 @@ public record DiscordApiImpl(DiscordBridgeKord bridge, Kord kord, EventListenerL
         listener_list.removeListener(type, listener);
     }
     
+    @Override
+    public <E extends Event> @NotNull Flow.Publisher<E> events(@NotNull Class<E> type, @NotNull OverflowStrategy overflow) {
+        var invoke = type.isAssignableFrom(SlashCommandInvokeEvent.class);
+        var autocomplete = type.isAssignableFrom(SlashCommandAutocompleteEvent.class);
+        if (!invoke && !autocomplete)
+            throw new IllegalArgumentException(String.format("unsupported event type %s", type));
+        return new EventPublisher<>(overflow, (sink) -> {
+            // collects kord's event flow for as long as the subscriber stays subscribed
+            var job = FlowKt.launchIn(
+                    FlowKt.onEach(kord.getEvents(), (e, c) -> {
+                        if (invoke && e instanceof ChatInputCommandInteractionCreateEvent slash_command)
+                            sink.accept(type.cast(new SlashCommandInvokeEventImpl(bridge, slash_command)));
+                        else if (autocomplete && e instanceof AutoCompleteInteractionCreateEvent autocomplete_event)
+                            sink.accept(type.cast(new SlashCommandAutocompleteEventImpl(bridge, autocomplete_event)));
+                        return Unit.INSTANCE;
+                    }),
+                    kord);
+            return () -> job.cancel((CancellationException) null);
+        });
+    }
+    
     @Override
     public @NotNull Object getImplementation() {
         return kord;
@@ -57,21 +57,23 @@ import dev.kord.core.entity.channel.thread.TextChannelThread;
 import dev.kord.core.event.Event;
 import dev.kord.rest.json.request.ApplicationCommandCreateRequest;
 import kotlin.Unit;
-import kotlin.collections.MapsKt;
 import kotlin.coroutines.EmptyCoroutineContext;
 import kotlin.jvm.internal.Reflection;
 import kotlinx.coroutines.BuildersKt;
 import kotlinx.coroutines.CoroutineStart;
 import kotlinx.coroutines.channels.BufferOverflow;
 import kotlinx.coroutines.flow.FlowKt;
+import kotlinx.coroutines.future.FutureKt;
 import kotlinx.serialization.json.JsonElementKt;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Type;
 import java.util.*;
-import java.util.function.Consumer;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -453,13 +455,63 @@ public class DiscordBridgeKord implements DiscordBridge {
         return "DiscordBridge Kord 0.15.0 Implementation";
     }
     
+    /// Locale translation tables in both directions
+    ///
+    /// The Kord locale for every [DiscordLocale] is computed once here
+    /// so converting localizations doesn't need to parse anything.
+    /// [DiscordLocale#UNKNOWN] has no Kord locale, its entry in `to_kord` is null
+    private static final class LocaleTable {
+        static final dev.kord.common.Locale[] to_kord;
+        static final Map<dev.kord.common.Locale, DiscordLocale> from_kord;
+        
+        static {
+            var locales = DiscordLocale.values();
+            to_kord = new dev.kord.common.Locale[locales.length];
+            var map = new HashMap<dev.kord.common.Locale, DiscordLocale>();
+            for (var locale : locales) {
+                // its empty locale would be the tag "und", which Kord can't parse
+                if (locale == DiscordLocale.UNKNOWN)
+                    continue;
+                var kord_locale = dev.kord.common.Locale.Companion.fromString(locale.locale.toLanguageTag());
+                to_kord[locale.ordinal()] = kord_locale;
+                map.put(kord_locale, locale);
+            }
+            from_kord = Map.copyOf(map);
+        }
+    }
+    
     public static DiscordLocale convertLocale(@NotNull dev.kord.common.Locale locale) {
+        var converted = LocaleTable.from_kord.get(locale);
+        if (converted != null)
+            return converted;
+        
+        // not one of the locales we know, fall back to comparing it as a java locale
         return DiscordLocale.fromLocale(new Locale(locale.getLanguage(), Optional.ofNullable(locale.getCountry()).orElse("")))
                 .orElse(DiscordLocale.UNKNOWN);
     }
     
     public static dev.kord.common.Locale convertLocale(@NotNull DiscordLocale locale) {
-        return dev.kord.common.Locale.Companion.fromString(locale.locale.toLanguageTag());
+        var converted = LocaleTable.to_kord[locale.ordinal()];
+        if (converted == null)
+            throw new IllegalArgumentException(String.format("%s has no Kord locale", locale));
+        return converted;
+    }
+    
+    public static @NotNull Map<dev.kord.common.Locale, String> convertLocalizations(@NotNull Map<DiscordLocale, String> localizations) {
+        var converted = new HashMap<dev.kord.common.Locale, String>(localizations.size() * 2);
+        for (var e : localizations.entrySet())
+            converted.put(convertLocale(e.getKey()), e.getValue());
+        return converted;
+    }
+    
+    public static @NotNull @Unmodifiable Map<DiscordLocale, @NotNull String> convertInternalLocalizations(@NotNull Map<dev.kord.common.Locale, String> localizations) {
+        if (localizations.isEmpty())
+            return Map.of();
+        
+        var converted = new EnumMap<DiscordLocale, String>(DiscordLocale.class);
+        for (var e : localizations.entrySet())
+            converted.put(convertLocale(e.getKey()), e.getValue());
+        return Collections.unmodifiableMap(converted);
     }
     
     public @NotNull ApplicationCommandCreateRequest convertData(@NotNull SlashCommandData data) {
@@ -471,18 +523,10 @@ public class DiscordBridgeKord implements DiscordBridge {
         }
         return new ApplicationCommandCreateRequest(
                 data.getName(),
-                dev.kord.common.entity.optional.Optional.Companion.invoke(data.getNameLocalizations()
-                        .entrySet()
-                        .stream()
-                        .map((e) -> entry(convertLocale(e.getKey()), e.getValue()))
-                        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue))),
+                dev.kord.common.entity.optional.Optional.Companion.invoke(convertLocalizations(data.getNameLocalizations())),
                 ApplicationCommandType.ChatInput.INSTANCE,
                 dev.kord.common.entity.optional.Optional.Companion.invoke(data.getDescription()),
-                dev.kord.common.entity.optional.Optional.Companion.invoke(data.getDescriptionLocalizations()
-                        .entrySet()
-                        .stream()
-                        .map((e) -> entry(convertLocale(e.getKey()), e.getValue()))
-                        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue))),
+                dev.kord.common.entity.optional.Optional.Companion.invoke(convertLocalizations(data.getDescriptionLocalizations())),
                 dev.kord.common.entity.optional.Optional.Companion.invoke(data.getOptions()
                         .stream()
                         .map(this::convertData)
@@ -503,17 +547,9 @@ public class DiscordBridgeKord implements DiscordBridge {
         return new ApplicationCommandOption(
                 ((ApplicationCommandOptionType) getImplementationValue(data.getType())),
                 data.getName(),
-                dev.kord.common.entity.optional.Optional.Companion.invoke(data.getNameLocalizations()
-                        .entrySet()
-                        .stream()
-                        .map((e) -> entry(convertLocale(e.getKey()), e.getValue()))
-                        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue))),
+                dev.kord.common.entity.optional.Optional.Companion.invoke(convertLocalizations(data.getNameLocalizations())),
                 data.getDescription(),
-                dev.kord.common.entity.optional.Optional.Companion.invoke(data.getDescriptionLocalizations()
-                        .entrySet()
-                        .stream()
-                        .map((e) -> entry(convertLocale(e.getKey()), e.getValue()))
-                        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue))),
+                dev.kord.common.entity.optional.Optional.Companion.invoke(convertLocalizations(data.getDescriptionLocalizations())),
                 OptionalBoolean.Missing.INSTANCE,
                 new OptionalBoolean.Value(data.isRequired()),
                 dev.kord.common.entity.optional.Optional.Companion.invoke(data.getChoices()
@@ -549,37 +585,20 @@ public class DiscordBridgeKord implements DiscordBridge {
     }
     
     public Choice convertData(@NotNull SlashCommandOptionChoiceData data) {
-        dev.kord.common.entity.optional.Optional.Companion.invoke(MapsKt.toMap(data.getNameLocalizations()
-                .entrySet()
-                .stream()
-                .map((e) -> entry(convertLocale(e.getKey()), e.getValue()))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue))));
         return switch (data.getType()) {
             case NUMBER -> new Choice.NumberChoice(
                     data.getName(),
-                    dev.kord.common.entity.optional.Optional.Companion.invoke(data.getNameLocalizations()
-                            .entrySet()
-                            .stream()
-                            .map((e) -> entry(convertLocale(e.getKey()), e.getValue()))
-                            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue))),
+                    dev.kord.common.entity.optional.Optional.Companion.invoke(convertLocalizations(data.getNameLocalizations())),
                     ((Double) data.getValue())
             );
             case INTEGER -> new Choice.IntegerChoice(
                     data.getName(),
-                    dev.kord.common.entity.optional.Optional.Companion.invoke(data.getNameLocalizations()
-                            .entrySet()
-                            .stream()
-                            .map((e) -> entry(convertLocale(e.getKey()), e.getValue()))
-                            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue))),
+                    dev.kord.common.entity.optional.Optional.Companion.invoke(convertLocalizations(data.getNameLocalizations())),
                     ((Integer) data.getValue())
             );
             case STRING -> new Choice.StringChoice(
                     data.getName(),
-                    dev.kord.common.entity.optional.Optional.Companion.invoke(data.getNameLocalizations()
-                            .entrySet()
-                            .stream()
-                            .map((e) -> entry(convertLocale(e.getKey()), e.getValue()))
-                            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue))),
+                    dev.kord.common.entity.optional.Optional.Companion.invoke(convertLocalizations(data.getNameLocalizations())),
                     ((String) data.getValue())
             );
             default -> throw new UnsupportedOperationException(
@@ -588,7 +607,7 @@ public class DiscordBridgeKord implements DiscordBridge {
     }
     
     @SuppressWarnings("unchecked")
-    public static <T extends Event> void on(Kord kord, Class<T> type, Consumer<? super T> listener, Logger logger) {
+    public static <T extends Event> void on(Kord kord, Class<T> type, Function<? super T, ? extends CompletionStage<?>> listener, Logger logger) {
         FlowKt.launchIn(
                 FlowKt.onEach(
                         FlowKt.filterIsInstance(
@@ -603,13 +622,17 @@ public class DiscordBridgeKord implements DiscordBridge {
                                     EmptyCoroutineContext.INSTANCE,
                                     CoroutineStart.DEFAULT,
                                     (scope, c2) -> {
+                                        CompletionStage<?> stage = null;
                                         try {
-                                            listener.accept(((T) e));
+                                            stage = listener.apply(((T) e));
                                         } catch (Throwable throwable) {
                                             logger.error("Exception in event listener", throwable);
                                         }
                                         c.resumeWith(Unit.INSTANCE);
-                                        return Unit.INSTANCE;
+                                        if (stage == null)
+                                            return Unit.INSTANCE;
+                                        // suspends the coroutine, not the thread, until the listener's stage completes
+                                        return FutureKt.await(stage.handle((result, throwable) -> Unit.INSTANCE), c2);
                                     });
                             c.resumeWith(Unit.INSTANCE);
                             return Unit.INSTANCE;
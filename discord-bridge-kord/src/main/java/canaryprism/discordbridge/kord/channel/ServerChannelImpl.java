@@ -17,6 +17,7 @@
 package canaryprism.discordbridge.kord.channel;
 
 import canaryprism.discordbridge.api.channel.ServerChannel;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
 import canaryprism.discordbridge.api.server.Server;
 import canaryprism.discordbridge.kord.DiscordBridgeKord;
 import canaryprism.discordbridge.kord.server.ServerImpl;
@@ -58,7 +59,7 @@ public class ServerChannelImpl<T extends GuildChannel> extends ChannelImpl<T> im
             }
         });
         
-        return future.join();
+        return BridgeMetrics.join(bridge, "ServerChannel.getServer", future);
     }
     
     @Override
@@ -19,6 +19,7 @@ package canaryprism.discordbridge.kord.interaction.response;
 import canaryprism.discordbridge.api.DiscordBridge;
 import canaryprism.discordbridge.api.interaction.response.FollowupResponder;
 import canaryprism.discordbridge.api.message.MessageFlag;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
 import canaryprism.discordbridge.kord.DiscordBridgeKord;
 import dev.kord.common.entity.MessageFlagKt;
 import dev.kord.common.entity.SnowflakeKt;
@@ -47,80 +48,84 @@ public class FollowupResponderImpl implements FollowupResponder {
     }
     
     public String content;
-    public Set<MessageFlag> flags;
+    public Set<MessageFlag> flags = EnumSet.noneOf(MessageFlag.class);
     
     @Override
     public @NotNull CompletableFuture<?> send() {
-        var future = new CompletableFuture<>();
-        
-        interaction.getKord()
-                .getRest()
-                .getInteraction()
-                .createFollowupMessage(interaction.getApplicationId(), interaction.getToken(), flags.contains(MessageFlag.EPHEMERAL), (e) -> {
-                    e.setContent(content);
-                    e.setFlags(MessageFlagKt.MessageFlags(flags.stream()
-                            .map((flag) -> ((dev.kord.common.entity.MessageFlag) bridge.getImplementationValue(flag)))
-                            .toList()));
-                    return Unit.INSTANCE;
-                }, new Continuation<>() {
-                    
-                    @Override
-                    public @NotNull CoroutineContext getContext() {
-                        return EmptyCoroutineContext.INSTANCE;
-                    }
-                    
-                    @Override
-                    public void resumeWith(@NotNull Object o) {
-                        try {
-                            ResultKt.throwOnFailure(o);
-                            future.complete(o);
-                        } catch (Throwable t) {
-                            future.completeExceptionally(t);
+        return BridgeMetrics.response(bridge, "followup.send", () -> {
+            var future = new CompletableFuture<>();
+            
+            interaction.getKord()
+                    .getRest()
+                    .getInteraction()
+                    .createFollowupMessage(interaction.getApplicationId(), interaction.getToken(), flags.contains(MessageFlag.EPHEMERAL), (e) -> {
+                        e.setContent(content);
+                        e.setFlags(MessageFlagKt.MessageFlags(flags.stream()
+                                .map((flag) -> ((dev.kord.common.entity.MessageFlag) bridge.getImplementationValue(flag)))
+                                .toList()));
+                        return Unit.INSTANCE;
+                    }, new Continuation<>() {
+                        
+                        @Override
+                        public @NotNull CoroutineContext getContext() {
+                            return EmptyCoroutineContext.INSTANCE;
                         }
-                    }
-                });
-        
-        return future;
+                        
+                        @Override
+                        public void resumeWith(@NotNull Object o) {
+                            try {
+                                ResultKt.throwOnFailure(o);
+                                future.complete(o);
+                            } catch (Throwable t) {
+                                future.completeExceptionally(t);
+                            }
+                        }
+                    });
+            
+            return future;
+        });
     }
     
     @Override
     public @NotNull CompletableFuture<?> update(long message_id) {
-        var future = new CompletableFuture<>();
-        interaction.getKord()
-                .getRest()
-                .getInteraction()
-                .modifyFollowupMessage(
-                        interaction.getApplicationId(),
-                        interaction.getToken(),
-                        SnowflakeKt.Snowflake(message_id),
-                        new FollowupMessageModifyRequest(
-                                Optional.Companion.invoke(content),
-                                Optional.Companion.invoke(),
-                                Optional.Companion.invoke(),
-                                Optional.Companion.invoke(),
-                                Optional.Companion.invoke(),
-                                Optional.Companion.invoke(MessageFlagKt.MessageFlags(flags.stream()
-                                        .map((flag) -> ((dev.kord.common.entity.MessageFlag) bridge.getImplementationValue(flag)))
-                                        .toList()))
-                        ),
-                        new Continuation<>() {
-                            @Override
-                            public @NotNull CoroutineContext getContext() {
-                                return EmptyCoroutineContext.INSTANCE;
-                            }
-                            
-                            @Override
-                            public void resumeWith(@NotNull Object o) {
-                                try {
-                                    ResultKt.throwOnFailure(o);
-                                    future.complete(o);
-                                } catch (Throwable t) {
-                                    future.completeExceptionally(t);
+        return BridgeMetrics.response(bridge, "followup.update", () -> {
+            var future = new CompletableFuture<>();
+            interaction.getKord()
+                    .getRest()
+                    .getInteraction()
+                    .modifyFollowupMessage(
+                            interaction.getApplicationId(),
+                            interaction.getToken(),
+                            SnowflakeKt.Snowflake(message_id),
+                            new FollowupMessageModifyRequest(
+                                    Optional.Companion.invoke(content),
+                                    Optional.Companion.invoke(),
+                                    Optional.Companion.invoke(),
+                                    Optional.Companion.invoke(),
+                                    Optional.Companion.invoke(),
+                                    Optional.Companion.invoke(MessageFlagKt.MessageFlags(flags.stream()
+                                            .map((flag) -> ((dev.kord.common.entity.MessageFlag) bridge.getImplementationValue(flag)))
+                                            .toList()))
+                            ),
+                            new Continuation<>() {
+                                @Override
+                                public @NotNull CoroutineContext getContext() {
+                                    return EmptyCoroutineContext.INSTANCE;
                                 }
-                            }
-                        });
-        
-        return future;
+                                
+                                @Override
+                                public void resumeWith(@NotNull Object o) {
+                                    try {
+                                        ResultKt.throwOnFailure(o);
+                                        future.complete(o);
+                                    } catch (Throwable t) {
+                                        future.completeExceptionally(t);
+                                    }
+                                }
+                            });
+            
+            return future;
+        });
     }
     
     @Override
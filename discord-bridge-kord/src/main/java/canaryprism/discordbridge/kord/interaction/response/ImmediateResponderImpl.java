@@ -19,6 +19,7 @@ package canaryprism.discordbridge.kord.interaction.response;
 import canaryprism.discordbridge.api.DiscordBridge;
 import canaryprism.discordbridge.api.interaction.response.ImmediateResponder;
 import canaryprism.discordbridge.api.message.MessageFlag;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
 import canaryprism.discordbridge.kord.DiscordBridgeKord;
 import dev.kord.common.entity.InteractionResponseType;
 import dev.kord.common.entity.MessageFlagKt;
@@ -52,43 +53,45 @@ public class ImmediateResponderImpl implements ImmediateResponder {
     
     @Override
     public @NotNull CompletableFuture<?> respond() {
-        var future = new CompletableFuture<>();
-        interaction.getKord()
-                .getRest()
-                .getInteraction()
-                .createInteractionResponse(interaction.getId(), interaction.getToken(), new InteractionResponseCreateRequest(
-                        InteractionResponseType.ChannelMessageWithSource.INSTANCE,
-                        Optional.Companion.invoke(new InteractionApplicationCommandCallbackData(
-                                OptionalBoolean.Missing.INSTANCE,
-                                Optional.Companion.invoke(content),
-                                Optional.Companion.invoke(),
-                                Optional.Companion.invoke(),
-                                Optional.Companion.invoke(MessageFlagKt.MessageFlags(
-                                        flags.stream()
-                                                .map((e) -> ((dev.kord.common.entity.MessageFlag) bridge.getImplementationValue(e)))
-                                                .toList())
-                                ),
-                                Optional.Companion.invoke(),
-                                Optional.Companion.invoke()
-                        ))
-                ), new Continuation<>() {
-                    @Override
-                    public @NotNull CoroutineContext getContext() {
-                        return EmptyCoroutineContext.INSTANCE;
-                    }
-                    
-                    @Override
-                    public void resumeWith(@NotNull Object o) {
-                        try {
-                            ResultKt.throwOnFailure(o);
-                            future.complete(o);
-                        } catch (Throwable t) {
-                            future.completeExceptionally(t);
+        return BridgeMetrics.response(bridge, "respond", () -> {
+            var future = new CompletableFuture<>();
+            interaction.getKord()
+                    .getRest()
+                    .getInteraction()
+                    .createInteractionResponse(interaction.getId(), interaction.getToken(), new InteractionResponseCreateRequest(
+                            InteractionResponseType.ChannelMessageWithSource.INSTANCE,
+                            Optional.Companion.invoke(new InteractionApplicationCommandCallbackData(
+                                    OptionalBoolean.Missing.INSTANCE,
+                                    Optional.Companion.invoke(content),
+                                    Optional.Companion.invoke(),
+                                    Optional.Companion.invoke(),
+                                    Optional.Companion.invoke(MessageFlagKt.MessageFlags(
+                                            flags.stream()
+                                                    .map((e) -> ((dev.kord.common.entity.MessageFlag) bridge.getImplementationValue(e)))
+                                                    .toList())
+                                    ),
+                                    Optional.Companion.invoke(),
+                                    Optional.Companion.invoke()
+                            ))
+                    ), new Continuation<>() {
+                        @Override
+                        public @NotNull CoroutineContext getContext() {
+                            return EmptyCoroutineContext.INSTANCE;
                         }
-                    }
-                });
-        
-        return future;
+                        
+                        @Override
+                        public void resumeWith(@NotNull Object o) {
+                            try {
+                                ResultKt.throwOnFailure(o);
+                                future.complete(o);
+                            } catch (Throwable t) {
+                                future.completeExceptionally(t);
+                            }
+                        }
+                    });
+            
+            return future;
+        });
     }
     
     @Override
@@ -19,6 +19,7 @@ package canaryprism.discordbridge.kord.interaction.response;
 import canaryprism.discordbridge.api.DiscordBridge;
 import canaryprism.discordbridge.api.interaction.response.ResponseUpdater;
 import canaryprism.discordbridge.api.message.MessageFlag;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
 import canaryprism.discordbridge.kord.DiscordBridgeKord;
 import dev.kord.common.entity.MessageFlagKt;
 import dev.kord.core.behavior.interaction.response.DeferredMessageInteractionResponseBehavior;
@@ -45,37 +46,39 @@ public class ResponseUpdaterImpl implements ResponseUpdater {
     }
     
     private String content;
-    private Set<MessageFlag> flags;
+    private Set<MessageFlag> flags = EnumSet.noneOf(MessageFlag.class);
     
     @Override
     public @NotNull CompletableFuture<?> update() {
-        var future = new CompletableFuture<>();
-        
-        DeferredMessageInteractionResponseBehaviorKt.respond(response_behaviour, (e) -> {
-            e.setContent(content);
-            e.setFlags(MessageFlagKt.MessageFlags(flags.stream()
-                    .map((flag) -> ((dev.kord.common.entity.MessageFlag) bridge.getImplementationValue(flag)))
-                    .toList())
-            );
-            return Unit.INSTANCE;
-        }, new Continuation<>() {
-            @Override
-            public @NotNull CoroutineContext getContext() {
-                return EmptyCoroutineContext.INSTANCE;
-            }
+        return BridgeMetrics.response(bridge, "update", () -> {
+            var future = new CompletableFuture<>();
             
-            @Override
-            public void resumeWith(@NotNull Object o) {
-                try {
-                    ResultKt.throwOnFailure(o);
-                    future.complete(o);
-                } catch (Throwable t) {
-                    future.completeExceptionally(t);
+            DeferredMessageInteractionResponseBehaviorKt.respond(response_behaviour, (e) -> {
+                e.setContent(content);
+                e.setFlags(MessageFlagKt.MessageFlags(flags.stream()
+                        .map((flag) -> ((dev.kord.common.entity.MessageFlag) bridge.getImplementationValue(flag)))
+                        .toList())
+                );
+                return Unit.INSTANCE;
+            }, new Continuation<>() {
+                @Override
+                public @NotNull CoroutineContext getContext() {
+                    return EmptyCoroutineContext.INSTANCE;
                 }
-            }
+                
+                @Override
+                public void resumeWith(@NotNull Object o) {
+                    try {
+                        ResultKt.throwOnFailure(o);
+                        future.complete(o);
+                    } catch (Throwable t) {
+                        future.completeExceptionally(t);
+                    }
+                }
+            });
+            
+            return future;
         });
-        
-        return future;
     }
     
     @Override
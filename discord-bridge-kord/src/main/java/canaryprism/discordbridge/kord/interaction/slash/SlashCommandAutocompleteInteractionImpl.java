@@ -22,6 +22,7 @@ import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandOptionCh
 import canaryprism.discordbridge.api.entity.user.User;
 import canaryprism.discordbridge.api.interaction.slash.SlashCommandAutocompleteInteraction;
 import canaryprism.discordbridge.api.interaction.slash.SlashCommandInteractionOption;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
 import canaryprism.discordbridge.api.server.Server;
 import canaryprism.discordbridge.kord.DiscordBridgeKord;
 import canaryprism.discordbridge.kord.channel.ChannelDirector;
@@ -45,29 +46,36 @@ public record SlashCommandAutocompleteInteractionImpl(DiscordBridgeKord bridge,
     
     @Override
     public @NotNull CompletableFuture<?> suggest(@NotNull List<? extends @NotNull SlashCommandOptionChoiceData> choices) {
-        var future = new CompletableFuture<>();
-        AutoCompleteInteractionBehaviorKt.suggest(
-                interaction,
-                choices.stream()
-                        .map(bridge::convertData)
-                        .toList(),
-                new Continuation<>() {
-                    @Override
-                    public @NotNull CoroutineContext getContext() {
-                        return EmptyCoroutineContext.INSTANCE;
-                    }
-                    
-                    @Override
-                    public void resumeWith(@NotNull Object o) {
-                        try {
-                            ResultKt.throwOnFailure(o);
-                            future.complete(o);
-                        } catch (Throwable t) {
-                            future.completeExceptionally(t);
+        return BridgeMetrics.response(bridge, "suggest", () -> {
+            var future = new CompletableFuture<>();
+            AutoCompleteInteractionBehaviorKt.suggest(
+                    interaction,
+                    choices.stream()
+                            .map(bridge::convertData)
+                            .toList(),
+                    new Continuation<>() {
+                        @Override
+                        public @NotNull CoroutineContext getContext() {
+                            return EmptyCoroutineContext.INSTANCE;
                         }
-                    }
-                });
-        return future;
+                        
+                        @Override
+                        public void resumeWith(@NotNull Object o) {
+                            try {
+                                ResultKt.throwOnFailure(o);
+                                future.complete(o);
+                            } catch (Throwable t) {
+                                future.completeExceptionally(t);
+                            }
+                        }
+                    });
+            return future;
+        });
+    }
+    
+    @Override
+    public long getId() {
+        return Long.parseLong(interaction.getId().toString());
     }
     
     @Override
@@ -118,7 +126,7 @@ public record SlashCommandAutocompleteInteractionImpl(DiscordBridgeKord bridge,
                                     
                                 }
                             });
-                    return future.join();
+                    return BridgeMetrics.join(bridge, "SlashCommandAutocompleteInteraction.getServer", future);
                 });
     }
     
@@ -143,7 +151,7 @@ public record SlashCommandAutocompleteInteractionImpl(DiscordBridgeKord bridge,
             }
         });
         
-        return Optional.of(future.join());
+        return Optional.of(BridgeMetrics.join(bridge, "SlashCommandAutocompleteInteraction.getChannel", future));
     }
     
     @Override
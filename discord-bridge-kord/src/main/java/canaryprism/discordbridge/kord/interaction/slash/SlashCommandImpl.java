@@ -21,6 +21,7 @@ import canaryprism.discordbridge.api.interaction.ContextType;
 import canaryprism.discordbridge.api.interaction.InstallationType;
 import canaryprism.discordbridge.api.interaction.slash.SlashCommand;
 import canaryprism.discordbridge.api.interaction.slash.SlashCommandOption;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
 import canaryprism.discordbridge.api.misc.DiscordLocale;
 import canaryprism.discordbridge.api.server.Server;
 import canaryprism.discordbridge.api.server.permission.PermissionType;
@@ -71,14 +72,7 @@ public record SlashCommandImpl(DiscordBridgeKord bridge, DiscordApplicationComma
     @Override
     public @NotNull @Unmodifiable Map<DiscordLocale, @NotNull String> getNameLocalizations() {
         return (command.getNameLocalizations() instanceof Value<Map<Locale, String>> localizations) ?
-                localizations.getValue()
-                .entrySet()
-                .stream()
-                .map((e) -> Map.entry(
-                        DiscordBridgeKord.convertLocale(e.getKey()),
-                        e.getValue()
-                ))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue))
+                DiscordBridgeKord.convertInternalLocalizations(localizations.getValue())
                 : Map.of();
     }
     
@@ -91,14 +85,7 @@ public record SlashCommandImpl(DiscordBridgeKord bridge, DiscordApplicationComma
     @Override
     public @NotNull @Unmodifiable Map<DiscordLocale, @NotNull String> getDescriptionLocalizations() {
         return (command.getDescriptionLocalizations() instanceof Value<Map<Locale, String>> localizations) ?
-                localizations.getValue()
-                .entrySet()
-                .stream()
-                .map((e) -> Map.entry(
-                        DiscordBridgeKord.convertLocale(e.getKey()),
-                        e.getValue()
-                ))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue))
+                DiscordBridgeKord.convertInternalLocalizations(localizations.getValue())
                 : Map.of();
     }
     
@@ -159,7 +146,7 @@ public record SlashCommandImpl(DiscordBridgeKord bridge, DiscordApplicationComma
                                     
                                 }
                             });
-                    return future.join();
+                    return BridgeMetrics.join(bridge, "SlashCommand.getServer", future);
                 });
     }
     
@@ -24,6 +24,7 @@ import canaryprism.discordbridge.api.interaction.response.ImmediateResponder;
 import canaryprism.discordbridge.api.interaction.response.ResponseUpdater;
 import canaryprism.discordbridge.api.interaction.slash.SlashCommandInvokeInteraction;
 import canaryprism.discordbridge.api.interaction.slash.SlashCommandInteractionOption;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
 import canaryprism.discordbridge.api.server.Server;
 import canaryprism.discordbridge.kord.DiscordBridgeKord;
 import canaryprism.discordbridge.kord.channel.ChannelDirector;
@@ -49,6 +50,11 @@ import java.util.concurrent.CompletableFuture;
 
 public record SlashCommandInvokeInteractionImpl(DiscordBridgeKord bridge, ChatInputCommandInteraction interaction) implements SlashCommandInvokeInteraction {
     
+    @Override
+    public long getId() {
+        return Long.parseLong(interaction.getId().toString());
+    }
+    
     @Override
     public long getApplicationId() {
         return Long.parseLong(interaction.getApplicationId().toString());
@@ -78,26 +84,28 @@ public record SlashCommandInvokeInteractionImpl(DiscordBridgeKord bridge, ChatIn
     
     @Override
     public @NotNull CompletableFuture<? extends @NotNull ResponseUpdater> respondLater(boolean ephemeral) {
-        var future = new CompletableFuture<DeferredMessageInteractionResponseBehavior>();
-        var continuation = new Continuation<DeferredMessageInteractionResponseBehavior>() {
+        return BridgeMetrics.response(bridge, "respondLater", () -> {
+            var future = new CompletableFuture<DeferredMessageInteractionResponseBehavior>();
+            var continuation = new Continuation<DeferredMessageInteractionResponseBehavior>() {
+                
+                @Override
+                public @NotNull CoroutineContext getContext() {
+                    return EmptyCoroutineContext.INSTANCE;
+                }
+                
+                @Override
+                public void resumeWith(@NotNull Object o) {
+                    future.complete(((DeferredMessageInteractionResponseBehavior) o));
+                }
+            };
             
-            @Override
-            public @NotNull CoroutineContext getContext() {
-                return EmptyCoroutineContext.INSTANCE;
-            }
+            if (ephemeral)
+                interaction.deferEphemeralResponse(continuation);
+            else
+                interaction.deferPublicResponse(continuation);
             
-            @Override
-            public void resumeWith(@NotNull Object o) {
-                future.complete(((DeferredMessageInteractionResponseBehavior) o));
-            }
-        };
-        
-        if (ephemeral)
-            interaction.deferEphemeralResponse(continuation);
-        else
-            interaction.deferPublicResponse(continuation);
-        
-        return future.thenApply((e) -> new ResponseUpdaterImpl(bridge, e));
+            return future.thenApply((e) -> new ResponseUpdaterImpl(bridge, e));
+        });
     }
     
     @Override
@@ -133,7 +141,7 @@ public record SlashCommandInvokeInteractionImpl(DiscordBridgeKord bridge, ChatIn
                                     
                                 }
                             });
-                    return future.join();
+                    return BridgeMetrics.join(bridge, "SlashCommandInvokeInteraction.getServer", future);
                 });
     }
     
@@ -158,7 +166,7 @@ public record SlashCommandInvokeInteractionImpl(DiscordBridgeKord bridge, ChatIn
             }
         });
         
-        return Optional.of(future.join());
+        return Optional.of(BridgeMetrics.join(bridge, "SlashCommandInvokeInteraction.getChannel", future));
     }
     
     @Override
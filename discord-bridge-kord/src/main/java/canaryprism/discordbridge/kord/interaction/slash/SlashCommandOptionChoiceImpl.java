@@ -27,7 +27,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Unmodifiable;
 
 import java.util.Map;
-import java.util.stream.Collectors;
 
 public record SlashCommandOptionChoiceImpl(DiscordBridgeKord bridge, Choice choice) implements SlashCommandOptionChoice {
     
@@ -49,15 +48,9 @@ public record SlashCommandOptionChoiceImpl(DiscordBridgeKord bridge, Choice choi
     @Override
     public @NotNull @Unmodifiable Map<DiscordLocale, @NotNull String> getNameLocalizations() {
         return (choice.getNameLocalizations() instanceof Optional.Value<Map<Locale, String>> localizations) ?
-                localizations.getValue()
-                        .entrySet()
-                        .stream()
-                        .map((e) -> Map.entry(
-                                DiscordBridgeKord.convertLocale(e.getKey()),
-                                e.getValue()
-                        ))
-                        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue))
-                : Map.of();    }
+                DiscordBridgeKord.convertInternalLocalizations(localizations.getValue())
+                : Map.of();
+    }
     
     @Override
     public @NotNull String getName() {
@@ -53,15 +53,9 @@ public record SlashCommandOptionImpl(DiscordBridgeKord bridge, ApplicationComman
     @Override
     public @NotNull @Unmodifiable Map<DiscordLocale, @NotNull String> getNameLocalizations() {
         return (option.getNameLocalizations() instanceof Value<Map<Locale, String>> localizations) ?
-                localizations.getValue()
-                        .entrySet()
-                        .stream()
-                        .map((e) -> Map.entry(
-                                DiscordBridgeKord.convertLocale(e.getKey()),
-                                e.getValue()
-                        ))
-                        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue))
-                : Map.of();    }
+                DiscordBridgeKord.convertInternalLocalizations(localizations.getValue())
+                : Map.of();
+    }
     
     @Override
     public @NotNull String getDescription() {
@@ -71,15 +65,9 @@ public record SlashCommandOptionImpl(DiscordBridgeKord bridge, ApplicationComman
     @Override
     public @NotNull @Unmodifiable Map<DiscordLocale, @NotNull String> getDescriptionLocalizations() {
         return (option.getDescriptionLocalizations() instanceof Value<Map<Locale, String>> localizations) ?
-                localizations.getValue()
-                        .entrySet()
-                        .stream()
-                        .map((e) -> Map.entry(
-                                DiscordBridgeKord.convertLocale(e.getKey()),
-                                e.getValue()
-                        ))
-                        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue))
-                : Map.of();    }
+                DiscordBridgeKord.convertInternalLocalizations(localizations.getValue())
+                : Map.of();
+    }
     
     @Override
     public boolean isRequired() {
@@ -21,6 +21,7 @@ import canaryprism.discordbridge.api.data.interaction.CommandData;
 import canaryprism.discordbridge.api.data.interaction.slash.SlashCommandData;
 import canaryprism.discordbridge.api.interaction.Command;
 import canaryprism.discordbridge.api.interaction.slash.SlashCommand;
+import canaryprism.discordbridge.api.metrics.BridgeMetrics;
 import canaryprism.discordbridge.api.server.Server;
 import canaryprism.discordbridge.kord.DiscordBridgeKord;
 import canaryprism.discordbridge.kord.interaction.slash.SlashCommandImpl;
@@ -43,58 +44,62 @@ public record ServerImpl(DiscordBridgeKord bridge, Guild server, Kord kord) impl
     
     @Override
     public @NotNull CompletableFuture<? extends @NotNull @Unmodifiable Set<? extends @NotNull SlashCommand>> getServerSlashCommands() {
-        var future = new CompletableFuture<Set<SlashCommandImpl>>();
-        kord.getRest()
-                .getInteraction()
-                .getGuildApplicationCommands(kord.getSelfId(), server.getId(), true, new Continuation<>() {
-                    @Override
-                    public @NotNull CoroutineContext getContext() {
-                        return EmptyCoroutineContext.INSTANCE;
-                    }
-                    
-                    @Override
-                    public void resumeWith(@NotNull Object o) {
-                        @SuppressWarnings("unchecked") var list = ((List<DiscordApplicationCommand>) o);
+        return BridgeMetrics.restCall(bridge, "Server.getServerSlashCommands", () -> {
+            var future = new CompletableFuture<Set<SlashCommandImpl>>();
+            kord.getRest()
+                    .getInteraction()
+                    .getGuildApplicationCommands(kord.getSelfId(), server.getId(), true, new Continuation<>() {
+                        @Override
+                        public @NotNull CoroutineContext getContext() {
+                            return EmptyCoroutineContext.INSTANCE;
+                        }
                         
-                        future.complete(list.stream()
-                                .filter((e) -> e.getType().getValue() == ApplicationCommandType.ChatInput.INSTANCE)
-                                .map((e) -> new SlashCommandImpl(bridge, e, kord))
-                                .collect(Collectors.toUnmodifiableSet()));
-                    }
-                });
-        
-        return future;
+                        @Override
+                        public void resumeWith(@NotNull Object o) {
+                            @SuppressWarnings("unchecked") var list = ((List<DiscordApplicationCommand>) o);
+                            
+                            future.complete(list.stream()
+                                    .filter((e) -> e.getType().getValue() == ApplicationCommandType.ChatInput.INSTANCE)
+                                    .map((e) -> new SlashCommandImpl(bridge, e, kord))
+                                    .collect(Collectors.toUnmodifiableSet()));
+                        }
+                    });
+            
+            return future;
+        });
     }
     
     @Override
     public @NotNull CompletableFuture<? extends @NotNull @Unmodifiable Set<? extends @NotNull Command>> bulkUpdateServerCommands(Set<? extends @NotNull CommandData> commands) {
-        var future = new CompletableFuture<Set<SlashCommandImpl>>();
-        kord.getRest()
-                .getInteraction()
-                .createGuildApplicationCommands(
-                        kord.getSelfId(),
-                        server.getId(),
-                        commands.stream()
-                                .map(SlashCommandData.class::cast)
-                                .map(bridge::convertData)
-                                .toList(),
-                        new Continuation<>() {
-                            @Override
-                            public @NotNull CoroutineContext getContext() {
-                                return EmptyCoroutineContext.INSTANCE;
-                            }
-                            
-                            @SuppressWarnings("unchecked")
-                            @Override
-                            public void resumeWith(@NotNull Object o) {
-                                var list = ((List<DiscordApplicationCommand>) o);
+        return BridgeMetrics.commandBulkUpdate(bridge, "Server.bulkUpdateServerCommands", commands.size(), () -> {
+            var future = new CompletableFuture<Set<SlashCommandImpl>>();
+            kord.getRest()
+                    .getInteraction()
+                    .createGuildApplicationCommands(
+                            kord.getSelfId(),
+                            server.getId(),
+                            commands.stream()
+                                    .map(SlashCommandData.class::cast)
+                                    .map(bridge::convertData)
+                                    .toList(),
+                            new Continuation<>() {
+                                @Override
+                                public @NotNull CoroutineContext getContext() {
+                                    return EmptyCoroutineContext.INSTANCE;
+                                }
                                 
-                                future.complete(list.stream()
-                                        .map((e) -> new SlashCommandImpl(bridge, e, kord))
-                                        .collect(Collectors.toUnmodifiableSet()));
-                            }
-                        });
-        return future;
+                                @SuppressWarnings("unchecked")
+                                @Override
+                                public void resumeWith(@NotNull Object o) {
+                                    var list = ((List<DiscordApplicationCommand>) o);
+                                    
+                                    future.complete(list.stream()
+                                            .map((e) -> new SlashCommandImpl(bridge, e, kord))
+                                            .collect(Collectors.toUnmodifiableSet()));
+                                }
+                            });
+            return future;
+        });
     }
     
     @Override
@@ -0,0 +1,13 @@
+plugins {
+    `java-library`
+}
+
+description = "A local Discord REST and gateway server for testing discord-bridge implementations end to end"
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    implementation("org.slf4j:slf4j-api")
+}
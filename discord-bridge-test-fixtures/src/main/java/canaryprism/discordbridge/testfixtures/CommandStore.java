@@ -0,0 +1,232 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.testfixtures;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/// The application commands registered to a [LocalDiscordServer], globally and per server
+///
+/// Commands are stored as the JSON objects Discord returns for them, with the fields Discord fills in added.
+/// Invalid commands are rejected with an [IllegalArgumentException] describing the problem, which is sent back as an
+/// `Invalid Form Body` error
+final class CommandStore {
+
+    private static final int CHAT_INPUT = 1;
+    private static final int SUBCOMMAND = 1;
+    private static final int SUBCOMMAND_GROUP = 2;
+
+    private final long application_id;
+    private final @NotNull LongSupplier ids;
+
+    // null key for global commands
+    private final @NotNull HashMap<Long, List<Map<String, Object>>> commands = new HashMap<>();
+
+    CommandStore(long application_id, @NotNull LongSupplier ids) {
+        this.application_id = application_id;
+        this.ids = ids;
+    }
+
+    synchronized @NotNull @Unmodifiable List<Map<String, Object>> list(@Nullable Long server_id) {
+        return List.copyOf(commands.getOrDefault(server_id, List.of()));
+    }
+
+    synchronized @NotNull Optional<Map<String, Object>> get(@Nullable Long server_id, long id) {
+        return commands.getOrDefault(server_id, List.of())
+                .stream()
+                .filter((e) -> id(e) == id)
+                .findAny();
+    }
+
+    /// Finds the command an interaction is for, a command of the server if it has one of the name or else a global one
+    synchronized @NotNull Optional<Map<String, Object>> find(@Nullable Long server_id, @NotNull String name) {
+        var server_command = (server_id == null) ? Optional.<Map<String, Object>>empty() : commands.getOrDefault(server_id, List.of())
+                .stream()
+                .filter((e) -> e.get("name").equals(name) && e.get("type").equals((long) CHAT_INPUT))
+                .findAny();
+        return server_command.or(() -> commands.getOrDefault(null, List.of())
+                .stream()
+                .filter((e) -> e.get("name").equals(name) && e.get("type").equals((long) CHAT_INPUT))
+                .findAny());
+    }
+
+    /// Creates a command, replacing the command of the same name and type if there is one like Discord does
+    ///
+    /// @return the command, and whether it's new
+    synchronized @NotNull Map.Entry<Map<String, Object>, Boolean> create(@Nullable Long server_id, @NotNull Map<String, Object> data) {
+        var list = new ArrayList<>(commands.getOrDefault(server_id, List.of()));
+        var existing = find(list, data);
+        var command = normalize(server_id, (existing == null) ? ids.getAsLong() : id(existing), data);
+        if (existing == null)
+            list.add(command);
+        else
+            list.set(list.indexOf(existing), command);
+        commands.put(server_id, List.copyOf(list));
+        return Map.entry(command, existing == null);
+    }
+
+    /// Replaces every command, keeping the IDs of commands with the same name and type
+    synchronized @NotNull @Unmodifiable List<Map<String, Object>> overwrite(@Nullable Long server_id, @NotNull List<?> data) {
+        var old = commands.getOrDefault(server_id, List.of());
+        var keys = new HashSet<String>();
+        var list = new ArrayList<Map<String, Object>>();
+        for (var e : data) {
+            var command = asObject(e, "command");
+            if (!keys.add(key(command)))
+                throw new IllegalArgumentException(String.format("duplicate command name %s", command.get("name")));
+            var existing = find(old, command);
+            list.add(normalize(server_id, (existing == null) ? ids.getAsLong() : id(existing), command));
+        }
+        commands.put(server_id, List.copyOf(list));
+        return List.copyOf(list);
+    }
+
+    synchronized @NotNull Optional<Map<String, Object>> edit(@Nullable Long server_id, long id, @NotNull Map<String, Object> data) {
+        var list = new ArrayList<>(commands.getOrDefault(server_id, List.of()));
+        for (int i = 0; i < list.size(); i++) {
+            if (id(list.get(i)) == id) {
+                var merged = new LinkedHashMap<>(list.get(i));
+                merged.putAll(data);
+                var command = normalize(server_id, id, merged);
+                list.set(i, command);
+                commands.put(server_id, List.copyOf(list));
+                return Optional.of(command);
+            }
+        }
+        return Optional.empty();
+    }
+
+    synchronized boolean delete(@Nullable Long server_id, long id) {
+        var list = commands.getOrDefault(server_id, List.of());
+        var remaining = list.stream()
+                .filter((e) -> id(e) != id)
+                .toList();
+        commands.put(server_id, remaining);
+        return remaining.size() != list.size();
+    }
+
+    synchronized void removeServer(long server_id) {
+        commands.remove(server_id);
+    }
+
+    private static long id(@NotNull Map<String, Object> command) {
+        return Long.parseLong((String) command.get("id"));
+    }
+
+    private static @NotNull String key(@NotNull Map<String, Object> command) {
+        return command.getOrDefault("type", (long) CHAT_INPUT) + ":" + command.get("name");
+    }
+
+    private static @Nullable Map<String, Object> find(@NotNull List<Map<String, Object>> list, @NotNull Map<String, Object> data) {
+        var key = key(data);
+        return list.stream()
+                .filter((e) -> key(e).equals(key))
+                .findAny()
+                .orElse(null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static @NotNull Map<String, Object> asObject(@Nullable Object value, @NotNull String what) {
+        if (!(value instanceof Map<?, ?> map))
+            throw new IllegalArgumentException(String.format("%s must be an object", what));
+        return (Map<String, Object>) map;
+    }
+
+    private static @NotNull String string(@NotNull Map<String, Object> object, @NotNull String field, int min, int max) {
+        if (!(object.get(field) instanceof String string))
+            throw new IllegalArgumentException(String.format("%s is required and must be a string", field));
+        if (string.length() < min || string.length() > max)
+            throw new IllegalArgumentException(String.format("%s must be between %s and %s in length", field, min, max));
+        return string;
+    }
+
+    private static long type(@NotNull Map<String, Object> object, long default_type) {
+        var type = object.getOrDefault("type", default_type);
+        if (!(type instanceof Long value))
+            throw new IllegalArgumentException("type must be an integer");
+        return value;
+    }
+
+    private @NotNull Map<String, Object> normalize(@Nullable Long server_id, long id, @NotNull Map<String, Object> data) {
+        var type = type(data, CHAT_INPUT);
+        var command = new LinkedHashMap<String, Object>();
+        command.put("id", Long.toString(id));
+        command.put("application_id", Long.toString(application_id));
+        command.put("version", Long.toString(ids.getAsLong()));
+        command.put("type", type);
+        if (server_id != null)
+            command.put("guild_id", Long.toString(server_id));
+        command.put("name", string(data, "name", 1, 32));
+        command.put("name_localizations", data.get("name_localizations"));
+        command.put("description", (type == CHAT_INPUT) ? string(data, "description", 1, 100) : "");
+        command.put("description_localizations", data.get("description_localizations"));
+        command.put("options", (type == CHAT_INPUT) ? options(data.get("options"), 0) : List.of());
+        command.put("default_member_permissions", data.get("default_member_permissions"));
+        if (server_id == null)
+            command.put("dm_permission", data.getOrDefault("dm_permission", true));
+        command.put("nsfw", data.getOrDefault("nsfw", false));
+        command.put("integration_types", data.getOrDefault("integration_types", List.of(0L)));
+        command.put("contexts", data.get("contexts"));
+        return Collections.unmodifiableMap(command);
+    }
+
+    /// Validates options, nested in a command if the parent type is 0, or in a subcommand or subcommand group
+    private static @NotNull List<Object> options(@Nullable Object value, long parent_type) {
+        if (value == null)
+            return List.of();
+        if (!(value instanceof List<?> list))
+            throw new IllegalArgumentException("options must be an array");
+        if (list.size() > 25)
+            throw new IllegalArgumentException("options must have at most 25 elements");
+        var names = new HashSet<String>();
+        var options = new ArrayList<>();
+        for (var e : list) {
+            var option = asObject(e, "option");
+            var name = string(option, "name", 1, 32);
+            if (!names.add(name))
+                throw new IllegalArgumentException(String.format("duplicate option name %s", name));
+            string(option, "description", 1, 100);
+            var type = type(option, 0);
+            if (type < SUBCOMMAND || type > 11)
+                throw new IllegalArgumentException(String.format("option %s has invalid type %s", name, type));
+            var nested = type == SUBCOMMAND || type == SUBCOMMAND_GROUP;
+            if (parent_type == SUBCOMMAND_GROUP && type != SUBCOMMAND)
+                throw new IllegalArgumentException(String.format("option %s of a subcommand group must be a subcommand", name));
+            if (parent_type == SUBCOMMAND && nested)
+                throw new IllegalArgumentException(String.format("option %s of a subcommand can't be a subcommand or subcommand group", name));
+            if (nested) {
+                var copy = new LinkedHashMap<>(option);
+                copy.put("options", options(option.get("options"), type));
+                options.add(copy);
+            } else {
+                options.add(option);
+            }
+        }
+        return options;
+    }
+}
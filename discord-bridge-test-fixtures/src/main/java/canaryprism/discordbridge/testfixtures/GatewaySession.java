@@ -0,0 +1,408 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.testfixtures;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+/// One gateway connection, a WebSocket speaking Discord's gateway protocol with JSON encoding
+///
+/// If the client asks for `compress=zlib-stream`, every message is sent as a binary frame holding
+/// the next part of one zlib stream, ending with a sync flush
+final class GatewaySession implements Runnable {
+
+    private static final Logger logger = LoggerFactory.getLogger(GatewaySession.class);
+
+    private static final String WEBSOCKET_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+    private static final int MAX_MESSAGE_SIZE = 1 << 20;
+    static final int HEARTBEAT_INTERVAL = 41250;
+
+    private static final int OP_DISPATCH = 0;
+    private static final int OP_HEARTBEAT = 1;
+    private static final int OP_IDENTIFY = 2;
+    private static final int OP_PRESENCE_UPDATE = 3;
+    private static final int OP_VOICE_STATE_UPDATE = 4;
+    private static final int OP_RESUME = 6;
+    private static final int OP_REQUEST_GUILD_MEMBERS = 8;
+    private static final int OP_INVALID_SESSION = 9;
+    private static final int OP_HELLO = 10;
+    private static final int OP_HEARTBEAT_ACK = 11;
+
+    private static final int FRAME_CONTINUATION = 0x0;
+    private static final int FRAME_TEXT = 0x1;
+    private static final int FRAME_BINARY = 0x2;
+    private static final int FRAME_CLOSE = 0x8;
+    private static final int FRAME_PING = 0x9;
+    private static final int FRAME_PONG = 0xA;
+
+    private final @NotNull LocalDiscordServer server;
+    private final @NotNull Socket socket;
+    private final @NotNull String session_id;
+
+    private @Nullable OutputStream out;
+    private @Nullable Deflater deflater;
+    private final byte @NotNull [] deflate_buffer = new byte[8192];
+
+    private volatile boolean identified;
+    private volatile int shard_id;
+    private volatile int shard_count = 1;
+    private long sequence;
+    private boolean closed;
+
+    GatewaySession(@NotNull LocalDiscordServer server, @NotNull Socket socket, @NotNull String session_id) {
+        this.server = server;
+        this.socket = socket;
+        this.session_id = session_id;
+    }
+
+    boolean isIdentified() {
+        return identified;
+    }
+
+    /// Whether this session receives events of a server, or of DMs if the server ID is null
+    boolean receives(@Nullable Long server_id) {
+        if (!identified)
+            return false;
+        var shard = (server_id == null) ? 0 : (int) Long.remainderUnsigned(server_id >>> 22, shard_count);
+        return shard == shard_id;
+    }
+
+    @Override
+    public void run() {
+        try (socket) {
+            var in = new BufferedInputStream(socket.getInputStream());
+            if (!handshake(in))
+                return;
+            send(Map.of("op", OP_HELLO, "d", Map.of("heartbeat_interval", HEARTBEAT_INTERVAL)));
+
+            var message = new ByteArrayOutputStream();
+            while (true) {
+                var first = in.read();
+                if (first == -1)
+                    return;
+                var fin = (first & 0x80) != 0;
+                var opcode = first & 0x0F;
+                var payload = readFrame(in);
+                switch (opcode) {
+                    case FRAME_TEXT, FRAME_BINARY, FRAME_CONTINUATION -> {
+                        if (message.size() + payload.length > MAX_MESSAGE_SIZE) {
+                            close(1009, "message too big");
+                            return;
+                        }
+                        message.write(payload);
+                        if (fin) {
+                            var text = message.toString(StandardCharsets.UTF_8);
+                            message.reset();
+                            if (!receive(text))
+                                return;
+                        }
+                    }
+                    case FRAME_PING -> writeFrame(FRAME_PONG, payload);
+                    case FRAME_PONG -> {}
+                    case FRAME_CLOSE -> {
+                        var code = (payload.length >= 2) ? ((payload[0] & 0xFF) << 8 | (payload[1] & 0xFF)) : 1000;
+                        logger.debug("gateway session {} closed by client with {}", session_id, code);
+                        close(code, "");
+                        return;
+                    }
+                    default -> {
+                        close(1002, "unknown frame opcode");
+                        return;
+                    }
+                }
+            }
+        } catch (EOFException e) {
+            logger.debug("gateway session {} disconnected", session_id);
+        } catch (IOException e) {
+            if (!isClosed())
+                logger.debug("gateway session {} failed", session_id, e);
+        } finally {
+            synchronized (this) {
+                closed = true;
+                if (deflater != null)
+                    deflater.end();
+            }
+            server.disconnected(this);
+        }
+    }
+
+    private boolean handshake(@NotNull InputStream in) throws IOException {
+        var request_line = readLine(in);
+        var headers = new HashMap<String, String>();
+        String line;
+        while (!(line = readLine(in)).isEmpty()) {
+            var colon = line.indexOf(':');
+            if (colon > 0)
+                headers.put(line.substring(0, colon).trim().toLowerCase(), line.substring(colon + 1).trim());
+        }
+
+        var parts = request_line.split(" ");
+        var key = headers.get("sec-websocket-key");
+        var raw = socket.getOutputStream();
+        if (parts.length < 2 || !parts[0].equals("GET") || key == null || !"websocket".equalsIgnoreCase(headers.get("upgrade"))) {
+            raw.write("HTTP/1.1 400 Bad Request\r\nContent-Length: 0\r\nConnection: close\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1));
+            raw.flush();
+            return false;
+        }
+
+        var query = parts[1].contains("?") ? parts[1].substring(parts[1].indexOf('?') + 1) : "";
+        for (var parameter : query.split("&")) {
+            if (parameter.equals("encoding=etf")) {
+                raw.write("HTTP/1.1 400 Bad Request\r\nContent-Length: 0\r\nConnection: close\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1));
+                raw.flush();
+                logger.warn("gateway session {} asked for etf encoding, only json is supported", session_id);
+                return false;
+            }
+            if (parameter.equals("compress=zlib-stream"))
+                deflater = new Deflater();
+        }
+
+        String accept;
+        try {
+            accept = Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-1")
+                    .digest((key + WEBSOCKET_GUID).getBytes(StandardCharsets.ISO_8859_1)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 isn't available", e);
+        }
+        synchronized (this) {
+            out = new BufferedOutputStream(raw);
+            out.write(("HTTP/1.1 101 Switching Protocols\r\n"
+                    + "Upgrade: websocket\r\n"
+                    + "Connection: Upgrade\r\n"
+                    + "Sec-WebSocket-Accept: " + accept + "\r\n\r\n").getBytes(StandardCharsets.ISO_8859_1));
+            out.flush();
+        }
+        logger.debug("gateway session {} connected with {}", session_id, parts[1]);
+        return true;
+    }
+
+    private static @NotNull String readLine(@NotNull InputStream in) throws IOException {
+        var line = new StringBuilder();
+        int c;
+        while ((c = in.read()) != '\n') {
+            if (c == -1)
+                throw new EOFException("connection closed during the handshake");
+            if (c != '\r')
+                line.append((char) c);
+            if (line.length() > 8192)
+                throw new IOException("handshake line too long");
+        }
+        return line.toString();
+    }
+
+    private static byte @NotNull [] readFrame(@NotNull InputStream in) throws IOException {
+        var second = read(in);
+        var masked = (second & 0x80) != 0;
+        long length = second & 0x7F;
+        if (length == 126) {
+            length = (read(in) << 8) | read(in);
+        } else if (length == 127) {
+            length = 0;
+            for (int i = 0; i < 8; i++)
+                length = (length << 8) | read(in);
+        }
+        if (length < 0 || length > MAX_MESSAGE_SIZE)
+            throw new IOException(String.format("frame of %s bytes is too big", length));
+
+        var mask = new byte[4];
+        if (masked && in.readNBytes(mask, 0, 4) != 4)
+            throw new EOFException();
+        var payload = in.readNBytes((int) length);
+        if (payload.length != length)
+            throw new EOFException();
+        if (masked)
+            for (int i = 0; i < payload.length; i++)
+                payload[i] ^= mask[i & 3];
+        return payload;
+    }
+
+    private static int read(@NotNull InputStream in) throws IOException {
+        var b = in.read();
+        if (b == -1)
+            throw new EOFException();
+        return b;
+    }
+
+    /// Handles a message from the client, returning whether to keep reading
+    @SuppressWarnings("unchecked")
+    private boolean receive(@NotNull String text) throws IOException {
+        Map<String, Object> payload;
+        try {
+            payload = (Map<String, Object>) Json.read(text);
+        } catch (IllegalArgumentException | ClassCastException e) {
+            close(4002, "Error while decoding payload.");
+            return false;
+        }
+        if (payload == null || !(payload.get("op") instanceof Long op)) {
+            close(4002, "Error while decoding payload.");
+            return false;
+        }
+
+        switch (op.intValue()) {
+            case OP_HEARTBEAT -> send(Map.of("op", OP_HEARTBEAT_ACK));
+            case OP_IDENTIFY -> {
+                if (identified) {
+                    close(4005, "Already authenticated.");
+                    return false;
+                }
+                if (payload.get("d") instanceof Map<?, ?> data && data.get("shard") instanceof List<?> shard && shard.size() == 2
+                        && shard.get(0) instanceof Long id && shard.get(1) instanceof Long count && count > 0 && id >= 0 && id < count) {
+                    shard_id = id.intValue();
+                    shard_count = count.intValue();
+                }
+                identified = true;
+                server.identified(this, shard_id, shard_count);
+            }
+            case OP_RESUME -> {
+                // missed events aren't kept, so clients have to identify again
+                send(Map.of("op", OP_INVALID_SESSION, "d", false));
+            }
+            case OP_REQUEST_GUILD_MEMBERS -> {
+                if (!identified) {
+                    close(4003, "Not authenticated.");
+                    return false;
+                }
+                if (payload.get("d") instanceof Map<?, ?> data)
+                    server.requestedMembers(this, data.get("guild_id"), data.get("nonce"));
+            }
+            case OP_PRESENCE_UPDATE, OP_VOICE_STATE_UPDATE -> {
+                if (!identified) {
+                    close(4003, "Not authenticated.");
+                    return false;
+                }
+            }
+            default -> {
+                close(4001, "Unknown opcode.");
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /// Sends a dispatch event
+    ///
+    /// @return whether the session was still open
+    synchronized boolean dispatch(@NotNull String type, @NotNull Object data) {
+        if (closed)
+            return false;
+        var payload = new LinkedHashMap<String, Object>();
+        payload.put("op", OP_DISPATCH);
+        payload.put("t", type);
+        payload.put("s", ++sequence);
+        payload.put("d", data);
+        try {
+            send(payload);
+            return true;
+        } catch (IOException e) {
+            logger.debug("failed to send {} to gateway session {}", type, session_id, e);
+            closeSocket();
+            return false;
+        }
+    }
+
+    synchronized void send(@NotNull Map<String, ?> payload) throws IOException {
+        if (closed)
+            throw new IOException("session is closed");
+        var bytes = Json.write(payload).getBytes(StandardCharsets.UTF_8);
+        if (deflater == null) {
+            writeFrame(FRAME_TEXT, bytes);
+            return;
+        }
+        deflater.setInput(bytes);
+        var compressed = new ByteArrayOutputStream(bytes.length / 2 + 16);
+        int n;
+        do {
+            n = deflater.deflate(deflate_buffer, 0, deflate_buffer.length, Deflater.SYNC_FLUSH);
+            compressed.write(deflate_buffer, 0, n);
+        } while (n == deflate_buffer.length);
+        writeFrame(FRAME_BINARY, compressed.toByteArray());
+    }
+
+    private synchronized void writeFrame(int opcode, byte @NotNull [] payload) throws IOException {
+        var out = this.out;
+        if (out == null || closed)
+            throw new IOException("session is closed");
+        out.write(0x80 | opcode);
+        if (payload.length < 126) {
+            out.write(payload.length);
+        } else if (payload.length <= 0xFFFF) {
+            out.write(126);
+            out.write(payload.length >>> 8);
+            out.write(payload.length);
+        } else {
+            out.write(127);
+            for (int i = 7; i >= 0; i--)
+                out.write((int) ((long) payload.length >>> (i * 8)));
+        }
+        out.write(payload);
+        out.flush();
+    }
+
+    /// Closes the session with a close frame
+    synchronized void close(int code, @NotNull String reason) {
+        if (closed)
+            return;
+        try {
+            var bytes = reason.getBytes(StandardCharsets.UTF_8);
+            var payload = new byte[2 + bytes.length];
+            payload[0] = (byte) (code >>> 8);
+            payload[1] = (byte) code;
+            System.arraycopy(bytes, 0, payload, 2, bytes.length);
+            writeFrame(FRAME_CLOSE, payload);
+        } catch (IOException e) {
+            logger.debug("failed to send close frame to gateway session {}", session_id, e);
+        }
+        closeSocket();
+    }
+
+    private synchronized void closeSocket() {
+        closed = true;
+        try {
+            socket.close();
+        } catch (IOException e) {
+            logger.debug("failed to close gateway session {}", session_id, e);
+        }
+    }
+
+    private synchronized boolean isClosed() {
+        return closed;
+    }
+
+    @NotNull String getSessionId() {
+        return session_id;
+    }
+}
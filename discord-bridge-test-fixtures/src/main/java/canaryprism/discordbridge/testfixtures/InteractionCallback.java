@@ -0,0 +1,33 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.testfixtures;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.Map;
+
+/// The callback a client sent for an interaction, its initial response
+///
+/// Callback types are Discord's, like `4` for a message, `5` for a deferred message and `8` for autocomplete results
+///
+/// @param interaction_id the ID of the interaction
+/// @param type the type of the callback
+/// @param data the data of the callback as parsed JSON, empty if it had none
+/// @param latency_nanos the time from sending the interaction to the gateway to receiving the callback
+public record InteractionCallback(long interaction_id, int type, @NotNull @Unmodifiable Map<String, Object> data, long latency_nanos) {
+}
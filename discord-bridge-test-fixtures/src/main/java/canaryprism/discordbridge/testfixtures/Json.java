@@ -0,0 +1,257 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.testfixtures;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/// The JSON Discord speaks, as plain maps and lists
+///
+/// Objects are read as [LinkedHashMap]s, arrays as [ArrayList]s, integers as [Long]s and other numbers as [Double]s
+final class Json {
+
+    private Json() {}
+
+    static @NotNull String write(@Nullable Object value) {
+        var out = new StringBuilder();
+        write(value, out);
+        return out.toString();
+    }
+
+    private static void write(@Nullable Object value, @NotNull StringBuilder out) {
+        if (value == null) {
+            out.append("null");
+        } else if (value instanceof String string) {
+            writeString(string, out);
+        } else if (value instanceof Boolean || value instanceof Long || value instanceof Integer) {
+            out.append(value);
+        } else if (value instanceof Number number) {
+            var d = number.doubleValue();
+            if (Double.isNaN(d) || Double.isInfinite(d))
+                throw new IllegalArgumentException(String.format("%s can't be written as JSON", d));
+            out.append(d);
+        } else if (value instanceof Map<?, ?> map) {
+            out.append('{');
+            var first = true;
+            for (var entry : map.entrySet()) {
+                if (!first)
+                    out.append(',');
+                first = false;
+                writeString(String.valueOf(entry.getKey()), out);
+                out.append(':');
+                write(entry.getValue(), out);
+            }
+            out.append('}');
+        } else if (value instanceof Iterable<?> iterable) {
+            out.append('[');
+            var first = true;
+            for (var e : iterable) {
+                if (!first)
+                    out.append(',');
+                first = false;
+                write(e, out);
+            }
+            out.append(']');
+        } else {
+            throw new IllegalArgumentException(String.format("%s can't be written as JSON", value.getClass().getName()));
+        }
+    }
+
+    private static void writeString(@NotNull String string, @NotNull StringBuilder out) {
+        out.append('"');
+        for (int i = 0; i < string.length(); i++) {
+            var c = string.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20)
+                        out.append(String.format("\\u%04x", (int) c));
+                    else
+                        out.append(c);
+                }
+            }
+        }
+        out.append('"');
+    }
+
+    /// Reads a JSON value
+    ///
+    /// @throws IllegalArgumentException if the text isn't valid JSON
+    static @Nullable Object read(@NotNull String text) {
+        var reader = new Reader(text);
+        var value = reader.value();
+        reader.whitespace();
+        if (reader.position != text.length())
+            throw reader.error("trailing characters");
+        return value;
+    }
+
+    private static final class Reader {
+
+        private final @NotNull String text;
+        private int position;
+
+        Reader(@NotNull String text) {
+            this.text = text;
+        }
+
+        @NotNull IllegalArgumentException error(@NotNull String message) {
+            return new IllegalArgumentException(String.format("invalid JSON at %s: %s", position, message));
+        }
+
+        void whitespace() {
+            while (position < text.length() && Character.isWhitespace(text.charAt(position)))
+                position++;
+        }
+
+        char peek() {
+            whitespace();
+            if (position >= text.length())
+                throw error("unexpected end");
+            return text.charAt(position);
+        }
+
+        void expect(char c) {
+            if (peek() != c)
+                throw error(String.format("expected %s", c));
+            position++;
+        }
+
+        @Nullable Object value() {
+            return switch (peek()) {
+                case '{' -> object();
+                case '[' -> array();
+                case '"' -> string();
+                case 't' -> literal("true", true);
+                case 'f' -> literal("false", false);
+                case 'n' -> literal("null", null);
+                default -> number();
+            };
+        }
+
+        @NotNull Map<String, Object> object() {
+            expect('{');
+            var map = new LinkedHashMap<String, Object>();
+            if (peek() == '}') {
+                position++;
+                return map;
+            }
+            while (true) {
+                var name = string();
+                expect(':');
+                map.put(name, value());
+                if (peek() == ',') {
+                    position++;
+                } else {
+                    expect('}');
+                    return map;
+                }
+            }
+        }
+
+        @NotNull List<Object> array() {
+            expect('[');
+            var list = new ArrayList<>();
+            if (peek() == ']') {
+                position++;
+                return list;
+            }
+            while (true) {
+                list.add(value());
+                if (peek() == ',') {
+                    position++;
+                } else {
+                    expect(']');
+                    return list;
+                }
+            }
+        }
+
+        @NotNull String string() {
+            expect('"');
+            var out = new StringBuilder();
+            while (true) {
+                if (position >= text.length())
+                    throw error("unterminated string");
+                var c = text.charAt(position++);
+                if (c == '"')
+                    return out.toString();
+                if (c != '\\') {
+                    out.append(c);
+                    continue;
+                }
+                if (position >= text.length())
+                    throw error("unterminated escape");
+                var escape = text.charAt(position++);
+                switch (escape) {
+                    case '"', '\\', '/' -> out.append(escape);
+                    case 'b' -> out.append('\b');
+                    case 'f' -> out.append('\f');
+                    case 'n' -> out.append('\n');
+                    case 'r' -> out.append('\r');
+                    case 't' -> out.append('\t');
+                    case 'u' -> {
+                        if (position + 4 > text.length())
+                            throw error("unterminated unicode escape");
+                        try {
+                            out.append((char) Integer.parseInt(text, position, position + 4, 16));
+                        } catch (NumberFormatException e) {
+                            throw error("invalid unicode escape");
+                        }
+                        position += 4;
+                    }
+                    default -> throw error(String.format("invalid escape \\%s", escape));
+                }
+            }
+        }
+
+        @Nullable Object literal(@NotNull String literal, @Nullable Object value) {
+            if (!text.startsWith(literal, position))
+                throw error(String.format("expected %s", literal));
+            position += literal.length();
+            return value;
+        }
+
+        @NotNull Number number() {
+            var start = position;
+            var decimal = false;
+            while (position < text.length()) {
+                var c = text.charAt(position);
+                if (c == '.' || c == 'e' || c == 'E')
+                    decimal = true;
+                else if (!(c == '-' || c == '+' || (c >= '0' && c <= '9')))
+                    break;
+                position++;
+            }
+            var number = text.substring(start, position);
+            try {
+                return (decimal) ? (Number) Double.parseDouble(number) : (Number) Long.parseLong(number);
+            } catch (NumberFormatException e) {
+                throw error(String.format("invalid number %s", number));
+            }
+        }
+    }
+}
@@ -0,0 +1,664 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.testfixtures;
+
+import com.sun.net.httpserver.HttpServer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/// A local stand-in for Discord's REST api and gateway, for testing the whole stack from a library through discord-bridge
+/// to handlers on a machine without internet access
+///
+/// It only imitates what bridges use:
+/// - the gateway sends `READY` and a `GUILD_CREATE` for every server on identify,
+///   and `INTERACTION_CREATE` for interactions started with [#invoke(Long, long, List, Map)] and
+///   [#autocomplete(Long, long, List, Map, String)]
+/// - REST serves the gateway URL, the bot user and application, application commands globally and per server,
+///   interaction callbacks, and followup and original messages through the interaction webhook
+///
+/// Everything else answers `404`. Any bot token is accepted, and there are no rate limits
+///
+/// Point a library's REST base URL at [#getRestUrl()], it gets the gateway URL from `/gateway/bot` like it would from Discord.
+/// The gateway only speaks JSON, with or without `zlib-stream` compression, and honours sharding.
+/// Resuming is never possible, clients are told to identify again
+///
+/// ```java
+/// try (var discord = new LocalDiscordServer(application_id)) {
+///     discord.addServer(server_id, "test server");
+///     discord.start();
+///     // build the library client with discord.getRestUrl() as its base URL, then load it as a DiscordApi
+///     discord.whenReady().join();
+///
+///     var id = discord.invoke(server_id, user_id, List.of("ping"), Map.of());
+///     var callback = discord.callback(id).join();
+/// }
+/// ```
+///
+/// This class is thread safe
+public final class LocalDiscordServer implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocalDiscordServer.class);
+
+    /// The number of most recent interactions kept, older ones can't be responded to anymore
+    public static final int MAX_INTERACTIONS = 1 << 16;
+
+    private static final long DISCORD_EPOCH = 1420070400000L;
+    private static final long SEQUENCE_MASK = (1L << 22) - 1;
+
+    private static final int APPLICATION_COMMAND = 2;
+    private static final int APPLICATION_COMMAND_AUTOCOMPLETE = 4;
+
+    private final long application_id;
+    private final AtomicLong sequence = new AtomicLong();
+    private final @NotNull Map<String, Object> bot_user;
+    private final @NotNull String joined_at = Payloads.timestamp();
+
+    private final ConcurrentHashMap<Long, LocalServer> servers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Long> private_channels = new ConcurrentHashMap<>();
+    final @NotNull CommandStore commands;
+
+    final ConcurrentHashMap<Long, PendingInteraction> interactions = new ConcurrentHashMap<>();
+    final ConcurrentHashMap<String, PendingInteraction> interactions_by_token = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<PendingInteraction> interaction_order = new ConcurrentLinkedQueue<>();
+
+    private final CopyOnWriteArrayList<GatewaySession> sessions = new CopyOnWriteArrayList<>();
+    private final CompletableFuture<Void> ready = new CompletableFuture<>();
+    private volatile @NotNull Consumer<? super RecordedRequest> request_listener = (e) -> {};
+
+    private @Nullable HttpServer http;
+    private @Nullable ExecutorService http_executor;
+    private @Nullable ServerSocket gateway;
+    private boolean closed;
+
+    /// Constructs a server for an application, with no servers or commands
+    ///
+    /// The bot user has the same ID as the application
+    ///
+    /// @param application_id the ID of the application
+    public LocalDiscordServer(long application_id) {
+        this.application_id = application_id;
+        this.bot_user = Collections.unmodifiableMap(Payloads.user(application_id, "fixture-bot", true));
+        this.commands = new CommandStore(application_id, this::nextId);
+    }
+
+    /// Starts serving REST and the gateway on the loopback address, on ports chosen by the system
+    ///
+    /// @throws IOException if binding a port fails
+    /// @throws IllegalStateException if the server was already started or has been closed
+    public synchronized void start() throws IOException {
+        if (closed)
+            throw new IllegalStateException("server has been closed");
+        if (http != null)
+            throw new IllegalStateException("server was already started");
+        var loopback = InetAddress.getLoopbackAddress();
+
+        var gateway = new ServerSocket(0, 50, loopback);
+        var acceptor = new Thread(() -> accept(gateway), "discord-fixture-gateway");
+        acceptor.setDaemon(true);
+
+        var threads = new AtomicInteger();
+        var http_executor = Executors.newCachedThreadPool((runnable) -> {
+            var thread = new Thread(runnable, "discord-fixture-rest-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        var http = HttpServer.create(new InetSocketAddress(loopback, 0), 0);
+        http.createContext("/", new RestHandler(this));
+        http.setExecutor(http_executor);
+
+        http.start();
+        acceptor.start();
+        this.gateway = gateway;
+        this.http = http;
+        this.http_executor = http_executor;
+        logger.debug("local discord server started, REST on {} and gateway on {}", getRestUrl(), getGatewayUrl());
+    }
+
+    private void accept(@NotNull ServerSocket gateway) {
+        var count = 0;
+        while (!gateway.isClosed()) {
+            try {
+                var socket = gateway.accept();
+                socket.setTcpNoDelay(true);
+                var session = new GatewaySession(this, socket, Long.toHexString(nextId()));
+                sessions.add(session);
+                var thread = new Thread(session, "discord-fixture-gateway-session-" + ++count);
+                thread.setDaemon(true);
+                thread.start();
+            } catch (SocketException e) {
+                // closed
+            } catch (IOException e) {
+                logger.warn("failed to accept a gateway connection", e);
+            }
+        }
+    }
+
+    /// Gets the base URL of the REST api, like `http://127.0.0.1:12345/api/v10/`
+    ///
+    /// @return the URL, ending with a slash
+    /// @throws IllegalStateException if the server isn't started
+    public synchronized @NotNull String getRestUrl() {
+        if (http == null)
+            throw new IllegalStateException("server isn't started");
+        return String.format("http://127.0.0.1:%s/api/v10/", http.getAddress().getPort());
+    }
+
+    /// Gets the URL of the gateway, like `ws://127.0.0.1:12345`
+    ///
+    /// @return the URL
+    /// @throws IllegalStateException if the server isn't started
+    public synchronized @NotNull String getGatewayUrl() {
+        if (gateway == null)
+            throw new IllegalStateException("server isn't started");
+        return String.format("ws://127.0.0.1:%s", gateway.getLocalPort());
+    }
+
+    /// Gets the ID of the application
+    ///
+    /// @return the ID
+    public long getApplicationId() {
+        return application_id;
+    }
+
+    /// Generates a new snowflake ID for the current time
+    ///
+    /// @return the ID
+    public long nextId() {
+        return (System.currentTimeMillis() - DISCORD_EPOCH) << 22 | (sequence.getAndIncrement() & SEQUENCE_MASK);
+    }
+
+    @NotNull Map<String, Object> getBotUser() {
+        return bot_user;
+    }
+
+    /// Adds a server the bot is in, sending `GUILD_CREATE` for it to every identified session of its shard
+    ///
+    /// @param id the ID of the server
+    /// @param name the name of the server
+    /// @return the server
+    /// @throws IllegalArgumentException if there's already a server with the ID
+    public @NotNull LocalServer addServer(long id, @NotNull String name) {
+        var server = new LocalServer(id, Objects.requireNonNull(name, "name can't be null"), nextId());
+        if (servers.putIfAbsent(id, server) != null)
+            throw new IllegalArgumentException(String.format("there's already a server with ID %s", id));
+        for (var session : sessions)
+            if (session.receives(id))
+                session.dispatch("GUILD_CREATE", Payloads.guild(server, bot_user, joined_at));
+        return server;
+    }
+
+    /// Removes a server and its commands, sending `GUILD_DELETE` for it to every identified session of its shard
+    ///
+    /// @param id the ID of the server
+    public void removeServer(long id) {
+        if (servers.remove(id) == null)
+            return;
+        commands.removeServer(id);
+        for (var session : sessions)
+            if (session.receives(id))
+                session.dispatch("GUILD_DELETE", Map.of("id", Long.toString(id)));
+    }
+
+    /// Gets the servers the bot is in
+    ///
+    /// @return the servers by ID
+    public @NotNull @Unmodifiable Map<Long, LocalServer> getServers() {
+        return Map.copyOf(servers);
+    }
+
+    @Nullable LocalServer getServer(long id) {
+        return servers.get(id);
+    }
+
+    long getPrivateChannelId(long user_id) {
+        return private_channels.computeIfAbsent(user_id, (e) -> nextId());
+    }
+
+    /// Gets the global commands registered, as the JSON objects Discord would return for them
+    ///
+    /// @return the commands
+    public @NotNull @Unmodifiable List<Map<String, Object>> getGlobalCommands() {
+        return commands.list(null);
+    }
+
+    /// Gets the commands registered to a server, as the JSON objects Discord would return for them
+    ///
+    /// @param server_id the ID of the server
+    /// @return the commands
+    public @NotNull @Unmodifiable List<Map<String, Object>> getServerCommands(long server_id) {
+        return commands.list(server_id);
+    }
+
+    /// Gets a future completed once a client has identified and been sent every server of its shard
+    ///
+    /// @return the future
+    public @NotNull CompletableFuture<Void> whenReady() {
+        return ready.copy();
+    }
+
+    /// Gets the number of gateway sessions connected
+    ///
+    /// @return the number of sessions
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /// Sets the listener receiving every REST request handled
+    ///
+    /// @param listener the listener, or null to not listen
+    public void setRequestListener(@Nullable Consumer<? super RecordedRequest> listener) {
+        this.request_listener = (listener == null) ? (e) -> {} : listener;
+    }
+
+    void requestHandled(@NotNull RecordedRequest request) {
+        request_listener.accept(request);
+    }
+
+    void identified(@NotNull GatewaySession session, int shard_id, int shard_count) {
+        var shard_servers = servers.values()
+                .stream()
+                .filter((e) -> session.receives(e.id()))
+                .toList();
+
+        var user = new LinkedHashMap<>(bot_user);
+        user.put("verified", true);
+        user.put("mfa_enabled", false);
+        user.put("email", null);
+        var data = new LinkedHashMap<String, Object>();
+        data.put("v", 10);
+        data.put("user", user);
+        data.put("user_settings", Map.of());
+        data.put("guilds", shard_servers.stream()
+                .map((e) -> Map.of("id", Long.toString(e.id()), "unavailable", true))
+                .toList());
+        data.put("session_id", session.getSessionId());
+        data.put("resume_gateway_url", getGatewayUrl());
+        data.put("shard", List.of(shard_id, shard_count));
+        data.put("application", Map.of("id", Long.toString(application_id), "flags", 0));
+        data.put("private_channels", List.of());
+        data.put("relationships", List.of());
+        data.put("presences", List.of());
+        data.put("guild_join_requests", List.of());
+        data.put("geo_ordered_rtc_regions", List.of());
+        data.put("session_type", "normal");
+        data.put("_trace", List.of("discord-bridge-test-fixtures"));
+        session.dispatch("READY", data);
+
+        for (var server : shard_servers)
+            session.dispatch("GUILD_CREATE", Payloads.guild(server, bot_user, joined_at));
+        logger.debug("gateway session {} identified as shard {} of {}", session.getSessionId(), shard_id, shard_count);
+        ready.complete(null);
+    }
+
+    void requestedMembers(@NotNull GatewaySession session, @Nullable Object guild_ids, @Nullable Object nonce) {
+        var ids = (guild_ids instanceof List<?> list) ? list : List.of(Objects.requireNonNullElse(guild_ids, ""));
+        for (var id : ids) {
+            var chunk = new LinkedHashMap<String, Object>();
+            chunk.put("guild_id", String.valueOf(id));
+            chunk.put("members", List.of(Payloads.member(bot_user, joined_at)));
+            chunk.put("chunk_index", 0);
+            chunk.put("chunk_count", 1);
+            chunk.put("not_found", List.of());
+            if (nonce != null)
+                chunk.put("nonce", nonce);
+            session.dispatch("GUILD_MEMBERS_CHUNK", chunk);
+        }
+    }
+
+    void disconnected(@NotNull GatewaySession session) {
+        sessions.remove(session);
+    }
+
+    /// Sends a dispatch event to every identified session, for events this server doesn't imitate itself
+    ///
+    /// @param type the type of the event, like `MESSAGE_CREATE`
+    /// @param data the data of the event, made of maps, lists, strings, numbers and booleans
+    /// @return the number of sessions the event was sent to
+    public int dispatch(@NotNull String type, @NotNull Map<String, ?> data) {
+        var sent = 0;
+        for (var session : sessions)
+            if (session.isIdentified() && session.dispatch(type, data))
+                sent++;
+        return sent;
+    }
+
+    /// Sends an invocation of a registered slash command
+    ///
+    /// Argument values are given as their Java counterparts:
+    /// - `STRING`, `INTEGER`, `NUMBER` and `BOOLEAN` values are a [String], [Long] or [Integer], [Number] and [Boolean]
+    /// - `USER`, `CHANNEL`, `ROLE`, `MENTIONABLE` and `ATTACHMENT` values are the [Long] ID of the entity, which is sent resolved.
+    ///   Mentionables are always users
+    ///
+    /// @param server_id the ID of the server the interaction comes from, or null for a DM
+    /// @param user_id the ID of the user invoking the command
+    /// @param command_name the full name of the command, the command followed by the subcommand group and subcommand if any
+    /// @param arguments the arguments by name, sent in iteration order
+    /// @return the ID of the interaction
+    /// @throws IllegalArgumentException if the server isn't known, the command isn't registered,
+    ///                                  or an argument isn't an option of the command or has a value of the wrong type
+    /// @throws IllegalStateException if no identified gateway session would receive the interaction
+    public long invoke(@Nullable Long server_id, long user_id, @NotNull List<String> command_name, @NotNull Map<String, ?> arguments) {
+        return interact(APPLICATION_COMMAND, server_id, user_id, command_name, arguments, null);
+    }
+
+    /// Sends an autocomplete of a registered slash command
+    ///
+    /// Arguments are given the same way as for [#invoke(Long, long, List, Map)],
+    /// the focused argument is sent as the string the user has typed so far like Discord does
+    ///
+    /// @param server_id the ID of the server the interaction comes from, or null for a DM
+    /// @param user_id the ID of the user typing the command
+    /// @param command_name the full name of the command
+    /// @param arguments the arguments by name, including the focused one
+    /// @param focused the name of the focused argument
+    /// @return the ID of the interaction
+    /// @throws IllegalArgumentException if the server isn't known, the command isn't registered,
+    ///                                  an argument isn't an option of the command or has a value of the wrong type,
+    ///                                  or the focused argument isn't one of the arguments
+    /// @throws IllegalStateException if no identified gateway session would receive the interaction
+    public long autocomplete(@Nullable Long server_id, long user_id, @NotNull List<String> command_name,
+                             @NotNull Map<String, ?> arguments, @NotNull String focused) {
+        if (!arguments.containsKey(focused))
+            throw new IllegalArgumentException(String.format("focused argument %s isn't one of the arguments", focused));
+        return interact(APPLICATION_COMMAND_AUTOCOMPLETE, server_id, user_id, command_name, arguments, focused);
+    }
+
+    /// Gets the callback of an interaction
+    ///
+    /// @param interaction_id the ID of the interaction
+    /// @return a future completed with the callback once the client sends it
+    /// @throws IllegalArgumentException if the interaction isn't known, or is older than the last [#MAX_INTERACTIONS]
+    public @NotNull CompletableFuture<InteractionCallback> callback(long interaction_id) {
+        var interaction = interactions.get(interaction_id);
+        if (interaction == null)
+            throw new IllegalArgumentException(String.format("unknown interaction %s", interaction_id));
+        return interaction.callback.copy();
+    }
+
+    @SuppressWarnings("unchecked")
+    private long interact(int type, @Nullable Long server_id, long user_id, @NotNull List<String> command_name,
+                          @NotNull Map<String, ?> arguments, @Nullable String focused) {
+        if (command_name.isEmpty() || command_name.size() > 3)
+            throw new IllegalArgumentException(String.format("command name must have 1 to 3 parts, not %s", command_name.size()));
+        var server = (server_id == null) ? null : servers.get(server_id);
+        if (server_id != null && server == null)
+            throw new IllegalArgumentException(String.format("unknown server %s", server_id));
+
+        var command = commands.find(server_id, command_name.get(0))
+                .orElseThrow(() -> new IllegalArgumentException(String.format("no command /%s is registered", command_name.get(0))));
+
+        // walk down to the subcommand the arguments belong to
+        var definitions = (List<Map<String, Object>>) command.get("options");
+        var path = new ArrayList<Map<String, Object>>();
+        for (var name : command_name.subList(1, command_name.size())) {
+            var option = definitions.stream()
+                    .filter((e) -> e.get("name").equals(name) && ((Long) e.get("type")) <= 2)
+                    .findAny()
+                    .orElseThrow(() -> new IllegalArgumentException(String.format("/%s has no subcommand %s", String.join(" ", command_name), name)));
+            path.add(option);
+            definitions = (List<Map<String, Object>>) option.get("options");
+        }
+
+        var channel_id = (server == null) ? getPrivateChannelId(user_id) : server.channel_id();
+        var resolved = new Resolved();
+        var options = new ArrayList<Object>();
+        for (var argument : arguments.entrySet()) {
+            var definition = definitions.stream()
+                    .filter((e) -> e.get("name").equals(argument.getKey()))
+                    .findAny()
+                    .orElseThrow(() -> new IllegalArgumentException(String.format("/%s has no option %s", String.join(" ", command_name), argument.getKey())));
+            var option_type = (Long) definition.get("type");
+            if (option_type <= 2)
+                throw new IllegalArgumentException(String.format("option %s is a subcommand, put it in the command name", argument.getKey()));
+            var option = new LinkedHashMap<String, Object>();
+            option.put("name", argument.getKey());
+            option.put("type", option_type);
+            var value = value(option_type.intValue(), argument.getKey(), argument.getValue(), server_id, resolved);
+            if (argument.getKey().equals(focused)) {
+                option.put("value", String.valueOf(argument.getValue()));
+                option.put("focused", true);
+            } else {
+                option.put("value", value);
+            }
+            options.add(option);
+        }
+
+        List<Object> nested = options;
+        for (int i = path.size() - 1; i >= 0; i--) {
+            var option = new LinkedHashMap<String, Object>();
+            option.put("name", path.get(i).get("name"));
+            option.put("type", path.get(i).get("type"));
+            option.put("options", nested);
+            nested = List.of(option);
+        }
+
+        var data = new LinkedHashMap<String, Object>();
+        data.put("id", command.get("id"));
+        data.put("name", command.get("name"));
+        data.put("type", 1);
+        data.put("options", nested);
+        if (!resolved.isEmpty())
+            data.put("resolved", resolved.toJson());
+        if (command.get("guild_id") != null)
+            data.put("guild_id", command.get("guild_id"));
+
+        var id = nextId();
+        var interaction = new PendingInteraction(id, type, String.format("fixture-token-%s", Long.toHexString(id)), server_id, channel_id);
+        var payload = interactionPayload(interaction, user_id, data);
+
+        var receivers = sessions.stream()
+                .filter((e) -> e.receives(server_id))
+                .toList();
+        if (receivers.isEmpty())
+            throw new IllegalStateException(String.format("no identified gateway session receives interactions from %s",
+                    (server_id == null) ? "DMs" : "server " + server_id));
+
+        interactions.put(id, interaction);
+        interactions_by_token.put(interaction.token, interaction);
+        interaction_order.add(interaction);
+        while (interactions.size() > MAX_INTERACTIONS) {
+            var oldest = interaction_order.poll();
+            if (oldest == null)
+                break;
+            interactions.remove(oldest.id);
+            interactions_by_token.remove(oldest.token);
+        }
+
+        interaction.dispatched_nanos = System.nanoTime();
+        for (var session : receivers)
+            session.dispatch("INTERACTION_CREATE", payload);
+        return id;
+    }
+
+    private @NotNull Map<String, Object> interactionPayload(@NotNull PendingInteraction interaction, long user_id, @NotNull Map<String, Object> data) {
+        var user = Payloads.user(user_id);
+        var payload = new LinkedHashMap<String, Object>();
+        payload.put("id", Long.toString(interaction.id));
+        payload.put("application_id", Long.toString(application_id));
+        payload.put("type", interaction.type);
+        payload.put("token", interaction.token);
+        payload.put("version", 1);
+        payload.put("data", data);
+        if (interaction.server_id != null) {
+            var server_id = Long.toString(interaction.server_id);
+            var channel = Payloads.channel(interaction.channel_id, interaction.server_id);
+            channel.put("permissions", Payloads.ALL_PERMISSIONS);
+            var member = Payloads.member(user, joined_at);
+            member.put("permissions", Payloads.ALL_PERMISSIONS);
+            payload.put("guild_id", server_id);
+            payload.put("guild", Map.of("id", server_id, "locale", "en-US", "features", List.of()));
+            payload.put("channel_id", Long.toString(interaction.channel_id));
+            payload.put("channel", channel);
+            payload.put("member", member);
+            payload.put("guild_locale", "en-US");
+            payload.put("authorizing_integration_owners", Map.of("0", server_id));
+            payload.put("context", 0);
+        } else {
+            payload.put("channel_id", Long.toString(interaction.channel_id));
+            payload.put("channel", Payloads.privateChannel(interaction.channel_id, user));
+            payload.put("user", user);
+            payload.put("authorizing_integration_owners", Map.of("0", Long.toString(user_id)));
+            payload.put("context", 1);
+        }
+        payload.put("app_permissions", Payloads.ALL_PERMISSIONS);
+        payload.put("locale", "en-US");
+        payload.put("entitlements", List.of());
+        payload.put("attachment_size_limit", 10485760);
+        return payload;
+    }
+
+    private @NotNull Object value(int type, @NotNull String name, @Nullable Object value, @Nullable Long server_id, @NotNull Resolved resolved) {
+        switch (type) {
+            case 3 -> {
+                if (value instanceof String)
+                    return value;
+            }
+            case 4 -> {
+                if (value instanceof Long || value instanceof Integer)
+                    return ((Number) value).longValue();
+            }
+            case 10 -> {
+                if (value instanceof Number number)
+                    return number.doubleValue();
+            }
+            case 5 -> {
+                if (value instanceof Boolean)
+                    return value;
+            }
+            case 6, 7, 8, 9, 11 -> {
+                if (value instanceof Long id) {
+                    switch (type) {
+                        case 6, 9 -> {
+                            var user = Payloads.user(id);
+                            resolved.users.put(Long.toString(id), user);
+                            if (server_id != null) {
+                                var member = Payloads.member(null, joined_at);
+                                member.put("permissions", Payloads.ALL_PERMISSIONS);
+                                resolved.members.put(Long.toString(id), member);
+                            }
+                        }
+                        case 7 -> {
+                            var server = (server_id == null) ? null : servers.get(server_id);
+                            var channel = new LinkedHashMap<String, Object>();
+                            channel.put("id", Long.toString(id));
+                            channel.put("name", (server != null && server.channel_id() == id) ? "general" : "channel-" + id);
+                            channel.put("type", 0);
+                            channel.put("permissions", Payloads.ALL_PERMISSIONS);
+                            channel.put("parent_id", null);
+                            resolved.channels.put(Long.toString(id), channel);
+                        }
+                        case 8 -> resolved.roles.put(Long.toString(id), Payloads.role(id, "role-" + id));
+                        default -> {
+                            var attachment = new LinkedHashMap<String, Object>();
+                            var url = String.format("%sattachments/%s/attachment-%s", getRestUrl(), id, id);
+                            attachment.put("id", Long.toString(id));
+                            attachment.put("filename", "attachment-" + id);
+                            attachment.put("size", 0);
+                            attachment.put("url", url);
+                            attachment.put("proxy_url", url);
+                            attachment.put("content_type", "application/octet-stream");
+                            attachment.put("ephemeral", true);
+                            resolved.attachments.put(Long.toString(id), attachment);
+                        }
+                    }
+                    return Long.toString(id);
+                }
+            }
+            default -> throw new IllegalArgumentException(String.format("option %s has unknown type %s", name, type));
+        }
+        throw new IllegalArgumentException(String.format("value %s isn't valid for option %s of type %s", value, name, type));
+    }
+
+    /// The `resolved` object of an interaction
+    private static final class Resolved {
+
+        final LinkedHashMap<String, Object> users = new LinkedHashMap<>();
+        final LinkedHashMap<String, Object> members = new LinkedHashMap<>();
+        final LinkedHashMap<String, Object> roles = new LinkedHashMap<>();
+        final LinkedHashMap<String, Object> channels = new LinkedHashMap<>();
+        final LinkedHashMap<String, Object> attachments = new LinkedHashMap<>();
+
+        boolean isEmpty() {
+            return users.isEmpty() && roles.isEmpty() && channels.isEmpty() && attachments.isEmpty();
+        }
+
+        @NotNull Map<String, Object> toJson() {
+            var json = new LinkedHashMap<String, Object>();
+            if (!users.isEmpty())
+                json.put("users", users);
+            if (!members.isEmpty())
+                json.put("members", members);
+            if (!roles.isEmpty())
+                json.put("roles", roles);
+            if (!channels.isEmpty())
+                json.put("channels", channels);
+            if (!attachments.isEmpty())
+                json.put("attachments", attachments);
+            return json;
+        }
+    }
+
+    /// Stops serving REST and closes every gateway session
+    @Override
+    public synchronized void close() {
+        if (closed)
+            return;
+        closed = true;
+        for (var session : sessions)
+            session.close(1001, "Going away");
+        if (gateway != null) {
+            try {
+                gateway.close();
+            } catch (IOException e) {
+                logger.debug("failed to close the gateway socket", e);
+            }
+        }
+        if (http != null)
+            http.stop(0);
+        if (http_executor != null)
+            http_executor.shutdownNow();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LocalDiscordServer[application_id=%s, servers=%s, sessions=%s]", application_id, servers.size(), sessions.size());
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.testfixtures;
+
+import org.jetbrains.annotations.NotNull;
+
+/// A server on a [LocalDiscordServer]
+///
+/// Every server has an `@everyone` role with the ID of the server and one text channel, which interactions come from
+///
+/// @param id the ID of the server
+/// @param name the name of the server
+/// @param channel_id the ID of the text channel of the server
+public record LocalServer(long id, @NotNull String name, long channel_id) {
+}
@@ -0,0 +1,244 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.testfixtures;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/// Builds the JSON objects Discord sends, with every field the libraries expect present
+final class Payloads {
+
+    private Payloads() {}
+
+    /// Permissions of the bot, every permission
+    static final String ALL_PERMISSIONS = "2251799813685247";
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSSSSxxx");
+
+    static @NotNull String timestamp() {
+        return TIMESTAMP.format(ZonedDateTime.now(ZoneOffset.UTC));
+    }
+
+    static @NotNull Map<String, Object> user(long id, @NotNull String username, boolean bot) {
+        var user = new LinkedHashMap<String, Object>();
+        user.put("id", Long.toString(id));
+        user.put("username", username);
+        user.put("discriminator", "0");
+        user.put("global_name", null);
+        user.put("avatar", null);
+        user.put("bot", bot);
+        user.put("system", false);
+        user.put("banner", null);
+        user.put("accent_color", null);
+        user.put("public_flags", 0);
+        user.put("flags", 0);
+        user.put("avatar_decoration_data", null);
+        return user;
+    }
+
+    static @NotNull Map<String, Object> user(long id) {
+        return user(id, "user-" + id, false);
+    }
+
+    static @NotNull Map<String, Object> member(@Nullable Map<String, Object> user, @NotNull String joined_at) {
+        var member = new LinkedHashMap<String, Object>();
+        if (user != null)
+            member.put("user", user);
+        member.put("nick", null);
+        member.put("avatar", null);
+        member.put("roles", List.of());
+        member.put("joined_at", joined_at);
+        member.put("premium_since", null);
+        member.put("deaf", false);
+        member.put("mute", false);
+        member.put("flags", 0);
+        member.put("pending", false);
+        member.put("communication_disabled_until", null);
+        return member;
+    }
+
+    static @NotNull Map<String, Object> role(long id, @NotNull String name) {
+        var role = new LinkedHashMap<String, Object>();
+        role.put("id", Long.toString(id));
+        role.put("name", name);
+        role.put("color", 0);
+        role.put("hoist", false);
+        role.put("icon", null);
+        role.put("unicode_emoji", null);
+        role.put("position", 0);
+        role.put("permissions", "1071698660929");
+        role.put("managed", false);
+        role.put("mentionable", false);
+        role.put("flags", 0);
+        return role;
+    }
+
+    static @NotNull Map<String, Object> channel(long id, long server_id) {
+        var channel = new LinkedHashMap<String, Object>();
+        channel.put("id", Long.toString(id));
+        channel.put("type", 0);
+        channel.put("guild_id", Long.toString(server_id));
+        channel.put("position", 0);
+        channel.put("permission_overwrites", List.of());
+        channel.put("name", "general");
+        channel.put("topic", null);
+        channel.put("nsfw", false);
+        channel.put("last_message_id", null);
+        channel.put("rate_limit_per_user", 0);
+        channel.put("parent_id", null);
+        channel.put("last_pin_timestamp", null);
+        channel.put("flags", 0);
+        return channel;
+    }
+
+    static @NotNull Map<String, Object> privateChannel(long id, @NotNull Map<String, Object> recipient) {
+        var channel = new LinkedHashMap<String, Object>();
+        channel.put("id", Long.toString(id));
+        channel.put("type", 1);
+        channel.put("last_message_id", null);
+        channel.put("recipients", List.of(recipient));
+        channel.put("flags", 0);
+        return channel;
+    }
+
+    /// A guild as sent in `GUILD_CREATE`, which has the fields only the gateway sends too
+    static @NotNull Map<String, Object> guild(@NotNull LocalServer server, @NotNull Map<String, Object> bot_user, @NotNull String joined_at) {
+        var guild = new LinkedHashMap<String, Object>();
+        var id = Long.toString(server.id());
+        guild.put("id", id);
+        guild.put("name", server.name());
+        guild.put("icon", null);
+        guild.put("icon_hash", null);
+        guild.put("splash", null);
+        guild.put("discovery_splash", null);
+        guild.put("owner_id", bot_user.get("id"));
+        guild.put("afk_channel_id", null);
+        guild.put("afk_timeout", 300);
+        guild.put("widget_enabled", false);
+        guild.put("widget_channel_id", null);
+        guild.put("verification_level", 0);
+        guild.put("default_message_notifications", 0);
+        guild.put("explicit_content_filter", 0);
+        guild.put("roles", List.of(role(server.id(), "@everyone")));
+        guild.put("emojis", List.of());
+        guild.put("features", List.of());
+        guild.put("mfa_level", 0);
+        guild.put("application_id", null);
+        guild.put("system_channel_id", null);
+        guild.put("system_channel_flags", 0);
+        guild.put("rules_channel_id", null);
+        guild.put("max_presences", null);
+        guild.put("max_members", 500000);
+        guild.put("vanity_url_code", null);
+        guild.put("description", null);
+        guild.put("banner", null);
+        guild.put("premium_tier", 0);
+        guild.put("premium_subscription_count", 0);
+        guild.put("preferred_locale", "en-US");
+        guild.put("public_updates_channel_id", null);
+        guild.put("max_video_channel_users", 25);
+        guild.put("max_stage_video_channel_users", 50);
+        guild.put("nsfw", false);
+        guild.put("nsfw_level", 0);
+        guild.put("stickers", List.of());
+        guild.put("premium_progress_bar_enabled", false);
+        guild.put("safety_alerts_channel_id", null);
+
+        guild.put("joined_at", joined_at);
+        guild.put("large", false);
+        guild.put("unavailable", false);
+        guild.put("lazy", false);
+        guild.put("member_count", 1);
+        guild.put("voice_states", List.of());
+        guild.put("members", List.of(member(bot_user, joined_at)));
+        guild.put("channels", List.of(channel(server.channel_id(), server.id())));
+        guild.put("threads", List.of());
+        guild.put("presences", List.of());
+        guild.put("stage_instances", List.of());
+        guild.put("guild_scheduled_events", List.of());
+        guild.put("soundboard_sounds", List.of());
+        return guild;
+    }
+
+    static @NotNull Map<String, Object> application(long id, @NotNull Map<String, Object> bot_user) {
+        var application = new LinkedHashMap<String, Object>();
+        application.put("id", Long.toString(id));
+        application.put("name", bot_user.get("username"));
+        application.put("icon", null);
+        application.put("description", "");
+        application.put("rpc_origins", List.of());
+        application.put("bot_public", false);
+        application.put("bot_require_code_grant", false);
+        application.put("bot", bot_user);
+        application.put("terms_of_service_url", null);
+        application.put("privacy_policy_url", null);
+        application.put("owner", user(id + 1, "owner", false));
+        application.put("verify_key", "0000000000000000000000000000000000000000000000000000000000000000");
+        application.put("team", null);
+        application.put("guild_id", null);
+        application.put("cover_image", null);
+        application.put("flags", 0);
+        application.put("approximate_guild_count", 0);
+        application.put("tags", List.of());
+        application.put("custom_install_url", null);
+        return application;
+    }
+
+    /// A message sent by the application through an interaction
+    ///
+    /// @param data the message data sent by the client, its content, embeds, flags and components are used
+    static @NotNull Map<String, Object> message(long id, long application_id, long channel_id, @Nullable Long server_id,
+                                                @NotNull Map<String, Object> author, @NotNull Map<String, Object> data) {
+        var message = new LinkedHashMap<String, Object>();
+        message.put("id", Long.toString(id));
+        message.put("type", 20);
+        message.put("channel_id", Long.toString(channel_id));
+        if (server_id != null)
+            message.put("guild_id", Long.toString(server_id));
+        message.put("author", author);
+        message.put("content", data.getOrDefault("content", ""));
+        message.put("timestamp", timestamp());
+        message.put("edited_timestamp", null);
+        message.put("tts", data.getOrDefault("tts", false));
+        message.put("mention_everyone", false);
+        message.put("mentions", List.of());
+        message.put("mention_roles", List.of());
+        message.put("attachments", List.of());
+        message.put("embeds", data.getOrDefault("embeds", List.of()));
+        message.put("pinned", false);
+        message.put("webhook_id", Long.toString(application_id));
+        message.put("application_id", Long.toString(application_id));
+        message.put("flags", data.getOrDefault("flags", 0));
+        message.put("components", data.getOrDefault("components", List.of()));
+        return message;
+    }
+
+    /// A Discord error body
+    static @NotNull Map<String, Object> error(int code, @NotNull String message) {
+        var error = new LinkedHashMap<String, Object>();
+        error.put("message", message);
+        error.put("code", code);
+        return error;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.testfixtures;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/// An interaction sent by a [LocalDiscordServer], and the messages sent in response to it
+final class PendingInteraction {
+
+    final long id;
+    final int type;
+    final @NotNull String token;
+    final @Nullable Long server_id;
+    final long channel_id;
+
+    final @NotNull CompletableFuture<InteractionCallback> callback = new CompletableFuture<>();
+    final @NotNull AtomicBoolean acknowledged = new AtomicBoolean();
+    volatile long dispatched_nanos;
+
+    volatile @Nullable Map<String, Object> original;
+    final @NotNull ConcurrentHashMap<Long, Map<String, Object>> followups = new ConcurrentHashMap<>();
+
+    PendingInteraction(long id, int type, @NotNull String token, @Nullable Long server_id, long channel_id) {
+        this.id = id;
+        this.type = type;
+        this.token = token;
+        this.server_id = server_id;
+        this.channel_id = channel_id;
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.testfixtures;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/// A REST request a [LocalDiscordServer] handled
+///
+/// @param method the HTTP method
+/// @param path the path, without `/api` and the api version
+/// @param status the status code of the response
+/// @param body the body as parsed JSON, the `payload_json` part of a multipart body, or null if it had none
+/// @param nanos the time taken to handle the request
+public record RecordedRequest(@NotNull String method, @NotNull String path, int status, @Nullable Object body, long nanos) {
+}
@@ -0,0 +1,349 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package canaryprism.discordbridge.testfixtures;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/// Handles the REST requests of a [LocalDiscordServer]
+final class RestHandler implements HttpHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(RestHandler.class);
+
+    private static final Pattern API = Pattern.compile("/api(?:/v\\d+)?(/.*)");
+    private static final Pattern COMMANDS = Pattern.compile("/applications/(\\d+)(?:/guilds/(\\d+))?/commands(?:/(\\d+))?");
+    private static final Pattern CALLBACK = Pattern.compile("/interactions/(\\d+)/([^/]+)/callback");
+    private static final Pattern WEBHOOK = Pattern.compile("/webhooks/(\\d+)/([^/]+)(?:/messages/(@original|\\d+))?");
+    private static final Pattern CHANNEL = Pattern.compile("/channels/(\\d+)");
+    private static final Pattern GUILD = Pattern.compile("/guilds/(\\d+)");
+    private static final Pattern BOUNDARY = Pattern.compile("boundary=\"?([^\";]+)\"?");
+
+    private static final int CHANNEL_MESSAGE_WITH_SOURCE = 4;
+    private static final int DEFERRED_CHANNEL_MESSAGE_WITH_SOURCE = 5;
+    private static final int LOADING_FLAG = 1 << 7;
+
+    private record Response(int status, @Nullable Object body) {}
+
+    private final @NotNull LocalDiscordServer server;
+
+    RestHandler(@NotNull LocalDiscordServer server) {
+        this.server = server;
+    }
+
+    private static @NotNull Response error(int status, int code, @NotNull String message) {
+        return new Response(status, Payloads.error(code, message));
+    }
+
+    private static @NotNull Response notFound() {
+        return error(404, 0, "404: Not Found");
+    }
+
+    private static @NotNull Response methodNotAllowed() {
+        return error(405, 0, "405: Method Not Allowed");
+    }
+
+    @Override
+    public void handle(@NotNull HttpExchange exchange) throws IOException {
+        var start = System.nanoTime();
+        var method = exchange.getRequestMethod();
+        var matcher = API.matcher(exchange.getRequestURI().getPath());
+        var path = (matcher.matches()) ? matcher.group(1) : exchange.getRequestURI().getPath();
+        var query = (exchange.getRequestURI().getRawQuery() == null) ? "" : exchange.getRequestURI().getRawQuery();
+        Object body = null;
+        Response response;
+        try (exchange) {
+            try {
+                body = body(exchange);
+                response = (matcher.matches()) ? route(method, path, query, body) : notFound();
+            } catch (IllegalArgumentException e) {
+                var error = Payloads.error(50035, "Invalid Form Body");
+                error.put("errors", Map.of("_errors", List.of(Map.of("code", "BASE_TYPE_INVALID", "message", String.valueOf(e.getMessage())))));
+                response = new Response(400, error);
+            } catch (RuntimeException e) {
+                logger.warn("failed to handle {} {}", method, path, e);
+                response = error(500, 0, "500: Internal Server Error");
+            }
+            send(exchange, response);
+        }
+        server.requestHandled(new RecordedRequest(method, path, response.status(), body, System.nanoTime() - start));
+    }
+
+    private static @Nullable Object body(@NotNull HttpExchange exchange) throws IOException {
+        var bytes = exchange.getRequestBody().readAllBytes();
+        if (bytes.length == 0)
+            return null;
+        var content_type = exchange.getRequestHeaders().getFirst("Content-Type");
+        var text = new String(bytes, StandardCharsets.UTF_8);
+        if (content_type != null && content_type.startsWith("multipart/form-data")) {
+            var boundary = BOUNDARY.matcher(content_type);
+            if (!boundary.find())
+                throw new IllegalArgumentException("multipart body without a boundary");
+            text = payloadJson(text, boundary.group(1));
+            if (text == null)
+                return null;
+        }
+        try {
+            return Json.read(text);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("The request body contains invalid JSON.", e);
+        }
+    }
+
+    /// Gets the `payload_json` part of a multipart body, Discord's way of sending JSON along with files
+    private static @Nullable String payloadJson(@NotNull String body, @NotNull String boundary) {
+        for (var part : body.split(Pattern.quote("--" + boundary))) {
+            var headers_end = part.indexOf("\r\n\r\n");
+            if (headers_end < 0)
+                continue;
+            if (part.substring(0, headers_end).contains("name=\"payload_json\"")) {
+                var content = part.substring(headers_end + 4);
+                return (content.endsWith("\r\n")) ? content.substring(0, content.length() - 2) : content;
+            }
+        }
+        return null;
+    }
+
+    private static void send(@NotNull HttpExchange exchange, @NotNull Response response) throws IOException {
+        var headers = exchange.getResponseHeaders();
+        headers.set("X-RateLimit-Limit", "50");
+        headers.set("X-RateLimit-Remaining", "49");
+        headers.set("X-RateLimit-Reset", String.format("%.3f", System.currentTimeMillis() / 1000.0 + 1));
+        headers.set("X-RateLimit-Reset-After", "1.000");
+        headers.set("X-RateLimit-Bucket", "discord-bridge-test-fixtures");
+        if (response.body() == null) {
+            exchange.sendResponseHeaders(response.status(), -1);
+            return;
+        }
+        var bytes = Json.write(response.body()).getBytes(StandardCharsets.UTF_8);
+        headers.set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(response.status(), bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private @NotNull Response route(@NotNull String method, @NotNull String path, @NotNull String query, @Nullable Object body) {
+        Matcher matcher;
+        if ((matcher = COMMANDS.matcher(path)).matches())
+            return commands(method, matcher, body);
+        if ((matcher = CALLBACK.matcher(path)).matches())
+            return method.equals("POST") ? callback(matcher, query, body) : methodNotAllowed();
+        if ((matcher = WEBHOOK.matcher(path)).matches())
+            return webhook(method, matcher, body);
+        if (!method.equals("GET"))
+            return notFound();
+
+        switch (path) {
+            case "/gateway" -> {
+                return new Response(200, Map.of("url", server.getGatewayUrl()));
+            }
+            case "/gateway/bot" -> {
+                return new Response(200, Map.of(
+                        "url", server.getGatewayUrl(),
+                        "shards", 1,
+                        "session_start_limit", Map.of("total", 1000, "remaining", 1000, "reset_after", 0, "max_concurrency", 1)));
+            }
+            case "/users/@me" -> {
+                return new Response(200, server.getBotUser());
+            }
+            case "/applications/@me", "/oauth2/applications/@me" -> {
+                return new Response(200, Payloads.application(server.getApplicationId(), server.getBotUser()));
+            }
+        }
+
+        if ((matcher = CHANNEL.matcher(path)).matches()) {
+            var id = Long.parseLong(matcher.group(1));
+            for (var e : server.getServers().values())
+                if (e.channel_id() == id)
+                    return new Response(200, Payloads.channel(id, e.id()));
+            return error(404, 10003, "Unknown Channel");
+        }
+        if ((matcher = GUILD.matcher(path)).matches()) {
+            var guild = server.getServer(Long.parseLong(matcher.group(1)));
+            return (guild == null) ? error(404, 10004, "Unknown Guild") : new Response(200, Payloads.guild(guild, server.getBotUser(), Payloads.timestamp()));
+        }
+        return notFound();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static @NotNull Map<String, Object> object(@Nullable Object body) {
+        if (!(body instanceof Map<?, ?> map))
+            throw new IllegalArgumentException("body must be an object");
+        return (Map<String, Object>) map;
+    }
+
+    private @NotNull Response commands(@NotNull String method, @NotNull Matcher matcher, @Nullable Object body) {
+        if (Long.parseLong(matcher.group(1)) != server.getApplicationId())
+            return error(404, 10002, "Unknown Application");
+        var server_id = (matcher.group(2) == null) ? null : Long.parseLong(matcher.group(2));
+        if (server_id != null && server.getServer(server_id) == null)
+            return error(404, 10004, "Unknown Guild");
+        var commands = server.commands;
+
+        if (matcher.group(3) != null) {
+            var id = Long.parseLong(matcher.group(3));
+            var unknown = error(404, 10063, "Unknown application command");
+            return switch (method) {
+                case "GET" -> commands.get(server_id, id)
+                        .map((e) -> new Response(200, e))
+                        .orElse(unknown);
+                case "PATCH" -> commands.edit(server_id, id, object(body))
+                        .map((e) -> new Response(200, e))
+                        .orElse(unknown);
+                case "DELETE" -> commands.delete(server_id, id) ? new Response(204, null) : unknown;
+                default -> methodNotAllowed();
+            };
+        }
+        return switch (method) {
+            case "GET" -> new Response(200, commands.list(server_id));
+            case "POST" -> {
+                var created = commands.create(server_id, object(body));
+                yield new Response(created.getValue() ? 201 : 200, created.getKey());
+            }
+            case "PUT" -> {
+                if (!(body instanceof List<?> list))
+                    throw new IllegalArgumentException("body must be an array");
+                yield new Response(200, commands.overwrite(server_id, list));
+            }
+            default -> methodNotAllowed();
+        };
+    }
+
+    private @NotNull Response callback(@NotNull Matcher matcher, @NotNull String query, @Nullable Object body) {
+        var interaction = server.interactions.get(Long.parseLong(matcher.group(1)));
+        if (interaction == null)
+            return error(404, 10062, "Unknown interaction");
+        if (!interaction.token.equals(matcher.group(2)))
+            return error(401, 50027, "Invalid Webhook Token");
+
+        var callback = object(body);
+        if (!(callback.get("type") instanceof Long type))
+            throw new IllegalArgumentException("type is required and must be an integer");
+        var data = (callback.get("data") == null) ? Map.<String, Object>of() : object(callback.get("data"));
+        if (!interaction.acknowledged.compareAndSet(false, true))
+            return error(400, 40060, "Interaction has already been acknowledged.");
+
+        if (type == CHANNEL_MESSAGE_WITH_SOURCE) {
+            interaction.original = message(interaction, data);
+        } else if (type == DEFERRED_CHANNEL_MESSAGE_WITH_SOURCE) {
+            var loading = new LinkedHashMap<>(data);
+            var flags = (data.get("flags") instanceof Long value) ? value : 0;
+            loading.put("flags", flags | LOADING_FLAG);
+            interaction.original = message(interaction, loading);
+        }
+        interaction.callback.complete(new InteractionCallback(interaction.id, type.intValue(), Collections.unmodifiableMap(data),
+                System.nanoTime() - interaction.dispatched_nanos));
+
+        if (!query.contains("with_response=true"))
+            return new Response(204, null);
+        var original = interaction.original;
+        var resource = new LinkedHashMap<String, Object>();
+        resource.put("type", type);
+        if (original != null)
+            resource.put("message", original);
+        var result = new LinkedHashMap<String, Object>();
+        var response_interaction = new LinkedHashMap<String, Object>();
+        response_interaction.put("id", Long.toString(interaction.id));
+        response_interaction.put("type", interaction.type);
+        response_interaction.put("activity_instance_id", null);
+        response_interaction.put("response_message_id", (original == null) ? null : original.get("id"));
+        response_interaction.put("response_message_loading", type == DEFERRED_CHANNEL_MESSAGE_WITH_SOURCE);
+        response_interaction.put("response_message_ephemeral", original != null && (((Number) original.get("flags")).longValue() & 64) != 0);
+        result.put("interaction", response_interaction);
+        result.put("resource", resource);
+        return new Response(200, result);
+    }
+
+    private @NotNull Map<String, Object> message(@NotNull PendingInteraction interaction, @NotNull Map<String, Object> data) {
+        return Payloads.message(server.nextId(), server.getApplicationId(), interaction.channel_id, interaction.server_id,
+                server.getBotUser(), data);
+    }
+
+    private static @NotNull Map<String, Object> edit(@NotNull Map<String, Object> message, @NotNull Map<String, Object> data) {
+        var edited = new LinkedHashMap<>(message);
+        for (var field : List.of("content", "embeds", "components", "flags"))
+            if (data.containsKey(field))
+                edited.put(field, data.get(field));
+        // editing a deferred response is what sends it
+        if (edited.get("flags") instanceof Long flags)
+            edited.put("flags", flags & ~LOADING_FLAG);
+        edited.put("edited_timestamp", Payloads.timestamp());
+        return edited;
+    }
+
+    private @NotNull Response webhook(@NotNull String method, @NotNull Matcher matcher, @Nullable Object body) {
+        var interaction = server.interactions_by_token.get(matcher.group(2));
+        if (Long.parseLong(matcher.group(1)) != server.getApplicationId() || interaction == null || !interaction.acknowledged.get())
+            return error(404, 10015, "Unknown Webhook");
+        var unknown = error(404, 10008, "Unknown Message");
+
+        var message_id = matcher.group(3);
+        if (message_id == null) {
+            if (!method.equals("POST"))
+                return methodNotAllowed();
+            var message = message(interaction, object(body));
+            interaction.followups.put(Long.parseLong((String) message.get("id")), message);
+            return new Response(200, message);
+        }
+
+        if (message_id.equals("@original")) {
+            synchronized (interaction) {
+                var original = interaction.original;
+                if (original == null)
+                    return unknown;
+                return switch (method) {
+                    case "GET" -> new Response(200, original);
+                    case "PATCH" -> new Response(200, interaction.original = edit(original, object(body)));
+                    case "DELETE" -> {
+                        interaction.original = null;
+                        yield new Response(204, null);
+                    }
+                    default -> methodNotAllowed();
+                };
+            }
+        }
+
+        var id = Long.parseLong(message_id);
+        var followup = interaction.followups.get(id);
+        if (followup == null)
+            return unknown;
+        return switch (method) {
+            case "GET" -> new Response(200, followup);
+            case "PATCH" -> {
+                var edited = edit(followup, object(body));
+                interaction.followups.put(id, edited);
+                yield new Response(200, edited);
+            }
+            case "DELETE" -> {
+                interaction.followups.remove(id);
+                yield new Response(204, null);
+            }
+            default -> methodNotAllowed();
+        };
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ *    Copyright 2025 Canary Prism <canaryprsn@gmail.com>
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+import canaryprism.discordbridge.testfixtures.LocalDiscordServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests for [LocalDiscordServer], through the JDK's HTTP and WebSocket clients
+public class LocalDiscordServerTests {
+    
+    private static final long APPLICATION_ID = 1100000000000000001L;
+    private static final long SERVER_ID = 1200000000000000002L;
+    private static final long OTHER_SERVER_ID = 1200000000000000003L;
+    private static final long USER_ID = 1300000000000000004L;
+    
+    private static final Pattern TOKEN = Pattern.compile("\"token\":\"([^\"]+)\"");
+    
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+    
+    private LocalDiscordServer discord;
+    
+    @BeforeEach
+    void start() throws IOException {
+        discord = new LocalDiscordServer(APPLICATION_ID);
+        discord.addServer(SERVER_ID, "test server");
+        discord.addServer(OTHER_SERVER_ID, "other server");
+        discord.start();
+    }
+    
+    @AfterEach
+    void close() {
+        discord.close();
+    }
+    
+    /// A gateway connection, collecting every whole message it receives
+    private static final class Gateway implements WebSocket.Listener {
+        
+        private final BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+        private final StringBuilder message = new StringBuilder();
+        private WebSocket socket;
+        
+        @Override
+        public CompletionStage<?> onText(WebSocket socket, CharSequence data, boolean last) {
+            message.append(data);
+            if (last) {
+                messages.add(message.toString());
+                message.setLength(0);
+            }
+            socket.request(1);
+            return null;
+        }
+        
+        String next() throws InterruptedException {
+            var next = messages.poll(5, TimeUnit.SECONDS);
+            assertNotNull(next, "no message from the gateway");
+            return next;
+        }
+        
+        String next(String type) throws InterruptedException {
+            var next = next();
+            assertTrue(next.contains(String.format("\"t\":\"%s\"", type)), () -> String.format("expected %s but got %s", type, next));
+            return next;
+        }
+        
+        void send(String text) {
+            socket.sendText(text, true).join();
+        }
+    }
+    
+    private Gateway connect() throws InterruptedException {
+        var gateway = new Gateway();
+        gateway.socket = http.newWebSocketBuilder()
+                .buildAsync(URI.create(discord.getGatewayUrl() + "/?v=10&encoding=json"), gateway)
+                .join();
+        assertTrue(gateway.next().contains("\"op\":10"));
+        return gateway;
+    }
+    
+    private Gateway identify() throws InterruptedException {
+        var gateway = connect();
+        gateway.send("{\"op\":2,\"d\":{\"token\":\"Bot token\",\"intents\":0,\"properties\":{}}}");
+        gateway.next("READY");
+        gateway.next("GUILD_CREATE");
+        gateway.next("GUILD_CREATE");
+        return gateway;
+    }
+    
+    private HttpResponse<String> request(String method, String path, String body) {
+        var request = HttpRequest.newBuilder(URI.create(discord.getRestUrl() + path))
+                .header("Authorization", "Bot token")
+                .header("Content-Type", "application/json")
+                .method(method, (body == null) ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return http.sendAsync(request, HttpResponse.BodyHandlers.ofString()).join();
+    }
+    
+    private static String command(String name) {
+        return String.format("{\"name\":\"%s\",\"description\":\"%s command\",\"type\":1}", name, name);
+    }
+    
+    private static long id(Map<String, Object> command) {
+        return Long.parseLong((String) command.get("id"));
+    }
+    
+    @Test
+    void handshakeShouldBeAcceptedAndFollowedByHello() throws InterruptedException {
+        var gateway = new Gateway();
+        // the JDK client fails the handshake if Sec-WebSocket-Accept doesn't match its key
+        gateway.socket = http.newWebSocketBuilder()
+                .buildAsync(URI.create(discord.getGatewayUrl() + "/?v=10&encoding=json"), gateway)
+                .join();
+        
+        var hello = gateway.next();
+        assertTrue(hello.contains("\"op\":10"), hello);
+        assertTrue(hello.contains("\"heartbeat_interval\":41250"), hello);
+        assertEquals(1, discord.getSessionCount());
+    }
+    
+    @Test
+    void handshakesThatArentWebSocketUpgradesShouldBeRejected() {
+        var plain = HttpRequest.newBuilder(URI.create(discord.getGatewayUrl().replaceFirst("^ws", "http") + "/?v=10"))
+                .GET()
+                .build();
+        assertEquals(400, http.sendAsync(plain, HttpResponse.BodyHandlers.discarding()).join().statusCode());
+        
+        var etf = http.newWebSocketBuilder()
+                .buildAsync(URI.create(discord.getGatewayUrl() + "/?v=10&encoding=etf"), new Gateway());
+        assertThrows(CompletionException.class, etf::join);
+    }
+    
+    @Test
+    void maskedFragmentedMessagesShouldBeReassembled() throws InterruptedException {
+        var gateway = connect();
+        
+        // the JDK client masks every frame, and these go out as a text frame and two continuation frames
+        gateway.socket.sendText("{\"op\":", false).join();
+        gateway.socket.sendText("1,\"d\"", false).join();
+        gateway.socket.sendText(":null}", true).join();
+        
+        assertTrue(gateway.next().contains("\"op\":11"));
+    }
+    
+    @Test
+    void identifyShouldSendReadyThenEveryServer() throws InterruptedException {
+        var gateway = connect();
+        assertFalse(discord.whenReady().isDone());
+        
+        gateway.socket.sendText("{\"op\":2,\"d\":{\"token\":\"Bot token\",", false).join();
+        gateway.socket.sendText("\"intents\":0,\"properties\":{}}}", true).join();
+        
+        var ready = gateway.next("READY");
+        assertTrue(ready.contains("\"session_id\":"), ready);
+        assertTrue(ready.contains("\"unavailable\":true"), ready);
+        assertTrue(ready.contains(String.format("\"id\":\"%s\"", SERVER_ID)), ready);
+        assertTrue(ready.contains(String.format("\"id\":\"%s\"", OTHER_SERVER_ID)), ready);
+        
+        var first = gateway.next("GUILD_CREATE");
+        var second = gateway.next("GUILD_CREATE");
+        assertTrue(first.contains(String.format("\"id\":\"%s\"", SERVER_ID)) || second.contains(String.format("\"id\":\"%s\"", SERVER_ID)));
+        assertTrue(first.contains(String.format("\"id\":\"%s\"", OTHER_SERVER_ID)) || second.contains(String.format("\"id\":\"%s\"", OTHER_SERVER_ID)));
+        discord.whenReady().orTimeout(5, TimeUnit.SECONDS).join();
+    }
+    
+    @Test
+    void bulkOverwriteShouldKeepIdsOfCommandsWithTheSameName() {
+        var path = String.format("applications/%s/commands", APPLICATION_ID);
+        assertEquals(200, request("PUT", path, String.format("[%s,%s]", command("ping"), command("echo"))).statusCode());
+        var before = discord.getGlobalCommands();
+        assertEquals(2, before.size());
+        
+        assertEquals(200, request("PUT", path, String.format("[%s,%s]", command("ping"), command("roll"))).statusCode());
+        var after = discord.getGlobalCommands();
+        assertEquals(2, after.size());
+        
+        var ping = before.stream().filter((e) -> e.get("name").equals("ping")).findFirst().orElseThrow();
+        var echo = before.stream().filter((e) -> e.get("name").equals("echo")).findFirst().orElseThrow();
+        assertEquals(id(ping), id(after.stream().filter((e) -> e.get("name").equals("ping")).findFirst().orElseThrow()));
+        var roll = after.stream().filter((e) -> e.get("name").equals("roll")).findFirst().orElseThrow();
+        assertNotEquals(id(echo), id(roll));
+        assertNotEquals(id(ping), id(roll));
+        assertEquals(404, request("GET", path + "/" + id(echo), null).statusCode());
+    }
+    
+    @Test
+    void interactionCallbackShouldCompleteTheCallbackOnce() throws InterruptedException {
+        request("PUT", String.format("applications/%s/commands", APPLICATION_ID), String.format("[%s]", command("ping")));
+        var gateway = identify();
+        
+        var id = discord.invoke(SERVER_ID, USER_ID, List.of("ping"), Map.of());
+        var interaction = gateway.next("INTERACTION_CREATE");
+        assertTrue(interaction.contains(String.format("\"id\":\"%s\"", id)), interaction);
+        var matcher = TOKEN.matcher(interaction);
+        assertTrue(matcher.find(), interaction);
+        var token = matcher.group(1);
+        
+        var callback_path = String.format("interactions/%s/%s/callback", id, token);
+        var response = "{\"type\":4,\"data\":{\"content\":\"pong\"}}";
+        assertEquals(401, request("POST", String.format("interactions/%s/wrong-token/callback", id), response).statusCode());
+        assertEquals(204, request("POST", callback_path, response).statusCode());
+        assertEquals(400, request("POST", callback_path, response).statusCode());
+        
+        var callback = discord.callback(id).orTimeout(5, TimeUnit.SECONDS).join();
+        assertEquals(id, callback.interaction_id());
+        assertEquals(4, callback.type());
+        assertEquals("pong", callback.data().get("content"));
+        
+        var original = request("GET", String.format("webhooks/%s/%s/messages/@original", APPLICATION_ID, token), null);
+        assertEquals(200, original.statusCode());
+        assertTrue(original.body().contains("\"content\":\"pong\""), original.body());
+    }
+}
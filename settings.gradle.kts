@@ -5,4 +5,7 @@ include("discord-bridge-jda")
 include("discord-bridge-discord4j")
 include("discord-bridge-kord")
 
-include("discord-bridge-identity")
\ No newline at end of file
+include("discord-bridge-identity")
+include("discord-bridge-test-fixtures")
+
+include("discord-bridge-benchmarks")
\ No newline at end of file